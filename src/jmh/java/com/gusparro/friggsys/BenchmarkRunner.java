@@ -0,0 +1,77 @@
+package com.gusparro.friggsys;
+
+import com.gusparro.friggsys.adapter.persistence.mappers.UserPersistenceMapperBenchmark;
+import com.gusparro.friggsys.adapter.persistence.repositories.UserReadPathBenchmark;
+import com.gusparro.friggsys.adapter.security.PasswordEncoderAdapterBenchmark;
+import com.gusparro.friggsys.domain.vos.ValueObjectValidationBenchmark;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class BenchmarkRunner {
+
+    private static final List<String> EXECUTORS = List.of("PLATFORM", "VIRTUAL");
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        var outputDirectory = Path.of(args.length > 0 ? args[0] : "target/jmh");
+
+        Files.createDirectories(outputDirectory);
+
+        runPasswordHashing(outputDirectory);
+        runValueObjectValidation(outputDirectory);
+        runUserMapping(outputDirectory);
+        runUserReadPath(outputDirectory);
+    }
+
+    private static void runPasswordHashing(Path outputDirectory) throws RunnerException {
+        var cores = Runtime.getRuntime().availableProcessors();
+
+        for (var executor : EXECUTORS) {
+            for (var threads : Stream.of(1, cores, cores * 2).distinct().toList()) {
+                var result = outputDirectory.resolve(String.format("password-hashing-%s-%dt.json",
+                        executor.toLowerCase(), threads));
+
+                run(new OptionsBuilder()
+                        .include(PasswordEncoderAdapterBenchmark.class.getSimpleName())
+                        .threads(threads)
+                        .jvmArgsAppend("-Djmh.executor=" + executor), result);
+            }
+        }
+    }
+
+    private static void runValueObjectValidation(Path outputDirectory) throws RunnerException {
+        run(new OptionsBuilder()
+                .include(ValueObjectValidationBenchmark.class.getSimpleName()),
+                outputDirectory.resolve("value-object-validation.json"));
+    }
+
+    private static void runUserMapping(Path outputDirectory) throws RunnerException {
+        run(new OptionsBuilder()
+                .include(UserPersistenceMapperBenchmark.class.getSimpleName()),
+                outputDirectory.resolve("user-persistence-mapping.json"));
+    }
+
+    private static void runUserReadPath(Path outputDirectory) throws RunnerException {
+        run(new OptionsBuilder()
+                .include(UserReadPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class),
+                outputDirectory.resolve("user-read-path.json"));
+    }
+
+    private static void run(ChainedOptionsBuilder options, Path result) throws RunnerException {
+        new Runner(options
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.gusparro.friggsys.adapter.persistence.mappers;
+
+import com.gusparro.friggsys.adapter.persistence.entities.UserEntity;
+import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Name;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.domain.vos.Telephone;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserPersistenceMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private final UserPersistenceMapper mapper = new UserPersistenceMapper();
+
+    private List<UserEntity> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var now = OffsetDateTime.now();
+
+        page = IntStream.range(0, pageSize)
+                .mapToObj(index -> new UserEntity(
+                        UUID.randomUUID(),
+                        "Benchmark User " + index,
+                        String.format("(11) 9%04d-%04d", index % 10000, index % 10000),
+                        "benchmark.user" + index + "@example.com",
+                        "benchmark.user" + index + "@example.com",
+                        "{bcrypt}$2a$10$MATzYn25717MrQTCT2oR1uwIbGZoDwuXcfBykyzuVBjebYh0.sIOy",
+                        UserStatus.ACTIVE,
+                        now,
+                        now,
+                        0L
+                ))
+                .toList();
+    }
+
+    @Benchmark
+    public void validatedPage(Blackhole blackhole) {
+        for (var entity : page) {
+            blackhole.consume(User.reconstruct(
+                    entity.getId(),
+                    Name.of(entity.getName()),
+                    Email.of(entity.getEmail()),
+                    Telephone.of(entity.getTelephone()),
+                    Password.ofHash(entity.getPasswordHash()),
+                    entity.getStatus(),
+                    entity.getCreatedAt(),
+                    entity.getUpdatedAt(),
+                    0L
+            ));
+        }
+    }
+
+    @Benchmark
+    public void trustedPage(Blackhole blackhole) {
+        for (var entity : page) {
+            blackhole.consume(mapper.toDomain(entity));
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.adapter.api.response.UserResponse;
+import com.gusparro.friggsys.adapter.persistence.entities.UserEntity;
+import com.gusparro.friggsys.adapter.persistence.mappers.UserPersistenceMapper;
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserReadPathBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private final UserPersistenceMapper mapper = new UserPersistenceMapper();
+
+    private List<Row> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var now = OffsetDateTime.now();
+
+        page = IntStream.range(0, pageSize)
+                .mapToObj(index -> new Row(
+                        UUID.randomUUID(),
+                        "Benchmark User " + index,
+                        String.format("(11) 9%04d-%04d", index % 10000, index % 10000),
+                        "benchmark.user" + index + "@example.com",
+                        "benchmark.user" + index + "@example.com",
+                        "{bcrypt}$2a$10$MATzYn25717MrQTCT2oR1uwIbGZoDwuXcfBykyzuVBjebYh0.sIOy",
+                        UserStatus.ACTIVE,
+                        now,
+                        now,
+                        0L
+                ))
+                .toList();
+    }
+
+    @Benchmark
+    public void entityPath(Blackhole blackhole) {
+        for (var row : page) {
+            var entity = new UserEntity(row.id(), row.name(), row.telephone(), row.email(), row.emailCanonical(),
+                    row.passwordHash(), row.status(), row.createdAt(), row.updatedAt(), row.version());
+
+            blackhole.consume(UserResponse.from(UserOutput.from(mapper.toDomain(entity))));
+        }
+    }
+
+    @Benchmark
+    public void projectionPath(Blackhole blackhole) {
+        for (var row : page) {
+            var output = new UserOutput(row.id(), row.name(), row.email(), row.telephone(), row.status(),
+                    row.createdAt(), row.updatedAt(), row.version());
+
+            blackhole.consume(UserResponse.from(output));
+        }
+    }
+
+    private record Row(
+            UUID id,
+            String name,
+            String telephone,
+            String email,
+            String emailCanonical,
+            String passwordHash,
+            UserStatus status,
+            OffsetDateTime createdAt,
+            OffsetDateTime updatedAt,
+            Long version
+    ) {
+    }
+
+}
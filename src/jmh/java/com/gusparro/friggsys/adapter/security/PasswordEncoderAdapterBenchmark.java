@@ -0,0 +1,56 @@
+package com.gusparro.friggsys.adapter.security;
+
+import com.gusparro.friggsys.domain.vos.Password;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderAdapterBenchmark {
+
+    private static final String RAW_PASSWORD = "Benchmark#Pass2024";
+
+    @Param({"10", "12", "14"})
+    private int strength;
+
+    private PasswordHashingExecutor hashingExecutor;
+    private PasswordEncoderAdapter passwordEncoder;
+    private Password rawPassword;
+    private String storedHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(250), strength, strength);
+
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 0, 1024, Duration.ofMinutes(5));
+        passwordEncoder = new PasswordEncoderAdapter(hashingExecutor,
+                new PasswordHashingEngine(meterRegistry, calibrator, PasswordHashingEngine.BCRYPT,
+                        19456, 2, 1, 0.25, 600000), Duration.ZERO);
+        rawPassword = Password.ofRaw(RAW_PASSWORD);
+        storedHash = passwordEncoder.encrypt(rawPassword).getValue();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Password encrypt() {
+        return passwordEncoder.encrypt(rawPassword);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, storedHash);
+    }
+
+}
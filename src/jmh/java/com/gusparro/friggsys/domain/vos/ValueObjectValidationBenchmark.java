@@ -0,0 +1,65 @@
+package com.gusparro.friggsys.domain.vos;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueObjectValidationBenchmark {
+
+    private static final Pattern DIGIT_PATTERN = Pattern.compile(".*\\d.*");
+    private static final Pattern UPPERCASE_PATTERN = Pattern.compile(".*[A-Z].*");
+    private static final Pattern LOWERCASE_PATTERN = Pattern.compile(".*[a-z].*");
+    private static final Pattern SPECIAL_CHARACTER_PATTERN = Pattern.compile(".*[!@#$%^&*(),.?\":{}|<>].*");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern TELEPHONE_PATTERN = Pattern.compile("^\\(\\d{2}\\) \\d{4,5}-\\d{4}$");
+
+    @Param({"Str0ng#Passw0rdWithSomeLength"})
+    private String password;
+
+    @Param({"first.last+newsletter@mail.example.com"})
+    private String email;
+
+    @Param({"(11) 98765-4321"})
+    private String telephone;
+
+    @Benchmark
+    public Password scannerPassword() {
+        return Password.ofRaw(password);
+    }
+
+    @Benchmark
+    public boolean regexPassword() {
+        return DIGIT_PATTERN.matcher(password).matches()
+                && UPPERCASE_PATTERN.matcher(password).matches()
+                && LOWERCASE_PATTERN.matcher(password).matches()
+                && SPECIAL_CHARACTER_PATTERN.matcher(password).matches();
+    }
+
+    @Benchmark
+    public Email scannerEmail() {
+        return Email.of(email);
+    }
+
+    @Benchmark
+    public boolean regexEmail() {
+        return EMAIL_PATTERN.matcher(email.trim().toLowerCase()).matches();
+    }
+
+    @Benchmark
+    public Telephone scannerTelephone() {
+        return Telephone.of(telephone);
+    }
+
+    @Benchmark
+    public boolean regexTelephone() {
+        return TELEPHONE_PATTERN.matcher(telephone).matches();
+    }
+
+}
@@ -1,10 +1,20 @@
 package com.gusparro.friggsys.adapter.api;
 
+import com.gusparro.friggsys.adapter.api.etag.VersionTags;
+import com.gusparro.friggsys.adapter.api.export.ContentCodings;
+import com.gusparro.friggsys.adapter.api.export.ExportFormat;
+import com.gusparro.friggsys.adapter.api.export.UserExportLimiter;
 import com.gusparro.friggsys.adapter.api.facades.UserOperationsFacade;
+import com.gusparro.friggsys.adapter.api.response.UserBatchOutcomeResponse;
+import com.gusparro.friggsys.adapter.api.response.UserCreationOutcomeResponse;
 import com.gusparro.friggsys.adapter.api.response.UserResponse;
 import com.gusparro.friggsys.adapter.api.request.ChangePasswordRequest;
 import com.gusparro.friggsys.adapter.api.request.CreateUserRequest;
 import com.gusparro.friggsys.adapter.api.request.UpdateUserRequest;
+import com.gusparro.friggsys.adapter.api.request.UserCreationBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserDeleteBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserStatusBatchRequest;
+import com.gusparro.friggsys.domain.repositories.pagination.CountMode;
 import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
 import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,8 +28,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
@@ -33,7 +47,11 @@ public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final UserOperationsFacade userOperationsFacade;
+    private final UserExportLimiter exportLimiter;
 
     @Operation(summary = "Create a new user", description = "Creates a new user and returns the created resource")
     @ApiResponses(value = {
@@ -51,7 +69,25 @@ public class UserController {
                 .buildAndExpand(createdUser.id())
                 .toUri();
 
-        return ResponseEntity.created(location).body(createdUser);
+        return ResponseEntity.created(location)
+                .header(HttpHeaders.ETAG, VersionTags.of(createdUser.version()))
+                .body(createdUser);
+    }
+
+    @Operation(summary = "Create users in batch",
+            description = "Creates every valid user of the batch and returns the outcome of each item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch applied, see the outcome of each item",
+                    content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "503", description = "Password hashing capacity exceeded")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserCreationOutcomeResponse>> createAll(
+            @Valid @RequestBody UserCreationBatchRequest request) {
+        var outcomes = userOperationsFacade.createAll(request);
+
+        return ResponseEntity.ok(outcomes);
     }
 
     @Operation(summary = "Update user", description = "Updates user information")
@@ -59,15 +95,18 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User updated successfully",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "412", description = "User changed since the given version")
     })
     @PatchMapping("/{id}")
     public ResponseEntity<UserResponse> update(
             @Parameter(description = "User ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "Version the user must still be at, as returned in the ETag header")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateUserRequest request) {
-        var updatedUser = userOperationsFacade.update(id, request);
+        var updatedUser = userOperationsFacade.update(id, request, ifMatch);
 
-        return ResponseEntity.ok(updatedUser);
+        return withVersionTag(updatedUser);
     }
 
     @Operation(summary = "Change user password", description = "Changes the password for a specific user")
@@ -75,57 +114,69 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "Password changed successfully",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid password"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "412", description = "User changed since the given version")
     })
     @PatchMapping("/{id}/change-password")
     public ResponseEntity<UserResponse> changePassword(
             @Parameter(description = "User ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "Version the user must still be at, as returned in the ETag header")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ChangePasswordRequest request) {
-        var updatedUser = userOperationsFacade.changePassword(id, request);
+        var updatedUser = userOperationsFacade.changePassword(id, request, ifMatch);
 
-        return ResponseEntity.ok(updatedUser);
+        return withVersionTag(updatedUser);
     }
 
     @Operation(summary = "Activate user", description = "Activates a deactivated user account")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User activated successfully",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "412", description = "User changed since the given version")
     })
     @PatchMapping("/{id}/activate")
     public ResponseEntity<UserResponse> activate(
-            @Parameter(description = "User ID", required = true) @PathVariable UUID id) {
-        var activatedUser = userOperationsFacade.activate(id);
+            @Parameter(description = "User ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "Version the user must still be at, as returned in the ETag header")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var activatedUser = userOperationsFacade.activate(id, ifMatch);
 
-        return ResponseEntity.ok(activatedUser);
+        return withVersionTag(activatedUser);
     }
 
     @Operation(summary = "Deactivate user", description = "Deactivates an active user account")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User deactivated successfully",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "412", description = "User changed since the given version")
     })
     @PatchMapping("/{id}/deactivate")
     public ResponseEntity<UserResponse> deactivate(
-            @Parameter(description = "User ID", required = true) @PathVariable UUID id) {
-        var deactivatedUser = userOperationsFacade.deactivate(id);
+            @Parameter(description = "User ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "Version the user must still be at, as returned in the ETag header")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var deactivatedUser = userOperationsFacade.deactivate(id, ifMatch);
 
-        return ResponseEntity.ok(deactivatedUser);
+        return withVersionTag(deactivatedUser);
     }
 
     @Operation(summary = "Block user", description = "Blocks a user account")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User blocked successfully",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "412", description = "User changed since the given version")
     })
     @PatchMapping("/{id}/block")
     public ResponseEntity<UserResponse> block(
-            @Parameter(description = "User ID", required = true) @PathVariable UUID id) {
-        var blockedUser = userOperationsFacade.block(id);
+            @Parameter(description = "User ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "Version the user must still be at, as returned in the ETag header")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var blockedUser = userOperationsFacade.block(id, ifMatch);
 
-        return ResponseEntity.ok(blockedUser);
+        return withVersionTag(blockedUser);
     }
 
     @Operation(summary = "Delete user", description = "Permanently deletes a user")
@@ -141,6 +192,36 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Change status of users in batch",
+            description = "Applies the status to every listed user and returns the outcome of each one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch applied, see the outcome of each user",
+                    content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    @PostMapping("/status-batch")
+    public ResponseEntity<List<UserBatchOutcomeResponse>> changeStatuses(
+            @Valid @RequestBody UserStatusBatchRequest request) {
+        var outcomes = userOperationsFacade.changeStatuses(request);
+
+        return ResponseEntity.ok(outcomes);
+    }
+
+    @Operation(summary = "Delete users in batch",
+            description = "Permanently deletes every listed user and returns the outcome of each one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch applied, see the outcome of each user",
+                    content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    @PostMapping("/delete-batch")
+    public ResponseEntity<List<UserBatchOutcomeResponse>> deleteAll(
+            @Valid @RequestBody UserDeleteBatchRequest request) {
+        var outcomes = userOperationsFacade.deleteAll(request);
+
+        return ResponseEntity.ok(outcomes);
+    }
+
     @Operation(summary = "List all users", description = "Returns a paginated list of users")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users retrieved successfully",
@@ -151,31 +232,116 @@ public class UserController {
             @Parameter(description = "Page number", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "10") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field", example = "name") @RequestParam(defaultValue = "name") String orderBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "ASC") PageOrder direction) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "ASC") PageOrder direction,
+            @Parameter(description = "Total count strategy, sent in the " + TOTAL_COUNT_HEADER + " header")
+            @RequestParam(defaultValue = "NONE") CountMode count) {
         var parameters = PageParameters.builder()
                 .page(page)
                 .size(size)
                 .orderBy(orderBy)
                 .direction(direction)
+                .countMode(count)
+                .build();
+
+        var users = userOperationsFacade.findAll(parameters);
+        var response = ResponseEntity.ok();
+
+        if (users.getCountMode() != null && users.getCountMode() != CountMode.NONE) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(users.getDataAmount()));
+        }
+
+        return response.body(users.getData());
+    }
+
+    @Operation(summary = "List users by cursor",
+            description = "Returns the users after the given cursor, the cursor of the next page is sent in the "
+                    + NEXT_CURSOR_HEADER + " header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<UserResponse>> findAllByCursor(
+            @Parameter(description = "Cursor of the previous page, empty for the first page") @RequestParam String cursor,
+            @Parameter(description = "Page size", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort field", example = "name") @RequestParam(defaultValue = "name") String orderBy,
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "ASC") PageOrder direction) {
+        var parameters = PageParameters.builder()
+                .size(size)
+                .orderBy(orderBy)
+                .direction(direction)
+                .cursor(cursor)
                 .build();
 
-        var response = userOperationsFacade.findAll(parameters);
+        var page = userOperationsFacade.findAllByCursor(parameters);
+        var response = ResponseEntity.ok();
 
-        return ResponseEntity.ok(response);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+
+        return response.body(page.getData());
+    }
+
+    @Operation(summary = "Export all users",
+            description = "Streams every user as NDJSON or CSV, gzip-compressed when the client accepts it, "
+                    + "optionally read by parallel workers from one consistent snapshot")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid export format"),
+            @ApiResponse(responseCode = "503", description = "Too many exports are running, retry later")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Export format") @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @Parameter(description = "Read the directory with parallel workers sharing one database snapshot")
+            @RequestParam(defaultValue = "false") boolean parallel,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var permit = exportLimiter.acquire(parallel);
+        var gzip = ContentCodings.acceptsGzip(acceptEncoding);
+        var disposition = ContentDisposition.attachment()
+                .filename("users." + format.getExtension())
+                .build();
+        var response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        StreamingResponseBody body = output -> {
+            try (permit) {
+                userOperationsFacade.export(format, parallel, gzip, output);
+            }
+        };
+
+        return response.body(body);
     }
 
     @Operation(summary = "Find user by ID", description = "Returns a specific user by their ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User found",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "304", description = "User unchanged since the given version"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> findById(
-            @Parameter(description = "User ID", required = true) @PathVariable UUID id) {
+            @Parameter(description = "User ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "Versions already held by the client, as returned in the ETag header")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         var user = userOperationsFacade.findById(id);
 
-        return ResponseEntity.ok(user);
+        if (VersionTags.matchesAny(ifNoneMatch, user.version())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.ETAG, VersionTags.of(user.version()))
+                    .build();
+        }
+
+        return withVersionTag(user);
     }
 
     @Operation(summary = "Find user by email", description = "Returns a user by their email address")
@@ -193,4 +359,10 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    private static ResponseEntity<UserResponse> withVersionTag(UserResponse user) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.ETAG, VersionTags.of(user.version()))
+                .body(user);
+    }
+
 }
\ No newline at end of file
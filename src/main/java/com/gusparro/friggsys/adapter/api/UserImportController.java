@@ -0,0 +1,88 @@
+package com.gusparro.friggsys.adapter.api;
+
+import com.gusparro.friggsys.adapter.api.facades.UserImportFacade;
+import com.gusparro.friggsys.adapter.api.response.UserImportErrorResponse;
+import com.gusparro.friggsys.adapter.api.response.UserImportJobResponse;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("${api.prefix}/users/imports")
+@Tag(name = "User Imports", description = "Bulk user import jobs")
+public class UserImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportController.class);
+
+    private final UserImportFacade userImportFacade;
+
+    @Operation(summary = "Start a user import",
+            description = "Accepts a CSV or NDJSON file and imports its users in the background")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import job accepted",
+                    content = @Content(schema = @Schema(implementation = UserImportJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "503", description = "Import queue is full")
+    })
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserImportJobResponse> submit(
+            @Parameter(description = "File with one user per row", required = true) @RequestPart MultipartFile file,
+            @Parameter(description = "File format") @RequestParam(defaultValue = "CSV") ImportFormat format)
+            throws IOException {
+        var job = userImportFacade.submit(format, file.getInputStream());
+        var location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQuery(null)
+                .path("/{id}")
+                .buildAndExpand(job.id())
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Operation(summary = "Find user import job", description = "Returns the progress and throughput of an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job found",
+                    content = @Content(schema = @Schema(implementation = UserImportJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<UserImportJobResponse> findById(
+            @Parameter(description = "Import job ID", required = true) @PathVariable UUID id) {
+        return ResponseEntity.ok(userImportFacade.findById(id));
+    }
+
+    @Operation(summary = "List rejected rows of a user import job",
+            description = "Returns the rows that were not imported, ordered by line number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rejected rows listed",
+                    content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<List<UserImportErrorResponse>> findErrors(
+            @Parameter(description = "Import job ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "Page number", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "100") @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(userImportFacade.findErrors(id, page, size));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.gusparro.friggsys.adapter.api.etag;
+
+public final class VersionTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    private VersionTags() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static String of(Long version) {
+        return QUOTE + version + QUOTE;
+    }
+
+    public static boolean matchesAny(String header, Long version) {
+        if (header == null || version == null) {
+            return false;
+        }
+
+        var current = of(version);
+
+        for (var candidate : header.split(",")) {
+            var tag = candidate.trim();
+
+            if (ANY.equals(tag)) {
+                return true;
+            }
+
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+
+            if (current.equals(tag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static Long versionOf(String header) {
+        if (header == null || header.isBlank() || ANY.equals(header.trim())) {
+            return null;
+        }
+
+        var tag = header.trim();
+
+        if (tag.length() < 3 || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE)) {
+            throw new IllegalArgumentException("Expected a single strong entity tag, got " + header);
+        }
+
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Entity tag is not a version: " + header, exception);
+        }
+    }
+
+}
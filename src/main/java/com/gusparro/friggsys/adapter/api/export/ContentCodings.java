@@ -0,0 +1,61 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import java.util.Locale;
+
+public final class ContentCodings {
+
+    private static final String ANY = "*";
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String QUALITY = "q=";
+
+    private ContentCodings() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static boolean acceptsGzip(String header) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double anyQuality = null;
+
+        for (var element : header.split(",")) {
+            var parts = element.split(";");
+            var coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            var quality = qualityOf(parts);
+
+            if (GZIP.equals(coding) || X_GZIP.equals(coding)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (ANY.equals(coding)) {
+                anyQuality = quality;
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            var parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+
+            if (parameter.startsWith(QUALITY)) {
+                try {
+                    var quality = Double.parseDouble(parameter.substring(QUALITY.length()).trim());
+
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+
+}
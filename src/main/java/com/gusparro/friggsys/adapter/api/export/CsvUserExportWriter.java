@@ -0,0 +1,82 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import com.gusparro.friggsys.adapter.api.response.UserResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvUserExportWriter implements UserExportWriter {
+
+    static final String HEADER = "id,name,email,telephone,status,createdAt,updatedAt\n";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+
+    CsvUserExportWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.writer.write(HEADER);
+    }
+
+    @Override
+    public void write(UserResponse user) throws IOException {
+        writer.write(user.id().toString());
+        writeField(user.name());
+        writeField(user.email());
+        writeField(user.telephone());
+        writeField(user.status());
+        writeField(user.createdAt() != null ? user.createdAt().toString() : "");
+        writeField(user.updatedAt() != null ? user.updatedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        writer.write(',');
+
+        if (value == null) {
+            return;
+        }
+
+        if (!needsQuotes(value)) {
+            writer.write(value);
+
+            return;
+        }
+
+        writer.write('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            var character = value.charAt(i);
+
+            if (character == '"') {
+                writer.write('"');
+            }
+
+            writer.write(character);
+        }
+
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            var character = value.charAt(i);
+
+            if (character == ',' || character == '"' || character == '\n' || character == '\r') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
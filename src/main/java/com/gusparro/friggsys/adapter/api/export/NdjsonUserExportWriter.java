@@ -0,0 +1,53 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.gusparro.friggsys.adapter.api.response.UserResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+
+public class NdjsonUserExportWriter implements UserExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+
+    NdjsonUserExportWriter(OutputStream output) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(output);
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+
+    @Override
+    public void write(UserResponse user) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", user.id().toString());
+        generator.writeStringField("name", user.name());
+        generator.writeStringField("email", user.email());
+        generator.writeStringField("telephone", user.telephone());
+        generator.writeStringField("status", user.status());
+        writeTimestamp("createdAt", user.createdAt());
+        writeTimestamp("updatedAt", user.updatedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    private void writeTimestamp(String field, OffsetDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value.toString());
+        }
+    }
+
+}
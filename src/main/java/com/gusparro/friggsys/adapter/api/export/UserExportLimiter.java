@@ -0,0 +1,79 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class UserExportLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExportLimiter.class);
+
+    private static final String RESOURCE = "user_export";
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final Semaphore connections;
+    private final int maxConnections;
+    private final int parallelConnections;
+
+    public UserExportLimiter(MeterRegistry meterRegistry,
+                             @Value("${api.export.max-connections:3}") int maxConnections,
+                             @Value("${api.export.parallelism:2}") int parallelism) {
+        if (maxConnections < parallelism + 1) {
+            throw new IllegalArgumentException("Export connections must fit one parallel export of "
+                    + (parallelism + 1) + " connections, got " + maxConnections);
+        }
+
+        this.connections = new Semaphore(maxConnections);
+        this.maxConnections = maxConnections;
+        this.parallelConnections = parallelism + 1;
+
+        Gauge.builder("friggsys.user.export.connections", connections,
+                        permits -> maxConnections - permits.availablePermits())
+                .description("Database connections reserved by running user exports")
+                .register(meterRegistry);
+
+        logger.info("User exports limited to {} database connections, {} per parallel export",
+                maxConnections, parallelConnections);
+    }
+
+    public Permit acquire(boolean parallel) {
+        var needed = parallel ? parallelConnections : 1;
+
+        if (!connections.tryAcquire(needed)) {
+            logger.warn("Rejecting {} user export, {} of {} export connections are in use",
+                    parallel ? "parallel" : "cursor", maxConnections - connections.availablePermits(), maxConnections);
+
+            throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "connection_limit", RETRY_AFTER);
+        }
+
+        var released = new AtomicBoolean();
+
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                connections.release(needed);
+            }
+        };
+    }
+
+    int availableConnections() {
+        return connections.availablePermits();
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
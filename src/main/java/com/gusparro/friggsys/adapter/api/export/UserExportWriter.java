@@ -0,0 +1,21 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import com.gusparro.friggsys.adapter.api.response.UserResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserExportWriter {
+
+    void write(UserResponse user) throws IOException;
+
+    void flush() throws IOException;
+
+    static UserExportWriter open(ExportFormat format, OutputStream output) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonUserExportWriter(output);
+            case CSV -> new CsvUserExportWriter(output);
+        };
+    }
+
+}
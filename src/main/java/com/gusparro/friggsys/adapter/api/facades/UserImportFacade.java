@@ -0,0 +1,58 @@
+package com.gusparro.friggsys.adapter.api.facades;
+
+import com.gusparro.friggsys.adapter.api.response.UserImportErrorResponse;
+import com.gusparro.friggsys.adapter.api.response.UserImportJobResponse;
+import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
+import com.gusparro.friggsys.adapter.imports.UserImportRunner;
+import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.user.FindUserImportUseCase;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+
+@Component
+public class UserImportFacade {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportFacade.class);
+
+    private final UserImportRunner runner;
+    private final FindUserImportUseCase findUserImportUseCase;
+
+    public UserImportJobResponse submit(ImportFormat format, InputStream content) {
+        var job = runner.submit(format, content);
+
+        return UserImportJobResponse.from(job);
+    }
+
+    public UserImportJobResponse findById(UUID id) {
+        try {
+            return UserImportJobResponse.from(findUserImportUseCase.execute(id));
+        } catch (EntityNotFoundError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.resourceNotExists(error);
+        }
+    }
+
+    public List<UserImportErrorResponse> findErrors(UUID id, int page, int size) {
+        try {
+            return findUserImportUseCase.findErrors(id, page, size)
+                    .stream()
+                    .map(UserImportErrorResponse::from)
+                    .toList();
+        } catch (EntityNotFoundError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.resourceNotExists(error);
+        }
+    }
+
+}
@@ -1,23 +1,38 @@
 package com.gusparro.friggsys.adapter.api.facades;
 
+import com.gusparro.friggsys.adapter.api.etag.VersionTags;
+import com.gusparro.friggsys.adapter.api.export.ExportFormat;
+import com.gusparro.friggsys.adapter.api.export.UserExportWriter;
 import com.gusparro.friggsys.adapter.api.mappers.UserApiMapper;
 import com.gusparro.friggsys.adapter.api.request.ChangePasswordRequest;
 import com.gusparro.friggsys.adapter.api.request.CreateUserRequest;
 import com.gusparro.friggsys.adapter.api.request.UpdateUserRequest;
+import com.gusparro.friggsys.adapter.api.request.UserCreationBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserDeleteBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserStatusBatchRequest;
+import com.gusparro.friggsys.adapter.api.response.UserBatchOutcomeResponse;
+import com.gusparro.friggsys.adapter.api.response.UserCreationOutcomeResponse;
 import com.gusparro.friggsys.adapter.api.response.UserResponse;
 import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
 import com.gusparro.friggsys.domain.exceptions.InvalidStateError;
 import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.repositories.pagination.CursorPage;
+import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
 import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.exceptions.VersionMismatchError;
 import com.gusparro.friggsys.usecase.user.*;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RequiredArgsConstructor
 
@@ -26,9 +41,12 @@ public class UserOperationsFacade {
 
     private static final Logger logger = LoggerFactory.getLogger(UserOperationsFacade.class);
 
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
     private final UserApiMapper mapper;
 
     private final CreateUserUseCase createUserUseCase;
+    private final CreateUsersUseCase createUsersUseCase;
 
     private final UpdateUserUseCase updateUserUseCase;
     private final ChangePasswordUseCase changePasswordUseCase;
@@ -36,12 +54,16 @@ public class UserOperationsFacade {
     private final ActivateUserUseCase activateUserUseCase;
     private final DeactivateUserUseCase deactivateUserUseCase;
     private final BlockUserUseCase blockUserUseCase;
+    private final ChangeUsersStatusUseCase changeUsersStatusUseCase;
 
     private final DeleteUserUseCase deleteUserUseCase;
+    private final DeleteUsersUseCase deleteUsersUseCase;
 
     private final FindUsersUseCase findUsersUseCase;
+    private final FindUsersByCursorUseCase findUsersByCursorUseCase;
     private final FindUserByIdUseCase findUserByIdUseCase;
     private final FindUserByEmailUseCase findUserByEmailUseCase;
+    private final ExportUsersUseCase exportUsersUseCase;
 
     public UserResponse create(CreateUserRequest request) {
         var input = mapper.toCreateUserInput(request);
@@ -57,8 +79,20 @@ public class UserOperationsFacade {
         }
     }
 
-    public UserResponse update(UUID id, UpdateUserRequest request) {
-        var input = mapper.toUpdateUserInput(id, request);
+    public List<UserCreationOutcomeResponse> createAll(UserCreationBatchRequest request) {
+        var inputs = request.users()
+                .stream()
+                .map(mapper::toCreateUserInput)
+                .toList();
+
+        return createUsersUseCase.execute(inputs)
+                .stream()
+                .map(UserCreationOutcomeResponse::from)
+                .toList();
+    }
+
+    public UserResponse update(UUID id, UpdateUserRequest request, String ifMatch) {
+        var input = mapper.toUpdateUserInput(id, request, expectedVersionOf(ifMatch, "update"));
 
         try {
             var userOutput = updateUserUseCase.execute(input);
@@ -68,6 +102,10 @@ public class UserOperationsFacade {
             logger.error(error.getMessage());
 
             throw AdapterExceptionFactory.entityNotFound("update", error);
+        } catch (VersionMismatchError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.versionMismatch("update", error);
         } catch (ValidationError error) {
             logger.error(error.getMessage());
 
@@ -75,8 +113,8 @@ public class UserOperationsFacade {
         }
     }
 
-    public UserResponse changePassword(UUID id, ChangePasswordRequest request) {
-        var input = mapper.toChangePasswordInput(id, request);
+    public UserResponse changePassword(UUID id, ChangePasswordRequest request, String ifMatch) {
+        var input = mapper.toChangePasswordInput(id, request, expectedVersionOf(ifMatch, "change_password"));
 
         try {
             var userOutput = changePasswordUseCase.execute(input);
@@ -86,6 +124,10 @@ public class UserOperationsFacade {
             logger.error(error.getMessage());
 
             throw AdapterExceptionFactory.entityNotFound("change_password", error);
+        } catch (VersionMismatchError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.versionMismatch("change_password", error);
         } catch (ValidationError error) {
             logger.error(error.getMessage());
 
@@ -93,15 +135,21 @@ public class UserOperationsFacade {
         }
     }
 
-    public UserResponse activate(UUID id) {
+    public UserResponse activate(UUID id, String ifMatch) {
+        var expectedVersion = expectedVersionOf(ifMatch, "activate");
+
         try {
-            var userOutput = activateUserUseCase.execute(id);
+            var userOutput = activateUserUseCase.execute(id, expectedVersion);
 
             return UserResponse.from(userOutput);
         } catch (EntityNotFoundError error) {
             logger.error(error.getMessage());
 
             throw AdapterExceptionFactory.entityNotFound("activate", error);
+        } catch (VersionMismatchError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.versionMismatch("activate", error);
         } catch (InvalidStateError error) {
             logger.error(error.getMessage());
 
@@ -109,15 +157,21 @@ public class UserOperationsFacade {
         }
     }
 
-    public UserResponse deactivate(UUID id) {
+    public UserResponse deactivate(UUID id, String ifMatch) {
+        var expectedVersion = expectedVersionOf(ifMatch, "deactivate");
+
         try {
-            var userOutput = deactivateUserUseCase.execute(id);
+            var userOutput = deactivateUserUseCase.execute(id, expectedVersion);
 
             return UserResponse.from(userOutput);
         } catch (EntityNotFoundError error) {
             logger.error(error.getMessage());
 
             throw AdapterExceptionFactory.entityNotFound("deactivate", error);
+        } catch (VersionMismatchError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.versionMismatch("deactivate", error);
         } catch (InvalidStateError error) {
             logger.error(error.getMessage());
 
@@ -125,15 +179,21 @@ public class UserOperationsFacade {
         }
     }
 
-    public UserResponse block(UUID id) {
+    public UserResponse block(UUID id, String ifMatch) {
+        var expectedVersion = expectedVersionOf(ifMatch, "block");
+
         try {
-            var userOutput = blockUserUseCase.execute(id);
+            var userOutput = blockUserUseCase.execute(id, expectedVersion);
 
             return UserResponse.from(userOutput);
         } catch (EntityNotFoundError error) {
             logger.error(error.getMessage());
 
             throw AdapterExceptionFactory.entityNotFound("block", error);
+        } catch (VersionMismatchError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.versionMismatch("block", error);
         } catch (InvalidStateError error) {
             logger.error(error.getMessage());
 
@@ -151,10 +211,56 @@ public class UserOperationsFacade {
         }
     }
 
-    public List<UserResponse> findAll(PageParameters parameters) {
-        var usersOutput = findUsersUseCase.execute(parameters).getData();
+    public List<UserBatchOutcomeResponse> changeStatuses(UserStatusBatchRequest request) {
+        return changeUsersStatusUseCase.execute(request.ids(), request.status())
+                .stream()
+                .map(UserBatchOutcomeResponse::from)
+                .toList();
+    }
 
-        return usersOutput.stream().map(UserResponse::from).toList();
+    public List<UserBatchOutcomeResponse> deleteAll(UserDeleteBatchRequest request) {
+        return deleteUsersUseCase.execute(request.ids())
+                .stream()
+                .map(UserBatchOutcomeResponse::from)
+                .toList();
+    }
+
+    public DomainPage<UserResponse> findAll(PageParameters parameters) {
+        try {
+            var page = findUsersUseCase.execute(parameters);
+
+            return DomainPage.<UserResponse>builder()
+                    .data(page.getData().stream().map(UserResponse::from).toList())
+                    .dataAmount(page.getDataAmount())
+                    .pagesAmount(page.getPagesAmount())
+                    .pageNumber(page.getPageNumber())
+                    .pageSize(page.getPageSize())
+                    .firstPage(page.isFirstPage())
+                    .lastPage(page.isLastPage())
+                    .countMode(page.getCountMode())
+                    .build();
+        } catch (ValidationError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.invalidField("User", "find_all", error);
+        }
+    }
+
+    public CursorPage<UserResponse> findAllByCursor(PageParameters parameters) {
+        try {
+            var page = findUsersByCursorUseCase.execute(parameters);
+
+            return CursorPage.<UserResponse>builder()
+                    .data(page.getData().stream().map(UserResponse::from).toList())
+                    .nextCursor(page.getNextCursor())
+                    .pageSize(page.getPageSize())
+                    .lastPage(page.isLastPage())
+                    .build();
+        } catch (ValidationError error) {
+            logger.error(error.getMessage());
+
+            throw AdapterExceptionFactory.invalidField("User", "find_all", error);
+        }
     }
 
     public UserResponse findById(UUID id) {
@@ -189,4 +295,39 @@ public class UserOperationsFacade {
         }
     }
 
+    public void export(ExportFormat format, boolean parallel, boolean gzip, OutputStream output) throws IOException {
+        var target = gzip ? new GZIPOutputStream(output, GZIP_BUFFER_SIZE) : output;
+        var writer = UserExportWriter.open(format, target);
+
+        try {
+            exportUsersUseCase.execute(parallel, user -> {
+                try {
+                    writer.write(UserResponse.from(user));
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            logger.warn("User export aborted: {}", exception.getMessage());
+
+            throw exception.getCause();
+        }
+
+        writer.flush();
+
+        if (target instanceof GZIPOutputStream compressed) {
+            compressed.finish();
+        }
+    }
+
+    private static Long expectedVersionOf(String ifMatch, String action) {
+        try {
+            return VersionTags.versionOf(ifMatch);
+        } catch (IllegalArgumentException exception) {
+            logger.error(exception.getMessage());
+
+            throw AdapterExceptionFactory.unsupportedPrecondition("User", action, ifMatch);
+        }
+    }
+
 }
@@ -22,20 +22,22 @@ public class UserApiMapper {
         );
     }
 
-    public UpdateUserInput toUpdateUserInput(UUID id, UpdateUserRequest request) {
+    public UpdateUserInput toUpdateUserInput(UUID id, UpdateUserRequest request, Long expectedVersion) {
         return new UpdateUserInput(
                 id,
                 request.name(),
                 request.email(),
-                request.telephone()
+                request.telephone(),
+                expectedVersion
         );
     }
 
-    public ChangePasswordInput toChangePasswordInput(UUID id, ChangePasswordRequest request) {
+    public ChangePasswordInput toChangePasswordInput(UUID id, ChangePasswordRequest request, Long expectedVersion) {
         return new ChangePasswordInput(
                 id,
                 request.currentPassword(),
-                request.newPassword()
+                request.newPassword(),
+                expectedVersion
         );
     }
 
@@ -0,0 +1,13 @@
+package com.gusparro.friggsys.adapter.api.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UserCreationBatchRequest(
+        @NotEmpty(message = "At least one user is required")
+        @Size(max = 1000, message = "At most {max} users are allowed per batch")
+        List<@NotNull(message = "Users cannot be null") CreateUserRequest> users
+) {}
@@ -0,0 +1,14 @@
+package com.gusparro.friggsys.adapter.api.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UserDeleteBatchRequest(
+        @NotEmpty(message = "At least one user ID is required")
+        @Size(max = 5000, message = "At most {max} user IDs are allowed per batch")
+        List<@NotNull(message = "User IDs cannot be null") UUID> ids
+) {}
@@ -0,0 +1,18 @@
+package com.gusparro.friggsys.adapter.api.request;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UserStatusBatchRequest(
+        @NotEmpty(message = "At least one user ID is required")
+        @Size(max = 5000, message = "At most {max} user IDs are allowed per batch")
+        List<@NotNull(message = "User IDs cannot be null") UUID> ids,
+
+        @NotNull(message = "Status is required")
+        UserStatus status
+) {}
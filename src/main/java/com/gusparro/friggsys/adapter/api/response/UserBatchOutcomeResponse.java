@@ -0,0 +1,14 @@
+package com.gusparro.friggsys.adapter.api.response;
+
+import com.gusparro.friggsys.usecase.user.dtos.UserBatchOutput;
+
+import java.util.UUID;
+
+public record UserBatchOutcomeResponse(
+        UUID id,
+        String outcome
+) {
+    public static UserBatchOutcomeResponse from(UserBatchOutput output) {
+        return new UserBatchOutcomeResponse(output.id(), output.outcome().name());
+    }
+}
@@ -0,0 +1,25 @@
+package com.gusparro.friggsys.adapter.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gusparro.friggsys.usecase.user.dtos.UserCreationOutput;
+
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+
+@JsonInclude(NON_EMPTY)
+public record UserCreationOutcomeResponse(
+        int index,
+        String outcome,
+        UserResponse user,
+        Map<String, String> fieldErrors
+) {
+    public static UserCreationOutcomeResponse from(UserCreationOutput output) {
+        return new UserCreationOutcomeResponse(
+                output.index(),
+                output.outcome().name(),
+                output.user() != null ? UserResponse.from(output.user()) : null,
+                output.fieldErrors()
+        );
+    }
+}
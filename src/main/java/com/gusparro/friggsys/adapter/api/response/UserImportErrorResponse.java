@@ -0,0 +1,15 @@
+package com.gusparro.friggsys.adapter.api.response;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+
+import java.util.Map;
+
+public record UserImportErrorResponse(
+        long lineNumber,
+        String outcome,
+        Map<String, String> fieldErrors
+) {
+    public static UserImportErrorResponse from(ImportRowError error) {
+        return new UserImportErrorResponse(error.lineNumber(), error.outcome().name(), error.fieldErrors());
+    }
+}
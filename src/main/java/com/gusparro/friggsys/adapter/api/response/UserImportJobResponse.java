@@ -0,0 +1,46 @@
+package com.gusparro.friggsys.adapter.api.response;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record UserImportJobResponse(
+        UUID id,
+        String format,
+        String status,
+        long processedRows,
+        long importedRows,
+        long rejectedRows,
+        double rowsPerSecond,
+        String failureReason,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {
+    public static UserImportJobResponse from(ImportJobOutput output) {
+        return new UserImportJobResponse(
+                output.id(),
+                output.format().name(),
+                output.status().name(),
+                output.processedRows(),
+                output.importedRows(),
+                output.rejectedRows(),
+                rowsPerSecondOf(output, OffsetDateTime.now()),
+                output.failureReason(),
+                output.startedAt(),
+                output.finishedAt()
+        );
+    }
+
+    static double rowsPerSecondOf(ImportJobOutput output, OffsetDateTime now) {
+        if (output.startedAt() == null) {
+            return 0;
+        }
+
+        var end = output.finishedAt() != null ? output.finishedAt() : now;
+        var elapsedMillis = Duration.between(output.startedAt(), end).toMillis();
+
+        return elapsedMillis <= 0 ? 0 : output.processedRows() * 1000.0 / elapsedMillis;
+    }
+}
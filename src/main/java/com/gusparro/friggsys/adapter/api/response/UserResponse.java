@@ -1,5 +1,6 @@
 package com.gusparro.friggsys.adapter.api.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
 
 import java.time.OffsetDateTime;
@@ -12,7 +13,9 @@ public record UserResponse(
         String telephone,
         String status,
         OffsetDateTime createdAt,
-        OffsetDateTime updatedAt
+        OffsetDateTime updatedAt,
+        @JsonIgnore
+        Long version
 ) {
     public static UserResponse from(UserOutput output) {
         return new UserResponse(
@@ -22,7 +25,8 @@ public record UserResponse(
                 output.telephone(),
                 output.status().getDescription(),
                 output.createdAt(),
-                output.updatedAt()
+                output.updatedAt(),
+                output.version()
         );
     }
 }
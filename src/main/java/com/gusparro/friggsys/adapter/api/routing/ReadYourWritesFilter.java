@@ -0,0 +1,98 @@
+package com.gusparro.friggsys.adapter.api.routing;
+
+import com.gusparro.friggsys.adapter.persistence.routing.DataSourceRoutingContext;
+import com.gusparro.friggsys.adapter.persistence.routing.ReadYourWritesTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String CLIENT_COOKIE = "friggsys-ryw";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var knownClient = clientOf(request);
+
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            var client = knownClient.orElseGet(() -> issueToken(request, response));
+
+            tracker.recordWrite(client);
+
+            try (var ignored = DataSourceRoutingContext.pinToPrimary()) {
+                filterChain.doFilter(request, response);
+            } finally {
+                tracker.recordWrite(client);
+            }
+
+            return;
+        }
+
+        if (knownClient.isEmpty() || !tracker.wroteRecently(knownClient.get())) {
+            filterChain.doFilter(request, response);
+
+            return;
+        }
+
+        try (var ignored = DataSourceRoutingContext.pinToPrimary()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    static Optional<String> clientOf(HttpServletRequest request) {
+        var principal = request.getUserPrincipal();
+
+        if (principal != null) {
+            return Optional.of("principal:" + principal.getName());
+        }
+
+        var cookie = WebUtils.getCookie(request, CLIENT_COOKIE);
+
+        return cookie != null && isToken(cookie.getValue())
+                ? Optional.of("token:" + cookie.getValue())
+                : Optional.empty();
+    }
+
+    private static String issueToken(HttpServletRequest request, HttpServletResponse response) {
+        var token = UUID.randomUUID().toString();
+        var path = StringUtils.hasText(request.getContextPath()) ? request.getContextPath() : "/";
+        var cookie = ResponseCookie.from(CLIENT_COOKIE, token)
+                .path(path)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .build();
+
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+
+        return "token:" + token;
+    }
+
+    private static boolean isToken(String value) {
+        try {
+            return value != null && value.length() == 36 && UUID.fromString(value).toString().equals(value);
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+}
@@ -3,8 +3,11 @@ package com.gusparro.friggsys.adapter.exceptions;
 import com.gusparro.friggsys.domain.exceptions.InvalidStateError;
 import com.gusparro.friggsys.domain.exceptions.ValidationError;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.exceptions.VersionMismatchError;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public final class AdapterExceptionFactory {
@@ -22,7 +25,11 @@ public final class AdapterExceptionFactory {
         var message = String.format("It is not possible to execute '%s' on %s due a problem with the '%s' field, %s",
                 action, entityName, error.getField(), error.getMessage());
 
-        return new BadResquestError(message, entityName, action, error.getField(), error.getDetails());
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+
+        error.getViolations().forEach(violation -> fieldErrors.putIfAbsent(violation.getField(), violation.getMessage()));
+
+        return new BadResquestError(message, entityName, action, error.getField(), error.getDetails(), fieldErrors);
     }
 
     public static BadResquestError entityNotFound(String action, EntityNotFoundError error) {
@@ -44,4 +51,30 @@ public final class AdapterExceptionFactory {
         return new ConflictError(entityName, action, conflictType, details);
     }
 
+    public static PreconditionFailedError versionMismatch(String action, VersionMismatchError error) {
+        return new PreconditionFailedError(error.getEntityName(), action, error.getDetails());
+    }
+
+    public static PreconditionFailedError unsupportedPrecondition(String entityName, String action, String condition) {
+        Map<String, Object> details = Map.of(
+                "entity", entityName,
+                "action", action,
+                "condition", condition,
+                "timestamp", Instant.now()
+        );
+
+        return new PreconditionFailedError(entityName, action, details);
+    }
+
+    public static ServiceUnavailableError capacityExceeded(String resource, String reason, Duration retryAfter) {
+        Map<String, Object> details = Map.of(
+                "resource", resource,
+                "reason", reason,
+                "retryAfterSeconds", retryAfter.toSeconds(),
+                "timestamp", Instant.now()
+        );
+
+        return new ServiceUnavailableError(resource, reason, retryAfter, details);
+    }
+
 }
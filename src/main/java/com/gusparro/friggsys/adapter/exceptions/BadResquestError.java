@@ -10,6 +10,7 @@ public class BadResquestError extends AdapterException {
     private final String entityName;
     private final String action;
     private final String field;
+    private final Map<String, String> fieldErrors;
 
     public BadResquestError(String entityName, String action, String field, Map<String, Object> details) {
         var message = String.format("It is not possible to execute '%s' on %s due a problem with the '%s' field",
@@ -20,6 +21,7 @@ public class BadResquestError extends AdapterException {
         this.entityName = entityName;
         this.action = action;
         this.field = field;
+        this.fieldErrors = Map.of();
     }
 
     public BadResquestError(String message,
@@ -27,11 +29,21 @@ public class BadResquestError extends AdapterException {
                             String action,
                             String field,
                             Map<String, Object> details) {
+        this(message, entityName, action, field, details, Map.of());
+    }
+
+    public BadResquestError(String message,
+                            String entityName,
+                            String action,
+                            String field,
+                            Map<String, Object> details,
+                            Map<String, String> fieldErrors) {
         super(message, details);
 
         this.entityName = entityName;
         this.action = action;
         this.field = field;
+        this.fieldErrors = fieldErrors;
     }
 
 }
@@ -0,0 +1,37 @@
+package com.gusparro.friggsys.adapter.exceptions;
+
+import com.gusparro.friggsys.domain.exceptions.DomainException;
+import com.gusparro.friggsys.usecase.exceptions.UseCaseException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExceptionStackTraceSettings {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExceptionStackTraceSettings.class);
+
+    private final boolean previousDomainStackTraces;
+    private final boolean previousUseCaseStackTraces;
+
+    public ExceptionStackTraceSettings(@Value("${api.exceptions.stack-traces:true}") boolean stackTraces) {
+        this.previousDomainStackTraces = DomainException.isStackTraceEnabled();
+        this.previousUseCaseStackTraces = UseCaseException.isStackTraceEnabled();
+
+        DomainException.setStackTraceEnabled(stackTraces);
+        UseCaseException.setStackTraceEnabled(stackTraces);
+
+        logger.info("Stack traces for domain and use case exceptions are {}", stackTraces ? "enabled" : "disabled");
+    }
+
+    @PreDestroy
+    public void restore() {
+        DomainException.setStackTraceEnabled(previousDomainStackTraces);
+        UseCaseException.setStackTraceEnabled(previousUseCaseStackTraces);
+
+        logger.debug("Restored stack traces for domain and use case exceptions to their previous settings");
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.gusparro.friggsys.adapter.exceptions;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class PreconditionFailedError extends AdapterException {
+
+    private final String entityName;
+    private final String action;
+
+    public PreconditionFailedError(String entityName, String action, Map<String, Object> details) {
+        var message = String.format("It is not possible to execute '%s' on %s because it does not match the given version",
+                action, entityName);
+
+        super(message, details);
+
+        this.entityName = entityName;
+        this.action = action;
+    }
+
+}
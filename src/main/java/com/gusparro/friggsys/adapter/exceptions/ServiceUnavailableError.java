@@ -0,0 +1,26 @@
+package com.gusparro.friggsys.adapter.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Getter
+public class ServiceUnavailableError extends AdapterException {
+
+    private final String resource;
+    private final String reason;
+    private final Duration retryAfter;
+
+    public ServiceUnavailableError(String resource, String reason, Duration retryAfter, Map<String, Object> details) {
+        var message = String.format("The '%s' resource is temporarily unavailable due a '%s' condition, retry later",
+                resource, reason);
+
+        super(message, details);
+
+        this.resource = resource;
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+}
@@ -3,10 +3,13 @@ package com.gusparro.friggsys.adapter.exceptions.handler;
 import com.gusparro.friggsys.adapter.exceptions.BadResquestError;
 import com.gusparro.friggsys.adapter.exceptions.ConflictError;
 import com.gusparro.friggsys.adapter.exceptions.NotFoundError;
+import com.gusparro.friggsys.adapter.exceptions.PreconditionFailedError;
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
 import com.gusparro.friggsys.usecase.exceptions.DuplicateEmailError;
 import com.gusparro.friggsys.usecase.exceptions.MatchingError;
 import jakarta.servlet.http.HttpServletRequest;
 import org.jspecify.annotations.NonNull;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -77,8 +80,15 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
 
     @ExceptionHandler(BadResquestError.class)
     public ResponseEntity<?> handleBadRequestError(BadResquestError error, WebRequest request, HttpServletRequest http) {
+        var fields = error.getFieldErrors().isEmpty() ? null : error.getFieldErrors().entrySet().stream()
+                .map(fieldError -> FieldValidationDetail.builder()
+                        .name(fieldError.getKey())
+                        .message(fieldError.getValue())
+                        .build()
+                ).toList();
+
         var body = ProblemDetails.buildBodyResponse(IS_BAD_REQUEST_ERROR, error.getMessage(),
-                http.getRequestURI(), null, sanitizeMapData(error.getDetails()));
+                http.getRequestURI(), fields, sanitizeMapData(error.getDetails()));
 
         return handleExceptionInternal(error, body, new HttpHeaders(), BAD_REQUEST, request);
     }
@@ -91,6 +101,28 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         return handleExceptionInternal(error, body, new HttpHeaders(), CONFLICT, request);
     }
 
+    @ExceptionHandler(PreconditionFailedError.class)
+    public ResponseEntity<?> handlePreconditionFailedError(PreconditionFailedError error, WebRequest request, HttpServletRequest http) {
+        var body = ProblemDetails.buildBodyResponse(IS_PRECONDITION_FAILED_ERROR, error.getMessage(),
+                http.getRequestURI(), null, sanitizeMapData(error.getDetails()));
+
+        return handleExceptionInternal(error, body, new HttpHeaders(), PRECONDITION_FAILED, request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(OptimisticLockingFailureException exception,
+                                                            WebRequest request,
+                                                            HttpServletRequest http) {
+        var conditional = http.getHeader(HttpHeaders.IF_MATCH) != null;
+        var problemType = conditional ? IS_PRECONDITION_FAILED_ERROR : IS_CONFLICT_ERROR;
+        var body = ProblemDetails.buildBodyResponse(problemType,
+                "The resource was modified by a concurrent request, fetch it again and retry.",
+                http.getRequestURI(), null, null);
+
+        return handleExceptionInternal(exception, body, new HttpHeaders(),
+                conditional ? PRECONDITION_FAILED : CONFLICT, request);
+    }
+
     @ExceptionHandler(NotFoundError.class)
     public ResponseEntity<?> handleNotFoundError(NotFoundError error, WebRequest request, HttpServletRequest http) {
         var body = ProblemDetails.buildBodyResponse(IS_NOT_FOUND_ERROR, error.getMessage(),
@@ -99,6 +131,17 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         return handleExceptionInternal(error, body, new HttpHeaders(), NOT_FOUND, request);
     }
 
+    @ExceptionHandler(ServiceUnavailableError.class)
+    public ResponseEntity<?> handleServiceUnavailableError(ServiceUnavailableError error, WebRequest request, HttpServletRequest http) {
+        var body = ProblemDetails.buildBodyResponse(IS_SERVICE_UNAVAILABLE_ERROR, error.getMessage(),
+                http.getRequestURI(), null, sanitizeMapData(error.getDetails()));
+
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, error.getRetryAfter().toSeconds())));
+
+        return handleExceptionInternal(error, body, headers, SERVICE_UNAVAILABLE, request);
+    }
+
     @ExceptionHandler(MatchingError.class)
     public ResponseEntity<?> handleMatchingError(MatchingError error, WebRequest request, HttpServletRequest http) {
         var body = ProblemDetails.buildBodyResponse(IS_BAD_REQUEST_ERROR, error.getMessage(),
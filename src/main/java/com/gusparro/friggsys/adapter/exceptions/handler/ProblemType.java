@@ -14,7 +14,9 @@ public enum ProblemType {
     IS_BAD_REQUEST_ERROR(BAD_REQUEST),
     IS_NOT_FOUND_ERROR(NOT_FOUND),
     IS_CONFLICT_ERROR(CONFLICT),
-    IS_INTERNAL_SERVER_ERROR(INTERNAL_SERVER_ERROR);
+    IS_PRECONDITION_FAILED_ERROR(PRECONDITION_FAILED),
+    IS_INTERNAL_SERVER_ERROR(INTERNAL_SERVER_ERROR),
+    IS_SERVICE_UNAVAILABLE_ERROR(SERVICE_UNAVAILABLE);
 
     private final Integer status;
     private final String title;
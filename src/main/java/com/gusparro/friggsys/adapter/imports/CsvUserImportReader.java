@@ -0,0 +1,195 @@
+package com.gusparro.friggsys.adapter.imports;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+public class CsvUserImportReader implements UserImportReader {
+
+    static final List<String> COLUMNS = List.of("name", "email", "telephone", "password");
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int END_OF_STREAM = -1;
+
+    private final BufferedReader reader;
+    private final int[] positions = new int[COLUMNS.size()];
+
+    private long lineNumber = 1;
+    private int headerWidth;
+    private boolean headerRead;
+    private ImportRowInput next;
+
+    CsvUserImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!headerRead) {
+            readHeader();
+        }
+
+        if (next == null) {
+            next = readRow();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public ImportRowInput next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var row = next;
+        next = null;
+
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() {
+        headerRead = true;
+
+        var header = readRecord();
+
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty, expected a header with " + COLUMNS);
+        }
+
+        if (!header.fields().isEmpty() && !header.fields().getFirst().isEmpty()
+                && header.fields().getFirst().charAt(0) == BYTE_ORDER_MARK) {
+            header.fields().set(0, header.fields().getFirst().substring(1));
+        }
+
+        headerWidth = header.fields().size();
+
+        for (int column = 0; column < COLUMNS.size(); column++) {
+            positions[column] = indexOf(header.fields(), COLUMNS.get(column));
+
+            if (positions[column] < 0) {
+                throw new IllegalArgumentException("CSV header is missing the '" + COLUMNS.get(column) + "' column");
+            }
+        }
+    }
+
+    private ImportRowInput readRow() {
+        CsvRecord record;
+
+        do {
+            record = readRecord();
+        } while (record != null && record.isBlank());
+
+        if (record == null) {
+            return null;
+        }
+
+        if (record.error() != null) {
+            return ImportRowInput.malformed(record.lineNumber(), record.error());
+        }
+
+        if (record.fields().size() != headerWidth) {
+            return ImportRowInput.malformed(record.lineNumber(), String.format(
+                    "Expected %d columns but found %d", headerWidth, record.fields().size()));
+        }
+
+        var fields = record.fields();
+
+        return ImportRowInput.of(record.lineNumber(), fields.get(positions[0]), fields.get(positions[1]),
+                fields.get(positions[2]), fields.get(positions[3]));
+    }
+
+    private CsvRecord readRecord() {
+        try {
+            var startLine = lineNumber;
+            List<String> fields = new ArrayList<>(COLUMNS.size());
+            var field = new StringBuilder();
+            var quoted = false;
+            var character = reader.read();
+
+            if (character == END_OF_STREAM) {
+                return null;
+            }
+
+            while (true) {
+                if (quoted) {
+                    if (character == END_OF_STREAM) {
+                        return new CsvRecord(startLine, fields, "Unterminated quoted field");
+                    }
+
+                    if (character == '"') {
+                        reader.mark(1);
+
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (character == '\n') {
+                            lineNumber++;
+                        }
+
+                        field.append((char) character);
+                    }
+                } else if (character == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (character == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (character == '\n' || character == END_OF_STREAM) {
+                    if (character == '\n') {
+                        lineNumber++;
+                    }
+
+                    fields.add(stripCarriageReturn(field));
+
+                    return new CsvRecord(startLine, fields, null);
+                } else {
+                    field.append((char) character);
+                }
+
+                character = reader.read();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static String stripCarriageReturn(StringBuilder field) {
+        var length = field.length();
+
+        return length > 0 && field.charAt(length - 1) == '\r' ? field.substring(0, length - 1) : field.toString();
+    }
+
+    private static int indexOf(List<String> header, String column) {
+        for (int position = 0; position < header.size(); position++) {
+            if (header.get(position).trim().toLowerCase(Locale.ROOT).equals(column)) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    private record CsvRecord(long lineNumber, List<String> fields, String error) {
+
+        boolean isBlank() {
+            return error == null && fields.size() == 1 && fields.getFirst().isEmpty();
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.gusparro.friggsys.adapter.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+public class NdjsonUserImportReader implements UserImportReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+
+    private long lineNumber;
+    private ImportRowInput next;
+
+    NdjsonUserImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRow();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public ImportRowInput next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var row = next;
+        next = null;
+
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRowInput readRow() {
+        try {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (!line.isBlank()) {
+                    return parse(lineNumber, line);
+                }
+            }
+
+            return null;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static ImportRowInput parse(long lineNumber, String line) {
+        JsonNode node;
+
+        try {
+            node = OBJECT_MAPPER.readTree(line);
+        } catch (JsonProcessingException exception) {
+            return ImportRowInput.malformed(lineNumber, "Malformed JSON line");
+        }
+
+        if (node == null || !node.isObject()) {
+            return ImportRowInput.malformed(lineNumber, "Expected a JSON object");
+        }
+
+        return ImportRowInput.of(lineNumber, textOf(node, "name"), textOf(node, "email"),
+                textOf(node, "telephone"), textOf(node, "password"));
+    }
+
+    private static String textOf(JsonNode node, String field) {
+        var value = node.get(field);
+
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+}
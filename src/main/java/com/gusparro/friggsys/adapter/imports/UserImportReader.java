@@ -0,0 +1,19 @@
+package com.gusparro.friggsys.adapter.imports;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.util.Iterator;
+
+public interface UserImportReader extends Iterator<ImportRowInput>, Closeable {
+
+    static UserImportReader open(ImportFormat format, BufferedReader reader) {
+        return switch (format) {
+            case CSV -> new CsvUserImportReader(reader);
+            case NDJSON -> new NdjsonUserImportReader(reader);
+        };
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.gusparro.friggsys.adapter.imports;
+
+import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
+import com.gusparro.friggsys.usecase.user.ImportUsersUseCase;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class UserImportRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportRunner.class);
+
+    private static final String RESOURCE = "user_import";
+    private static final Duration RETRY_AFTER = Duration.ofMinutes(1);
+
+    private final ImportUsersUseCase importUsersUseCase;
+    private final ThreadPoolExecutor executor;
+
+    public UserImportRunner(ImportUsersUseCase importUsersUseCase,
+                            MeterRegistry meterRegistry,
+                            @Value("${api.imports.threads:1}") int threads,
+                            @Value("${api.imports.queue-capacity:4}") int queueCapacity) {
+        this.importUsersUseCase = importUsersUseCase;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ImportThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("friggsys.user.import.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("User import jobs waiting for an import thread")
+                .register(meterRegistry);
+
+        logger.info("User import runner started with {} threads and queue capacity {}", threads, queueCapacity);
+    }
+
+    public ImportJobOutput submit(ImportFormat format, InputStream content) {
+        var file = spool(content);
+        var job = importUsersUseCase.start(format);
+
+        try {
+            executor.execute(() -> run(job.id(), format, file));
+        } catch (RejectedExecutionException exception) {
+            delete(file);
+            importUsersUseCase.fail(job.id(), "Import queue is full");
+
+            throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "queue_full", RETRY_AFTER);
+        }
+
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void run(UUID jobId, ImportFormat format, Path file) {
+        try (var rows = UserImportReader.open(format, Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            importUsersUseCase.execute(jobId, rows);
+        } catch (IOException | RuntimeException exception) {
+            importUsersUseCase.fail(jobId, exception.getMessage());
+        } finally {
+            delete(file);
+        }
+    }
+
+    private static Path spool(InputStream content) {
+        try (content) {
+            var file = Files.createTempFile("friggsys-user-import-", ".tmp");
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+
+            return file;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            logger.warn("Could not delete spooled import file {}: {}", file, exception.getMessage());
+        }
+    }
+
+    private static final class ImportThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "user-import-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.repositories.UserImportStagingAdapter;
+import com.gusparro.friggsys.usecase.user.dtos.StagedUser;
+import com.gusparro.friggsys.usecase.user.services.UserImportStagingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+@Primary
+@Repository
+public class CacheInvalidatingUserImportStagingAdapter implements UserImportStagingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidatingUserImportStagingAdapter.class);
+
+    private final UserImportStagingAdapter delegate;
+    private final CanonicalEmailFilter emailFilter;
+    private final UserChangePublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public CacheInvalidatingUserImportStagingAdapter(UserImportStagingAdapter delegate,
+                                                     CanonicalEmailFilter emailFilter,
+                                                     UserChangePublisher publisher,
+                                                     PlatformTransactionManager transactionManager) {
+        this.delegate = delegate;
+        this.emailFilter = emailFilter;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<Long> load(UUID jobId, List<StagedUser> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        var canonicalEmails = users.stream().map(user -> user.email().getCanonicalValue()).toList();
+
+        return transactionTemplate.execute(status -> {
+            emailFilter.recordAll(canonicalEmails);
+
+            var rejectedLines = delegate.load(jobId, users);
+            publisher.publish(List.of(), canonicalEmails);
+
+            logger.debug("Announced {} imported e-mails of job {} to the caches", canonicalEmails.size(), jobId);
+
+            return rejectedLines;
+        });
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.repositories.UserRepositoryAdapter;
+import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Password;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Primary
+@Repository
+public class CacheInvalidatingUserRepositoryAdapter implements UserRepositoryInterface {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidatingUserRepositoryAdapter.class);
+
+    private final UserRepositoryAdapter delegate;
+    private final UserLookupCache cache;
+    private final CanonicalEmailFilter emailFilter;
+    private final UserChangePublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public CacheInvalidatingUserRepositoryAdapter(UserRepositoryAdapter delegate,
+                                                  UserLookupCache cache,
+                                                  CanonicalEmailFilter emailFilter,
+                                                  UserChangePublisher publisher,
+                                                  PlatformTransactionManager transactionManager) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.emailFilter = emailFilter;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public User save(User user) {
+        return transactionTemplate.execute(status -> {
+            cache.invalidate(user.getId());
+            emailFilter.record(user.getCanonicalEmail());
+
+            var saved = delegate.save(user);
+            publisher.publish(saved.getId(), saved.getCanonicalEmail());
+
+            return saved;
+        });
+    }
+
+    @Override
+    public Optional<User> insertIfAbsent(User user) {
+        return transactionTemplate.execute(status -> {
+            emailFilter.record(user.getCanonicalEmail());
+
+            var inserted = delegate.insertIfAbsent(user);
+            inserted.ifPresent(created -> publisher.publish(created.getId(), created.getCanonicalEmail()));
+
+            return inserted;
+        });
+    }
+
+    @Override
+    public List<User> insertAllIfAbsent(List<User> users) {
+        return transactionTemplate.execute(status -> {
+            emailFilter.recordAll(users.stream().map(User::getCanonicalEmail).toList());
+
+            var inserted = delegate.insertAllIfAbsent(users);
+            publisher.publish(inserted.stream().map(User::getId).toList(),
+                    inserted.stream().map(User::getCanonicalEmail).toList());
+
+            return inserted;
+        });
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingCanonicalEmails(Collection<Email> emails) {
+        return delegate.findExistingCanonicalEmails(emails);
+    }
+
+    @Override
+    public void delete(UUID id) {
+        transactionTemplate.executeWithoutResult(status -> {
+            cache.invalidate(id);
+            delegate.delete(id);
+            publisher.publish(id, null);
+        });
+    }
+
+    @Override
+    public boolean deleteIfExists(UUID id) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            cache.invalidate(id);
+
+            var deleted = delegate.deleteIfExists(id);
+
+            if (deleted) {
+                publisher.publish(id, null);
+            }
+
+            return deleted;
+        }));
+    }
+
+    @Override
+    public Optional<User> changeStatus(UUID id, UserStatus status, Long expectedVersion) {
+        return transactionTemplate.execute(transaction -> {
+            cache.invalidate(id);
+
+            var changed = delegate.changeStatus(id, status, expectedVersion);
+            changed.ifPresent(user -> publisher.publish(id, null));
+
+            return changed;
+        });
+    }
+
+    @Override
+    public Set<UUID> changeStatusOfAll(Collection<UUID> ids, UserStatus status) {
+        return transactionTemplate.execute(transaction -> {
+            cache.invalidateAll(ids);
+
+            var changed = delegate.changeStatusOfAll(ids, status);
+            publisher.publish(changed, List.of());
+
+            return changed;
+        });
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public Set<UUID> deleteAll(Collection<UUID> ids) {
+        return transactionTemplate.execute(status -> {
+            cache.invalidateAll(ids);
+
+            var deleted = delegate.deleteAll(ids);
+            publisher.publish(deleted, List.of());
+
+            return deleted;
+        });
+    }
+
+    @Override
+    public boolean replacePassword(UUID id, Password expected, Password replacement) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            cache.invalidate(id);
+
+            var replaced = delegate.replacePassword(id, expected, replacement);
+
+            if (replaced) {
+                publisher.publish(id, null);
+            }
+
+            return replaced;
+        }));
+    }
+
+}
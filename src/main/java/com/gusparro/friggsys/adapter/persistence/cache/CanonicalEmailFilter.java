@@ -0,0 +1,364 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.repositories.ApproximateUserCounter;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.usecase.user.services.EmailPresenceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class CanonicalEmailFilter implements EmailPresenceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CanonicalEmailFilter.class);
+
+    static final String SCAN_SQL = "SELECT email_canonical FROM users";
+
+    private static final double LN2 = Math.log(2);
+    private static final int GROWTH_HEADROOM = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApproximateUserCounter approximateCounter;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Duration rebuildInterval;
+    private final int fetchSize;
+
+    private final Counter absent;
+    private final Counter maybe;
+    private final Timer rebuilds;
+
+    private volatile Bits current;
+    private volatile Bits building;
+    private volatile boolean stale;
+
+    private boolean listening = true;
+    private long suspensions;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public CanonicalEmailFilter(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ApproximateUserCounter approximateCounter,
+                                MeterRegistry meterRegistry,
+                                @Value("${api.cache.emails.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${api.cache.emails.false-positive-probability:0.01}") double falsePositiveProbability,
+                                @Value("${api.cache.emails.rebuild-interval:15m}") Duration rebuildInterval,
+                                @Value("${api.cache.emails.fetch-size:1000}") int fetchSize) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("E-mail filter false positive probability must be between 0 and 1, got "
+                    + falsePositiveProbability);
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.approximateCounter = approximateCounter;
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.rebuildInterval = rebuildInterval;
+        this.fetchSize = fetchSize;
+
+        this.absent = requestCounter(meterRegistry, "absent");
+        this.maybe = requestCounter(meterRegistry, "maybe");
+        this.rebuilds = Timer.builder("friggsys.user.email_filter.rebuild")
+                .description("Time spent rebuilding the canonical e-mail filter from the users table")
+                .register(meterRegistry);
+
+        Gauge.builder("friggsys.user.email_filter.false_positive_rate", this, CanonicalEmailFilter::falsePositiveRate)
+                .description("Estimated false positive rate of the canonical e-mail filter, NaN while it is not built")
+                .register(meterRegistry);
+        Gauge.builder("friggsys.user.email_filter.stale", this, filter -> filter.isStale() ? 1 : 0)
+                .description("Whether the canonical e-mail filter may miss changes and answers every lookup as maybe")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null || rebuildInterval.isZero() || rebuildInterval.isNegative()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "email-filter-rebuild");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuild, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        logger.info("Rebuilding the canonical e-mail filter every {} for a false positive probability of {}",
+                rebuildInterval, falsePositiveProbability);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public synchronized void rebuildSoon() {
+        if (scheduler != null) {
+            scheduler.execute(this::rebuild);
+        }
+    }
+
+    public synchronized void suspend() {
+        listening = false;
+        suspensions++;
+        stale = true;
+    }
+
+    public synchronized void resume() {
+        listening = true;
+        rebuildSoon();
+    }
+
+    @Override
+    public boolean mightExist(Email email) {
+        var bits = current;
+
+        if (bits != null && building == null && !stale && !bits.mightContain(email.getCanonicalValue())) {
+            absent.increment();
+
+            return false;
+        }
+
+        maybe.increment();
+
+        return true;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void record(String canonicalEmail) {
+        recordAll(canonicalEmail == null ? List.of() : List.of(canonicalEmail));
+    }
+
+    public void recordAll(Collection<String> canonicalEmails) {
+        add(canonicalEmails);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            var pending = List.copyOf(canonicalEmails);
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    add(pending);
+                }
+            });
+        }
+    }
+
+    public double falsePositiveRate() {
+        var bits = current;
+
+        return bits != null ? bits.falsePositiveRate() : Double.NaN;
+    }
+
+    void rebuild() {
+        var sample = Timer.start();
+        long suspensionsAtStart;
+        boolean listeningAtStart;
+
+        synchronized (this) {
+            suspensionsAtStart = suspensions;
+            listeningAtStart = listening;
+        }
+
+        try {
+            var expected = Math.max(expectedInsertions, approximateCounter.count() * GROWTH_HEADROOM);
+            var next = Bits.sizedFor(expected, falsePositiveProbability);
+            var emails = new long[1];
+
+            building = next;
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SCAN_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                next.add(resultSet.getString(1));
+                emails[0]++;
+            }));
+
+            current = next;
+            markFresh(listeningAtStart, suspensionsAtStart);
+
+            logger.info("Rebuilt the canonical e-mail filter from {} users with {} bits and {} hashes, "
+                    + "estimated false positive rate {}", emails[0], next.size(), next.hashes(), next.falsePositiveRate());
+        } catch (RuntimeException exception) {
+            logger.warn("Could not rebuild the canonical e-mail filter, keeping the previous one: {}",
+                    exception.getMessage());
+        } finally {
+            building = null;
+            sample.stop(rebuilds);
+        }
+    }
+
+    private synchronized void markFresh(boolean listeningAtStart, long suspensionsAtStart) {
+        if (listeningAtStart && listening && suspensions == suspensionsAtStart) {
+            stale = false;
+        }
+    }
+
+    private void add(Collection<String> canonicalEmails) {
+        var bits = current;
+        var next = building;
+
+        for (var canonicalEmail : canonicalEmails) {
+            if (bits != null) {
+                bits.add(canonicalEmail);
+            }
+
+            if (next != null) {
+                next.add(canonicalEmail);
+            }
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("friggsys.user.email_filter.requests")
+                .description("E-mail lookups answered by the canonical e-mail filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    static final class Bits {
+
+        private final AtomicLongArray words;
+        private final AtomicLong setBits = new AtomicLong();
+        private final long size;
+        private final int hashes;
+
+        Bits(long size, int hashes) {
+            var wordCount = Math.toIntExact(Math.ceilDiv(size, Long.SIZE));
+
+            this.words = new AtomicLongArray(wordCount);
+            this.size = (long) wordCount * Long.SIZE;
+            this.hashes = hashes;
+        }
+
+        static Bits sizedFor(long expectedInsertions, double falsePositiveProbability) {
+            var size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+            var hashes = (int) Math.max(1, Math.round((double) size / expectedInsertions * LN2));
+
+            return new Bits(Math.max(Long.SIZE, size), hashes);
+        }
+
+        long size() {
+            return size;
+        }
+
+        int hashes() {
+            return hashes;
+        }
+
+        void add(String value) {
+            var first = hash(value);
+            var second = mix(first) | 1;
+
+            for (int i = 0; i < hashes; i++) {
+                set(Math.floorMod(first + i * second, size));
+            }
+        }
+
+        boolean mightContain(String value) {
+            var first = hash(value);
+            var second = mix(first) | 1;
+
+            for (int i = 0; i < hashes; i++) {
+                var index = Math.floorMod(first + i * second, size);
+
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        double falsePositiveRate() {
+            return Math.pow((double) setBits.get() / size, hashes);
+        }
+
+        private void set(long index) {
+            var word = (int) (index >>> 6);
+            var mask = 1L << index;
+
+            while (true) {
+                var bits = words.get(word);
+
+                if ((bits & mask) != 0) {
+                    return;
+                }
+
+                if (words.compareAndSet(word, bits, bits | mask)) {
+                    setBits.incrementAndGet();
+
+                    return;
+                }
+            }
+        }
+
+        private static long hash(String value) {
+            var hash = 0xcbf29ce484222325L;
+
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+
+            return value;
+        }
+
+    }
+
+}
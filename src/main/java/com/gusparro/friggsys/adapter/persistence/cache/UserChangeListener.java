@@ -0,0 +1,313 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class UserChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeListener.class);
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long IDLE_CHECK_NANOS = Duration.ofSeconds(30).toNanos();
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final ConnectionFactory connectionFactory;
+    private final UserLookupCache cache;
+    private final CanonicalEmailFilter emailFilter;
+    private final UserChangePublisher publisher;
+    private final long batchWindowNanos;
+    private final Duration reconnectDelay;
+
+    private final Counter received;
+    private final Counter batches;
+    private final Counter flushes;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Connection connection;
+
+    private Thread thread;
+
+    @Autowired
+    public UserChangeListener(DataSourceProperties properties,
+                              UserLookupCache cache,
+                              CanonicalEmailFilter emailFilter,
+                              UserChangePublisher publisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${api.cache.notifications.batch-window:50ms}") Duration batchWindow,
+                              @Value("${api.cache.notifications.reconnect-delay:5s}") Duration reconnectDelay) {
+        this(() -> DriverManager.getConnection(properties.determineUrl(), properties.determineUsername(),
+                        properties.determinePassword()),
+                cache, emailFilter, publisher, meterRegistry, batchWindow, reconnectDelay);
+    }
+
+    UserChangeListener(ConnectionFactory connectionFactory,
+                       UserLookupCache cache,
+                       CanonicalEmailFilter emailFilter,
+                       UserChangePublisher publisher,
+                       MeterRegistry meterRegistry,
+                       Duration batchWindow,
+                       Duration reconnectDelay) {
+        this.connectionFactory = connectionFactory;
+        this.cache = cache;
+        this.emailFilter = emailFilter;
+        this.publisher = publisher;
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.reconnectDelay = reconnectDelay;
+
+        this.received = Counter.builder("friggsys.user.cache.notifications")
+                .description("User change notifications received from other instances")
+                .register(meterRegistry);
+        this.batches = Counter.builder("friggsys.user.cache.notification.batches")
+                .description("Deduplicated batches of user change notifications applied to the local caches")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("friggsys.user.cache.flushes")
+                .description("Full flushes of the local user caches after the change listener (re)connected")
+                .register(meterRegistry);
+
+        if (publisher.isEnabled()) {
+            emailFilter.suspend();
+        }
+
+        Gauge.builder("friggsys.user.cache.listener.connected", this, listener -> listener.isConnected() ? 1 : 0)
+                .description("Whether the user change listener holds a LISTEN connection")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (thread != null || !publisher.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::run, "user-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+
+        logger.info("Listening for user changes on channel {} in batches of {}ms", publisher.channel(),
+                Duration.ofNanos(batchWindowNanos).toMillis());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        running = false;
+
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+
+        closeQuietly(connection);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void run() {
+        var reconnecting = false;
+
+        while (running) {
+            try (var listening = connectionFactory.open()) {
+                connection = listening;
+                listen(listening, reconnecting);
+                poll(listening.unwrap(PGConnection.class), listening);
+            } catch (SQLException | RuntimeException exception) {
+                if (running) {
+                    logger.warn("User change listener lost its connection, retrying in {}: {}", reconnectDelay,
+                            exception.getMessage());
+                }
+            } finally {
+                connected = false;
+                connection = null;
+                emailFilter.suspend();
+            }
+
+            reconnecting = true;
+
+            if (!sleep(reconnectDelay.toMillis())) {
+                return;
+            }
+        }
+    }
+
+    void listen(Connection listening, boolean reconnecting) throws SQLException {
+        try (var statement = listening.createStatement()) {
+            statement.execute("LISTEN " + quote(publisher.channel()));
+        }
+
+        connected = true;
+        cache.flush();
+        flushes.increment();
+
+        emailFilter.resume();
+
+        if (reconnecting) {
+            logger.warn("User change listener reconnected, flushed the lookup cache and scheduled an e-mail "
+                    + "filter rebuild to cover missed notifications");
+        }
+    }
+
+    private void poll(PGConnection notifications, Connection listening) throws SQLException {
+        var idleSince = System.nanoTime();
+
+        while (running) {
+            var first = notifications.getNotifications(POLL_TIMEOUT_MILLIS);
+
+            if (first == null || first.length == 0) {
+                if (System.nanoTime() - idleSince > IDLE_CHECK_NANOS) {
+                    if (!listening.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                        throw new SQLException("LISTEN connection is no longer valid");
+                    }
+
+                    idleSince = System.nanoTime();
+                }
+
+                continue;
+            }
+
+            var batch = batch(first);
+            var deadline = System.nanoTime() + batchWindowNanos;
+            var remaining = batchWindowNanos;
+
+            while (remaining > 0) {
+                batch.add(notifications.getNotifications((int) Math.max(1, remaining / 1_000_000)));
+                remaining = deadline - System.nanoTime();
+            }
+
+            apply(batch);
+            idleSince = System.nanoTime();
+        }
+    }
+
+    void apply(Batch batch) {
+        if (batch.ids.isEmpty() && batch.emails.isEmpty()) {
+            return;
+        }
+
+        cache.invalidateAll(batch.ids);
+        emailFilter.recordAll(batch.emails);
+        batches.increment();
+
+        logger.debug("Applied {} user ids and {} e-mails changed by other instances", batch.ids.size(),
+                batch.emails.size());
+    }
+
+    Batch batch(PGNotification... notifications) {
+        var batch = new Batch();
+        batch.add(notifications);
+
+        return batch;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    private static void closeQuietly(Connection listening) {
+        if (listening == null) {
+            return;
+        }
+
+        try {
+            listening.close();
+        } catch (SQLException exception) {
+            logger.debug("Could not close the LISTEN connection: {}", exception.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    interface ConnectionFactory {
+
+        Connection open() throws SQLException;
+
+    }
+
+    final class Batch {
+
+        private final Set<UUID> ids = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+
+        Set<UUID> ids() {
+            return ids;
+        }
+
+        Set<String> emails() {
+            return emails;
+        }
+
+        private void add(PGNotification[] notifications) {
+            if (notifications == null) {
+                return;
+            }
+
+            for (var notification : notifications) {
+                add(notification.getParameter());
+            }
+        }
+
+        private void add(String payload) {
+            var lines = payload.split("\n");
+
+            if (lines.length == 0 || lines[0].equals(publisher.origin())) {
+                return;
+            }
+
+            received.increment();
+
+            for (int i = 1; i < lines.length; i++) {
+                var line = lines[i];
+
+                if (line.startsWith(UserChangePublisher.ID_PREFIX)) {
+                    parseId(line.substring(UserChangePublisher.ID_PREFIX.length()));
+                } else if (line.startsWith(UserChangePublisher.EMAIL_PREFIX)) {
+                    emails.add(line.substring(UserChangePublisher.EMAIL_PREFIX.length()));
+                }
+            }
+        }
+
+        private void parseId(String value) {
+            try {
+                ids.add(UUID.fromString(value));
+            } catch (IllegalArgumentException exception) {
+                logger.warn("Ignoring malformed user id {} in a change notification", value);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class UserChangePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangePublisher.class);
+
+    static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    static final String ID_PREFIX = "id:";
+    static final String EMAIL_PREFIX = "email:";
+    static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final boolean enabled;
+    private final String origin;
+
+    @Autowired
+    public UserChangePublisher(JdbcTemplate jdbcTemplate,
+                               @Value("${api.cache.notifications.channel:friggsys_user_changes}") String channel,
+                               @Value("${api.cache.notifications.enabled:true}") boolean enabled) {
+        this(jdbcTemplate, channel, enabled, UUID.randomUUID().toString());
+    }
+
+    UserChangePublisher(JdbcTemplate jdbcTemplate, String channel, boolean enabled, String origin) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+        this.enabled = enabled;
+        this.origin = origin;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public String origin() {
+        return origin;
+    }
+
+    public void publish(UUID id, String canonicalEmail) {
+        publish(id == null ? List.of() : List.of(id), canonicalEmail == null ? List.of() : List.of(canonicalEmail));
+    }
+
+    public void publish(Collection<UUID> ids, Collection<String> canonicalEmails) {
+        if (!enabled || ids.isEmpty() && canonicalEmails.isEmpty()) {
+            return;
+        }
+
+        var payload = new StringBuilder(origin);
+        var notifications = 0;
+
+        for (var id : ids) {
+            notifications += append(payload, ID_PREFIX + id);
+        }
+
+        for (var canonicalEmail : canonicalEmails) {
+            notifications += append(payload, EMAIL_PREFIX + canonicalEmail);
+        }
+
+        send(payload);
+
+        logger.debug("Published {} user ids and {} e-mails in {} notifications", ids.size(), canonicalEmails.size(),
+                notifications + 1);
+    }
+
+    private int append(StringBuilder payload, String line) {
+        var sent = 0;
+
+        if (payload.length() + 1 + line.length() > MAX_PAYLOAD_LENGTH) {
+            send(payload);
+            payload.setLength(0);
+            payload.append(origin);
+            sent = 1;
+        }
+
+        payload.append('\n').append(line);
+
+        return sent;
+    }
+
+    private void send(StringBuilder payload) {
+        jdbcTemplate.queryForList(NOTIFY_SQL, channel, payload.toString());
+    }
+
+}
@@ -0,0 +1,253 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class UserLookupCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserLookupCache.class);
+
+    static final long ENTRY_OVERHEAD_BYTES = 320;
+
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, UUID> idsByEmail = new HashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final int maxEntries;
+    private final long maxWeightBytes;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidatedEvictions;
+
+    private long weightBytes;
+
+    @Autowired
+    public UserLookupCache(MeterRegistry meterRegistry,
+                           @Value("${api.cache.users.max-entries:10000}") int maxEntries,
+                           @Value("${api.cache.users.max-memory:16MB}") DataSize maxMemory,
+                           @Value("${api.cache.users.ttl:30s}") Duration ttl) {
+        this(meterRegistry, maxEntries, maxMemory, ttl, System::nanoTime);
+    }
+
+    UserLookupCache(MeterRegistry meterRegistry, int maxEntries, DataSize maxMemory, Duration ttl, LongSupplier nanoClock) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.maxWeightBytes = maxMemory.toBytes();
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.expiredEvictions = evictionCounter(meterRegistry, "expired");
+        this.invalidatedEvictions = evictionCounter(meterRegistry, "invalidated");
+
+        Gauge.builder("friggsys.user.cache.size", this, UserLookupCache::size)
+                .description("Users held by the in-process lookup cache")
+                .register(meterRegistry);
+        Gauge.builder("friggsys.user.cache.weight", this, UserLookupCache::weightBytes)
+                .description("Estimated heap held by the in-process lookup cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        logger.info("User lookup cache holds up to {} users within {} for {}", this.maxEntries, maxMemory, ttl);
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0 && maxWeightBytes > 0 && ttlNanos > 0;
+    }
+
+    public long generation() {
+        return invalidations.get();
+    }
+
+    public synchronized Optional<UserOutput> getById(UUID id) {
+        return record(live(id));
+    }
+
+    public synchronized Optional<UserOutput> getByEmail(String canonicalEmail) {
+        var id = idsByEmail.get(canonicalEmail);
+
+        return record(id != null ? live(id) : null);
+    }
+
+    public synchronized void put(UserOutput user, String canonicalEmail, long generation) {
+        if (!isEnabled() || generation != invalidations.get()) {
+            return;
+        }
+
+        var previous = entries.get(user.id());
+        var email = canonicalEmail != null ? canonicalEmail : previous != null ? previous.canonicalEmail() : null;
+
+        if (previous != null) {
+            remove(user.id());
+        }
+
+        var entry = new Entry(user, email, nanoClock.getAsLong() + ttlNanos, weightOf(user, email));
+
+        if (entry.weightBytes() > maxWeightBytes) {
+            return;
+        }
+
+        entries.put(user.id(), entry);
+        weightBytes += entry.weightBytes();
+
+        if (email != null) {
+            idsByEmail.put(email, user.id());
+        }
+
+        var eldest = entries.entrySet().iterator();
+
+        while ((entries.size() > maxEntries || weightBytes > maxWeightBytes) && eldest.hasNext()) {
+            var candidate = eldest.next();
+            eldest.remove();
+            unindex(candidate.getKey(), candidate.getValue());
+            sizeEvictions.increment();
+        }
+    }
+
+    public void invalidate(UUID id) {
+        invalidateAll(id == null ? List.of() : List.of(id));
+    }
+
+    public void invalidateAll(Collection<UUID> ids) {
+        evict(ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            var pending = List.copyOf(ids);
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(pending);
+                }
+            });
+        }
+    }
+
+    public synchronized void flush() {
+        invalidations.incrementAndGet();
+        invalidatedEvictions.increment(entries.size());
+        entries.clear();
+        idsByEmail.clear();
+        weightBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weightBytes() {
+        return weightBytes;
+    }
+
+    private synchronized void evict(Collection<UUID> ids) {
+        invalidations.incrementAndGet();
+
+        for (var id : ids) {
+            if (remove(id) != null) {
+                invalidatedEvictions.increment();
+            }
+        }
+    }
+
+    private Entry live(UUID id) {
+        var entry = entries.get(id);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (nanoClock.getAsLong() - entry.expiresAt() >= 0) {
+            remove(id);
+            expiredEvictions.increment();
+
+            return null;
+        }
+
+        return entry;
+    }
+
+    private Optional<UserOutput> record(Entry entry) {
+        if (entry == null) {
+            misses.increment();
+
+            return Optional.empty();
+        }
+
+        hits.increment();
+
+        return Optional.of(entry.user());
+    }
+
+    private Entry remove(UUID id) {
+        var entry = entries.remove(id);
+
+        if (entry != null) {
+            unindex(id, entry);
+        }
+
+        return entry;
+    }
+
+    private void unindex(UUID id, Entry entry) {
+        weightBytes -= entry.weightBytes();
+
+        if (entry.canonicalEmail() != null) {
+            idsByEmail.remove(entry.canonicalEmail(), id);
+        }
+    }
+
+    static long weightOf(UserOutput user, String canonicalEmail) {
+        return ENTRY_OVERHEAD_BYTES + 2L * (length(user.name()) + length(user.email()) + length(user.telephone())
+                + length(canonicalEmail));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("friggsys.user.cache.requests")
+                .description("Lookups answered by the in-process user cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("friggsys.user.cache.evictions")
+                .description("Users dropped from the in-process lookup cache")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private record Entry(UserOutput user, String canonicalEmail, long expiresAt, long weightBytes) {
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.routing.DataSourceRoutingContext;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UserLookupCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+@Component
+public class UserLookupCacheAdapter implements UserLookupCacheService {
+
+    private final UserLookupCache cache;
+
+    @Override
+    public Optional<UserOutput> findById(UUID id, Supplier<Optional<UserOutput>> loader) {
+        if (!cache.isEnabled()) {
+            return loader.get();
+        }
+
+        var cached = cache.getById(id);
+
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        var generation = cache.generation();
+        var loaded = loadFromPrimary(loader);
+
+        loaded.ifPresent(user -> cache.put(user, null, generation));
+
+        return loaded;
+    }
+
+    @Override
+    public Optional<UserOutput> findByEmail(Email email, Supplier<Optional<UserOutput>> loader) {
+        if (!cache.isEnabled()) {
+            return loader.get();
+        }
+
+        var cached = cache.getByEmail(email.getCanonicalValue());
+
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        var generation = cache.generation();
+        var loaded = loadFromPrimary(loader);
+
+        loaded.ifPresent(user -> cache.put(user, email.getCanonicalValue(), generation));
+
+        return loaded;
+    }
+
+    private static Optional<UserOutput> loadFromPrimary(Supplier<Optional<UserOutput>> loader) {
+        try (var ignored = DataSourceRoutingContext.pinToPrimary()) {
+            return loader.get();
+        }
+    }
+
+}
@@ -32,6 +32,9 @@ public class UserEntity {
     @Column(nullable = false, unique = true, length = 100)
     private String email;
 
+    @Column(nullable = false, unique = true, length = 100)
+    private String emailCanonical;
+
     @Column(nullable = false)
     private String passwordHash;
 
@@ -45,6 +48,10 @@ public class UserEntity {
     @Column(nullable = false)
     private OffsetDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = OffsetDateTime.now();
@@ -0,0 +1,58 @@
+package com.gusparro.friggsys.adapter.persistence.entities;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "user_import_jobs")
+public class UserImportJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    @Column(nullable = false)
+    private long processedRows;
+
+    @Column(nullable = false)
+    private long importedRows;
+
+    @Column(nullable = false)
+    private long rejectedRows;
+
+    @Column
+    private String failureReason;
+
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime startedAt;
+
+    @Column
+    private OffsetDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = OffsetDateTime.now();
+    }
+
+}
@@ -17,23 +17,26 @@ public class UserPersistenceMapper {
                 user.getName(),
                 user.getTelephone(),
                 user.getEmail(),
+                user.getCanonicalEmail(),
                 user.getPassword(),
                 user.getStatus(),
                 user.getCreatedAt(),
-                user.getUpdatedAt()
+                user.getUpdatedAt(),
+                user.getVersion()
         );
     }
 
     public User toDomain(UserEntity entity) {
         return User.reconstruct(
                 entity.getId(),
-                Name.of(entity.getName()),
-                Email.of(entity.getEmail()),
-                Telephone.of(entity.getTelephone()),
+                Name.ofTrusted(entity.getName()),
+                Email.ofTrusted(entity.getEmail()),
+                Telephone.ofTrusted(entity.getTelephone()),
                 Password.ofHash(entity.getPasswordHash()),
                 entity.getStatus(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 
@@ -0,0 +1,67 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+@Component
+public class ApproximateUserCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApproximateUserCounter.class);
+
+    private final UserJpaRepository repository;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ApproximateUserCounter(UserJpaRepository repository,
+                                  @Value("${api.pagination.approximate-count-ttl:30s}") Duration ttl) {
+        this(repository, ttl, System::nanoTime);
+    }
+
+    ApproximateUserCounter(UserJpaRepository repository, Duration ttl, LongSupplier nanoClock) {
+        this.repository = repository;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public long count() {
+        var current = snapshot;
+        var now = nanoClock.getAsLong();
+
+        if (current != null && now - current.takenAt() < ttlNanos) {
+            return current.count();
+        }
+
+        synchronized (this) {
+            current = snapshot;
+
+            if (current != null && now - current.takenAt() < ttlNanos) {
+                return current.count();
+            }
+
+            var count = repository.estimateCount();
+
+            if (count < 0) {
+                logger.debug("Planner statistics for users are not available yet, counting rows exactly");
+
+                count = repository.count();
+            }
+
+            snapshot = new Snapshot(count, nanoClock.getAsLong());
+
+            return count;
+        }
+    }
+
+    private record Snapshot(long count, long takenAt) {
+    }
+
+}
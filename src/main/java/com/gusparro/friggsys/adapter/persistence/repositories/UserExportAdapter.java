@@ -0,0 +1,354 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UserExportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+@Repository
+public class UserExportAdapter implements UserExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExportAdapter.class);
+
+    static final String EXPORT_SQL = "SELECT id, name, email, telephone, status, created_at, updated_at, version FROM users";
+    static final String SNAPSHOT_SQL = "SELECT pg_export_snapshot(), "
+            + "pg_relation_size('users') / current_setting('block_size')::bigint";
+    static final String BLOCK_RANGE_SQL = EXPORT_SQL + " WHERE ctid >= CAST(? AS tid) AND ctid < CAST(? AS tid)";
+    static final String OPEN_BLOCK_RANGE_SQL = EXPORT_SQL + " WHERE ctid >= CAST(? AS tid)";
+
+    private static final Pattern SNAPSHOT_ID_PATTERN = Pattern.compile("[0-9A-Fa-f]+-[0-9A-Fa-f]+(-[0-9]+)?");
+    private static final String PARALLEL_TASK = "parallel_user_export";
+    private static final Object END_OF_RANGE = new Object();
+    private static final long HANDOFF_POLL_MILLIS = 100;
+    private static final long WORKER_SHUTDOWN_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int fetchSize;
+    private final int parallelism;
+
+    @Autowired
+    public UserExportAdapter(JdbcTemplate jdbcTemplate,
+                             DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${api.export.fetch-size:1000}") int fetchSize,
+                             @Value("${api.export.parallelism:2}") int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Export parallelism must be at least 1, got " + parallelism);
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public long forEachUser(Consumer<UserOutput> action) {
+        var sample = Timer.start(meterRegistry);
+        var rows = new long[1];
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            action.accept(toOutput(resultSet));
+            rows[0]++;
+        }));
+
+        record("cursor", sample, rows[0]);
+
+        return rows[0];
+    }
+
+    @Override
+    public long forEachUserInParallel(Consumer<UserOutput> action) {
+        var sample = Timer.start(meterRegistry);
+
+        try (var coordinator = openSnapshotTransaction()) {
+            String snapshotId;
+            long blocks;
+
+            try (var statement = coordinator.createStatement();
+                 var resultSet = statement.executeQuery(SNAPSHOT_SQL)) {
+                resultSet.next();
+                snapshotId = resultSet.getString(1);
+                blocks = resultSet.getLong(2);
+            }
+
+            var rows = merge(snapshotId, blockRanges(blocks, parallelism), action);
+            coordinator.rollback();
+
+            record("parallel_snapshot", sample, rows);
+
+            return rows;
+        } catch (SQLException exception) {
+            throw translate(SNAPSHOT_SQL, exception);
+        }
+    }
+
+    private long merge(String snapshotId, List<BlockRange> ranges, Consumer<UserOutput> action) {
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(fetchSize);
+        var failure = new AtomicReference<RuntimeException>();
+        var cancelled = new AtomicBoolean();
+        var workers = Executors.newFixedThreadPool(ranges.size(), new ExportThreadFactory());
+
+        try {
+            for (var range : ranges) {
+                workers.execute(() -> exportRange(snapshotId, range, queue, failure, cancelled));
+            }
+
+            long rows = 0;
+            var finishedRanges = 0;
+
+            while (finishedRanges < ranges.size()) {
+                var item = queue.take();
+
+                if (item == END_OF_RANGE) {
+                    finishedRanges++;
+                } else if (failure.get() == null) {
+                    action.accept((UserOutput) item);
+                    rows++;
+                }
+            }
+
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+
+            return rows;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            cancelled.set(true);
+
+            throw new CancellationException("Parallel user export interrupted");
+        } catch (RuntimeException exception) {
+            cancelled.set(true);
+
+            throw exception;
+        } finally {
+            workers.shutdownNow();
+            awaitWorkers(workers);
+        }
+    }
+
+    private void exportRange(String snapshotId,
+                             BlockRange range,
+                             BlockingQueue<Object> queue,
+                             AtomicReference<RuntimeException> failure,
+                             AtomicBoolean cancelled) {
+        try (var connection = openSnapshotTransaction()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET TRANSACTION SNAPSHOT '" + checkedSnapshotId(snapshotId) + "'");
+            }
+
+            try (var statement = connection.prepareStatement(range.sql(), ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                statement.setString(1, range.startTid());
+
+                if (range.endTid() != null) {
+                    statement.setString(2, range.endTid());
+                }
+
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        handOff(queue, toOutput(resultSet), failure, cancelled);
+                    }
+                }
+            }
+
+            connection.rollback();
+        } catch (SQLException exception) {
+            failure.compareAndSet(null, translate(range.sql(), exception));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new CancellationException("Parallel user export interrupted"));
+        } catch (RuntimeException exception) {
+            failure.compareAndSet(null, exception);
+        } finally {
+            signalEnd(queue, cancelled);
+        }
+    }
+
+    private Connection openSnapshotTransaction() throws SQLException {
+        var connection = dataSource.getConnection();
+
+        try {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setReadOnly(true);
+
+            return connection;
+        } catch (SQLException exception) {
+            connection.close();
+
+            throw exception;
+        }
+    }
+
+    private DataAccessException translate(String sql, SQLException exception) {
+        var translated = jdbcTemplate.getExceptionTranslator().translate(PARALLEL_TASK, sql, exception);
+
+        return translated != null ? translated : new UncategorizedSQLException(PARALLEL_TASK, sql, exception);
+    }
+
+    private void record(String mode, Timer.Sample sample, long rows) {
+        var nanos = sample.stop(Timer.builder("friggsys.user.export.duration")
+                .description("Time spent streaming the user directory")
+                .tag("mode", mode)
+                .register(meterRegistry));
+
+        Counter.builder("friggsys.user.export.rows")
+                .description("Users streamed by directory exports")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .increment(rows);
+
+        var seconds = nanos / 1_000_000_000.0;
+
+        logger.info("Exported {} users in {} mode at {} rows/s", rows, mode,
+                seconds > 0 ? Math.round(rows / seconds) : rows);
+    }
+
+    static List<BlockRange> blockRanges(long blocks, int partitions) {
+        var count = (int) Math.max(1, Math.min(partitions, blocks));
+        var step = Math.ceilDiv(Math.max(blocks, 1), count);
+        List<BlockRange> ranges = new ArrayList<>(count);
+
+        for (int partition = 0; partition < count; partition++) {
+            var start = partition * step;
+            var end = partition == count - 1 ? null : (partition + 1) * step;
+
+            ranges.add(new BlockRange(start, end));
+        }
+
+        return ranges;
+    }
+
+    static String checkedSnapshotId(String snapshotId) {
+        if (snapshotId == null || !SNAPSHOT_ID_PATTERN.matcher(snapshotId).matches()) {
+            throw new IllegalStateException("Unexpected exported snapshot identifier: " + snapshotId);
+        }
+
+        return snapshotId;
+    }
+
+    static UserOutput toOutput(ResultSet resultSet) throws SQLException {
+        return new UserOutput(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("name"),
+                resultSet.getString("email"),
+                resultSet.getString("telephone"),
+                UserStatus.valueOf(resultSet.getString("status")),
+                resultSet.getObject("created_at", OffsetDateTime.class),
+                resultSet.getObject("updated_at", OffsetDateTime.class),
+                resultSet.getLong("version")
+        );
+    }
+
+    private static void handOff(BlockingQueue<Object> queue,
+                                Object item,
+                                AtomicReference<RuntimeException> failure,
+                                AtomicBoolean cancelled) throws InterruptedException {
+        while (!queue.offer(item, HANDOFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (cancelled.get() || failure.get() != null) {
+                throw new CancellationException("Parallel user export stopped");
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new CancellationException("Parallel user export stopped");
+        }
+    }
+
+    private static void signalEnd(BlockingQueue<Object> queue, AtomicBoolean cancelled) {
+        try {
+            while (!cancelled.get()) {
+                if (queue.offer(END_OF_RANGE, HANDOFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitWorkers(ExecutorService workers) {
+        try {
+            if (!workers.awaitTermination(WORKER_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Parallel user export workers did not stop within {}s", WORKER_SHUTDOWN_SECONDS);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record BlockRange(long startBlock, Long endBlock) {
+
+        String sql() {
+            return endBlock == null ? OPEN_BLOCK_RANGE_SQL : BLOCK_RANGE_SQL;
+        }
+
+        String startTid() {
+            return "(" + startBlock + ",0)";
+        }
+
+        String endTid() {
+            return endBlock == null ? null : "(" + endBlock + ",0)";
+        }
+
+    }
+
+    private static final class ExportThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "user-export-" + SEQUENCE.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
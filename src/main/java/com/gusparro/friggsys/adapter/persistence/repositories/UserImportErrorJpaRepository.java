@@ -0,0 +1,16 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.adapter.persistence.entities.UserImportErrorEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserImportErrorJpaRepository extends JpaRepository<UserImportErrorEntity, UUID> {
+
+    List<UserImportErrorEntity> findByJobIdOrderByLineNumber(UUID jobId, Pageable pageable);
+
+}
@@ -0,0 +1,86 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.adapter.persistence.entities.UserImportErrorEntity;
+import com.gusparro.friggsys.adapter.persistence.entities.UserImportJobEntity;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+import com.gusparro.friggsys.usecase.user.services.UserImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Repository
+public class UserImportJobAdapter implements UserImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportJobAdapter.class);
+
+    private final UserImportJobJpaRepository jobRepository;
+    private final UserImportErrorJpaRepository errorRepository;
+
+    @Override
+    public ImportJobOutput start(ImportFormat format) {
+        var entity = new UserImportJobEntity();
+        entity.setFormat(format);
+        entity.setStatus(ImportJobStatus.RUNNING);
+
+        return toOutput(jobRepository.save(entity));
+    }
+
+    @Override
+    public void recordProgress(UUID jobId, long processedRows, long importedRows, List<ImportRowError> errors) {
+        jobRepository.incrementProgress(jobId, processedRows, importedRows, errors.size());
+
+        if (!errors.isEmpty()) {
+            errorRepository.saveAll(errors.stream()
+                    .map(error -> new UserImportErrorEntity(null, jobId, error.lineNumber(), error.outcome(),
+                            error.fieldErrors()))
+                    .toList());
+        }
+
+        logger.debug("User import job {} processed {} more rows, {} imported and {} rejected",
+                jobId, processedRows, importedRows, errors.size());
+    }
+
+    @Override
+    public void finish(UUID jobId, ImportJobStatus status, String failureReason) {
+        jobRepository.finish(jobId, status, failureReason, OffsetDateTime.now());
+    }
+
+    @Override
+    public Optional<ImportJobOutput> findById(UUID jobId) {
+        return jobRepository.findById(jobId).map(UserImportJobAdapter::toOutput);
+    }
+
+    @Override
+    public List<ImportRowError> findErrors(UUID jobId, int page, int size) {
+        return errorRepository.findByJobIdOrderByLineNumber(jobId, PageRequest.of(page, size))
+                .stream()
+                .map(error -> new ImportRowError(error.getLineNumber(), error.getOutcome(), error.getFieldErrors()))
+                .toList();
+    }
+
+    private static ImportJobOutput toOutput(UserImportJobEntity entity) {
+        return new ImportJobOutput(
+                entity.getId(),
+                entity.getFormat(),
+                entity.getStatus(),
+                entity.getProcessedRows(),
+                entity.getImportedRows(),
+                entity.getRejectedRows(),
+                entity.getFailureReason(),
+                entity.getStartedAt(),
+                entity.getFinishedAt()
+        );
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.adapter.persistence.entities.UserImportJobEntity;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Repository
+public interface UserImportJobJpaRepository extends JpaRepository<UserImportJobEntity, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserImportJobEntity j SET j.processedRows = j.processedRows + :processed, "
+            + "j.importedRows = j.importedRows + :imported, j.rejectedRows = j.rejectedRows + :rejected "
+            + "WHERE j.id = :id")
+    int incrementProgress(@Param("id") UUID id,
+                          @Param("processed") long processed,
+                          @Param("imported") long imported,
+                          @Param("rejected") long rejected);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserImportJobEntity j SET j.status = :status, j.failureReason = :failureReason, "
+            + "j.finishedAt = :finishedAt WHERE j.id = :id")
+    int finish(@Param("id") UUID id,
+               @Param("status") ImportJobStatus status,
+               @Param("failureReason") String failureReason,
+               @Param("finishedAt") OffsetDateTime finishedAt);
+
+}
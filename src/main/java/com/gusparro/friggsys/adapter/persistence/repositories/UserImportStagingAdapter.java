@@ -0,0 +1,102 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.usecase.user.dtos.StagedUser;
+import com.gusparro.friggsys.usecase.user.services.UserImportStagingService;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Repository
+public class UserImportStagingAdapter implements UserImportStagingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportStagingAdapter.class);
+
+    static final String COPY_SQL = "COPY user_import_staging "
+            + "(job_id, line_number, name, telephone, email, email_canonical, password_hash) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    static final String MERGE_SQL = "WITH candidates AS ("
+            + "SELECT DISTINCT ON (email_canonical) line_number, name, telephone, email, email_canonical, password_hash "
+            + "FROM user_import_staging WHERE job_id = ? ORDER BY email_canonical, line_number), "
+            + "inserted AS ("
+            + "INSERT INTO users (name, telephone, email, email_canonical, password_hash) "
+            + "SELECT name, telephone, email, email_canonical, password_hash FROM candidates "
+            + "ON CONFLICT DO NOTHING RETURNING email_canonical) "
+            + "SELECT s.line_number FROM user_import_staging s "
+            + "LEFT JOIN candidates c ON c.line_number = s.line_number "
+            + "LEFT JOIN inserted i ON i.email_canonical = c.email_canonical "
+            + "WHERE s.job_id = ? AND i.email_canonical IS NULL ORDER BY s.line_number";
+
+    static final String CLEANUP_SQL = "DELETE FROM user_import_staging WHERE job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> load(UUID jobId, List<StagedUser> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        var copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(toCsv(jobId, users)));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+
+        var rejectedLines = jdbcTemplate.queryForList(MERGE_SQL, Long.class, jobId, jobId);
+        jdbcTemplate.update(CLEANUP_SQL, jobId);
+
+        logger.debug("User import job {} staged {} rows and rejected {} duplicates", jobId, copied,
+                rejectedLines.size());
+
+        return rejectedLines;
+    }
+
+    static String toCsv(UUID jobId, List<StagedUser> users) {
+        var csv = new StringBuilder(users.size() * 256);
+
+        for (var user : users) {
+            csv.append(jobId).append(',')
+                    .append(user.lineNumber()).append(',');
+            appendQuoted(csv, user.name().getValue()).append(',');
+            appendQuoted(csv, user.telephone().getValue()).append(',');
+            appendQuoted(csv, user.email().getValue()).append(',');
+            appendQuoted(csv, user.email().getCanonicalValue()).append(',');
+            appendQuoted(csv, user.password().getValue()).append('\n');
+        }
+
+        return csv.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        csv.append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            var character = value.charAt(i);
+
+            if (character == '"') {
+                csv.append('"');
+            }
+
+            csv.append(character);
+        }
+
+        return csv.append('"');
+    }
+
+}
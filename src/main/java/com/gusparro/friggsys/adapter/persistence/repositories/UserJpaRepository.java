@@ -2,16 +2,88 @@ package com.gusparro.friggsys.adapter.persistence.repositories;
 
 import com.gusparro.friggsys.adapter.persistence.entities.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
 
-    Optional<UserEntity> findByEmail(String email);
+    Optional<UserEntity> findByEmailCanonical(String emailCanonical);
 
-    boolean existsByEmail(String email);
+    boolean existsByEmailCanonical(String emailCanonical);
+
+    @Query(value = "SELECT email_canonical FROM users WHERE email_canonical = ANY(:emails)", nativeQuery = true)
+    List<String> findExistingEmailCanonicals(@Param("emails") String[] emails);
+
+    @Transactional
+    @Query(value = "INSERT INTO users (name, telephone, email, email_canonical, password_hash, status) "
+            + "VALUES (:name, :telephone, :email, :emailCanonical, :passwordHash, :status) "
+            + "ON CONFLICT DO NOTHING RETURNING *", nativeQuery = true)
+    Optional<UserEntity> insertIfAbsent(@Param("name") String name,
+                                        @Param("telephone") String telephone,
+                                        @Param("email") String email,
+                                        @Param("emailCanonical") String emailCanonical,
+                                        @Param("passwordHash") String passwordHash,
+                                        @Param("status") String status);
+
+    @Transactional
+    @Query(value = "INSERT INTO users (name, telephone, email, email_canonical, password_hash, status) "
+            + "SELECT * FROM unnest(CAST(:names AS varchar[]), CAST(:telephones AS varchar[]), "
+            + "CAST(:emails AS varchar[]), CAST(:emailCanonicals AS varchar[]), CAST(:passwordHashes AS varchar[]), "
+            + "CAST(:statuses AS varchar[])) "
+            + "ON CONFLICT DO NOTHING RETURNING *", nativeQuery = true)
+    List<UserEntity> insertAllIfAbsent(@Param("names") String[] names,
+                                       @Param("telephones") String[] telephones,
+                                       @Param("emails") String[] emails,
+                                       @Param("emailCanonicals") String[] emailCanonicals,
+                                       @Param("passwordHashes") String[] passwordHashes,
+                                       @Param("statuses") String[] statuses);
+
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('users' AS regclass)",
+            nativeQuery = true)
+    long estimateCount();
+
+    @Transactional
+    @Query(value = "UPDATE users SET status = :status, updated_at = CURRENT_TIMESTAMP, version = version + 1 "
+            + "WHERE id = :id AND status <> :status RETURNING *", nativeQuery = true)
+    Optional<UserEntity> updateStatusIfChanged(@Param("id") UUID id, @Param("status") String status);
+
+    @Transactional
+    @Query(value = "UPDATE users SET status = :status, updated_at = CURRENT_TIMESTAMP, version = version + 1 "
+            + "WHERE id = :id AND status <> :status AND version = :version RETURNING *", nativeQuery = true)
+    Optional<UserEntity> updateStatusIfChangedAtVersion(@Param("id") UUID id,
+                                                        @Param("status") String status,
+                                                        @Param("version") long version);
+
+    @Transactional
+    @Query(value = "DELETE FROM users WHERE id = :id RETURNING id", nativeQuery = true)
+    Optional<UUID> deleteReturningId(@Param("id") UUID id);
+
+    @Transactional
+    @Query(value = "UPDATE users SET status = :status, updated_at = CURRENT_TIMESTAMP, version = version + 1 "
+            + "WHERE id IN (:ids) AND status <> :status RETURNING id", nativeQuery = true)
+    List<UUID> updateStatusOfAllReturningId(@Param("ids") Collection<UUID> ids, @Param("status") String status);
+
+    @Query(value = "SELECT id FROM users WHERE id IN (:ids)", nativeQuery = true)
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Query(value = "DELETE FROM users WHERE id IN (:ids) RETURNING id", nativeQuery = true)
+    List<UUID> deleteAllReturningId(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.passwordHash = :replacement WHERE u.id = :id AND u.passwordHash = :expected")
+    int updatePasswordHashIfUnchanged(@Param("id") UUID id,
+                                      @Param("expected") String expected,
+                                      @Param("replacement") String replacement);
 
 }
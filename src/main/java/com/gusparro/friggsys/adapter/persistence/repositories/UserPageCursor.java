@@ -0,0 +1,44 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record UserPageCursor(
+        UserSortField sortField,
+        PageOrder direction,
+        Object value,
+        UUID id
+) {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPageCursor.class);
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        var raw = String.join(SEPARATOR, sortField.getField(), direction.name(), id.toString(), value.toString());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserPageCursor decode(String cursor) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR, 4);
+            var sortField = UserSortField.of(parts[0]);
+
+            return new UserPageCursor(sortField, PageOrder.valueOf(parts[1]), sortField.getParser().apply(parts[3]),
+                    UUID.fromString(parts[2]));
+        } catch (RuntimeException exception) {
+            logger.debug("Cursor {} could not be decoded: {}", cursor, exception.getMessage());
+
+            throw DomainExceptionFactory.invalid("cursor", "Cursor is malformed or no longer supported");
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.repositories.pagination.CountMode;
+import com.gusparro.friggsys.domain.repositories.pagination.CursorPage;
+import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
+import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
+import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class UserQueryAdapter implements UserQueryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserQueryAdapter.class);
+
+    static final String COLUMNS = "id, name, email, telephone, status, created_at, updated_at, version";
+    static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM users WHERE id = :id";
+    static final String FIND_BY_EMAIL_SQL = "SELECT " + COLUMNS + " FROM users WHERE email_canonical = :emailCanonical";
+    static final String COUNT_SQL = "SELECT count(*) FROM users";
+
+    private static final String SORT_VALUE = "sort_value";
+    private static final RowMapper<UserOutput> OUTPUT_MAPPER = (resultSet, rowNumber) -> UserExportAdapter.toOutput(resultSet);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApproximateUserCounter approximateCounter;
+    private final int maxPageSize;
+
+    public UserQueryAdapter(NamedParameterJdbcTemplate jdbcTemplate,
+                            ApproximateUserCounter approximateCounter,
+                            @Value("${api.pagination.max-page-size:100}") int maxPageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.approximateCounter = approximateCounter;
+        this.maxPageSize = Math.max(1, maxPageSize);
+    }
+
+    @Override
+    public DomainPage<UserOutput> findAll(PageParameters parameters) {
+        var pageable = PageRequest.of(parameters.getPage(), pageSizeOf(parameters, maxPageSize));
+        var countMode = parameters.getCountMode() != null ? parameters.getCountMode() : CountMode.EXACT;
+        var size = pageable.getPageSize();
+        var offset = pageable.getOffset();
+
+        var rows = jdbcTemplate.query(buildPageSql(parameters), new MapSqlParameterSource()
+                .addValue("limit", countMode == CountMode.EXACT ? size : size + 1)
+                .addValue("offset", offset), OUTPUT_MAPPER);
+
+        if (countMode == CountMode.EXACT) {
+            var complete = rows.size() < size && (offset == 0 || !rows.isEmpty());
+            var dataAmount = complete ? offset + rows.size() : exactCount();
+            var pagesAmount = (int) Math.ceilDiv(dataAmount, size);
+
+            return toPage(rows, dataAmount, pagesAmount, pageable.getPageNumber(), size,
+                    pageable.getPageNumber() + 1 < pagesAmount, countMode);
+        }
+
+        var hasNext = rows.size() > size;
+        var data = hasNext ? rows.subList(0, size) : rows;
+
+        if (countMode == CountMode.NONE) {
+            return toPage(data, 0, 0, pageable.getPageNumber(), size, hasNext, countMode);
+        }
+
+        var seenElements = offset + data.size() + (hasNext ? 1 : 0);
+        var dataAmount = Math.max(approximateCounter.count(), seenElements);
+        var pagesAmount = (int) Math.ceilDiv(dataAmount, size);
+
+        return toPage(data, dataAmount, pagesAmount, pageable.getPageNumber(), size, hasNext, countMode);
+    }
+
+    @Override
+    public CursorPage<UserOutput> findAllByCursor(PageParameters parameters) {
+        var after = hasCursor(parameters) ? UserPageCursor.decode(parameters.getCursor()) : null;
+        var sortField = after != null ? after.sortField() : UserSortField.of(orderByOf(parameters));
+        var direction = after != null ? after.direction() : directionOf(parameters);
+        var size = pageSizeOf(parameters, maxPageSize);
+
+        var sql = buildCursorSql(sortField, direction, after != null);
+        var parameterSource = new MapSqlParameterSource("limit", size + 1);
+
+        if (after != null) {
+            parameterSource.addValue("value", after.value());
+        }
+
+        if (after != null && !sortField.isUnique()) {
+            parameterSource.addValue("id", after.id());
+        }
+
+        List<UserOutput> users = new ArrayList<>();
+        var boundary = new Object[1];
+        var hasNext = new boolean[1];
+
+        jdbcTemplate.query(sql, parameterSource, (RowCallbackHandler) resultSet -> {
+            if (users.size() == size) {
+                hasNext[0] = true;
+
+                return;
+            }
+
+            users.add(UserExportAdapter.toOutput(resultSet));
+
+            if (users.size() == size) {
+                boundary[0] = resultSet.getObject(SORT_VALUE, sortField.getValueType());
+            }
+        });
+
+        String nextCursor = null;
+
+        if (hasNext[0]) {
+            nextCursor = new UserPageCursor(sortField, direction, boundary[0], users.getLast().id()).encode();
+        }
+
+        return CursorPage.<UserOutput>builder()
+                .data(users)
+                .nextCursor(nextCursor)
+                .pageSize(size)
+                .lastPage(!hasNext[0])
+                .build();
+    }
+
+    @Override
+    public Optional<UserOutput> findById(UUID id) {
+        return jdbcTemplate.query(FIND_BY_ID_SQL, new MapSqlParameterSource("id", id), OUTPUT_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<UserOutput> findByEmail(Email email) {
+        return jdbcTemplate.query(FIND_BY_EMAIL_SQL,
+                        new MapSqlParameterSource("emailCanonical", email.getCanonicalValue()), OUTPUT_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    static String buildPageSql(PageParameters parameters) {
+        var sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM users");
+
+        if (parameters.getOrderBy() != null && !parameters.getOrderBy().isBlank()) {
+            var sortField = UserSortField.of(parameters.getOrderBy());
+            var order = directionOf(parameters) == PageOrder.DESC ? "DESC" : "ASC";
+
+            sql.append(" ORDER BY ").append(sortField.getColumn()).append(' ').append(order);
+
+            if (!sortField.isUnique()) {
+                sql.append(", ").append(UserSortField.TIEBREAKER_COLUMN).append(' ').append(order);
+            }
+        }
+
+        return sql.append(" LIMIT :limit OFFSET :offset").toString();
+    }
+
+    static String buildCursorSql(UserSortField sortField, PageOrder direction, boolean hasCursor) {
+        var column = sortField.getColumn();
+        var tiebreaker = UserSortField.TIEBREAKER_COLUMN;
+        var order = direction == PageOrder.DESC ? "DESC" : "ASC";
+        var comparison = direction == PageOrder.DESC ? "<" : ">";
+
+        var sql = new StringBuilder("SELECT ").append(COLUMNS).append(", ").append(column).append(" AS ")
+                .append(SORT_VALUE).append(" FROM users");
+
+        if (hasCursor && sortField.isUnique()) {
+            sql.append(" WHERE ").append(column).append(' ').append(comparison).append(" :value");
+        } else if (hasCursor) {
+            sql.append(" WHERE (").append(column).append(", ").append(tiebreaker).append(") ")
+                    .append(comparison).append(" (:value, :id)");
+        }
+
+        sql.append(" ORDER BY ").append(column).append(' ').append(order);
+
+        if (!sortField.isUnique()) {
+            sql.append(", ").append(tiebreaker).append(' ').append(order);
+        }
+
+        return sql.append(" LIMIT :limit").toString();
+    }
+
+    static boolean hasCursor(PageParameters parameters) {
+        return parameters.getCursor() != null && !parameters.getCursor().isBlank();
+    }
+
+    static int pageSizeOf(PageParameters parameters, int maxPageSize) {
+        return Math.clamp(parameters.getSize(), 1, maxPageSize);
+    }
+
+    static String orderByOf(PageParameters parameters) {
+        return parameters.getOrderBy() != null && !parameters.getOrderBy().isBlank()
+                ? parameters.getOrderBy()
+                : UserSortField.NAME.getField();
+    }
+
+    static PageOrder directionOf(PageParameters parameters) {
+        return parameters.getDirection() != null ? parameters.getDirection() : PageOrder.ASC;
+    }
+
+    private long exactCount() {
+        var count = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_SQL, Long.class);
+
+        return count != null ? count : 0;
+    }
+
+    private static DomainPage<UserOutput> toPage(List<UserOutput> data,
+                                                 long dataAmount,
+                                                 int pagesAmount,
+                                                 int pageNumber,
+                                                 int pageSize,
+                                                 boolean hasNext,
+                                                 CountMode countMode) {
+        return DomainPage.<UserOutput>builder()
+                .data(data)
+                .dataAmount(dataAmount)
+                .pagesAmount(pagesAmount)
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .firstPage(pageNumber == 0)
+                .lastPage(!hasNext)
+                .countMode(countMode)
+                .build();
+    }
+
+}
@@ -2,20 +2,21 @@ package com.gusparro.friggsys.adapter.persistence.repositories;
 
 import com.gusparro.friggsys.adapter.persistence.mappers.UserPersistenceMapper;
 import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.enums.UserStatus;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
-import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
-import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
 import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Password;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -24,36 +25,49 @@ public class UserRepositoryAdapter implements UserRepositoryInterface {
 
     private static final Logger logger = LoggerFactory.getLogger(UserRepositoryAdapter.class);
 
+    static final int BATCH_CHUNK_SIZE = 500;
+
     private final UserJpaRepository repository;
     private final UserPersistenceMapper mapper;
 
     @Override
     public User save(User user) {
         var entity = mapper.toEntity(user);
-        var savedEntity = repository.save(entity);
+        var savedEntity = repository.saveAndFlush(entity);
 
         return mapper.toDomain(savedEntity);
     }
 
     @Override
-    public DomainPage<User> findAll(PageParameters parameters) {
-        var pageable = createPageable(parameters);
-        var page = repository.findAll(pageable);
-
-        var users = page.getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
-
-        return DomainPage.<User>builder()
-                .data(users)
-                .dataAmount(page.getTotalElements())
-                .pagesAmount(page.getTotalPages())
-                .pageNumber(page.getNumber())
-                .pageSize(page.getSize())
-                .firstPage(page.isFirst())
-                .lastPage(page.isLast())
-                .build();
+    public Optional<User> insertIfAbsent(User user) {
+        return repository.insertIfAbsent(
+                user.getName(),
+                user.getTelephone(),
+                user.getEmail(),
+                user.getCanonicalEmail(),
+                user.getPassword(),
+                user.getStatus().name()
+        ).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<User> insertAllIfAbsent(List<User> users) {
+        List<User> inserted = new ArrayList<>(users.size());
+
+        for (int from = 0; from < users.size(); from += BATCH_CHUNK_SIZE) {
+            var chunk = users.subList(from, Math.min(users.size(), from + BATCH_CHUNK_SIZE));
+
+            repository.insertAllIfAbsent(
+                            chunk.stream().map(User::getName).toArray(String[]::new),
+                            chunk.stream().map(User::getTelephone).toArray(String[]::new),
+                            chunk.stream().map(User::getEmail).toArray(String[]::new),
+                            chunk.stream().map(User::getCanonicalEmail).toArray(String[]::new),
+                            chunk.stream().map(User::getPassword).toArray(String[]::new),
+                            chunk.stream().map(user -> user.getStatus().name()).toArray(String[]::new))
+                    .forEach(entity -> inserted.add(mapper.toDomain(entity)));
+        }
+
+        return inserted;
     }
 
     @Override
@@ -64,7 +78,7 @@ public class UserRepositoryAdapter implements UserRepositoryInterface {
 
     @Override
     public Optional<User> findByEmail(Email email) {
-        return repository.findByEmail(email.getValue())
+        return repository.findByEmailCanonical(email.getCanonicalValue())
                 .map(mapper::toDomain);
     }
 
@@ -75,7 +89,21 @@ public class UserRepositoryAdapter implements UserRepositoryInterface {
 
     @Override
     public boolean existsByEmail(Email email) {
-        return repository.existsByEmail(email.getValue());
+        return repository.existsByEmailCanonical(email.getCanonicalValue());
+    }
+
+    @Override
+    public Set<String> findExistingCanonicalEmails(Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+
+        var canonicalEmails = emails.stream()
+                .map(Email::getCanonicalValue)
+                .distinct()
+                .toArray(String[]::new);
+
+        return Set.copyOf(repository.findExistingEmailCanonicals(canonicalEmails));
     }
 
     @Override
@@ -83,13 +111,66 @@ public class UserRepositoryAdapter implements UserRepositoryInterface {
         repository.deleteById(id);
     }
 
-    private Pageable createPageable(PageParameters parameters) {
-        if (parameters.getOrderBy() != null && !parameters.getOrderBy().isBlank()) {
-            Sort.Direction direction = Sort.Direction.valueOf(parameters.getDirection().name());
-            Sort sort = Sort.by(direction, parameters.getOrderBy());
-            return PageRequest.of(parameters.getPage(), parameters.getSize(), sort);
+    @Override
+    public boolean deleteIfExists(UUID id) {
+        return repository.deleteReturningId(id).isPresent();
+    }
+
+    @Override
+    public Optional<User> changeStatus(UUID id, UserStatus status, Long expectedVersion) {
+        var updated = expectedVersion == null
+                ? repository.updateStatusIfChanged(id, status.name())
+                : repository.updateStatusIfChangedAtVersion(id, status.name(), expectedVersion);
+
+        return updated.map(mapper::toDomain);
+    }
+
+    @Override
+    public Set<UUID> changeStatusOfAll(Collection<UUID> ids, UserStatus status) {
+        Set<UUID> changed = new HashSet<>();
+
+        for (var chunk : chunksOf(ids)) {
+            changed.addAll(repository.updateStatusOfAllReturningId(chunk, status.name()));
+        }
+
+        return changed;
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        Set<UUID> existing = new HashSet<>();
+
+        for (var chunk : chunksOf(ids)) {
+            existing.addAll(repository.findExistingIds(chunk));
+        }
+
+        return existing;
+    }
+
+    @Override
+    public Set<UUID> deleteAll(Collection<UUID> ids) {
+        Set<UUID> deleted = new HashSet<>();
+
+        for (var chunk : chunksOf(ids)) {
+            deleted.addAll(repository.deleteAllReturningId(chunk));
+        }
+
+        return deleted;
+    }
+
+    @Override
+    public boolean replacePassword(UUID id, Password expected, Password replacement) {
+        return repository.updatePasswordHashIfUnchanged(id, expected.getValue(), replacement.getValue()) > 0;
+    }
+
+    private static List<List<UUID>> chunksOf(Collection<UUID> ids) {
+        var remaining = List.copyOf(ids);
+        List<List<UUID>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < remaining.size(); from += BATCH_CHUNK_SIZE) {
+            chunks.add(remaining.subList(from, Math.min(remaining.size(), from + BATCH_CHUNK_SIZE)));
         }
 
-        return PageRequest.of(parameters.getPage(), parameters.getSize());
+        return chunks;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum UserSortField {
+
+    NAME("name", "name", false, value -> value, String.class),
+    EMAIL("email", "email_canonical", true, value -> value, String.class),
+    CREATED_AT("createdAt", "created_at", false, OffsetDateTime::parse, OffsetDateTime.class),
+    UPDATED_AT("updatedAt", "updated_at", false, OffsetDateTime::parse, OffsetDateTime.class);
+
+    public static final String TIEBREAKER_COLUMN = "id";
+
+    private final String field;
+    private final String column;
+    private final boolean unique;
+    private final Function<String, Object> parser;
+    private final Class<?> valueType;
+
+    public static UserSortField of(String field) {
+        return Arrays.stream(values())
+                .filter(sortField -> sortField.field.equals(field))
+                .findFirst()
+                .orElseThrow(() -> DomainExceptionFactory.invalid("orderBy",
+                        String.format("Sorting by '%s' is not supported, expected one of %s", field,
+                                Arrays.stream(values()).map(UserSortField::getField).toList())));
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> REPLICA_PREFERRED = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static Scope preferReplica() {
+        return enter(REPLICA_PREFERRED);
+    }
+
+    public static Scope pinToPrimary() {
+        return enter(PRIMARY_PINNED);
+    }
+
+    public static boolean isReplicaPreferred() {
+        return Boolean.TRUE.equals(REPLICA_PREFERRED.get());
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    private static Scope enter(ThreadLocal<Boolean> flag) {
+        var previous = flag.get();
+        flag.set(Boolean.TRUE);
+
+        return () -> {
+            if (previous == null) {
+                flag.remove();
+            } else {
+                flag.set(previous);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+public class ReadYourWritesTracker {
+
+    private static final int PRUNE_EVERY_WRITES = 1024;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSincePrune = new AtomicInteger();
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    public ReadYourWritesTracker(MeterRegistry meterRegistry, Duration window) {
+        this(meterRegistry, window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(MeterRegistry meterRegistry, Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+
+        Gauge.builder("friggsys.db.routing.read_your_writes.clients", lastWrites, Map::size)
+                .description("Clients whose reads are pinned to the primary after a recent write")
+                .register(meterRegistry);
+    }
+
+    public void recordWrite(String client) {
+        if (windowNanos <= 0) {
+            return;
+        }
+
+        lastWrites.put(client, nanoClock.getAsLong());
+
+        if (writesSincePrune.incrementAndGet() >= PRUNE_EVERY_WRITES) {
+            writesSincePrune.set(0);
+            prune();
+        }
+    }
+
+    public boolean wroteRecently(String client) {
+        var lastWrite = lastWrites.get(client);
+
+        if (lastWrite == null) {
+            return false;
+        }
+
+        if (nanoClock.getAsLong() - lastWrite < windowNanos) {
+            return true;
+        }
+
+        lastWrites.remove(client, lastWrite);
+
+        return false;
+    }
+
+    int trackedClients() {
+        return lastWrites.size();
+    }
+
+    private void prune() {
+        var now = nanoClock.getAsLong();
+
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String LAG_SQL = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas,
+                             MeterRegistry meterRegistry,
+                             Duration maxLag,
+                             Duration checkInterval) {
+        this.replicas = Map.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toNanos() / 1_000_000_000.0;
+        this.checkInterval = checkInterval;
+
+        for (var replica : this.replicas.keySet()) {
+            lagSeconds.put(replica, Double.NaN);
+
+            Gauge.builder("friggsys.db.replica.lag", lagSeconds, lags -> lags.getOrDefault(replica, Double.NaN))
+                    .description("Replication lag of a read replica in seconds, NaN while it cannot be measured")
+                    .tag("replica", replica)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        logger.info("Monitoring lag of {} read replicas every {} with a limit of {}s",
+                replicas.size(), checkInterval, maxLagSeconds);
+    }
+
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public boolean isWithinLag(String replica) {
+        var lag = lagSeconds.getOrDefault(replica, Double.NaN);
+
+        return !Double.isNaN(lag) && lag <= maxLagSeconds;
+    }
+
+    public double lagSeconds(String replica) {
+        return lagSeconds.getOrDefault(replica, Double.NaN);
+    }
+
+    void refresh() {
+        replicas.forEach((replica, dataSource) -> lagSeconds.put(replica, measure(replica, dataSource)));
+    }
+
+    private double measure(String replica, DataSource dataSource) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(LAG_SQL)) {
+            resultSet.next();
+
+            var lag = resultSet.getDouble(1);
+
+            if (resultSet.wasNull()) {
+                logger.warn("Read replica {} is not streaming from the primary, routing reads to the primary", replica);
+
+                return Double.NaN;
+            }
+
+            if (lag > maxLagSeconds) {
+                logger.warn("Read replica {} is {}s behind the primary, routing reads to the primary", replica, lag);
+            }
+
+            return lag;
+        } catch (SQLException | RuntimeException exception) {
+            logger.warn("Could not measure the lag of read replica {}: {}", replica, exception.getMessage());
+
+            return Double.NaN;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import com.gusparro.friggsys.adapter.api.routing.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "api.datasource.replicas.urls")
+public class ReplicaRoutingConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingConfiguration.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 DataSourceProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${api.datasource.replicas.urls}") List<String> urls,
+                                 @Value("${api.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                 @Value("${api.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                 @Value("${api.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                 @Value("${api.datasource.replicas.max-lag:5s}") Duration maxLag,
+                                 @Value("${api.datasource.replicas.lag-check-interval:1s}") Duration lagCheckInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        for (var url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+
+            var name = "replica-" + (replicas.size() + 1);
+            var replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+
+            replica.setPoolName("HikariPool-" + name);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            replicas.put(name, replica);
+        }
+
+        logger.info("Configured {} read replica pools of up to {} connections", replicas.size(), maximumPoolSize);
+
+        var lagMonitor = new ReplicaLagMonitor(replicas, meterRegistry, maxLag, lagCheckInterval);
+        var routing = new ReplicaRoutingDataSource(primaryDataSource, replicas, lagMonitor, meterRegistry);
+        lagMonitor.start();
+
+        return routing;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(MeterRegistry meterRegistry,
+                                                       @Value("${api.datasource.replicas.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(meterRegistry, window);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesFilter(readYourWritesTracker);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public static final String PRIMARY = "primary";
+
+    static final String READ_WRITE = "read_write";
+    static final String READ_YOUR_WRITES = "read_your_writes";
+    static final String REPLICA_LAG = "replica_lag";
+    static final String REPLICA = "replica";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final ReplicaLagMonitor lagMonitor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> decisions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        if (replicas.isEmpty() || replicas.containsKey(PRIMARY)) {
+            throw new IllegalArgumentException("Replica routing needs at least one replica not named '" + PRIMARY + "'");
+        }
+
+        this.replicas = replicas;
+        this.replicaNames = List.copyOf(replicas.keySet());
+        this.lagMonitor = lagMonitor;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        logger.info("Routing read-only use cases across replicas {}", replicaNames);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!DataSourceRoutingContext.isReplicaPreferred()) {
+            return decide(PRIMARY, READ_WRITE);
+        }
+
+        if (DataSourceRoutingContext.isPrimaryPinned()) {
+            return decide(PRIMARY, READ_YOUR_WRITES);
+        }
+
+        var start = Math.floorMod(nextReplica.getAndIncrement(), replicaNames.size());
+
+        for (int offset = 0; offset < replicaNames.size(); offset++) {
+            var replica = replicaNames.get((start + offset) % replicaNames.size());
+
+            if (lagMonitor.isWithinLag(replica)) {
+                return decide(replica, REPLICA);
+            }
+        }
+
+        return decide(PRIMARY, REPLICA_LAG);
+    }
+
+    @Override
+    public void close() {
+        lagMonitor.shutdown();
+
+        for (var replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception exception) {
+                    logger.warn("Could not close read replica pool: {}", exception.getMessage());
+                }
+            }
+        }
+    }
+
+    private String decide(String target, String reason) {
+        decisions.computeIfAbsent(target + ":" + reason, key -> Counter.builder("friggsys.db.routing.decisions")
+                        .description("Connections handed out by the replica routing data source")
+                        .tag("target", target)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+
+        return target;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.gusparro.friggsys.adapter.persistence.transactions;
+
+import com.gusparro.friggsys.usecase.user.services.BackgroundWriteService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class BackgroundWriteExecutor implements BackgroundWriteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundWriteExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+
+    public BackgroundWriteExecutor(MeterRegistry meterRegistry,
+                                   @Value("${api.background-writes.threads:2}") int threads,
+                                   @Value("${api.background-writes.queue-capacity:256}") int queueCapacity) {
+        var poolSize = Math.max(1, threads);
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new WriteThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.rejections = Counter.builder("friggsys.background_writes.rejections")
+                .description("Background writes dropped because the bounded write queue was full")
+                .register(meterRegistry);
+
+        Gauge.builder("friggsys.background_writes.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Background writes waiting for a write thread")
+                .register(meterRegistry);
+
+        logger.info("Background write executor started with {} threads and queue capacity {}", poolSize,
+                queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable write) {
+        try {
+            executor.execute(write);
+        } catch (RejectedExecutionException exception) {
+            rejections.increment();
+
+            throw exception;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class WriteThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "background-write-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
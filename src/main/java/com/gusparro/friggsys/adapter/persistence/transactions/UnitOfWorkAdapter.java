@@ -0,0 +1,57 @@
+package com.gusparro.friggsys.adapter.persistence.transactions;
+
+import com.gusparro.friggsys.adapter.persistence.routing.DataSourceRoutingContext;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@Component
+public class UnitOfWorkAdapter implements UnitOfWorkService {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public UnitOfWorkAdapter(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> work) {
+        return measure(operation, () -> transactionTemplate.execute(status -> work.get()));
+    }
+
+    @Override
+    public <T> T read(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return measure(operation, () -> readOnlyTransactionTemplate.execute(status -> work.get()));
+        }
+
+        try (var ignored = DataSourceRoutingContext.preferReplica()) {
+            return measure(operation, () -> readOnlyTransactionTemplate.execute(status -> work.get()));
+        }
+    }
+
+    private <T> T measure(String operation, Supplier<T> work) {
+        var sample = Timer.start(meterRegistry);
+
+        try {
+            return work.get();
+        } finally {
+            sample.stop(Timer.builder("friggsys.db.connection.hold")
+                    .description("Time a use case keeps a transaction, and therefore a pooled connection, open")
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.gusparro.friggsys.adapter.security;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+@Component
+public class BCryptStrengthCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final int SAMPLES = 3;
+    private static final String PROBE_PASSWORD = "Calibration#Probe2024";
+
+    private final Duration latencyBudget;
+    @Getter
+    private final int minStrength;
+    private final int maxStrength;
+    private final IntToLongFunction sampler;
+
+    @Autowired
+    public BCryptStrengthCalibrator(@Value("${api.password-hashing.bcrypt.latency-budget:250ms}") Duration latencyBudget,
+                                    @Value("${api.password-hashing.bcrypt.min-strength:10}") int minStrength,
+                                    @Value("${api.password-hashing.bcrypt.max-strength:14}") int maxStrength) {
+        this(latencyBudget, minStrength, maxStrength, BCryptStrengthCalibrator::measure);
+    }
+
+    BCryptStrengthCalibrator(Duration latencyBudget, int minStrength, int maxStrength, IntToLongFunction sampler) {
+        if (minStrength < MIN_BCRYPT_STRENGTH || maxStrength > MAX_BCRYPT_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException(String.format(
+                    "BCrypt strength range [%d, %d] must be within [%d, %d]",
+                    minStrength, maxStrength, MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH));
+        }
+
+        this.latencyBudget = latencyBudget;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+        this.sampler = sampler;
+    }
+
+    public int calibrate() {
+        if (minStrength == maxStrength) {
+            return minStrength;
+        }
+
+        var budgetNanos = latencyBudget.toNanos();
+        var elapsedNanos = sampler.applyAsLong(minStrength);
+        var strength = minStrength;
+
+        while (strength < maxStrength && elapsedNanos * 2 <= budgetNanos) {
+            strength++;
+            elapsedNanos *= 2;
+        }
+
+        logger.info("BCrypt strength calibrated to {} (estimated {} ms per hash, budget {} ms)",
+                strength, Duration.ofNanos(elapsedNanos).toMillis(), latencyBudget.toMillis());
+
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        var encoder = new BCryptPasswordEncoder(strength);
+        var samples = new long[SAMPLES];
+
+        encoder.encode(PROBE_PASSWORD);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            var start = System.nanoTime();
+            encoder.encode(PROBE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+
+        return samples[SAMPLES / 2];
+    }
+
+}
@@ -1,29 +1,103 @@
 package com.gusparro.friggsys.adapter.security;
 
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
 import com.gusparro.friggsys.domain.vos.Password;
 import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 @Component
 public class PasswordEncoderAdapter implements PasswordEncoderService {
 
-    private final BCryptPasswordEncoder encoder;
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderAdapter.class);
+
+    static final Duration INITIAL_BACKOFF = Duration.ofMillis(100);
+    static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private final PasswordHashingExecutor hashingExecutor;
+    private final PasswordHashingEngine hashingEngine;
+    private final Duration backoffLimit;
 
-    public PasswordEncoderAdapter() {
-        this.encoder = new BCryptPasswordEncoder();
+    public PasswordEncoderAdapter(PasswordHashingExecutor hashingExecutor,
+                                  PasswordHashingEngine hashingEngine,
+                                  @Value("${api.password-hashing.backoff-limit:10m}") Duration backoffLimit) {
+        this.hashingExecutor = hashingExecutor;
+        this.hashingEngine = hashingEngine;
+        this.backoffLimit = backoffLimit;
     }
 
     @Override
     public Password encrypt(Password rawPassword) {
-        String hash = encoder.encode(rawPassword.getValue());
+        String hash = hashingExecutor.execute("encrypt", () -> hashingEngine.encode(rawPassword.getValue()));
 
         return Password.ofHash(hash);
     }
 
+    @Override
+    public List<Password> encryptAll(List<Password> rawPasswords) {
+        List<Supplier<String>> tasks = rawPasswords.stream()
+                .map(rawPassword -> (Supplier<String>) () -> hashingEngine.encode(rawPassword.getValue()))
+                .toList();
+
+        return hashingExecutor.executeAll("encrypt_batch", tasks)
+                .stream()
+                .map(Password::ofHash)
+                .toList();
+    }
+
+    @Override
+    public List<Password> encryptAllWithBackoff(List<Password> rawPasswords) {
+        var deadline = System.nanoTime() + backoffLimit.toNanos();
+        var pause = INITIAL_BACKOFF;
+
+        while (true) {
+            try {
+                return encryptAll(rawPasswords);
+            } catch (ServiceUnavailableError error) {
+                if (Thread.currentThread().isInterrupted() || System.nanoTime() - deadline >= 0) {
+                    throw error;
+                }
+
+                logger.info("Password hashing is saturated ({}), retrying {} passwords in {}",
+                        error.getReason(), rawPasswords.size(), pause);
+
+                try {
+                    Thread.sleep(pause);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+
+                    throw error;
+                }
+
+                pause = pause.multipliedBy(2);
+
+                if (pause.compareTo(MAX_BACKOFF) > 0) {
+                    pause = MAX_BACKOFF;
+                }
+            }
+        }
+    }
+
     @Override
     public boolean matches(String rawPassword, String encryptedPassword) {
-        return encoder.matches(rawPassword, encryptedPassword);
+        return hashingExecutor.execute("matches", () -> hashingEngine.matches(rawPassword, encryptedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encryptedPassword) {
+        return hashingEngine.needsRehash(encryptedPassword);
+    }
+
+    @Override
+    public CompletableFuture<Password> encryptInBackground(String rawPassword) {
+        return hashingExecutor.submit("rehash", () -> Password.ofHash(hashingEngine.encode(rawPassword)));
     }
 
 }
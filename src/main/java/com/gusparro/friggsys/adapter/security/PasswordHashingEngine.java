@@ -0,0 +1,213 @@
+package com.gusparro.friggsys.adapter.security;
+
+import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHashingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingEngine.class);
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final String ID_PREFIX = "{";
+    private static final String ID_SUFFIX = "}";
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int PBKDF2_SALT_LENGTH = 16;
+    private static final Duration MEMORY_LIMIT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Map<String, PasswordEncoder> encoders;
+    private final DelegatingPasswordEncoder encoder;
+    private final Map<String, Timer> timers = new HashMap<>();
+
+    @Getter
+    private final String preferredAlgorithm;
+
+    @Getter
+    private final int bcryptStrength;
+
+    private final Semaphore argon2Permits;
+
+    @Autowired
+    public PasswordHashingEngine(MeterRegistry meterRegistry,
+                                 BCryptStrengthCalibrator calibrator,
+                                 @Value("${api.password-hashing.algorithm:bcrypt}") String preferredAlgorithm,
+                                 @Value("${api.password-hashing.argon2.memory-kib:19456}") int argon2MemoryKib,
+                                 @Value("${api.password-hashing.argon2.iterations:2}") int argon2Iterations,
+                                 @Value("${api.password-hashing.argon2.parallelism:1}") int argon2Parallelism,
+                                 @Value("${api.password-hashing.argon2.heap-fraction:0.25}") double argon2HeapFraction,
+                                 @Value("${api.password-hashing.pbkdf2.iterations:600000}") int pbkdf2Iterations) {
+        this(meterRegistry, calibrator, preferredAlgorithm, argon2MemoryKib, argon2Iterations, argon2Parallelism,
+                argon2HeapFraction, pbkdf2Iterations, Runtime.getRuntime().maxMemory());
+    }
+
+    PasswordHashingEngine(MeterRegistry meterRegistry,
+                          BCryptStrengthCalibrator calibrator,
+                          String preferredAlgorithm,
+                          int argon2MemoryKib,
+                          int argon2Iterations,
+                          int argon2Parallelism,
+                          double argon2HeapFraction,
+                          int pbkdf2Iterations,
+                          long maxHeapBytes) {
+        if (!BCRYPT.equals(preferredAlgorithm) && !ARGON2.equals(preferredAlgorithm) && !PBKDF2.equals(preferredAlgorithm)) {
+            throw new IllegalArgumentException(String.format(
+                    "Unsupported password hashing algorithm '%s', expected one of %s, %s or %s",
+                    preferredAlgorithm, BCRYPT, ARGON2, PBKDF2));
+        }
+
+        this.preferredAlgorithm = preferredAlgorithm;
+        this.bcryptStrength = BCRYPT.equals(preferredAlgorithm) ? calibrator.calibrate() : calibrator.getMinStrength();
+
+        var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        this.encoders = Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, argon2Parallelism,
+                        argon2MemoryKib, argon2Iterations),
+                PBKDF2, new Pbkdf2PasswordEncoder("", PBKDF2_SALT_LENGTH, pbkdf2Iterations,
+                        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256)
+        );
+        this.encoder = new DelegatingPasswordEncoder(preferredAlgorithm, encoders);
+        this.encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        var argon2BudgetBytes = (long) (maxHeapBytes * argon2HeapFraction);
+        var permits = (int) Math.max(1, Math.min(Integer.MAX_VALUE, argon2BudgetBytes / (argon2MemoryKib * 1024L)));
+        this.argon2Permits = new Semaphore(permits, true);
+
+        Gauge.builder("friggsys.password.hashing.argon2.permits", argon2Permits, Semaphore::availablePermits)
+                .description("Argon2 hashes that can still start without exceeding the heap budget")
+                .register(meterRegistry);
+
+        for (var algorithm : encoders.keySet()) {
+            timers.put(algorithm + ":encode", durationTimer(meterRegistry, algorithm, "encode"));
+            timers.put(algorithm + ":matches", durationTimer(meterRegistry, algorithm, "matches"));
+        }
+
+        logger.info("Password hashing engine prefers '{}' with {} concurrent Argon2 hashes of {} KiB",
+                preferredAlgorithm, permits, argon2MemoryKib);
+    }
+
+    public String encode(String rawPassword) {
+        return measure(preferredAlgorithm, "encode", () -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encryptedPassword) {
+        var algorithm = algorithmOf(encryptedPassword);
+
+        if (!encoders.containsKey(algorithm)) {
+            return encoder.matches(rawPassword, encryptedPassword);
+        }
+
+        return measure(algorithm, "matches", () -> encoder.matches(rawPassword, encryptedPassword));
+    }
+
+    public boolean needsRehash(String encryptedPassword) {
+        if (encryptedPassword == null) {
+            return false;
+        }
+
+        if (!encryptedPassword.startsWith(ID_PREFIX)) {
+            return bcryptCostOf(encryptedPassword) > 0;
+        }
+
+        var algorithm = algorithmOf(encryptedPassword);
+
+        if (!encoders.containsKey(algorithm)) {
+            return false;
+        }
+
+        if (!algorithm.equals(preferredAlgorithm)) {
+            return true;
+        }
+
+        var hash = encryptedPassword.substring(algorithm.length() + ID_PREFIX.length() + ID_SUFFIX.length());
+
+        if (BCRYPT.equals(algorithm)) {
+            var cost = bcryptCostOf(hash);
+
+            return cost > 0 && cost != bcryptStrength;
+        }
+
+        return encoders.get(algorithm).upgradeEncoding(hash);
+    }
+
+    int availableArgon2Permits() {
+        return argon2Permits.availablePermits();
+    }
+
+    static String algorithmOf(String encryptedPassword) {
+        if (encryptedPassword == null || !encryptedPassword.startsWith(ID_PREFIX)) {
+            return BCRYPT;
+        }
+
+        var end = encryptedPassword.indexOf(ID_SUFFIX);
+
+        return end < 0 ? "" : encryptedPassword.substring(ID_PREFIX.length(), end);
+    }
+
+    private <T> T measure(String algorithm, String operation, Supplier<T> hashing) {
+        var timer = timers.get(algorithm + ":" + operation);
+
+        if (!ARGON2.equals(algorithm)) {
+            return timer.record(hashing);
+        }
+
+        try {
+            argon2Permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw AdapterExceptionFactory.capacityExceeded("password_hashing", "memory_limit", MEMORY_LIMIT_RETRY_AFTER);
+        }
+
+        try {
+            return timer.record(hashing);
+        } finally {
+            argon2Permits.release();
+        }
+    }
+
+    private static int bcryptCostOf(String hash) {
+        if (hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$' || hash.charAt(6) != '$') {
+            return -1;
+        }
+
+        var tens = Character.digit(hash.charAt(4), 10);
+        var units = Character.digit(hash.charAt(5), 10);
+
+        return tens < 0 || units < 0 ? -1 : tens * 10 + units;
+    }
+
+    private static Timer durationTimer(MeterRegistry meterRegistry, String algorithm, String operation) {
+        return Timer.builder("friggsys.password.hashing.duration")
+                .description("Time spent computing password hashes")
+                .tag("algorithm", algorithm)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.gusparro.friggsys.adapter.security;
+
+import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private static final String RESOURCE = "password_hashing";
+    private static final long QUEUE_RETRY_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+
+    private final AtomicInteger activeHashes = new AtomicInteger();
+    private final Counter queueFullRejections;
+    private final Counter waitTimeoutRejections;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${api.password-hashing.threads:0}") int threads,
+                                   @Value("${api.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${api.password-hashing.wait-timeout:2s}") Duration waitTimeout) {
+        var poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeout = waitTimeout;
+
+        Gauge.builder("friggsys.password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("friggsys.password.hashing.active", activeHashes, AtomicInteger::get)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+
+        this.queueFullRejections = rejectionCounter(meterRegistry, "queue_full");
+        this.waitTimeoutRejections = rejectionCounter(meterRegistry, "wait_timeout");
+
+        logger.info("Password hashing executor started with {} threads, queue capacity {} and wait timeout {}",
+                poolSize, queueCapacity, waitTimeout);
+    }
+
+    public <T> T execute(String operation, Supplier<T> task) {
+        return await(operation, enqueue(operation, () -> run(task)));
+    }
+
+    public <T> List<T> executeAll(String operation, List<Supplier<T>> tasks) {
+        var slots = new Semaphore(executor.getMaximumPoolSize());
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+
+        try {
+            for (var task : tasks) {
+                reserve(operation, slots);
+
+                try {
+                    futures.add(enqueueWhenRoom(operation, () -> {
+                        try {
+                            return run(task);
+                        } finally {
+                            slots.release();
+                        }
+                    }));
+                } catch (RuntimeException exception) {
+                    slots.release();
+
+                    throw exception;
+                }
+            }
+
+            List<T> results = new ArrayList<>(tasks.size());
+
+            for (var future : futures) {
+                results.add(await(operation, future));
+            }
+
+            return results;
+        } catch (RuntimeException exception) {
+            futures.forEach(future -> future.cancel(true));
+
+            throw exception;
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> run(task), executor);
+        } catch (RejectedExecutionException exception) {
+            queueFullRejections.increment();
+            logger.debug("Password hashing queue is full, skipping background '{}' operation", operation);
+
+            return CompletableFuture.failedFuture(
+                    AdapterExceptionFactory.capacityExceeded(RESOURCE, "queue_full", waitTimeout));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> enqueue(String operation, Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            queueFullRejections.increment();
+            logger.warn("Password hashing queue is full, rejecting '{}' operation", operation);
+
+            throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "queue_full", waitTimeout);
+        }
+    }
+
+    private <T> Future<T> enqueueWhenRoom(String operation, Callable<T> task) {
+        var deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            try {
+                return executor.submit(task);
+            } catch (RejectedExecutionException exception) {
+                if (System.nanoTime() >= deadline) {
+                    queueFullRejections.increment();
+                    logger.warn("Password hashing queue stayed full, rejecting '{}' operation", operation);
+
+                    throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "queue_full", waitTimeout);
+                }
+
+                LockSupport.parkNanos(QUEUE_RETRY_PAUSE_NANOS);
+
+                if (Thread.currentThread().isInterrupted()) {
+                    throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "interrupted", waitTimeout);
+                }
+            }
+        }
+    }
+
+    private void reserve(String operation, Semaphore slots) {
+        try {
+            if (!slots.tryAcquire(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                waitTimeoutRejections.increment();
+                logger.warn("Password hashing '{}' operation exceeded the wait timeout of {}", operation, waitTimeout);
+
+                throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "wait_timeout", waitTimeout);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "interrupted", waitTimeout);
+        }
+    }
+
+    private <T> T await(String operation, Future<T> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            executor.remove((Runnable) future);
+            waitTimeoutRejections.increment();
+            logger.warn("Password hashing '{}' operation exceeded the wait timeout of {}", operation, waitTimeout);
+
+            throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "wait_timeout", waitTimeout);
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+
+            throw AdapterExceptionFactory.capacityExceeded(RESOURCE, "interrupted", waitTimeout);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException("Password hashing failed", exception.getCause());
+        }
+    }
+
+    private <T> T run(Supplier<T> task) {
+        activeHashes.incrementAndGet();
+
+        try {
+            return task.get();
+        } finally {
+            activeHashes.decrementAndGet();
+        }
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("friggsys.password.hashing.rejections")
+                .description("Password hashing tasks rejected by the bounded executor")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
@@ -39,6 +39,9 @@ public class User {
     @Getter
     private OffsetDateTime updatedAt;
 
+    @Getter
+    private Long version;
+
     public static User create(Name name,
                               Email email,
                               Telephone telephone,
@@ -51,7 +54,8 @@ public class User {
                 password,
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                null
         );
     }
 
@@ -62,7 +66,8 @@ public class User {
                                    Password password,
                                    UserStatus status,
                                    OffsetDateTime createdAt,
-                                   OffsetDateTime updatedAt) {
+                                   OffsetDateTime updatedAt,
+                                   Long version) {
         return new User(
                 id,
                 name,
@@ -71,7 +76,8 @@ public class User {
                 password,
                 status,
                 createdAt,
-                updatedAt
+                updatedAt,
+                version
         );
     }
 
@@ -90,7 +96,7 @@ public class User {
     }
 
     public void activate() {
-        if (isActive()) {
+        if (!status.canTransitionTo(UserStatus.ACTIVE)) {
             logger.error("User is already active.");
 
             throw DomainExceptionFactory.invalidState("User", status.getDescription(), "activate");
@@ -101,7 +107,7 @@ public class User {
     }
 
     public void deactivate() {
-        if (isInactive()) {
+        if (!status.canTransitionTo(UserStatus.INACTIVE)) {
             logger.error("User is already inactive.");
 
             throw DomainExceptionFactory.invalidState("User", status.getDescription(), "deactivate");
@@ -112,7 +118,7 @@ public class User {
     }
 
     public void block() {
-        if (isBlocked()) {
+        if (!status.canTransitionTo(UserStatus.BLOCKED)) {
             logger.error("User is already blocked.");
 
             throw DomainExceptionFactory.invalidState("User", status.getDescription(), "block");
@@ -130,6 +136,10 @@ public class User {
         return email.getValue();
     }
 
+    public String getCanonicalEmail() {
+        return email.getCanonicalValue();
+    }
+
     public String getTelephone() {
         return telephone.getValue();
     }
@@ -15,4 +15,8 @@ public enum UserStatus {
         this.description = description;
     }
 
+    public boolean canTransitionTo(UserStatus target) {
+        return this != target;
+    }
+
 }
\ No newline at end of file
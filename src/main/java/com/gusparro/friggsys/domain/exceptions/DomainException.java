@@ -8,6 +8,8 @@ import java.util.Map;
 @Getter
 public abstract class DomainException extends RuntimeException {
 
+    private static volatile boolean stackTraceEnabled = true;
+
     private final Map<String, Object> details;
 
     public DomainException(String message) {
@@ -19,13 +21,13 @@ public abstract class DomainException extends RuntimeException {
     }
 
     public DomainException(String message, Map<String, Object> details) {
-        super(message);
+        super(message, null, true, stackTraceEnabled);
 
         this.details = details != null ? details : new HashMap<>();
     }
 
     public DomainException(String message, Map<String, Object> details, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, stackTraceEnabled);
 
         this.details = details != null ? details : new HashMap<>();
     }
@@ -34,4 +36,12 @@ public abstract class DomainException extends RuntimeException {
         details.put(key, value);
     }
 
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
 }
@@ -2,6 +2,7 @@ package com.gusparro.friggsys.domain.exceptions;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -80,6 +81,23 @@ public final class DomainExceptionFactory {
         return new ValidationError(message, fieldName, details);
     }
 
+    public static ValidationError invalidFields(List<ValidationError> violations) {
+        var fieldNames = violations.stream().map(ValidationError::getField).toList();
+
+        Map<String, Object> details = Map.of(
+                "validationType", "multiple_fields",
+                "fields", fieldNames,
+                "timestamp", Instant.now()
+        );
+
+        return new ValidationError(
+                String.format("%d fields failed validation", violations.size()),
+                String.join(", ", fieldNames),
+                details,
+                List.copyOf(violations)
+        );
+    }
+
     public static InvalidStateError invalidState(String entityName, String currentState, String action) {
         Map<String, Object> details = Map.of(
                 "timestamp", Instant.now()
@@ -2,12 +2,14 @@ package com.gusparro.friggsys.domain.exceptions;
 
 import lombok.Getter;
 
+import java.util.List;
 import java.util.Map;
 
 @Getter
 public class ValidationError extends DomainException {
 
     private final String field;
+    private final List<ValidationError> violations;
 
     public ValidationError(String message) {
         this(message, null, null);
@@ -18,9 +20,14 @@ public class ValidationError extends DomainException {
     }
 
     public ValidationError(String message, String field, Map<String, Object> details) {
+        this(message, field, details, List.of());
+    }
+
+    public ValidationError(String message, String field, Map<String, Object> details, List<ValidationError> violations) {
         super(message, details);
 
         this.field = field;
+        this.violations = violations;
     }
 
 }
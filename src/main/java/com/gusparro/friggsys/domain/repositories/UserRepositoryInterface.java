@@ -1,18 +1,23 @@
 package com.gusparro.friggsys.domain.repositories;
 
 import com.gusparro.friggsys.domain.entities.User;
-import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
-import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import com.gusparro.friggsys.domain.enums.UserStatus;
 import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Password;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserRepositoryInterface {
 
     User save(User user);
 
-    DomainPage<User> findAll(PageParameters parameters);
+    Optional<User> insertIfAbsent(User user);
+
+    List<User> insertAllIfAbsent(List<User> users);
 
     Optional<User> findById(UUID id);
 
@@ -22,6 +27,20 @@ public interface UserRepositoryInterface {
 
     boolean existsByEmail(Email email);
 
+    Set<String> findExistingCanonicalEmails(Collection<Email> emails);
+
     void delete(UUID id);
 
+    boolean deleteIfExists(UUID id);
+
+    Optional<User> changeStatus(UUID id, UserStatus status, Long expectedVersion);
+
+    Set<UUID> changeStatusOfAll(Collection<UUID> ids, UserStatus status);
+
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    Set<UUID> deleteAll(Collection<UUID> ids);
+
+    boolean replacePassword(UUID id, Password expected, Password replacement);
+
 }
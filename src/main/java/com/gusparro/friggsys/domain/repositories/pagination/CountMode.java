@@ -0,0 +1,5 @@
+package com.gusparro.friggsys.domain.repositories.pagination;
+
+public enum CountMode {
+    NONE, EXACT, APPROXIMATE
+}
@@ -0,0 +1,22 @@
+package com.gusparro.friggsys.domain.repositories.pagination;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage <T> {
+
+    private List<T> data;
+
+    private String nextCursor;
+
+    private int pageSize;
+
+    private boolean lastPage;
+
+}
@@ -25,4 +25,6 @@ public class DomainPage <T> {
 
     private boolean lastPage;
 
+    private CountMode countMode;
+
 }
@@ -15,4 +15,8 @@ public class PageParameters {
 
     private PageOrder direction;
 
+    private String cursor;
+
+    private CountMode countMode;
+
 }
@@ -0,0 +1,39 @@
+package com.gusparro.friggsys.domain.validation;
+
+import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ValidationErrors {
+
+    private final List<ValidationError> errors = new ArrayList<>();
+
+    public <T> T collect(ValidationResult<T> result) {
+        if (!result.isValid()) {
+            errors.add(result.error());
+        }
+
+        return result.value();
+    }
+
+    public boolean isEmpty() {
+        return errors.isEmpty();
+    }
+
+    public List<ValidationError> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    public void throwIfAny() {
+        if (errors.size() == 1) {
+            throw errors.getFirst();
+        }
+
+        if (!errors.isEmpty()) {
+            throw DomainExceptionFactory.invalidFields(errors);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.gusparro.friggsys.domain.validation;
+
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+
+public record ValidationResult<T>(
+        T value,
+        ValidationError error
+) {
+
+    public static <T> ValidationResult<T> valid(T value) {
+        return new ValidationResult<>(value, null);
+    }
+
+    public static <T> ValidationResult<T> invalid(ValidationError error) {
+        return new ValidationResult<>(null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    public T getOrThrow() {
+        if (error != null) {
+            throw error;
+        }
+
+        return value;
+    }
+
+}
@@ -1,12 +1,14 @@
 package com.gusparro.friggsys.domain.vos;
 
 import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.validation.ValidationResult;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.regex.Pattern;
+import java.util.Locale;
 
 import static lombok.AccessLevel.PRIVATE;
 
@@ -16,44 +18,149 @@ public class Email {
 
     private static final Logger logger = LoggerFactory.getLogger(Email.class);
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
-    );
+    private static final String EMAIL_PATTERN = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+
+    private static final int TOP_LEVEL_DOMAIN_MIN_LENGTH = 2;
 
     private final String email;
 
     public static Email of(String email) {
-        validateIfIsEmpty(email);
+        var error = findError(email);
 
-        String normalized = email.trim().toLowerCase();
+        if (error != null) {
+            throw error;
+        }
 
-        validateIfIsValid(normalized);
+        return new Email(email);
+    }
+
+    public static ValidationResult<Email> validate(String email) {
+        var error = findError(email);
+
+        return error == null ? ValidationResult.valid(new Email(email)) : ValidationResult.invalid(error);
+    }
 
+    public static Email ofTrusted(String email) {
         return new Email(email);
     }
 
-    private static void validateIfIsEmpty(String email) {
+    private static ValidationError findError(String email) {
         if (email == null || email.trim().isEmpty()) {
-            logger.error("Email is null or empty");
+            logger.debug("Email is null or empty");
 
-            throw DomainExceptionFactory.emptyField("email");
+            return DomainExceptionFactory.emptyField("email");
         }
-    }
 
-    private static void validateIfIsValid(String email) {
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
-            logger.error("Invalid email format");
+        if (!isWellFormed(email)) {
+            logger.debug("Invalid email format");
 
-            throw DomainExceptionFactory.invalidPattern(
+            return DomainExceptionFactory.invalidPattern(
                     "email",
-                    EMAIL_PATTERN.pattern(),
+                    EMAIL_PATTERN,
                     "Invalid email format"
             );
         }
+
+        return null;
+    }
+
+    private static boolean isWellFormed(String email) {
+        var start = 0;
+        var end = email.length();
+
+        while (start < end && email.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && email.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (needsLocaleLowerCase(email, start, end)) {
+            var normalized = email.trim().toLowerCase();
+
+            return isWellFormed(normalized, 0, normalized.length());
+        }
+
+        return isWellFormed(email, start, end);
+    }
+
+    private static boolean needsLocaleLowerCase(String email, int start, int end) {
+        for (int i = start; i < end; i++) {
+            var character = email.charAt(i);
+
+            if (character > 0x7F || character == 'I' && hasDotlessLowerCaseI()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasDotlessLowerCaseI() {
+        var language = Locale.getDefault().getLanguage();
+
+        return "tr".equals(language) || "az".equals(language);
+    }
+
+    private static boolean isWellFormed(String email, int start, int end) {
+        var at = start;
+
+        while (at < end && isLocalPartCharacter(email.charAt(at))) {
+            at++;
+        }
+
+        if (at == start || at == end || email.charAt(at) != '@') {
+            return false;
+        }
+
+        var lastDot = -1;
+
+        for (int i = at + 1; i < end; i++) {
+            var character = email.charAt(i);
+
+            if (character == '.') {
+                lastDot = i;
+            } else if (!isLetterOrDigit(character) && character != '-') {
+                return false;
+            }
+        }
+
+        if (lastDot <= at + 1 || end - lastDot - 1 < TOP_LEVEL_DOMAIN_MIN_LENGTH) {
+            return false;
+        }
+
+        for (int i = lastDot + 1; i < end; i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isLocalPartCharacter(char character) {
+        return isLetterOrDigit(character) || character == '+' || character == '_' || character == '.' || character == '-';
+    }
+
+    private static boolean isLetterOrDigit(char character) {
+        return isLetter(character) || character >= '0' && character <= '9';
+    }
+
+    private static boolean isLetter(char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z';
     }
 
     public String getValue() {
         return email;
     }
 
+    public String getCanonicalValue() {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public boolean isSameAddressAs(String other) {
+        return other != null && getCanonicalValue().equals(other.trim().toLowerCase(Locale.ROOT));
+    }
+
 }
@@ -1,6 +1,8 @@
 package com.gusparro.friggsys.domain.vos;
 
 import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.validation.ValidationResult;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import org.slf4j.Logger;
@@ -20,38 +22,46 @@ public class Name {
     private final String name;
 
     public static Name of(String name) {
-        validateIfNameIsEmpty(name);
+        var error = findError(name);
 
-        validateNameMinLength(name);
+        if (error != null) {
+            throw error;
+        }
 
-        validateNameMaxLength(name);
+        return new Name(name);
+    }
 
+    public static ValidationResult<Name> validate(String name) {
+        var error = findError(name);
+
+        return error == null ? ValidationResult.valid(new Name(name)) : ValidationResult.invalid(error);
+    }
+
+    public static Name ofTrusted(String name) {
         return new Name(name);
     }
 
-    private static void validateIfNameIsEmpty(String name) {
+    private static ValidationError findError(String name) {
         if (name == null || name.trim().isEmpty()) {
-            logger.error("Name is null or empty");
+            logger.debug("Name is null or empty");
 
-            throw DomainExceptionFactory.emptyField("name");
+            return DomainExceptionFactory.emptyField("name");
         }
-    }
 
-    private static void validateNameMinLength(String name) {
         if (name.length() < NAME_MIN_LENGTH) {
-            logger.error("Name validation failed: length {} is less than minimum {}",
+            logger.debug("Name validation failed: length {} is less than minimum {}",
                     name.length(), NAME_MIN_LENGTH);
 
-            throw DomainExceptionFactory.minLength("name", NAME_MIN_LENGTH, name.length());
+            return DomainExceptionFactory.minLength("name", NAME_MIN_LENGTH, name.length());
         }
-    }
 
-    private static void validateNameMaxLength(String name) {
         if (name.length() > NAME_MAX_LENGTH) {
-            logger.error("Name length is greater than {}", NAME_MAX_LENGTH);
+            logger.debug("Name length is greater than {}", NAME_MAX_LENGTH);
 
-            throw DomainExceptionFactory.maxLength("name", NAME_MAX_LENGTH, name.length());
+            return DomainExceptionFactory.maxLength("name", NAME_MAX_LENGTH, name.length());
         }
+
+        return null;
     }
 
     public String getValue() {
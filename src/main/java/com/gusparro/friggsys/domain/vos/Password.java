@@ -1,13 +1,13 @@
 package com.gusparro.friggsys.domain.vos;
 
 import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.validation.ValidationResult;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.regex.Pattern;
-
 import static lombok.AccessLevel.PRIVATE;
 
 @EqualsAndHashCode
@@ -19,19 +19,36 @@ public class Password {
     private static final int PASSWORD_MIN_LENGTH = 8;
     private static final int PASSWORD_MAX_LENGTH = 50;
 
-    private static final Pattern DIGIT_PATTERN = Pattern.compile(".*\\d.*");
-    private static final Pattern UPPERCASE_PATTERN = Pattern.compile(".*[A-Z].*");
-    private static final Pattern LOWERCASE_PATTERN = Pattern.compile(".*[a-z].*");
-    private static final Pattern SPECIAL_CHARACTER_PATTERN = Pattern.compile(".*[!@#$%^&*(),.?\":{}|<>].*");
+    private static final String DIGIT_PATTERN = ".*\\d.*";
+    private static final String UPPERCASE_PATTERN = ".*[A-Z].*";
+    private static final String LOWERCASE_PATTERN = ".*[a-z].*";
+    private static final String SPECIAL_CHARACTER_PATTERN = ".*[!@#$%^&*(),.?\":{}|<>].*";
+
+    private static final String SPECIAL_CHARACTERS = "!@#$%^&*(),.?\":{}|<>";
+
+    private static final int DIGIT = 1;
+    private static final int UPPERCASE_LETTER = 1 << 1;
+    private static final int LOWERCASE_LETTER = 1 << 2;
+    private static final int SPECIAL_CHARACTER = 1 << 3;
 
     private final String password;
 
     public static Password ofRaw(String rawPassword) {
-        validateRawPassword(rawPassword);
+        var error = findError(rawPassword);
+
+        if (error != null) {
+            throw error;
+        }
 
         return new Password(rawPassword);
     }
 
+    public static ValidationResult<Password> validateRaw(String rawPassword) {
+        var error = findError(rawPassword);
+
+        return error == null ? ValidationResult.valid(new Password(rawPassword)) : ValidationResult.invalid(error);
+    }
+
     public static Password ofHash(String hash) {
         if (hash == null || hash.trim().isEmpty()) {
             logger.error("Invalid hash provided: hash is null or empty");
@@ -42,94 +59,97 @@ public class Password {
         return new Password(hash);
     }
 
-    private static void validateRawPassword(String password) {
-        validateIfIsEmpty(password);
-
-        validateMinLength(password);
-
-        validateMaxLength(password);
-
-        hasSomeDigit(password);
-
-        hasSomeUppercaseLetter(password);
-
-        hasSomeLowercaseLetter(password);
-
-        hasSomeSpecialCharacter(password);
-    }
-
-    private static void validateIfIsEmpty(String password) {
+    private static ValidationError findError(String password) {
         if (password == null || password.trim().isEmpty()) {
-            logger.error("Password validation failed: password is null or empty");
+            logger.debug("Password validation failed: password is null or empty");
 
-            throw DomainExceptionFactory.emptyField("password");
+            return DomainExceptionFactory.emptyField("password");
         }
-    }
 
-    private static void validateMinLength(String password) {
         if (password.length() < PASSWORD_MIN_LENGTH) {
-            logger.error("Password validation failed: length {} is less than minimum {}",
+            logger.debug("Password validation failed: length {} is less than minimum {}",
                     password.length(), PASSWORD_MIN_LENGTH);
 
-            throw DomainExceptionFactory.minLength("password", PASSWORD_MIN_LENGTH, password.length());
+            return DomainExceptionFactory.minLength("password", PASSWORD_MIN_LENGTH, password.length());
         }
-    }
 
-    private static void validateMaxLength(String password) {
         if (password.length() > PASSWORD_MAX_LENGTH) {
-            logger.error("Password validation failed: length {} exceeds maximum {}",
+            logger.debug("Password validation failed: length {} exceeds maximum {}",
                     password.length(), PASSWORD_MAX_LENGTH);
 
-            throw DomainExceptionFactory.maxLength("password", PASSWORD_MAX_LENGTH, password.length());
+            return DomainExceptionFactory.maxLength("password", PASSWORD_MAX_LENGTH, password.length());
         }
-    }
 
-    private static void hasSomeDigit(String password) {
-        if (!DIGIT_PATTERN.matcher(password).matches()) {
-            logger.error("Password validation failed: password does not contain digits");
+        var characterClasses = scanCharacterClasses(password);
 
-            throw DomainExceptionFactory.invalidPattern(
+        if ((characterClasses & DIGIT) == 0) {
+            logger.debug("Password validation failed: password does not contain digits");
+
+            return DomainExceptionFactory.invalidPattern(
                     "password",
-                    DIGIT_PATTERN.pattern(),
+                    DIGIT_PATTERN,
                     "At least one digit (0-9)"
             );
         }
-    }
 
-    private static void hasSomeUppercaseLetter(String password) {
-        if (!UPPERCASE_PATTERN.matcher(password).matches()) {
-            logger.error("Password validation failed: password does not contain uppercase letters");
+        if ((characterClasses & UPPERCASE_LETTER) == 0) {
+            logger.debug("Password validation failed: password does not contain uppercase letters");
 
-            throw DomainExceptionFactory.invalidPattern(
+            return DomainExceptionFactory.invalidPattern(
                     "password",
-                    UPPERCASE_PATTERN.pattern(),
+                    UPPERCASE_PATTERN,
                     "At least one uppercase letter (A-Z)"
             );
         }
-    }
 
-    private static void hasSomeLowercaseLetter(String password) {
-        if (!LOWERCASE_PATTERN.matcher(password).matches()) {
-            logger.error("Password validation failed: password does not contain lowercase letters");
+        if ((characterClasses & LOWERCASE_LETTER) == 0) {
+            logger.debug("Password validation failed: password does not contain lowercase letters");
 
-            throw DomainExceptionFactory.invalidPattern(
+            return DomainExceptionFactory.invalidPattern(
                     "password",
-                    LOWERCASE_PATTERN.pattern(),
+                    LOWERCASE_PATTERN,
                     "At least one lowercase letter (a-z)"
             );
         }
-    }
 
-    private static void hasSomeSpecialCharacter(String password) {
-        if (!SPECIAL_CHARACTER_PATTERN.matcher(password).matches()) {
-            logger.error("Password validation failed: password does not contain special characters");
+        if ((characterClasses & SPECIAL_CHARACTER) == 0) {
+            logger.debug("Password validation failed: password does not contain special characters");
 
-            throw DomainExceptionFactory.invalidPattern(
+            return DomainExceptionFactory.invalidPattern(
                     "password",
-                    SPECIAL_CHARACTER_PATTERN.pattern(),
+                    SPECIAL_CHARACTER_PATTERN,
                     "At least one special character (!@#$%^&*(),.?\":{}|<>)"
             );
         }
+
+        return null;
+    }
+
+    private static int scanCharacterClasses(String password) {
+        var characterClasses = 0;
+
+        for (int i = 0; i < password.length(); i++) {
+            var character = password.charAt(i);
+
+            if (character >= '0' && character <= '9') {
+                characterClasses |= DIGIT;
+            } else if (character >= 'A' && character <= 'Z') {
+                characterClasses |= UPPERCASE_LETTER;
+            } else if (character >= 'a' && character <= 'z') {
+                characterClasses |= LOWERCASE_LETTER;
+            } else if (SPECIAL_CHARACTERS.indexOf(character) >= 0) {
+                characterClasses |= SPECIAL_CHARACTER;
+            } else if (isLineTerminator(character)) {
+                return 0;
+            }
+        }
+
+        return characterClasses;
+    }
+
+    private static boolean isLineTerminator(char character) {
+        return character == '\n' || character == '\r' || character == '\u0085'
+                || character == '\u2028' || character == '\u2029';
     }
 
     public String getValue() {
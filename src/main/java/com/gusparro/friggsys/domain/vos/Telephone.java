@@ -1,13 +1,13 @@
 package com.gusparro.friggsys.domain.vos;
 
 import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.validation.ValidationResult;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.regex.Pattern;
-
 import static lombok.AccessLevel.PRIVATE;
 
 @EqualsAndHashCode
@@ -16,39 +16,82 @@ public class Telephone {
 
     private static final Logger logger = LoggerFactory.getLogger(Password.class);
 
-    private static final Pattern TELEPHONE_PATTERN = Pattern.compile("^\\(\\d{2}\\) \\d{4,5}-\\d{4}$");
+    private static final String TELEPHONE_PATTERN = "^\\(\\d{2}\\) \\d{4,5}-\\d{4}$";
+
+    private static final int SHORT_TELEPHONE_LENGTH = 14;
+    private static final int LONG_TELEPHONE_LENGTH = 15;
+    private static final int SUBSCRIBER_SUFFIX_LENGTH = 4;
 
     private final String telephone;
 
     public static Telephone of(String telephone) {
-        validate(telephone);
+        var error = findError(telephone);
+
+        if (error != null) {
+            throw error;
+        }
 
         return new Telephone(telephone);
     }
 
-    private static void validate(String telephone) {
-        validateIfIsEmpty(telephone);
-        validateIfIsValid(telephone);
+    public static ValidationResult<Telephone> validate(String telephone) {
+        var error = findError(telephone);
+
+        return error == null ? ValidationResult.valid(new Telephone(telephone)) : ValidationResult.invalid(error);
     }
 
-    private static void validateIfIsEmpty(String telephone) {
+    public static Telephone ofTrusted(String telephone) {
+        return new Telephone(telephone);
+    }
+
+    private static ValidationError findError(String telephone) {
         if (telephone == null || telephone.trim().isEmpty()) {
-            logger.error("Telephone validation failed: telephone is null or empty");
+            logger.debug("Telephone validation failed: telephone is null or empty");
 
-            throw DomainExceptionFactory.emptyField("telephone");
+            return DomainExceptionFactory.emptyField("telephone");
         }
-    }
 
-    private static void validateIfIsValid(String telephone) {
-        if (!TELEPHONE_PATTERN.matcher(telephone).matches()) {
-            logger.error("Invalid telephone format");
+        if (!isWellFormed(telephone)) {
+            logger.debug("Invalid telephone format");
 
-            throw DomainExceptionFactory.invalidPattern(
+            return DomainExceptionFactory.invalidPattern(
                     "telephone",
-                    TELEPHONE_PATTERN.pattern(),
+                    TELEPHONE_PATTERN,
                     "Invalid telephone format"
             );
         }
+
+        return null;
+    }
+
+    private static boolean isWellFormed(String telephone) {
+        var length = telephone.length();
+
+        if (length != SHORT_TELEPHONE_LENGTH && length != LONG_TELEPHONE_LENGTH) {
+            return false;
+        }
+
+        var hyphen = length - SUBSCRIBER_SUFFIX_LENGTH - 1;
+
+        return telephone.charAt(0) == '('
+                && isDigits(telephone, 1, 3)
+                && telephone.charAt(3) == ')'
+                && telephone.charAt(4) == ' '
+                && isDigits(telephone, 5, hyphen)
+                && telephone.charAt(hyphen) == '-'
+                && isDigits(telephone, hyphen + 1, length);
+    }
+
+    private static boolean isDigits(String telephone, int start, int end) {
+        for (int i = start; i < end; i++) {
+            var character = telephone.charAt(i);
+
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     public String getValue() {
@@ -36,6 +36,22 @@ public final class UseCaseExceptionFactory {
         return new EntityNotFoundError(entityName, identifierType, identifier, details);
     }
 
+    public static VersionMismatchError versionMismatchError(String entityName,
+                                                            String identifier,
+                                                            Long expectedVersion,
+                                                            Long currentVersion,
+                                                            String operation) {
+        Map<String, Object> details = new HashMap<>();
+        details.put("checkedAt", Instant.now());
+        details.put("resourceType", entityName);
+        details.put("identifier", identifier);
+        details.put("expectedVersion", expectedVersion);
+        details.put("currentVersion", currentVersion);
+        details.put("operation", operation);
+
+        return new VersionMismatchError(entityName, expectedVersion, currentVersion, details);
+    }
+
     public static MatchingError matchingError(String entityName,
                                               String fieldName,
                                               String operation) {
@@ -0,0 +1,23 @@
+package com.gusparro.friggsys.usecase.exceptions;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class VersionMismatchError extends UseCaseException {
+
+    private final String entityName;
+    private final Long expectedVersion;
+    private final Long currentVersion;
+
+    public VersionMismatchError(String entityName, Long expectedVersion, Long currentVersion, Map<String, Object> details) {
+        super(String.format("%s is at version '%s', not at the expected version '%s'",
+                entityName, currentVersion, expectedVersion), details);
+
+        this.entityName = entityName;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+
+}
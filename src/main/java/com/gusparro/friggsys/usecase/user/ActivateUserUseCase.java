@@ -1,5 +1,7 @@
 package com.gusparro.friggsys.usecase.user;
 
+import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.enums.UserStatus;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
@@ -20,6 +22,31 @@ public class ActivateUserUseCase {
     private final UserRepositoryInterface repository;
 
     public UserOutput execute(UUID id) {
+        return execute(id, null);
+    }
+
+    public UserOutput execute(UUID id, Long expectedVersion) {
+        return repository.changeStatus(id, UserStatus.ACTIVE, expectedVersion)
+                .map(UserOutput::from)
+                .orElseGet(() -> retryAfterRejection(id, expectedVersion));
+    }
+
+    private UserOutput retryAfterRejection(UUID id, Long expectedVersion) {
+        var rejected = classifyRejection(id, expectedVersion);
+
+        return repository.changeStatus(id, UserStatus.ACTIVE, expectedVersion)
+                .map(UserOutput::from)
+                .orElseThrow(() -> {
+                    var current = classifyRejection(id, expectedVersion);
+
+                    logger.error("User with ID {} changed again while being activated", id);
+
+                    return UseCaseExceptionFactory.versionMismatchError("User", id.toString(),
+                            rejected.getVersion(), current.getVersion(), "activate");
+                });
+    }
+
+    private User classifyRejection(UUID id, Long expectedVersion) {
         var user = repository.findById(id).orElseThrow(() -> {
             logger.error("User with ID {} does not exists", id);
 
@@ -29,11 +56,17 @@ public class ActivateUserUseCase {
                     "activate");
         });
 
-        user.activate();
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            logger.error("User with ID {} is not at version {}", id, expectedVersion);
+
+            throw UseCaseExceptionFactory.versionMismatchError("User", id.toString(), expectedVersion,
+                    user.getVersion(), "activate");
+        }
 
-        var updatedUser = repository.save(user);
+        // Only checks the transition on the re-read copy; the write stays the conditional update.
+        user.activate();
 
-        return UserOutput.from(updatedUser);
+        return user;
     }
 
 }
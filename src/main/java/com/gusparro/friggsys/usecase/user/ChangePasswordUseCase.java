@@ -1,16 +1,19 @@
 package com.gusparro.friggsys.usecase.user;
 
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.domain.vos.Password;
 import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
 import com.gusparro.friggsys.usecase.user.dtos.ChangePasswordInput;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
 import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
 
 @RequiredArgsConstructor
 
@@ -21,8 +24,9 @@ public class ChangePasswordUseCase {
 
     private final UserRepositoryInterface repository;
     private final PasswordEncoderService encoder;
+    private final UnitOfWorkService unitOfWork;
+    private final RehashPasswordUseCase rehashPasswordUseCase;
 
-    @Transactional
     public UserOutput execute(ChangePasswordInput input) {
         var user = repository.findById(input.id()).orElseThrow(() -> {
             logger.error("User with ID {} does not exists", input.id());
@@ -33,20 +37,39 @@ public class ChangePasswordUseCase {
                     "change_password");
         });
 
-        if (!encoder.matches(input.currentPassword(), user.getPassword())) {
+        if (input.expectedVersion() != null && !input.expectedVersion().equals(user.getVersion())) {
+            logger.error("User with ID {} is not at version {}", input.id(), input.expectedVersion());
+
+            throw UseCaseExceptionFactory.versionMismatchError("User", input.id().toString(),
+                    input.expectedVersion(), user.getVersion(), "change_password");
+        }
+
+        var currentHash = user.getPassword();
+
+        if (!encoder.matches(input.currentPassword(), currentHash)) {
             throw UseCaseExceptionFactory.matchingError("User",
                     "password",
                     "change_password");
         }
 
-        var newRawPassword = Password.ofRaw(input.newPassword());
+        var newRawPassword = validateNewPassword(input, user.getId(), currentHash);
         var newEncryptedPassword = encoder.encrypt(newRawPassword);
 
         user.changePassword(newEncryptedPassword);
 
-        var updatedUser = repository.save(user);
+        var updatedUser = unitOfWork.execute("change_password", () -> repository.save(user));
 
         return UserOutput.from(updatedUser);
     }
 
+    private Password validateNewPassword(ChangePasswordInput input, UUID id, String currentHash) {
+        try {
+            return Password.ofRaw(input.newPassword());
+        } catch (ValidationError error) {
+            rehashPasswordUseCase.execute(id, input.currentPassword(), currentHash);
+
+            throw error;
+        }
+    }
+
 }
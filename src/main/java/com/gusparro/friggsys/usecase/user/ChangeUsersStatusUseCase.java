@@ -0,0 +1,52 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.UserBatchOutput;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+
+@Service
+public class ChangeUsersStatusUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeUsersStatusUseCase.class);
+
+    private final UserRepositoryInterface repository;
+
+    public List<UserBatchOutput> execute(Collection<UUID> ids, UserStatus status) {
+        var requested = new LinkedHashSet<>(ids);
+        var changed = repository.changeStatusOfAll(requested, status);
+        var unchanged = requested.stream()
+                .filter(id -> !changed.contains(id))
+                .toList();
+        var existing = unchanged.isEmpty() ? Set.<UUID>of() : repository.findExistingIds(unchanged);
+
+        var outputs = requested.stream()
+                .map(id -> new UserBatchOutput(id, outcomeOf(id, changed, existing)))
+                .toList();
+
+        logger.info("Changed {} of {} requested users to {}", changed.size(), requested.size(), status);
+
+        return outputs;
+    }
+
+    private static BatchOutcome outcomeOf(UUID id, Set<UUID> changed, Set<UUID> existing) {
+        if (changed.contains(id)) {
+            return BatchOutcome.CHANGED;
+        }
+
+        return existing.contains(id) ? BatchOutcome.ALREADY_IN_STATE : BatchOutcome.NOT_FOUND;
+    }
+
+}
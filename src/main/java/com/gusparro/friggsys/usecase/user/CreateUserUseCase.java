@@ -2,6 +2,7 @@ package com.gusparro.friggsys.usecase.user;
 
 import com.gusparro.friggsys.domain.entities.User;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.validation.ValidationErrors;
 import com.gusparro.friggsys.domain.vos.Email;
 import com.gusparro.friggsys.domain.vos.Name;
 import com.gusparro.friggsys.domain.vos.Password;
@@ -10,11 +11,11 @@ import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
 import com.gusparro.friggsys.usecase.user.dtos.CreateUserInput;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
 import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 
@@ -25,24 +26,26 @@ public class CreateUserUseCase {
 
     private final UserRepositoryInterface repository;
     private final PasswordEncoderService encoder;
+    private final UnitOfWorkService unitOfWork;
 
-    @Transactional
     public UserOutput execute(CreateUserInput input) {
-        var name = Name.of(input.name());
-        var email = Email.of(input.email());
-        var telephone = Telephone.of(input.telephone());
+        var errors = new ValidationErrors();
+        var name = errors.collect(Name.validate(input.name()));
+        var email = errors.collect(Email.validate(input.email()));
+        var telephone = errors.collect(Telephone.validate(input.telephone()));
+        var rawPassword = errors.collect(Password.validateRaw(input.password()));
 
-        if (repository.existsByEmail(email)) {
-            logger.error("User with email {} already exists", email);
+        errors.throwIfAny();
 
-            throw UseCaseExceptionFactory.duplicateEmailError(email.getValue());
-        }
-
-        var rawPassword = Password.ofRaw(input.password());
         var encryptedPassword = encoder.encrypt(rawPassword);
-
         var user = User.create(name, email, telephone, encryptedPassword);
-        var savedUser = repository.save(user);
+
+        var savedUser = unitOfWork.execute("create_user", () -> repository.insertIfAbsent(user))
+                .orElseThrow(() -> {
+                    logger.error("User with email {} already exists", email.getValue());
+
+                    return UseCaseExceptionFactory.duplicateEmailError(email.getValue());
+                });
 
         return UserOutput.from(savedUser);
     }
@@ -0,0 +1,118 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.validation.ValidationErrors;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Name;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.domain.vos.Telephone;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.CreateUserInput;
+import com.gusparro.friggsys.usecase.user.dtos.UserCreationOutput;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.EmailPresenceService;
+import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@RequiredArgsConstructor
+
+@Service
+public class CreateUsersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreateUsersUseCase.class);
+
+    private final UserRepositoryInterface repository;
+    private final PasswordEncoderService encoder;
+    private final UnitOfWorkService unitOfWork;
+    private final EmailPresenceService emailPresence;
+
+    public List<UserCreationOutput> execute(List<CreateUserInput> inputs) {
+        var outputs = new UserCreationOutput[inputs.size()];
+        List<Candidate> candidates = new ArrayList<>();
+
+        for (int index = 0; index < inputs.size(); index++) {
+            var input = inputs.get(index);
+            var errors = new ValidationErrors();
+            var name = errors.collect(Name.validate(input.name()));
+            var email = errors.collect(Email.validate(input.email()));
+            var telephone = errors.collect(Telephone.validate(input.telephone()));
+            var rawPassword = errors.collect(Password.validateRaw(input.password()));
+
+            if (errors.isEmpty()) {
+                candidates.add(new Candidate(index, name, email, telephone, rawPassword));
+            } else {
+                outputs[index] = new UserCreationOutput(index, BatchOutcome.INVALID, null, fieldErrorsOf(errors));
+            }
+        }
+
+        var probableEmails = candidates.stream().map(Candidate::email).filter(emailPresence::mightExist).toList();
+        var existingEmails = probableEmails.isEmpty()
+                ? Set.<String>of()
+                : repository.findExistingCanonicalEmails(probableEmails);
+        var takenEmails = new HashSet<>(existingEmails);
+        List<Candidate> accepted = new ArrayList<>();
+
+        for (var candidate : candidates) {
+            if (takenEmails.add(candidate.email().getCanonicalValue())) {
+                accepted.add(candidate);
+            } else {
+                outputs[candidate.index()] = duplicateEmail(candidate);
+            }
+        }
+
+        var created = 0;
+
+        if (!accepted.isEmpty()) {
+            var encryptedPasswords = encoder.encryptAll(accepted.stream().map(Candidate::rawPassword).toList());
+            List<User> users = new ArrayList<>(accepted.size());
+
+            for (int position = 0; position < accepted.size(); position++) {
+                var candidate = accepted.get(position);
+                users.add(User.create(candidate.name(), candidate.email(), candidate.telephone(),
+                        encryptedPasswords.get(position)));
+            }
+
+            var insertedUsers = unitOfWork.execute("create_users", () -> repository.insertAllIfAbsent(users));
+            Map<String, User> insertedByEmail = new HashMap<>();
+
+            insertedUsers.forEach(user -> insertedByEmail.put(user.getCanonicalEmail(), user));
+
+            for (var candidate : accepted) {
+                var inserted = insertedByEmail.get(candidate.email().getCanonicalValue());
+
+                outputs[candidate.index()] = inserted != null
+                        ? new UserCreationOutput(candidate.index(), BatchOutcome.CREATED, UserOutput.from(inserted), Map.of())
+                        : duplicateEmail(candidate);
+            }
+
+            created = insertedUsers.size();
+        }
+
+        logger.info("Created {} of {} requested users", created, inputs.size());
+
+        return List.of(outputs);
+    }
+
+    private static UserCreationOutput duplicateEmail(Candidate candidate) {
+        return new UserCreationOutput(candidate.index(), BatchOutcome.DUPLICATE_EMAIL, null,
+                Map.of("email", "A user with this e-mail address already exists"));
+    }
+
+    private static Map<String, String> fieldErrorsOf(ValidationErrors errors) {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+
+        errors.getErrors().forEach(error -> fieldErrors.putIfAbsent(error.getField(), error.getMessage()));
+
+        return fieldErrors;
+    }
+
+    private record Candidate(int index, Name name, Email email, Telephone telephone, Password rawPassword) {}
+
+}
@@ -21,7 +21,7 @@ public class DeleteUserUseCase {
 
     @Transactional
     public void execute(UUID id) {
-        if (!repository.existsById(id)) {
+        if (!repository.deleteIfExists(id)) {
             logger.error("User with ID {} does not exists", id);
 
             throw  UseCaseExceptionFactory.entityNotFoundError("User",
@@ -29,8 +29,6 @@ public class DeleteUserUseCase {
                     id.toString(),
                     "delete");
         }
-
-        repository.delete(id);
     }
 
 }
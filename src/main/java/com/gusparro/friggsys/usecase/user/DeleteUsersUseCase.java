@@ -0,0 +1,36 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.UserBatchOutput;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+
+@Service
+public class DeleteUsersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeleteUsersUseCase.class);
+
+    private final UserRepositoryInterface repository;
+
+    public List<UserBatchOutput> execute(Collection<UUID> ids) {
+        var requested = new LinkedHashSet<>(ids);
+        var deleted = repository.deleteAll(requested);
+
+        logger.info("Deleted {} of {} requested users", deleted.size(), requested.size());
+
+        return requested.stream()
+                .map(id -> new UserBatchOutput(id, deleted.contains(id) ? BatchOutcome.DELETED : BatchOutcome.NOT_FOUND))
+                .toList();
+    }
+
+}
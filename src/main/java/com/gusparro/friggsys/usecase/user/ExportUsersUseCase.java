@@ -0,0 +1,29 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UserExportService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+
+@Service
+public class ExportUsersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportUsersUseCase.class);
+
+    private final UserExportService exportService;
+
+    public long execute(boolean parallel, Consumer<UserOutput> sink) {
+        var exported = parallel ? exportService.forEachUserInParallel(sink) : exportService.forEachUser(sink);
+
+        logger.info("Exported {} users{}", exported, parallel ? " from a shared snapshot in parallel" : "");
+
+        return exported;
+    }
+
+}
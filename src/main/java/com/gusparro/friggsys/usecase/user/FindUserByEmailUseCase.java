@@ -1,15 +1,18 @@
 package com.gusparro.friggsys.usecase.user;
 
-import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.domain.vos.Email;
 import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.EmailPresenceService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserLookupCacheService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 
@@ -18,12 +21,19 @@ public class FindUserByEmailUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(FindUserByEmailUseCase.class);
 
-    private final UserRepositoryInterface repository;
+    private final UserQueryService queries;
+    private final UnitOfWorkService unitOfWork;
+    private final EmailPresenceService emailPresence;
+    private final UserLookupCacheService lookupCache;
 
     public UserOutput execute(String email) {
         var emailVO = Email.of(email);
 
-        var user = repository.findByEmail(emailVO).orElseThrow(() -> {
+        var user = lookupCache.findByEmail(emailVO, () -> emailPresence.mightExist(emailVO)
+                ? unitOfWork.read("find_by_email", () -> queries.findByEmail(emailVO))
+                : Optional.empty());
+
+        return user.orElseThrow(() -> {
             logger.error("User with Email {} does not exists", email);
 
             return UseCaseExceptionFactory.entityNotFoundError("User",
@@ -31,8 +41,6 @@ public class FindUserByEmailUseCase {
                     email,
                     "find_by_email");
         });
-
-        return UserOutput.from(user);
     }
 
 }
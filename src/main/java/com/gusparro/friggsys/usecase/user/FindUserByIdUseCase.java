@@ -1,8 +1,10 @@
 package com.gusparro.friggsys.usecase.user;
 
-import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserLookupCacheService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,19 +19,20 @@ public class FindUserByIdUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(FindUserByIdUseCase.class);
 
-    private final UserRepositoryInterface repository;
+    private final UserQueryService queries;
+    private final UnitOfWorkService unitOfWork;
+    private final UserLookupCacheService lookupCache;
 
     public UserOutput execute(UUID id) {
-        var user = repository.findById(id).orElseThrow(() -> {
-            logger.error("User with ID {} does not exists", id);
-
-            return UseCaseExceptionFactory.entityNotFoundError("User",
-                    "ID",
-                    id.toString(),
-                    "find_by_id");
-        });
-
-        return UserOutput.from(user);
+        return lookupCache.findById(id, () -> unitOfWork.read("find_by_id", () -> queries.findById(id)))
+                .orElseThrow(() -> {
+                    logger.error("User with ID {} does not exists", id);
+
+                    return UseCaseExceptionFactory.entityNotFoundError("User",
+                            "ID",
+                            id.toString(),
+                            "find_by_id");
+                });
     }
 
 }
@@ -0,0 +1,43 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+import com.gusparro.friggsys.usecase.user.services.UserImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+
+@Service
+public class FindUserImportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(FindUserImportUseCase.class);
+
+    static final int MAX_ERROR_PAGE_SIZE = 500;
+
+    private final UserImportJobService jobs;
+
+    public ImportJobOutput execute(UUID jobId) {
+        return jobs.findById(jobId).orElseThrow(() -> {
+            logger.error("User import job with ID {} does not exists", jobId);
+
+            return UseCaseExceptionFactory.entityNotFoundError("UserImport",
+                    "ID",
+                    jobId.toString(),
+                    "find_import");
+        });
+    }
+
+    public List<ImportRowError> findErrors(UUID jobId, int page, int size) {
+        execute(jobId);
+
+        return jobs.findErrors(jobId, Math.max(0, page), Math.clamp(size, 1, MAX_ERROR_PAGE_SIZE));
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.repositories.pagination.CursorPage;
+import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+
+@Service
+public class FindUsersByCursorUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(FindUsersByCursorUseCase.class);
+
+    private final UserQueryService queries;
+    private final UnitOfWorkService unitOfWork;
+
+    public CursorPage<UserOutput> execute(PageParameters parameters) {
+        return unitOfWork.read("find_users_by_cursor", () -> queries.findAllByCursor(parameters));
+    }
+
+}
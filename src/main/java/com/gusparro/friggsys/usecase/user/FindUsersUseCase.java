@@ -1,9 +1,10 @@
 package com.gusparro.friggsys.usecase.user;
 
-import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
 import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,24 +17,11 @@ public class FindUsersUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(FindUsersUseCase.class);
 
-    private final UserRepositoryInterface repository;
+    private final UserQueryService queries;
+    private final UnitOfWorkService unitOfWork;
 
     public DomainPage<UserOutput> execute(PageParameters parameters) {
-        var page = repository.findAll(parameters);
-        var output = page.getData()
-                .stream()
-                .map(UserOutput::from)
-                .toList();
-
-        return DomainPage.<UserOutput>builder()
-                .data(output)
-                .dataAmount(page.getDataAmount())
-                .pagesAmount(page.getPagesAmount())
-                .pageNumber(page.getPageNumber())
-                .pageSize(page.getPageSize())
-                .firstPage(page.isFirstPage())
-                .lastPage(page.isLastPage())
-                .build();
+        return unitOfWork.read("find_users", () -> queries.findAll(parameters));
     }
 
 }
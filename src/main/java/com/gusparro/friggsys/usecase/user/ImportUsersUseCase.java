@@ -0,0 +1,152 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.validation.ValidationErrors;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Name;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.domain.vos.Telephone;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+import com.gusparro.friggsys.usecase.user.dtos.StagedUser;
+import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserImportJobService;
+import com.gusparro.friggsys.usecase.user.services.UserImportStagingService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@RequiredArgsConstructor
+
+@Service
+public class ImportUsersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportUsersUseCase.class);
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final UserImportJobService jobs;
+    private final UserImportStagingService staging;
+    private final PasswordEncoderService encoder;
+    private final UnitOfWorkService unitOfWork;
+
+    public ImportJobOutput start(ImportFormat format) {
+        var job = jobs.start(format);
+
+        logger.info("User import job {} started for a {} file", job.id(), format);
+
+        return job;
+    }
+
+    public void execute(UUID jobId, Iterator<ImportRowInput> rows) {
+        try {
+            List<ImportRowInput> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(jobId, chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                importChunk(jobId, chunk);
+            }
+
+            jobs.finish(jobId, ImportJobStatus.COMPLETED, null);
+
+            logger.info("User import job {} completed", jobId);
+        } catch (RuntimeException exception) {
+            fail(jobId, exception.getMessage());
+        }
+    }
+
+    public void fail(UUID jobId, String reason) {
+        logger.error("User import job {} failed: {}", jobId, reason);
+
+        jobs.finish(jobId, ImportJobStatus.FAILED, reason);
+    }
+
+    private void importChunk(UUID jobId, List<ImportRowInput> chunk) {
+        var validations = chunk.parallelStream()
+                .map(ImportUsersUseCase::validate)
+                .toList();
+
+        List<ImportRowError> errors = new ArrayList<>();
+        List<StagedUser> candidates = new ArrayList<>();
+
+        for (var validation : validations) {
+            if (validation.error() != null) {
+                errors.add(validation.error());
+            } else {
+                candidates.add(validation.candidate());
+            }
+        }
+
+        var staged = candidates.isEmpty() ? List.<StagedUser>of() : hashPasswords(candidates);
+
+        unitOfWork.execute("import_users", () -> {
+            var duplicateLines = staging.load(jobId, staged);
+
+            duplicateLines.forEach(lineNumber -> errors.add(new ImportRowError(lineNumber,
+                    BatchOutcome.DUPLICATE_EMAIL, Map.of("email", "A user with this e-mail address already exists"))));
+            errors.sort(Comparator.comparingLong(ImportRowError::lineNumber));
+
+            jobs.recordProgress(jobId, chunk.size(), staged.size() - duplicateLines.size(), errors);
+
+            return null;
+        });
+    }
+
+    private List<StagedUser> hashPasswords(List<StagedUser> candidates) {
+        var encryptedPasswords = encoder.encryptAllWithBackoff(candidates.stream().map(StagedUser::password).toList());
+        List<StagedUser> staged = new ArrayList<>(candidates.size());
+
+        for (int position = 0; position < candidates.size(); position++) {
+            var candidate = candidates.get(position);
+            staged.add(new StagedUser(candidate.lineNumber(), candidate.name(), candidate.email(),
+                    candidate.telephone(), encryptedPasswords.get(position)));
+        }
+
+        return staged;
+    }
+
+    private static RowValidation validate(ImportRowInput row) {
+        if (row.parseError() != null) {
+            return RowValidation.rejected(row.lineNumber(), Map.of("row", row.parseError()));
+        }
+
+        var errors = new ValidationErrors();
+        var name = errors.collect(Name.validate(row.name()));
+        var email = errors.collect(Email.validate(row.email()));
+        var telephone = errors.collect(Telephone.validate(row.telephone()));
+        var rawPassword = errors.collect(Password.validateRaw(row.password()));
+
+        if (!errors.isEmpty()) {
+            Map<String, String> fieldErrors = new LinkedHashMap<>();
+            errors.getErrors().forEach(error -> fieldErrors.putIfAbsent(error.getField(), error.getMessage()));
+
+            return RowValidation.rejected(row.lineNumber(), fieldErrors);
+        }
+
+        return new RowValidation(new StagedUser(row.lineNumber(), name, email, telephone, rawPassword), null);
+    }
+
+    private record RowValidation(StagedUser candidate, ImportRowError error) {
+
+        static RowValidation rejected(long lineNumber, Map<String, String> fieldErrors) {
+            return new RowValidation(null, new ImportRowError(lineNumber, BatchOutcome.INVALID, fieldErrors));
+        }
+
+    }
+
+}
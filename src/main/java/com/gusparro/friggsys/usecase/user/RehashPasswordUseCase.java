@@ -0,0 +1,47 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.usecase.user.services.BackgroundWriteService;
+import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+
+@Service
+public class RehashPasswordUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RehashPasswordUseCase.class);
+
+    private final UserRepositoryInterface repository;
+    private final PasswordEncoderService encoder;
+    private final UnitOfWorkService unitOfWork;
+    private final BackgroundWriteService backgroundWrites;
+
+    public CompletableFuture<Boolean> execute(UUID id, String verifiedRawPassword, String verifiedHash) {
+        if (!encoder.needsRehash(verifiedHash)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        var expected = Password.ofHash(verifiedHash);
+
+        return encoder.encryptInBackground(verifiedRawPassword)
+                .thenApplyAsync(replacement -> unitOfWork.execute("rehash_password",
+                        () -> repository.replacePassword(id, expected, replacement)), backgroundWrites::execute)
+                .whenComplete((replaced, error) -> {
+                    if (error != null) {
+                        logger.warn("Password hash upgrade for user {} skipped: {}", id, error.getMessage());
+                    } else if (Boolean.FALSE.equals(replaced)) {
+                        logger.debug("Password hash of user {} changed before the upgrade, keeping it", id);
+                    }
+                });
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.gusparro.friggsys.usecase.user;
 
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.validation.ValidationErrors;
 import com.gusparro.friggsys.domain.vos.Email;
 import com.gusparro.friggsys.domain.vos.Name;
 import com.gusparro.friggsys.domain.vos.Telephone;
@@ -30,11 +31,21 @@ public class UpdateUserUseCase {
             return UseCaseExceptionFactory.entityNotFoundError("User", "ID", input.id().toString(), "update");
         });
 
-        var name = Name.of(input.name());
-        var email = Email.of(input.email());
-        var telephone = Telephone.of(input.telephone());
+        if (input.expectedVersion() != null && !input.expectedVersion().equals(user.getVersion())) {
+            logger.error("User with ID {} is not at version {}", input.id(), input.expectedVersion());
 
-        if (repository.existsByEmail(email) && !user.getEmail().equals(email.getValue())) {
+            throw UseCaseExceptionFactory.versionMismatchError("User", input.id().toString(),
+                    input.expectedVersion(), user.getVersion(), "update");
+        }
+
+        var errors = new ValidationErrors();
+        var name = errors.collect(Name.validate(input.name()));
+        var email = errors.collect(Email.validate(input.email()));
+        var telephone = errors.collect(Telephone.validate(input.telephone()));
+
+        errors.throwIfAny();
+
+        if (repository.existsByEmail(email) && !email.isSameAddressAs(user.getEmail())) {
             logger.error("User with email {} already exists", email);
 
             throw UseCaseExceptionFactory.duplicateEmailError(email.getValue());
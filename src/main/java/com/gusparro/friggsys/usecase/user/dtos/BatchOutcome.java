@@ -0,0 +1,13 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+public enum BatchOutcome {
+
+    CREATED,
+    INVALID,
+    DUPLICATE_EMAIL,
+    CHANGED,
+    ALREADY_IN_STATE,
+    DELETED,
+    NOT_FOUND
+
+}
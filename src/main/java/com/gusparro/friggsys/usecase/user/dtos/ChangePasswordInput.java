@@ -5,5 +5,6 @@ import java.util.UUID;
 public record ChangePasswordInput(
         UUID id,
         String currentPassword,
-        String newPassword
+        String newPassword,
+        Long expectedVersion
 ) {}
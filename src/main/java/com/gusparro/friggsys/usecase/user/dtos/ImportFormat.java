@@ -0,0 +1,8 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+public enum ImportFormat {
+
+    CSV,
+    NDJSON
+
+}
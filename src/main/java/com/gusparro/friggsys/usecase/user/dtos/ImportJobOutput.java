@@ -0,0 +1,16 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record ImportJobOutput(
+        UUID id,
+        ImportFormat format,
+        ImportJobStatus status,
+        long processedRows,
+        long importedRows,
+        long rejectedRows,
+        String failureReason,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {}
@@ -0,0 +1,9 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+public enum ImportJobStatus {
+
+    RUNNING,
+    COMPLETED,
+    FAILED
+
+}
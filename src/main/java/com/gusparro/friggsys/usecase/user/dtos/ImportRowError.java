@@ -0,0 +1,9 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+import java.util.Map;
+
+public record ImportRowError(
+        long lineNumber,
+        BatchOutcome outcome,
+        Map<String, String> fieldErrors
+) {}
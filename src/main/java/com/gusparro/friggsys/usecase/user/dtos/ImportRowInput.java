@@ -0,0 +1,18 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+public record ImportRowInput(
+        long lineNumber,
+        String name,
+        String email,
+        String telephone,
+        String password,
+        String parseError
+) {
+    public static ImportRowInput of(long lineNumber, String name, String email, String telephone, String password) {
+        return new ImportRowInput(lineNumber, name, email, telephone, password, null);
+    }
+
+    public static ImportRowInput malformed(long lineNumber, String parseError) {
+        return new ImportRowInput(lineNumber, null, null, null, null, parseError);
+    }
+}
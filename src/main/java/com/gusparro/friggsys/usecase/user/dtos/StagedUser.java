@@ -0,0 +1,14 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Name;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.domain.vos.Telephone;
+
+public record StagedUser(
+        long lineNumber,
+        Name name,
+        Email email,
+        Telephone telephone,
+        Password password
+) {}
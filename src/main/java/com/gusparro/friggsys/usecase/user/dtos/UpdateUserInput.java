@@ -6,5 +6,6 @@ public record UpdateUserInput(
         UUID id,
         String name,
         String email,
-        String telephone
+        String telephone,
+        Long expectedVersion
 ) {}
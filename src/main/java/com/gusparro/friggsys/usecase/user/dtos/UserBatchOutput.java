@@ -0,0 +1,8 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+import java.util.UUID;
+
+public record UserBatchOutput(
+        UUID id,
+        BatchOutcome outcome
+) {}
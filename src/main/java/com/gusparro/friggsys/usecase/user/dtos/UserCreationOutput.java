@@ -0,0 +1,10 @@
+package com.gusparro.friggsys.usecase.user.dtos;
+
+import java.util.Map;
+
+public record UserCreationOutput(
+        int index,
+        BatchOutcome outcome,
+        UserOutput user,
+        Map<String, String> fieldErrors
+) {}
@@ -13,7 +13,8 @@ public record UserOutput(
         String telephone,
         UserStatus status,
         OffsetDateTime createdAt,
-        OffsetDateTime updatedAt
+        OffsetDateTime updatedAt,
+        Long version
 ) {
     public static UserOutput from(User user) {
         return new UserOutput(
@@ -23,7 +24,8 @@ public record UserOutput(
                 user.getTelephone(),
                 user.getStatus(),
                 user.getCreatedAt(),
-                user.getUpdatedAt()
+                user.getUpdatedAt(),
+                user.getVersion()
         );
     }
 }
\ No newline at end of file
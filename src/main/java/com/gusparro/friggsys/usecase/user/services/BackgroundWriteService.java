@@ -0,0 +1,7 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+public interface BackgroundWriteService {
+
+    void execute(Runnable write);
+
+}
@@ -0,0 +1,9 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+import com.gusparro.friggsys.domain.vos.Email;
+
+public interface EmailPresenceService {
+
+    boolean mightExist(Email email);
+
+}
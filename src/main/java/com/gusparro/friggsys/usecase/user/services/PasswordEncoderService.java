@@ -2,10 +2,21 @@ package com.gusparro.friggsys.usecase.user.services;
 
 import com.gusparro.friggsys.domain.vos.Password;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface PasswordEncoderService {
 
     Password encrypt(Password rawPassword);
 
+    List<Password> encryptAll(List<Password> rawPasswords);
+
+    List<Password> encryptAllWithBackoff(List<Password> rawPasswords);
+
     boolean matches(String rawPassword, String encryptedPassword);
 
+    boolean needsRehash(String encryptedPassword);
+
+    CompletableFuture<Password> encryptInBackground(String rawPassword);
+
 }
@@ -0,0 +1,11 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+import java.util.function.Supplier;
+
+public interface UnitOfWorkService {
+
+    <T> T execute(String operation, Supplier<T> work);
+
+    <T> T read(String operation, Supplier<T> work);
+
+}
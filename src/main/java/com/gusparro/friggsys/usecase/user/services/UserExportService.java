@@ -0,0 +1,13 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+
+import java.util.function.Consumer;
+
+public interface UserExportService {
+
+    long forEachUser(Consumer<UserOutput> action);
+
+    long forEachUserInParallel(Consumer<UserOutput> action);
+
+}
@@ -0,0 +1,24 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserImportJobService {
+
+    ImportJobOutput start(ImportFormat format);
+
+    void recordProgress(UUID jobId, long processedRows, long importedRows, List<ImportRowError> errors);
+
+    void finish(UUID jobId, ImportJobStatus status, String failureReason);
+
+    Optional<ImportJobOutput> findById(UUID jobId);
+
+    List<ImportRowError> findErrors(UUID jobId, int page, int size);
+
+}
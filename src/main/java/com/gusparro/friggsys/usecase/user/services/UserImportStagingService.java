@@ -0,0 +1,12 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+import com.gusparro.friggsys.usecase.user.dtos.StagedUser;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface UserImportStagingService {
+
+    List<Long> load(UUID jobId, List<StagedUser> users);
+
+}
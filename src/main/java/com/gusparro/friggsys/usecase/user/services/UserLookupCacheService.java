@@ -0,0 +1,16 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface UserLookupCacheService {
+
+    Optional<UserOutput> findById(UUID id, Supplier<Optional<UserOutput>> loader);
+
+    Optional<UserOutput> findByEmail(Email email, Supplier<Optional<UserOutput>> loader);
+
+}
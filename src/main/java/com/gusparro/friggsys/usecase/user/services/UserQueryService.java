@@ -0,0 +1,22 @@
+package com.gusparro.friggsys.usecase.user.services;
+
+import com.gusparro.friggsys.domain.repositories.pagination.CursorPage;
+import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
+import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserQueryService {
+
+    DomainPage<UserOutput> findAll(PageParameters parameters);
+
+    CursorPage<UserOutput> findAllByCursor(PageParameters parameters);
+
+    Optional<UserOutput> findById(UUID id);
+
+    Optional<UserOutput> findByEmail(Email email);
+
+}
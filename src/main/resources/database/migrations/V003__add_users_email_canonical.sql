@@ -0,0 +1,21 @@
+ALTER TABLE users
+    ADD COLUMN email_canonical VARCHAR(100);
+
+CREATE OR REPLACE FUNCTION users_fill_email_canonical() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF NEW.email_canonical IS NULL
+        OR (TG_OP = 'UPDATE' AND NEW.email IS DISTINCT FROM OLD.email
+            AND NEW.email_canonical IS NOT DISTINCT FROM OLD.email_canonical) THEN
+        NEW.email_canonical := lower(btrim(NEW.email, E' \t\n\r\f\v'));
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_users_fill_email_canonical
+    BEFORE INSERT OR UPDATE OF email, email_canonical
+    ON users
+    FOR EACH ROW
+EXECUTE FUNCTION users_fill_email_canonical();
@@ -0,0 +1,66 @@
+DO
+$$
+DECLARE
+    last_id UUID := '00000000-0000-0000-0000-000000000000';
+    batch_last_id UUID;
+BEGIN
+    LOOP
+        SELECT batch.id
+        INTO batch_last_id
+        FROM (SELECT id
+              FROM users
+              WHERE id > last_id
+              ORDER BY id
+              LIMIT 5000) batch
+        ORDER BY batch.id DESC
+        LIMIT 1;
+
+        EXIT WHEN batch_last_id IS NULL;
+
+        UPDATE users
+        SET email_canonical = lower(btrim(email, E' \t\n\r\f\v'))
+        WHERE id > last_id
+          AND id <= batch_last_id
+          AND email_canonical IS NULL;
+
+        last_id := batch_last_id;
+
+        COMMIT;
+    END LOOP;
+END;
+$$;
+
+DO
+$$
+DECLARE
+    duplicated_email TEXT;
+BEGIN
+    SELECT email_canonical
+    INTO duplicated_email
+    FROM users
+    GROUP BY email_canonical
+    HAVING count(*) > 1
+    LIMIT 1;
+
+    IF duplicated_email IS NOT NULL THEN
+        RAISE EXCEPTION 'Users share the e-mail % ignoring case, merge them before creating the canonical index',
+            duplicated_email;
+    END IF;
+END;
+$$;
+
+DROP INDEX CONCURRENTLY IF EXISTS users_email_canonical_key;
+
+CREATE UNIQUE INDEX CONCURRENTLY users_email_canonical_key ON users (email_canonical);
+
+ALTER TABLE users
+    ADD CONSTRAINT check_email_canonical_not_null CHECK (email_canonical IS NOT NULL) NOT VALID;
+
+ALTER TABLE users
+    VALIDATE CONSTRAINT check_email_canonical_not_null;
+
+ALTER TABLE users
+    ALTER COLUMN email_canonical SET NOT NULL;
+
+ALTER TABLE users
+    DROP CONSTRAINT check_email_canonical_not_null;
@@ -0,0 +1,5 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_name_id_idx ON users (name, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_created_at_id_idx ON users (created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_updated_at_id_idx ON users (updated_at, id);
@@ -0,0 +1,39 @@
+CREATE TABLE user_import_jobs
+(
+    id             UUID PRIMARY KEY,
+    format         VARCHAR(10)              NOT NULL,
+    status         VARCHAR(20)              NOT NULL,
+    processed_rows BIGINT                   NOT NULL DEFAULT 0,
+    imported_rows  BIGINT                   NOT NULL DEFAULT 0,
+    rejected_rows  BIGINT                   NOT NULL DEFAULT 0,
+    failure_reason TEXT,
+    started_at     TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at    TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT check_user_import_jobs_format CHECK (format IN ('CSV', 'NDJSON')),
+    CONSTRAINT check_user_import_jobs_status CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE TABLE user_import_errors
+(
+    id           UUID PRIMARY KEY,
+    job_id       UUID        NOT NULL REFERENCES user_import_jobs (id) ON DELETE CASCADE,
+    line_number  BIGINT      NOT NULL,
+    outcome      VARCHAR(30) NOT NULL,
+    field_errors JSONB       NOT NULL DEFAULT '{}'
+);
+
+CREATE INDEX user_import_errors_job_id_line_number_idx ON user_import_errors (job_id, line_number);
+
+CREATE UNLOGGED TABLE user_import_staging
+(
+    job_id          UUID         NOT NULL,
+    line_number     BIGINT       NOT NULL,
+    name            VARCHAR(100) NOT NULL,
+    telephone       VARCHAR(16)  NOT NULL,
+    email           VARCHAR(100) NOT NULL,
+    email_canonical VARCHAR(100) NOT NULL,
+    password_hash   VARCHAR(255) NOT NULL,
+
+    PRIMARY KEY (job_id, line_number)
+);
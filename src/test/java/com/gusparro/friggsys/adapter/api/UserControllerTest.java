@@ -1,10 +1,23 @@
 package com.gusparro.friggsys.adapter.api;
 
+import com.gusparro.friggsys.adapter.api.export.ExportFormat;
+import com.gusparro.friggsys.adapter.api.export.UserExportLimiter;
 import com.gusparro.friggsys.adapter.api.facades.UserOperationsFacade;
 import com.gusparro.friggsys.adapter.api.request.ChangePasswordRequest;
 import com.gusparro.friggsys.adapter.api.request.CreateUserRequest;
 import com.gusparro.friggsys.adapter.api.request.UpdateUserRequest;
+import com.gusparro.friggsys.adapter.api.request.UserCreationBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserDeleteBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserStatusBatchRequest;
+import com.gusparro.friggsys.adapter.api.response.UserBatchOutcomeResponse;
+import com.gusparro.friggsys.adapter.api.response.UserCreationOutcomeResponse;
 import com.gusparro.friggsys.adapter.api.response.UserResponse;
+import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.repositories.pagination.CountMode;
+import com.gusparro.friggsys.domain.repositories.pagination.CursorPage;
+import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
 import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
 import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +27,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +54,12 @@ class UserControllerTest {
     @Mock
     private UserOperationsFacade userOperationsFacade;
 
+    @Mock
+    private UserExportLimiter exportLimiter;
+
+    @Mock
+    private UserExportLimiter.Permit exportPermit;
+
     @InjectMocks
     private UserController controller;
 
@@ -44,7 +69,7 @@ class UserControllerTest {
         var request = new CreateUserRequest("John Doe", "john@example.com", "+5563999999999", "password123");
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 0L);
 
         when(userOperationsFacade.create(request)).thenReturn(response);
 
@@ -66,7 +91,7 @@ class UserControllerTest {
         var request = new CreateUserRequest("John Doe", "john@example.com", "+5563999999999", "password123");
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 0L);
 
         when(userOperationsFacade.create(request)).thenReturn(response);
 
@@ -86,7 +111,7 @@ class UserControllerTest {
         var request = new CreateUserRequest("Jane Smith", "jane@example.com", "+5563988888888", "securePass456");
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "Jane Smith", "jane@example.com", "+5563988888888", "Active", now, now);
+        var response = new UserResponse(userId, "Jane Smith", "jane@example.com", "+5563988888888", "Active", now, now, 0L);
 
         when(userOperationsFacade.create(request)).thenReturn(response);
 
@@ -108,16 +133,16 @@ class UserControllerTest {
         var userId = UUID.randomUUID();
         var request = new UpdateUserRequest("Updated Name", "updated@example.com", "+5563977777777");
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "Updated Name", "updated@example.com", "+5563977777777", "Active", now, now);
+        var response = new UserResponse(userId, "Updated Name", "updated@example.com", "+5563977777777", "Active", now, now, 0L);
 
-        when(userOperationsFacade.update(userId, request)).thenReturn(response);
+        when(userOperationsFacade.update(userId, request, null)).thenReturn(response);
 
-        var result = controller.update(userId, request);
+        var result = controller.update(userId, null, request);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
         assertEquals("Updated Name", result.getBody().name());
-        verify(userOperationsFacade, times(1)).update(userId, request);
+        verify(userOperationsFacade, times(1)).update(userId, request, null);
     }
 
     @Test
@@ -126,11 +151,11 @@ class UserControllerTest {
         var userId = UUID.randomUUID();
         var request = new UpdateUserRequest("New Name", "newemail@example.com", "+5563966666666");
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "New Name", "newemail@example.com", "+5563966666666", "Active", now, now);
+        var response = new UserResponse(userId, "New Name", "newemail@example.com", "+5563966666666", "Active", now, now, 0L);
 
-        when(userOperationsFacade.update(userId, request)).thenReturn(response);
+        when(userOperationsFacade.update(userId, request, null)).thenReturn(response);
 
-        var result = controller.update(userId, request);
+        var result = controller.update(userId, null, request);
 
         assertNotNull(result.getBody());
         assertEquals(userId, result.getBody().id());
@@ -145,15 +170,15 @@ class UserControllerTest {
         var userId = UUID.randomUUID();
         var request = new ChangePasswordRequest("oldPassword", "newPassword123");
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 0L);
 
-        when(userOperationsFacade.changePassword(userId, request)).thenReturn(response);
+        when(userOperationsFacade.changePassword(userId, request, null)).thenReturn(response);
 
-        var result = controller.changePassword(userId, request);
+        var result = controller.changePassword(userId, null, request);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
-        verify(userOperationsFacade, times(1)).changePassword(userId, request);
+        verify(userOperationsFacade, times(1)).changePassword(userId, request, null);
     }
 
     @Test
@@ -162,11 +187,11 @@ class UserControllerTest {
         var userId = UUID.randomUUID();
         var request = new ChangePasswordRequest("currentPass", "newSecurePass");
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 0L);
 
-        when(userOperationsFacade.changePassword(userId, request)).thenReturn(response);
+        when(userOperationsFacade.changePassword(userId, request, null)).thenReturn(response);
 
-        var result = controller.changePassword(userId, request);
+        var result = controller.changePassword(userId, null, request);
 
         assertNotNull(result.getBody());
         assertEquals(userId, result.getBody().id());
@@ -177,16 +202,16 @@ class UserControllerTest {
     void shouldActivateUserAndReturnOkStatus() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 0L);
 
-        when(userOperationsFacade.activate(userId)).thenReturn(response);
+        when(userOperationsFacade.activate(userId, null)).thenReturn(response);
 
-        var result = controller.activate(userId);
+        var result = controller.activate(userId, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
         assertEquals("Active", result.getBody().status());
-        verify(userOperationsFacade, times(1)).activate(userId);
+        verify(userOperationsFacade, times(1)).activate(userId, null);
     }
 
     @Test
@@ -194,11 +219,11 @@ class UserControllerTest {
     void shouldActivateUserWithCorrectId() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 0L);
 
-        when(userOperationsFacade.activate(userId)).thenReturn(response);
+        when(userOperationsFacade.activate(userId, null)).thenReturn(response);
 
-        var result = controller.activate(userId);
+        var result = controller.activate(userId, null);
 
         assertNotNull(result.getBody());
         assertEquals(userId, result.getBody().id());
@@ -210,16 +235,16 @@ class UserControllerTest {
     void shouldDeactivateUserAndReturnOkStatus() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Inactive", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Inactive", now, now, 0L);
 
-        when(userOperationsFacade.deactivate(userId)).thenReturn(response);
+        when(userOperationsFacade.deactivate(userId, null)).thenReturn(response);
 
-        var result = controller.deactivate(userId);
+        var result = controller.deactivate(userId, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
         assertEquals("Inactive", result.getBody().status());
-        verify(userOperationsFacade, times(1)).deactivate(userId);
+        verify(userOperationsFacade, times(1)).deactivate(userId, null);
     }
 
     @Test
@@ -227,11 +252,11 @@ class UserControllerTest {
     void shouldDeactivateUserWithCorrectId() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Inactive", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Inactive", now, now, 0L);
 
-        when(userOperationsFacade.deactivate(userId)).thenReturn(response);
+        when(userOperationsFacade.deactivate(userId, null)).thenReturn(response);
 
-        var result = controller.deactivate(userId);
+        var result = controller.deactivate(userId, null);
 
         assertNotNull(result.getBody());
         assertEquals(userId, result.getBody().id());
@@ -243,16 +268,16 @@ class UserControllerTest {
     void shouldBlockUserAndReturnOkStatus() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Blocked", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Blocked", now, now, 0L);
 
-        when(userOperationsFacade.block(userId)).thenReturn(response);
+        when(userOperationsFacade.block(userId, null)).thenReturn(response);
 
-        var result = controller.block(userId);
+        var result = controller.block(userId, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
         assertEquals("Blocked", result.getBody().status());
-        verify(userOperationsFacade, times(1)).block(userId);
+        verify(userOperationsFacade, times(1)).block(userId, null);
     }
 
     @Test
@@ -260,11 +285,11 @@ class UserControllerTest {
     void shouldBlockUserWithCorrectId() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Blocked", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Blocked", now, now, 0L);
 
-        when(userOperationsFacade.block(userId)).thenReturn(response);
+        when(userOperationsFacade.block(userId, null)).thenReturn(response);
 
-        var result = controller.block(userId);
+        var result = controller.block(userId, null);
 
         assertNotNull(result.getBody());
         assertEquals(userId, result.getBody().id());
@@ -297,17 +322,64 @@ class UserControllerTest {
         verify(userOperationsFacade, times(1)).delete(userId);
     }
 
+    @Test
+    @DisplayName("Should create users in batch and return OK with the outcomes")
+    void shouldCreateUsersInBatchAndReturnOkWithTheOutcomes() {
+        var request = new UserCreationBatchRequest(List.of(
+                new CreateUserRequest("John Doe", "john@example.com", "+5563999999999", "password123")));
+        var outcomes = List.of(new UserCreationOutcomeResponse(0, "DUPLICATE_EMAIL", null,
+                Map.of("email", "A user with this e-mail address already exists")));
+
+        when(userOperationsFacade.createAll(request)).thenReturn(outcomes);
+
+        var result = controller.createAll(request);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(outcomes, result.getBody());
+        verify(userOperationsFacade, never()).create(any());
+    }
+
+    @Test
+    @DisplayName("Should change statuses in batch and return OK with the outcomes")
+    void shouldChangeStatusesInBatchAndReturnOkWithTheOutcomes() {
+        var userId = UUID.randomUUID();
+        var request = new UserStatusBatchRequest(List.of(userId), UserStatus.INACTIVE);
+        var outcomes = List.of(new UserBatchOutcomeResponse(userId, "CHANGED"));
+
+        when(userOperationsFacade.changeStatuses(request)).thenReturn(outcomes);
+
+        var result = controller.changeStatuses(request);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(outcomes, result.getBody());
+    }
+
+    @Test
+    @DisplayName("Should delete users in batch and return OK with the outcomes")
+    void shouldDeleteUsersInBatchAndReturnOkWithTheOutcomes() {
+        var userId = UUID.randomUUID();
+        var request = new UserDeleteBatchRequest(List.of(userId));
+        var outcomes = List.of(new UserBatchOutcomeResponse(userId, "NOT_FOUND"));
+
+        when(userOperationsFacade.deleteAll(request)).thenReturn(outcomes);
+
+        var result = controller.deleteAll(request);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(outcomes, result.getBody());
+    }
+
     @Test
     @DisplayName("Should find all users with default parameters")
     void shouldFindAllUsersWithDefaultParameters() {
         var now = OffsetDateTime.now();
-        var user1 = new UserResponse(UUID.randomUUID(), "User 1", "user1@example.com", "+5563911111111", "Active", now, now);
-        var user2 = new UserResponse(UUID.randomUUID(), "User 2", "user2@example.com", "+5563922222222", "Active", now, now);
+        var user1 = new UserResponse(UUID.randomUUID(), "User 1", "user1@example.com", "+5563911111111", "Active", now, now, 0L);
+        var user2 = new UserResponse(UUID.randomUUID(), "User 2", "user2@example.com", "+5563922222222", "Active", now, now, 0L);
         var users = List.of(user1, user2);
 
-        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(users);
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(pageOf(users));
 
-        var result = controller.findAll(0, 10, "name", PageOrder.ASC);
+        var result = controller.findAll(0, 10, "name", PageOrder.ASC, CountMode.NONE);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
@@ -319,11 +391,11 @@ class UserControllerTest {
     @DisplayName("Should find all users with correct page parameters")
     void shouldFindAllUsersWithCorrectPageParameters() {
         var now = OffsetDateTime.now();
-        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now));
+        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now, 0L));
 
-        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(users);
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(pageOf(users));
 
-        controller.findAll(2, 20, "email", PageOrder.DESC);
+        controller.findAll(2, 20, "email", PageOrder.DESC, CountMode.NONE);
 
         var captor = ArgumentCaptor.forClass(PageParameters.class);
         verify(userOperationsFacade).findAll(captor.capture());
@@ -340,14 +412,14 @@ class UserControllerTest {
     void shouldFindAllUsersWithCustomPageSize() {
         var now = OffsetDateTime.now();
         var users = List.of(
-                new UserResponse(UUID.randomUUID(), "User 1", "user1@example.com", "+5563911111111", "Active", now, now),
-                new UserResponse(UUID.randomUUID(), "User 2", "user2@example.com", "+5563922222222", "Active", now, now),
-                new UserResponse(UUID.randomUUID(), "User 3", "user3@example.com", "+5563933333333", "Active", now, now)
+                new UserResponse(UUID.randomUUID(), "User 1", "user1@example.com", "+5563911111111", "Active", now, now, 0L),
+                new UserResponse(UUID.randomUUID(), "User 2", "user2@example.com", "+5563922222222", "Active", now, now, 0L),
+                new UserResponse(UUID.randomUUID(), "User 3", "user3@example.com", "+5563933333333", "Active", now, now, 0L)
         );
 
-        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(users);
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(pageOf(users));
 
-        var result = controller.findAll(0, 50, "name", PageOrder.ASC);
+        var result = controller.findAll(0, 50, "name", PageOrder.ASC, CountMode.NONE);
 
         assertNotNull(result.getBody());
         assertEquals(3, result.getBody().size());
@@ -357,11 +429,11 @@ class UserControllerTest {
     @DisplayName("Should find all users with descending order")
     void shouldFindAllUsersWithDescendingOrder() {
         var now = OffsetDateTime.now();
-        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now));
+        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now, 0L));
 
-        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(users);
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(pageOf(users));
 
-        controller.findAll(0, 10, "createdAt", PageOrder.DESC);
+        controller.findAll(0, 10, "createdAt", PageOrder.DESC, CountMode.NONE);
 
         var captor = ArgumentCaptor.forClass(PageParameters.class);
         verify(userOperationsFacade).findAll(captor.capture());
@@ -374,11 +446,11 @@ class UserControllerTest {
     void shouldFindUserByIdAndReturnOkStatus() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 0L);
 
         when(userOperationsFacade.findById(userId)).thenReturn(response);
 
-        var result = controller.findById(userId);
+        var result = controller.findById(userId, null);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
@@ -391,11 +463,11 @@ class UserControllerTest {
     void shouldFindUserByIdWithCorrectUserData() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "Jane Smith", "jane@example.com", "+5563988888888", "Active", now, now);
+        var response = new UserResponse(userId, "Jane Smith", "jane@example.com", "+5563988888888", "Active", now, now, 0L);
 
         when(userOperationsFacade.findById(userId)).thenReturn(response);
 
-        var result = controller.findById(userId);
+        var result = controller.findById(userId, null);
 
         assertNotNull(result.getBody());
         assertEquals("Jane Smith", result.getBody().name());
@@ -410,7 +482,7 @@ class UserControllerTest {
         var userId = UUID.randomUUID();
         var email = "john@example.com";
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "John Doe", email, "+5563999999999", "Active", now, now);
+        var response = new UserResponse(userId, "John Doe", email, "+5563999999999", "Active", now, now, 0L);
 
         when(userOperationsFacade.findByEmail(email)).thenReturn(response);
 
@@ -428,7 +500,7 @@ class UserControllerTest {
         var userId = UUID.randomUUID();
         var email = "admin@example.com";
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "Admin User", email, "+5563977777777", "Active", now, now);
+        var response = new UserResponse(userId, "Admin User", email, "+5563977777777", "Active", now, now, 0L);
 
         when(userOperationsFacade.findByEmail(email)).thenReturn(response);
 
@@ -449,39 +521,39 @@ class UserControllerTest {
         var updateRequest = new UpdateUserRequest("Updated Name", "updated@example.com", "+5563988888888");
         var passwordRequest = new ChangePasswordRequest("old", "new");
         var now = OffsetDateTime.now();
-        var userResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Active", now, now);
+        var userResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Active", now, now, 0L);
 
         when(userOperationsFacade.create(any())).thenReturn(userResponse);
-        when(userOperationsFacade.update(any(), any())).thenReturn(userResponse);
-        when(userOperationsFacade.changePassword(any(), any())).thenReturn(userResponse);
-        when(userOperationsFacade.activate(any())).thenReturn(userResponse);
-        when(userOperationsFacade.deactivate(any())).thenReturn(userResponse);
-        when(userOperationsFacade.block(any())).thenReturn(userResponse);
+        when(userOperationsFacade.update(any(), any(), any())).thenReturn(userResponse);
+        when(userOperationsFacade.changePassword(any(), any(), any())).thenReturn(userResponse);
+        when(userOperationsFacade.activate(any(), any())).thenReturn(userResponse);
+        when(userOperationsFacade.deactivate(any(), any())).thenReturn(userResponse);
+        when(userOperationsFacade.block(any(), any())).thenReturn(userResponse);
         when(userOperationsFacade.findById(any())).thenReturn(userResponse);
         when(userOperationsFacade.findByEmail(any())).thenReturn(userResponse);
-        when(userOperationsFacade.findAll(any())).thenReturn(List.of(userResponse));
+        when(userOperationsFacade.findAll(any())).thenReturn(pageOf(List.of(userResponse)));
 
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
         mockRequest.setRequestURI("/api/users");
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(mockRequest));
 
         controller.create(createRequest);
-        controller.update(userId, updateRequest);
-        controller.changePassword(userId, passwordRequest);
-        controller.activate(userId);
-        controller.deactivate(userId);
-        controller.block(userId);
+        controller.update(userId, null, updateRequest);
+        controller.changePassword(userId, null, passwordRequest);
+        controller.activate(userId, null);
+        controller.deactivate(userId, null);
+        controller.block(userId, null);
         controller.delete(userId);
-        controller.findById(userId);
+        controller.findById(userId, null);
         controller.findByEmail("test@example.com");
-        controller.findAll(0, 10, "name", PageOrder.ASC);
+        controller.findAll(0, 10, "name", PageOrder.ASC, CountMode.NONE);
 
         verify(userOperationsFacade, times(1)).create(any());
-        verify(userOperationsFacade, times(1)).update(any(), any());
-        verify(userOperationsFacade, times(1)).changePassword(any(), any());
-        verify(userOperationsFacade, times(1)).activate(any());
-        verify(userOperationsFacade, times(1)).deactivate(any());
-        verify(userOperationsFacade, times(1)).block(any());
+        verify(userOperationsFacade, times(1)).update(any(), any(), any());
+        verify(userOperationsFacade, times(1)).changePassword(any(), any(), any());
+        verify(userOperationsFacade, times(1)).activate(any(), any());
+        verify(userOperationsFacade, times(1)).deactivate(any(), any());
+        verify(userOperationsFacade, times(1)).block(any(), any());
         verify(userOperationsFacade, times(1)).delete(any());
         verify(userOperationsFacade, times(1)).findById(any());
         verify(userOperationsFacade, times(1)).findByEmail(any());
@@ -491,9 +563,9 @@ class UserControllerTest {
     @Test
     @DisplayName("Should handle empty list when finding all users")
     void shouldHandleEmptyListWhenFindingAllUsers() {
-        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(List.of());
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(pageOf(List.of()));
 
-        var result = controller.findAll(0, 10, "name", PageOrder.ASC);
+        var result = controller.findAll(0, 10, "name", PageOrder.ASC, CountMode.NONE);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
@@ -504,13 +576,13 @@ class UserControllerTest {
     @DisplayName("Should find all users with different sorting fields")
     void shouldFindAllUsersWithDifferentSortingFields() {
         var now = OffsetDateTime.now();
-        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now));
+        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now, 0L));
 
-        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(users);
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(pageOf(users));
 
-        controller.findAll(0, 10, "email", PageOrder.ASC);
-        controller.findAll(0, 10, "status", PageOrder.DESC);
-        controller.findAll(0, 10, "createdAt", PageOrder.ASC);
+        controller.findAll(0, 10, "email", PageOrder.ASC, CountMode.NONE);
+        controller.findAll(0, 10, "status", PageOrder.DESC, CountMode.NONE);
+        controller.findAll(0, 10, "createdAt", PageOrder.ASC, CountMode.NONE);
 
         verify(userOperationsFacade, times(3)).findAll(any(PageParameters.class));
     }
@@ -520,7 +592,7 @@ class UserControllerTest {
     void shouldCreateUserAndFacadeShouldReceiveCorrectRequest() {
         var request = new CreateUserRequest("Test User", "test@example.com", "+5563999999999", "testpass123");
         var now = OffsetDateTime.now();
-        var response = new UserResponse(UUID.randomUUID(), "Test User", "test@example.com", "+5563999999999", "Active", now, now);
+        var response = new UserResponse(UUID.randomUUID(), "Test User", "test@example.com", "+5563999999999", "Active", now, now, 0L);
 
         when(userOperationsFacade.create(request)).thenReturn(response);
 
@@ -539,13 +611,13 @@ class UserControllerTest {
         var userId = UUID.randomUUID();
         var request = new UpdateUserRequest("Updated Name", "updated@test.com", "+5563955555555");
         var now = OffsetDateTime.now();
-        var response = new UserResponse(userId, "Updated Name", "updated@test.com", "+5563955555555", "Active", now, now);
+        var response = new UserResponse(userId, "Updated Name", "updated@test.com", "+5563955555555", "Active", now, now, 0L);
 
-        when(userOperationsFacade.update(userId, request)).thenReturn(response);
+        when(userOperationsFacade.update(userId, request, null)).thenReturn(response);
 
-        controller.update(userId, request);
+        controller.update(userId, null, request);
 
-        verify(userOperationsFacade).update(eq(userId), eq(request));
+        verify(userOperationsFacade).update(eq(userId), eq(request), isNull());
     }
 
     @Test
@@ -553,17 +625,17 @@ class UserControllerTest {
     void shouldHandleMultipleStatusTransitionsForSameUser() {
         var userId = UUID.randomUUID();
         var now = OffsetDateTime.now();
-        var activeResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Active", now, now);
-        var inactiveResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Inactive", now, now);
-        var blockedResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Blocked", now, now);
+        var activeResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Active", now, now, 0L);
+        var inactiveResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Inactive", now, now, 0L);
+        var blockedResponse = new UserResponse(userId, "User", "user@example.com", "+5563999999999", "Blocked", now, now, 0L);
 
-        when(userOperationsFacade.activate(userId)).thenReturn(activeResponse);
-        when(userOperationsFacade.deactivate(userId)).thenReturn(inactiveResponse);
-        when(userOperationsFacade.block(userId)).thenReturn(blockedResponse);
+        when(userOperationsFacade.activate(userId, null)).thenReturn(activeResponse);
+        when(userOperationsFacade.deactivate(userId, null)).thenReturn(inactiveResponse);
+        when(userOperationsFacade.block(userId, null)).thenReturn(blockedResponse);
 
-        var activateResult = controller.activate(userId);
-        var deactivateResult = controller.deactivate(userId);
-        var blockResult = controller.block(userId);
+        var activateResult = controller.activate(userId, null);
+        var deactivateResult = controller.deactivate(userId, null);
+        var blockResult = controller.block(userId, null);
 
         assertEquals("Active", activateResult.getBody().status());
         assertEquals("Inactive", deactivateResult.getBody().status());
@@ -583,12 +655,13 @@ class UserControllerTest {
                 "+5563987654321",
                 "Active",
                 createdAt,
-                updatedAt
+                updatedAt,
+                0L
         );
 
         when(userOperationsFacade.findById(userId)).thenReturn(response);
 
-        var result = controller.findById(userId);
+        var result = controller.findById(userId, null);
 
         assertNotNull(result.getBody());
         assertEquals(userId, result.getBody().id());
@@ -604,21 +677,232 @@ class UserControllerTest {
     @DisplayName("Should handle users with different telephone formats")
     void shouldHandleUsersWithDifferentTelephoneFormats() {
         var now = OffsetDateTime.now();
-        var user1 = new UserResponse(UUID.randomUUID(), "User 1", "user1@example.com", "+5563999999999", "Active", now, now);
-        var user2 = new UserResponse(UUID.randomUUID(), "User 2", "user2@example.com", "+55 63 99999-9999", "Active", now, now);
-        var user3 = new UserResponse(UUID.randomUUID(), "User 3", "user3@example.com", "63999999999", "Active", now, now);
+        var user1 = new UserResponse(UUID.randomUUID(), "User 1", "user1@example.com", "+5563999999999", "Active", now, now, 0L);
+        var user2 = new UserResponse(UUID.randomUUID(), "User 2", "user2@example.com", "+55 63 99999-9999", "Active", now, now, 0L);
+        var user3 = new UserResponse(UUID.randomUUID(), "User 3", "user3@example.com", "63999999999", "Active", now, now, 0L);
 
         when(userOperationsFacade.findById(user1.id())).thenReturn(user1);
         when(userOperationsFacade.findById(user2.id())).thenReturn(user2);
         when(userOperationsFacade.findById(user3.id())).thenReturn(user3);
 
-        var result1 = controller.findById(user1.id());
-        var result2 = controller.findById(user2.id());
-        var result3 = controller.findById(user3.id());
+        var result1 = controller.findById(user1.id(), null);
+        var result2 = controller.findById(user2.id(), null);
+        var result3 = controller.findById(user3.id(), null);
 
         assertEquals("+5563999999999", result1.getBody().telephone());
         assertEquals("+55 63 99999-9999", result2.getBody().telephone());
         assertEquals("63999999999", result3.getBody().telephone());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should find users by cursor and expose next cursor header")
+    void shouldFindUsersByCursorAndExposeNextCursorHeader() {
+        var now = OffsetDateTime.now();
+        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now, 0L));
+        var page = CursorPage.<UserResponse>builder()
+                .data(users)
+                .nextCursor("next-cursor")
+                .pageSize(1)
+                .lastPage(false)
+                .build();
+
+        when(userOperationsFacade.findAllByCursor(any(PageParameters.class))).thenReturn(page);
+
+        var result = controller.findAllByCursor("", 1, "createdAt", PageOrder.DESC);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(users, result.getBody());
+        assertEquals("next-cursor", result.getHeaders().getFirst(UserController.NEXT_CURSOR_HEADER));
+
+        var captor = ArgumentCaptor.forClass(PageParameters.class);
+        verify(userOperationsFacade).findAllByCursor(captor.capture());
+
+        var parameters = captor.getValue();
+        assertEquals("", parameters.getCursor());
+        assertEquals(1, parameters.getSize());
+        assertEquals("createdAt", parameters.getOrderBy());
+        assertEquals(PageOrder.DESC, parameters.getDirection());
+    }
+
+    @Test
+    @DisplayName("Should omit next cursor header on the last page")
+    void shouldOmitNextCursorHeaderOnTheLastPage() {
+        var page = CursorPage.<UserResponse>builder()
+                .data(List.of())
+                .pageSize(10)
+                .lastPage(true)
+                .build();
+
+        when(userOperationsFacade.findAllByCursor(any(PageParameters.class))).thenReturn(page);
+
+        var result = controller.findAllByCursor("abc", 10, "name", PageOrder.ASC);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertFalse(result.getHeaders().containsKey(UserController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should expose total count header when a count mode is requested")
+    void shouldExposeTotalCountHeaderWhenACountModeIsRequested() {
+        var now = OffsetDateTime.now();
+        var users = List.of(new UserResponse(UUID.randomUUID(), "User", "user@example.com", "+5563999999999", "Active", now, now, 0L));
+        var page = DomainPage.<UserResponse>builder()
+                .data(users)
+                .dataAmount(5_000_000L)
+                .countMode(CountMode.APPROXIMATE)
+                .build();
+
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(page);
+
+        var result = controller.findAll(0, 10, "name", PageOrder.ASC, CountMode.APPROXIMATE);
+
+        assertEquals("5000000", result.getHeaders().getFirst(UserController.TOTAL_COUNT_HEADER));
+
+        var captor = ArgumentCaptor.forClass(PageParameters.class);
+        verify(userOperationsFacade).findAll(captor.capture());
+        assertEquals(CountMode.APPROXIMATE, captor.getValue().getCountMode());
+    }
+
+    @Test
+    @DisplayName("Should omit total count header when counting is disabled")
+    void shouldOmitTotalCountHeaderWhenCountingIsDisabled() {
+        when(userOperationsFacade.findAll(any(PageParameters.class))).thenReturn(pageOf(List.of()));
+
+        var result = controller.findAll(0, 10, "name", PageOrder.ASC, CountMode.NONE);
+
+        assertFalse(result.getHeaders().containsKey(UserController.TOTAL_COUNT_HEADER));
+    }
+
+    private static DomainPage<UserResponse> pageOf(List<UserResponse> users) {
+        return DomainPage.<UserResponse>builder()
+                .data(users)
+                .countMode(CountMode.NONE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should stream the export as an NDJSON attachment")
+    void shouldStreamTheExportAsAnNdjsonAttachment() throws Exception {
+        when(exportLimiter.acquire(false)).thenReturn(exportPermit);
+
+        var result = controller.export(ExportFormat.NDJSON, false, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, result.getHeaders().getContentType());
+        assertEquals("users.ndjson", result.getHeaders().getContentDisposition().getFilename());
+        assertNull(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNotNull(result.getBody());
+
+        var output = new ByteArrayOutputStream();
+        result.getBody().writeTo(output);
+
+        verify(userOperationsFacade).export(ExportFormat.NDJSON, false, false, output);
+        verify(exportPermit).close();
+    }
+
+    @Test
+    @DisplayName("Should release the export permit when streaming fails")
+    void shouldReleaseTheExportPermitWhenStreamingFails() throws Exception {
+        var output = new ByteArrayOutputStream();
+
+        when(exportLimiter.acquire(false)).thenReturn(exportPermit);
+        doThrow(new IOException("Broken pipe")).when(userOperationsFacade)
+                .export(ExportFormat.NDJSON, false, false, output);
+
+        var result = controller.export(ExportFormat.NDJSON, false, null);
+
+        assertThrows(IOException.class, () -> result.getBody().writeTo(output));
+        verify(exportPermit).close();
+    }
+
+    @Test
+    @DisplayName("Should reject the export before streaming when the export limit is reached")
+    void shouldRejectTheExportBeforeStreamingWhenTheExportLimitIsReached() throws Exception {
+        when(exportLimiter.acquire(true))
+                .thenThrow(AdapterExceptionFactory.capacityExceeded("user_export", "connection_limit", Duration.ofSeconds(30)));
+
+        assertThrows(ServiceUnavailableError.class, () -> controller.export(ExportFormat.CSV, true, null));
+        verify(userOperationsFacade, never()).export(any(), anyBoolean(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("Should gzip a parallel export when the client accepts it")
+    void shouldGzipAParallelExportWhenTheClientAcceptsIt() throws Exception {
+        when(exportLimiter.acquire(true)).thenReturn(exportPermit);
+
+        var result = controller.export(ExportFormat.CSV, true, "deflate, GZIP;q=0.9");
+
+        assertEquals("gzip", result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, result.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals("users.csv", result.getHeaders().getContentDisposition().getFilename());
+
+        var output = new ByteArrayOutputStream();
+        result.getBody().writeTo(output);
+
+        verify(userOperationsFacade).export(ExportFormat.CSV, true, true, output);
+    }
+
+    @Test
+    @DisplayName("Should not gzip an export the client refuses with a zero quality")
+    void shouldNotGzipAnExportTheClientRefusesWithAZeroQuality() throws Exception {
+        when(exportLimiter.acquire(false)).thenReturn(exportPermit);
+
+        var result = controller.export(ExportFormat.NDJSON, false, "gzip;q=0, identity");
+
+        assertNull(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+
+        var output = new ByteArrayOutputStream();
+        result.getBody().writeTo(output);
+
+        verify(userOperationsFacade).export(ExportFormat.NDJSON, false, false, output);
+    }
+
+
+    @Test
+    @DisplayName("Should send the user version as ETag when finding by ID")
+    void shouldSendTheUserVersionAsETagWhenFindingById() {
+        var userId = UUID.randomUUID();
+        var now = OffsetDateTime.now();
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 5L);
+
+        when(userOperationsFacade.findById(userId)).thenReturn(response);
+
+        var result = controller.findById(userId, "\"4\"");
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"5\"", result.getHeaders().getETag());
+        assertEquals(response, result.getBody());
+    }
+
+    @Test
+    @DisplayName("Should answer NOT_MODIFIED without body when If-None-Match holds the current version")
+    void shouldAnswerNotModifiedWhenIfNoneMatchHoldsTheCurrentVersion() {
+        var userId = UUID.randomUUID();
+        var now = OffsetDateTime.now();
+        var response = new UserResponse(userId, "John Doe", "john@example.com", "+5563999999999", "Active", now, now, 5L);
+
+        when(userOperationsFacade.findById(userId)).thenReturn(response);
+
+        var result = controller.findById(userId, "\"4\", W/\"5\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertEquals("\"5\"", result.getHeaders().getETag());
+        assertNull(result.getBody());
+    }
+
+    @Test
+    @DisplayName("Should forward If-Match and send the new version as ETag on mutations")
+    void shouldForwardIfMatchAndSendTheNewVersionAsETagOnMutations() {
+        var userId = UUID.randomUUID();
+        var now = OffsetDateTime.now();
+        var request = new UpdateUserRequest("New Name", "new@example.com", "+5563966666666");
+        var response = new UserResponse(userId, "New Name", "new@example.com", "+5563966666666", "Blocked", now, now, 8L);
+
+        when(userOperationsFacade.update(userId, request, "\"7\"")).thenReturn(response);
+        when(userOperationsFacade.block(userId, "\"7\"")).thenReturn(response);
+
+        assertEquals("\"8\"", controller.update(userId, "\"7\"", request).getHeaders().getETag());
+        assertEquals("\"8\"", controller.block(userId, "\"7\"").getHeaders().getETag());
+    }
+
+}
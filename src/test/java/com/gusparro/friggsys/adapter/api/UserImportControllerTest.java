@@ -0,0 +1,93 @@
+package com.gusparro.friggsys.adapter.api;
+
+import com.gusparro.friggsys.adapter.api.facades.UserImportFacade;
+import com.gusparro.friggsys.adapter.api.response.UserImportErrorResponse;
+import com.gusparro.friggsys.adapter.api.response.UserImportJobResponse;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportController Tests")
+class UserImportControllerTest {
+
+    @Mock
+    private UserImportFacade userImportFacade;
+
+    @InjectMocks
+    private UserImportController controller;
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final UserImportJobResponse JOB = new UserImportJobResponse(JOB_ID, "NDJSON", "RUNNING", 0, 0, 0,
+            0, null, OffsetDateTime.now(), null);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should accept the upload and point to the job")
+    void shouldAcceptTheUploadAndPointToTheJob() throws IOException {
+        var file = new MockMultipartFile("file", "users.ndjson", "application/x-ndjson", "{}".getBytes());
+        when(userImportFacade.submit(eq(ImportFormat.NDJSON), any())).thenReturn(JOB);
+
+        var mockRequest = new MockHttpServletRequest();
+        mockRequest.setRequestURI("/api/users/imports");
+        mockRequest.setQueryString("format=NDJSON");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(mockRequest));
+
+        var result = controller.submit(file, ImportFormat.NDJSON);
+
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(JOB, result.getBody());
+        assertNotNull(result.getHeaders().getLocation());
+        assertEquals("/api/users/imports/" + JOB_ID, result.getHeaders().getLocation().getPath());
+        assertNull(result.getHeaders().getLocation().getQuery());
+    }
+
+    @Test
+    @DisplayName("Should return the job status")
+    void shouldReturnTheJobStatus() {
+        when(userImportFacade.findById(JOB_ID)).thenReturn(JOB);
+
+        var result = controller.findById(JOB_ID);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(JOB, result.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the rejected rows page")
+    void shouldReturnTheRejectedRowsPage() {
+        var errors = List.of(new UserImportErrorResponse(2, "INVALID", Map.of("email", "Invalid email format")));
+        when(userImportFacade.findErrors(JOB_ID, 1, 50)).thenReturn(errors);
+
+        var result = controller.findErrors(JOB_ID, 1, 50);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(errors, result.getBody());
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.gusparro.friggsys.adapter.api.etag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VersionTags Tests")
+class VersionTagsTest {
+
+    @Test
+    @DisplayName("Should format a version as a strong entity tag")
+    void shouldFormatAVersionAsAStrongEntityTag() {
+        assertEquals("\"7\"", VersionTags.of(7L));
+    }
+
+    @Test
+    @DisplayName("Should read the version of a strong entity tag")
+    void shouldReadTheVersionOfAStrongEntityTag() {
+        assertEquals(7L, VersionTags.versionOf(" \"7\" "));
+    }
+
+    @Test
+    @DisplayName("Should not require a version when the header is absent or a wildcard")
+    void shouldNotRequireAVersionWhenTheHeaderIsAbsentOrAWildcard() {
+        assertNull(VersionTags.versionOf(null));
+        assertNull(VersionTags.versionOf(" "));
+        assertNull(VersionTags.versionOf("*"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"7", "W/\"7\"", "\"\"", "\"seven\"", "\"1\", \"2\""})
+    @DisplayName("Should reject tags that are not a single strong version")
+    void shouldRejectTagsThatAreNotASingleStrongVersion(String header) {
+        assertThrows(IllegalArgumentException.class, () -> VersionTags.versionOf(header));
+    }
+
+    @Test
+    @DisplayName("Should match any listed tag, weak or strong")
+    void shouldMatchAnyListedTagWeakOrStrong() {
+        assertTrue(VersionTags.matchesAny("\"3\", W/\"7\"", 7L));
+        assertTrue(VersionTags.matchesAny("\"7\"", 7L));
+        assertTrue(VersionTags.matchesAny("*", 7L));
+    }
+
+    @Test
+    @DisplayName("Should not match other versions or a missing header")
+    void shouldNotMatchOtherVersionsOrAMissingHeader() {
+        assertFalse(VersionTags.matchesAny("\"6\", \"8\"", 7L));
+        assertFalse(VersionTags.matchesAny(null, 7L));
+        assertFalse(VersionTags.matchesAny("\"7\"", null));
+    }
+
+}
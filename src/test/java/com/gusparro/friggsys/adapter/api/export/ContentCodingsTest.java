@@ -0,0 +1,30 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ContentCodings Tests")
+class ContentCodingsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "GZIP", "deflate, gzip;q=0.5", "x-gzip", "*", "br;q=1.0, *;q=0.1",
+            "gzip ; q=1", "gzip;q=0, x-gzip;q=0.8", "identity, gzip;Q=0.001"})
+    @DisplayName("Should accept gzip when gzip or a wildcard has a positive quality")
+    void shouldAcceptGzipWhenGzipOrAWildcardHasAPositiveQuality(String header) {
+        assertTrue(ContentCodings.acceptsGzip(header));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "identity", "deflate, br", "gzip;q=0", "gzip;q=0.000", "*;q=0",
+            "gzip;q=0, *;q=1", "gzipped", "not-gzip", "gzip;q=abc", "gzip;q=2"})
+    @DisplayName("Should not accept gzip when it is absent or refused")
+    void shouldNotAcceptGzipWhenItIsAbsentOrRefused(String header) {
+        assertFalse(ContentCodings.acceptsGzip(header));
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import com.gusparro.friggsys.adapter.api.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvUserExportWriter Tests")
+class CsvUserExportWriterTest {
+
+    private static final UUID USER_ID = UUID.fromString("7f0e5d2c-1b1a-4c55-9d36-1d1f2c3b4a59");
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    @DisplayName("Should write the header even without rows")
+    void shouldWriteTheHeaderEvenWithoutRows() throws Exception {
+        var output = new ByteArrayOutputStream();
+
+        UserExportWriter.open(ExportFormat.CSV, output).flush();
+
+        assertEquals(CsvUserExportWriter.HEADER, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write plain and quoted fields")
+    void shouldWritePlainAndQuotedFields() throws Exception {
+        var output = new ByteArrayOutputStream();
+        var writer = UserExportWriter.open(ExportFormat.CSV, output);
+
+        writer.write(new UserResponse(USER_ID, "Doe, \"Johnny\"", "john@example.com", "(11) 98765-4321",
+                "Active", CREATED_AT, null, 0L));
+        writer.flush();
+
+        assertEquals(CsvUserExportWriter.HEADER
+                + USER_ID + ",\"Doe, \"\"Johnny\"\"\",john@example.com,(11) 98765-4321,Active,2025-01-01T10:00Z,\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+}
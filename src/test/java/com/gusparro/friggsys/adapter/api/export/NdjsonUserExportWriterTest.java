@@ -0,0 +1,69 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gusparro.friggsys.adapter.api.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NdjsonUserExportWriter Tests")
+class NdjsonUserExportWriterTest {
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        var output = new ByteArrayOutputStream();
+        var writer = UserExportWriter.open(ExportFormat.NDJSON, output);
+        var first = user("John \"JD\" Doe");
+        var second = user("Jane Doe");
+
+        writer.write(first);
+        writer.write(second);
+        writer.flush();
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+
+        var json = new ObjectMapper().readTree(lines[0]);
+        assertEquals(first.id().toString(), json.get("id").asText());
+        assertEquals("John \"JD\" Doe", json.get("name").asText());
+        assertEquals("Active", json.get("status").asText());
+        assertEquals("2025-01-01T10:00Z", json.get("createdAt").asText());
+        assertTrue(json.get("updatedAt").isNull());
+        assertEquals("Jane Doe", new ObjectMapper().readTree(lines[1]).get("name").asText());
+    }
+
+    @Test
+    @DisplayName("Should not close the target stream")
+    void shouldNotCloseTheTargetStream() throws Exception {
+        var closed = new boolean[1];
+        var output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        var writer = UserExportWriter.open(ExportFormat.NDJSON, output);
+        writer.write(user("John Doe"));
+        writer.flush();
+
+        assertFalse(closed[0]);
+        assertTrue(output.size() > 0);
+    }
+
+    private static UserResponse user(String name) {
+        return new UserResponse(UUID.randomUUID(), name, "john@example.com", "(11) 98765-4321", "Active",
+                CREATED_AT, null, 0L);
+    }
+
+}
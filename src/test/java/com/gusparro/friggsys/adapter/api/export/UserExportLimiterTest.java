@@ -0,0 +1,62 @@
+package com.gusparro.friggsys.adapter.api.export;
+
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserExportLimiter Tests")
+class UserExportLimiterTest {
+
+    @Test
+    @DisplayName("Should reserve one connection for a cursor export and one per worker plus the coordinator for a parallel one")
+    void shouldReserveConnectionsByExportMode() {
+        var limiter = new UserExportLimiter(new SimpleMeterRegistry(), 4, 2);
+
+        var cursor = limiter.acquire(false);
+        assertEquals(3, limiter.availableConnections());
+
+        var parallel = limiter.acquire(true);
+        assertEquals(0, limiter.availableConnections());
+
+        cursor.close();
+        parallel.close();
+        assertEquals(4, limiter.availableConnections());
+    }
+
+    @Test
+    @DisplayName("Should reject an export with a retryable capacity error when its connections are not available")
+    void shouldRejectAnExportWhenItsConnectionsAreNotAvailable() {
+        var limiter = new UserExportLimiter(new SimpleMeterRegistry(), 3, 2);
+
+        limiter.acquire(false);
+
+        var error = assertThrows(ServiceUnavailableError.class, () -> limiter.acquire(true));
+
+        assertEquals("user_export", error.getResource());
+        assertEquals("connection_limit", error.getReason());
+        assertTrue(error.getRetryAfter().isPositive());
+        assertEquals(2, limiter.availableConnections());
+    }
+
+    @Test
+    @DisplayName("Should release the connections of a permit only once")
+    void shouldReleaseTheConnectionsOfAPermitOnlyOnce() {
+        var limiter = new UserExportLimiter(new SimpleMeterRegistry(), 3, 2);
+        var permit = limiter.acquire(false);
+
+        permit.close();
+        permit.close();
+
+        assertEquals(3, limiter.availableConnections());
+    }
+
+    @Test
+    @DisplayName("Should refuse a limit that cannot fit a single parallel export")
+    void shouldRefuseALimitThatCannotFitASingleParallelExport() {
+        assertThrows(IllegalArgumentException.class, () -> new UserExportLimiter(new SimpleMeterRegistry(), 2, 2));
+    }
+
+}
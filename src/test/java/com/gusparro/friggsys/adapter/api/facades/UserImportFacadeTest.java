@@ -0,0 +1,96 @@
+package com.gusparro.friggsys.adapter.api.facades;
+
+import com.gusparro.friggsys.adapter.exceptions.NotFoundError;
+import com.gusparro.friggsys.adapter.imports.UserImportRunner;
+import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
+import com.gusparro.friggsys.usecase.user.FindUserImportUseCase;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportFacade Tests")
+class UserImportFacadeTest {
+
+    @Mock
+    private UserImportRunner runner;
+
+    @Mock
+    private FindUserImportUseCase findUserImportUseCase;
+
+    @InjectMocks
+    private UserImportFacade facade;
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final ImportJobOutput JOB = new ImportJobOutput(JOB_ID, ImportFormat.CSV, ImportJobStatus.RUNNING,
+            0, 0, 0, null, OffsetDateTime.now(), null);
+
+    @Test
+    @DisplayName("Should submit the upload to the runner")
+    void shouldSubmitTheUploadToTheRunner() {
+        var content = new ByteArrayInputStream(new byte[0]);
+        when(runner.submit(ImportFormat.CSV, content)).thenReturn(JOB);
+
+        var response = facade.submit(ImportFormat.CSV, content);
+
+        assertEquals(JOB_ID, response.id());
+        assertEquals("RUNNING", response.status());
+    }
+
+    @Test
+    @DisplayName("Should return the job status")
+    void shouldReturnTheJobStatus() {
+        when(findUserImportUseCase.execute(JOB_ID)).thenReturn(JOB);
+
+        assertEquals(JOB_ID, facade.findById(JOB_ID).id());
+    }
+
+    @Test
+    @DisplayName("Should translate a missing job into NotFoundError")
+    void shouldTranslateAMissingJobIntoNotFoundError() {
+        when(findUserImportUseCase.execute(JOB_ID)).thenThrow(
+                UseCaseExceptionFactory.entityNotFoundError("UserImport", "ID", JOB_ID.toString(), "find_import"));
+
+        assertThrows(NotFoundError.class, () -> facade.findById(JOB_ID));
+    }
+
+    @Test
+    @DisplayName("Should return the rejected rows")
+    void shouldReturnTheRejectedRows() {
+        when(findUserImportUseCase.findErrors(JOB_ID, 0, 100)).thenReturn(List.of(
+                new ImportRowError(5, BatchOutcome.DUPLICATE_EMAIL, Map.of("email", "Already exists"))));
+
+        var errors = facade.findErrors(JOB_ID, 0, 100);
+
+        assertEquals(1, errors.size());
+        assertEquals(5, errors.getFirst().lineNumber());
+        assertEquals("DUPLICATE_EMAIL", errors.getFirst().outcome());
+    }
+
+    @Test
+    @DisplayName("Should translate rejected rows of a missing job into NotFoundError")
+    void shouldTranslateRejectedRowsOfAMissingJobIntoNotFoundError() {
+        when(findUserImportUseCase.findErrors(JOB_ID, 0, 100)).thenThrow(
+                UseCaseExceptionFactory.entityNotFoundError("UserImport", "ID", JOB_ID.toString(), "find_import"));
+
+        assertThrows(NotFoundError.class, () -> facade.findErrors(JOB_ID, 0, 100));
+    }
+
+}
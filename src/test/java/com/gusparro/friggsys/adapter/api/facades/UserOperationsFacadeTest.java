@@ -1,20 +1,32 @@
 package com.gusparro.friggsys.adapter.api.facades;
 
+import com.gusparro.friggsys.adapter.api.export.ExportFormat;
 import com.gusparro.friggsys.adapter.api.mappers.UserApiMapper;
 import com.gusparro.friggsys.adapter.api.request.ChangePasswordRequest;
 import com.gusparro.friggsys.adapter.api.request.CreateUserRequest;
 import com.gusparro.friggsys.adapter.api.request.UpdateUserRequest;
+import com.gusparro.friggsys.adapter.api.request.UserCreationBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserDeleteBatchRequest;
+import com.gusparro.friggsys.adapter.api.request.UserStatusBatchRequest;
+import com.gusparro.friggsys.adapter.api.response.UserBatchOutcomeResponse;
 import com.gusparro.friggsys.adapter.exceptions.BadResquestError;
 import com.gusparro.friggsys.adapter.exceptions.NotFoundError;
+import com.gusparro.friggsys.adapter.exceptions.PreconditionFailedError;
+import com.gusparro.friggsys.domain.enums.UserStatus;
 import com.gusparro.friggsys.domain.exceptions.InvalidStateError;
 import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.repositories.pagination.CursorPage;
 import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
 import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
 import com.gusparro.friggsys.usecase.user.*;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
 import com.gusparro.friggsys.usecase.user.dtos.ChangePasswordInput;
 import com.gusparro.friggsys.usecase.user.dtos.CreateUserInput;
 import com.gusparro.friggsys.usecase.user.dtos.UpdateUserInput;
+import com.gusparro.friggsys.usecase.user.dtos.UserBatchOutput;
+import com.gusparro.friggsys.usecase.user.dtos.UserCreationOutput;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,12 +36,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +67,9 @@ class UserOperationsFacadeTest {
     @Mock
     private CreateUserUseCase createUserUseCase;
 
+    @Mock
+    private CreateUsersUseCase createUsersUseCase;
+
     @Mock
     private UpdateUserUseCase updateUserUseCase;
 
@@ -60,18 +85,30 @@ class UserOperationsFacadeTest {
     @Mock
     private BlockUserUseCase blockUserUseCase;
 
+    @Mock
+    private ChangeUsersStatusUseCase changeUsersStatusUseCase;
+
     @Mock
     private DeleteUserUseCase deleteUserUseCase;
 
+    @Mock
+    private DeleteUsersUseCase deleteUsersUseCase;
+
     @Mock
     private FindUsersUseCase findUsersUseCase;
 
+    @Mock
+    private FindUsersByCursorUseCase findUsersByCursorUseCase;
+
     @Mock
     private FindUserByIdUseCase findUserByIdUseCase;
 
     @Mock
     private FindUserByEmailUseCase findUserByEmailUseCase;
 
+    @Mock
+    private ExportUsersUseCase exportUsersUseCase;
+
     @Mock
     private CreateUserRequest createUserRequest;
 
@@ -129,18 +166,44 @@ class UserOperationsFacadeTest {
         verify(createUserUseCase).execute(createUserInput);
     }
 
+    @Test
+    @DisplayName("Should create users in batch and map every outcome")
+    void shouldCreateUsersInBatchAndMapEveryOutcome() {
+        var first = new CreateUserRequest("John Doe", "john@example.com", "(63) 99999-9999", "SecureP@ss123");
+        var second = new CreateUserRequest("", "jane@example.com", "(63) 99999-9999", "SecureP@ss123");
+        var firstInput = new CreateUserInput("John Doe", "john@example.com", "(63) 99999-9999", "SecureP@ss123");
+        var secondInput = new CreateUserInput("", "jane@example.com", "(63) 99999-9999", "SecureP@ss123");
+
+        when(mapper.toCreateUserInput(first)).thenReturn(firstInput);
+        when(mapper.toCreateUserInput(second)).thenReturn(secondInput);
+        when(userOutput.status()).thenReturn(UserStatus.ACTIVE);
+        when(createUsersUseCase.execute(List.of(firstInput, secondInput))).thenReturn(List.of(
+                new UserCreationOutput(0, BatchOutcome.CREATED, userOutput, Map.of()),
+                new UserCreationOutput(1, BatchOutcome.INVALID, null, Map.of("name", "Name cannot be empty"))));
+
+        var result = facade.createAll(new UserCreationBatchRequest(List.of(first, second)));
+
+        assertEquals(2, result.size());
+        assertEquals("CREATED", result.get(0).outcome());
+        assertNotNull(result.get(0).user());
+        assertEquals("INVALID", result.get(1).outcome());
+        assertNull(result.get(1).user());
+        assertEquals(Map.of("name", "Name cannot be empty"), result.get(1).fieldErrors());
+        verifyNoInteractions(createUserUseCase);
+    }
+
     @Test
     @DisplayName("Should update user successfully")
     void shouldUpdateUserSuccessfully() {
         var userId = UUID.randomUUID();
 
-        when(mapper.toUpdateUserInput(userId, updateUserRequest)).thenReturn(updateUserInput);
+        when(mapper.toUpdateUserInput(userId, updateUserRequest, null)).thenReturn(updateUserInput);
         when(updateUserUseCase.execute(updateUserInput)).thenReturn(userOutput);
 
-        var result = facade.update(userId, updateUserRequest);
+        var result = facade.update(userId, updateUserRequest, null);
 
         assertNotNull(result);
-        verify(mapper).toUpdateUserInput(userId, updateUserRequest);
+        verify(mapper).toUpdateUserInput(userId, updateUserRequest, null);
         verify(updateUserUseCase).execute(updateUserInput);
     }
 
@@ -151,10 +214,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("id", userId.toString());
         var entityNotFoundError = new EntityNotFoundError("User", "ID", userId.toString(), details);
 
-        when(mapper.toUpdateUserInput(userId, updateUserRequest)).thenReturn(updateUserInput);
+        when(mapper.toUpdateUserInput(userId, updateUserRequest, null)).thenReturn(updateUserInput);
         when(updateUserUseCase.execute(updateUserInput)).thenThrow(entityNotFoundError);
 
-        assertThrows(BadResquestError.class, () -> facade.update(userId, updateUserRequest));
+        assertThrows(BadResquestError.class, () -> facade.update(userId, updateUserRequest, null));
         verify(updateUserUseCase).execute(updateUserInput);
     }
 
@@ -165,10 +228,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("field", "name");
         var validationError = new ValidationError("Invalid name", "name", details);
 
-        when(mapper.toUpdateUserInput(userId, updateUserRequest)).thenReturn(updateUserInput);
+        when(mapper.toUpdateUserInput(userId, updateUserRequest, null)).thenReturn(updateUserInput);
         when(updateUserUseCase.execute(updateUserInput)).thenThrow(validationError);
 
-        assertThrows(BadResquestError.class, () -> facade.update(userId, updateUserRequest));
+        assertThrows(BadResquestError.class, () -> facade.update(userId, updateUserRequest, null));
         verify(updateUserUseCase).execute(updateUserInput);
     }
 
@@ -177,13 +240,13 @@ class UserOperationsFacadeTest {
     void shouldChangePasswordSuccessfully() {
         var userId = UUID.randomUUID();
 
-        when(mapper.toChangePasswordInput(userId, changePasswordRequest)).thenReturn(changePasswordInput);
+        when(mapper.toChangePasswordInput(userId, changePasswordRequest, null)).thenReturn(changePasswordInput);
         when(changePasswordUseCase.execute(changePasswordInput)).thenReturn(userOutput);
 
-        var result = facade.changePassword(userId, changePasswordRequest);
+        var result = facade.changePassword(userId, changePasswordRequest, null);
 
         assertNotNull(result);
-        verify(mapper).toChangePasswordInput(userId, changePasswordRequest);
+        verify(mapper).toChangePasswordInput(userId, changePasswordRequest, null);
         verify(changePasswordUseCase).execute(changePasswordInput);
     }
 
@@ -194,10 +257,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("id", userId.toString());
         var entityNotFoundError = new EntityNotFoundError("User", "ID", userId.toString(), details);
 
-        when(mapper.toChangePasswordInput(userId, changePasswordRequest)).thenReturn(changePasswordInput);
+        when(mapper.toChangePasswordInput(userId, changePasswordRequest, null)).thenReturn(changePasswordInput);
         when(changePasswordUseCase.execute(changePasswordInput)).thenThrow(entityNotFoundError);
 
-        assertThrows(BadResquestError.class, () -> facade.changePassword(userId, changePasswordRequest));
+        assertThrows(BadResquestError.class, () -> facade.changePassword(userId, changePasswordRequest, null));
         verify(changePasswordUseCase).execute(changePasswordInput);
     }
 
@@ -208,10 +271,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("field", "password");
         var validationError = new ValidationError("Password too short", "password", details);
 
-        when(mapper.toChangePasswordInput(userId, changePasswordRequest)).thenReturn(changePasswordInput);
+        when(mapper.toChangePasswordInput(userId, changePasswordRequest, null)).thenReturn(changePasswordInput);
         when(changePasswordUseCase.execute(changePasswordInput)).thenThrow(validationError);
 
-        assertThrows(BadResquestError.class, () -> facade.changePassword(userId, changePasswordRequest));
+        assertThrows(BadResquestError.class, () -> facade.changePassword(userId, changePasswordRequest, null));
         verify(changePasswordUseCase).execute(changePasswordInput);
     }
 
@@ -220,12 +283,12 @@ class UserOperationsFacadeTest {
     void shouldActivateUserSuccessfully() {
         var userId = UUID.randomUUID();
 
-        when(activateUserUseCase.execute(userId)).thenReturn(userOutput);
+        when(activateUserUseCase.execute(userId, null)).thenReturn(userOutput);
 
-        var result = facade.activate(userId);
+        var result = facade.activate(userId, null);
 
         assertNotNull(result);
-        verify(activateUserUseCase).execute(userId);
+        verify(activateUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -235,10 +298,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("id", userId.toString());
         var entityNotFoundError = new EntityNotFoundError("User", "ID", userId.toString(), details);
 
-        when(activateUserUseCase.execute(userId)).thenThrow(entityNotFoundError);
+        when(activateUserUseCase.execute(userId, null)).thenThrow(entityNotFoundError);
 
-        assertThrows(BadResquestError.class, () -> facade.activate(userId));
-        verify(activateUserUseCase).execute(userId);
+        assertThrows(BadResquestError.class, () -> facade.activate(userId, null));
+        verify(activateUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -248,10 +311,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("currentStatus", "BLOCKED");
         var invalidStateError = new InvalidStateError("User", "BLOCKED", "activate", details);
 
-        when(activateUserUseCase.execute(userId)).thenThrow(invalidStateError);
+        when(activateUserUseCase.execute(userId, null)).thenThrow(invalidStateError);
 
-        assertThrows(BadResquestError.class, () -> facade.activate(userId));
-        verify(activateUserUseCase).execute(userId);
+        assertThrows(BadResquestError.class, () -> facade.activate(userId, null));
+        verify(activateUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -259,12 +322,12 @@ class UserOperationsFacadeTest {
     void shouldDeactivateUserSuccessfully() {
         var userId = UUID.randomUUID();
 
-        when(deactivateUserUseCase.execute(userId)).thenReturn(userOutput);
+        when(deactivateUserUseCase.execute(userId, null)).thenReturn(userOutput);
 
-        var result = facade.deactivate(userId);
+        var result = facade.deactivate(userId, null);
 
         assertNotNull(result);
-        verify(deactivateUserUseCase).execute(userId);
+        verify(deactivateUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -274,10 +337,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("id", userId.toString());
         var entityNotFoundError = new EntityNotFoundError("User", "ID", userId.toString(), details);
 
-        when(deactivateUserUseCase.execute(userId)).thenThrow(entityNotFoundError);
+        when(deactivateUserUseCase.execute(userId, null)).thenThrow(entityNotFoundError);
 
-        assertThrows(BadResquestError.class, () -> facade.deactivate(userId));
-        verify(deactivateUserUseCase).execute(userId);
+        assertThrows(BadResquestError.class, () -> facade.deactivate(userId, null));
+        verify(deactivateUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -287,10 +350,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("currentStatus", "INACTIVE");
         var invalidStateError = new InvalidStateError("User", "INACTIVE", "deactivate", details);
 
-        when(deactivateUserUseCase.execute(userId)).thenThrow(invalidStateError);
+        when(deactivateUserUseCase.execute(userId, null)).thenThrow(invalidStateError);
 
-        assertThrows(BadResquestError.class, () -> facade.deactivate(userId));
-        verify(deactivateUserUseCase).execute(userId);
+        assertThrows(BadResquestError.class, () -> facade.deactivate(userId, null));
+        verify(deactivateUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -298,12 +361,12 @@ class UserOperationsFacadeTest {
     void shouldBlockUserSuccessfully() {
         var userId = UUID.randomUUID();
 
-        when(blockUserUseCase.execute(userId)).thenReturn(userOutput);
+        when(blockUserUseCase.execute(userId, null)).thenReturn(userOutput);
 
-        var result = facade.block(userId);
+        var result = facade.block(userId, null);
 
         assertNotNull(result);
-        verify(blockUserUseCase).execute(userId);
+        verify(blockUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -313,10 +376,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("id", userId.toString());
         var entityNotFoundError = new EntityNotFoundError("User", "ID", userId.toString(), details);
 
-        when(blockUserUseCase.execute(userId)).thenThrow(entityNotFoundError);
+        when(blockUserUseCase.execute(userId, null)).thenThrow(entityNotFoundError);
 
-        assertThrows(BadResquestError.class, () -> facade.block(userId));
-        verify(blockUserUseCase).execute(userId);
+        assertThrows(BadResquestError.class, () -> facade.block(userId, null));
+        verify(blockUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -326,10 +389,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("currentStatus", "BLOCKED");
         var invalidStateError = new InvalidStateError("User", "BLOCKED", "block", details);
 
-        when(blockUserUseCase.execute(userId)).thenThrow(invalidStateError);
+        when(blockUserUseCase.execute(userId, null)).thenThrow(invalidStateError);
 
-        assertThrows(BadResquestError.class, () -> facade.block(userId));
-        verify(blockUserUseCase).execute(userId);
+        assertThrows(BadResquestError.class, () -> facade.block(userId, null));
+        verify(blockUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -355,6 +418,39 @@ class UserOperationsFacadeTest {
         verify(deleteUserUseCase).execute(userId);
     }
 
+    @Test
+    @DisplayName("Should change statuses in batch and map every outcome")
+    void shouldChangeStatusesInBatchAndMapEveryOutcome() {
+        var changed = UUID.randomUUID();
+        var missing = UUID.randomUUID();
+        var request = new UserStatusBatchRequest(List.of(changed, missing), UserStatus.BLOCKED);
+
+        when(changeUsersStatusUseCase.execute(request.ids(), UserStatus.BLOCKED)).thenReturn(List.of(
+                new UserBatchOutput(changed, BatchOutcome.CHANGED),
+                new UserBatchOutput(missing, BatchOutcome.NOT_FOUND)));
+
+        var result = facade.changeStatuses(request);
+
+        assertEquals(List.of(
+                new UserBatchOutcomeResponse(changed, "CHANGED"),
+                new UserBatchOutcomeResponse(missing, "NOT_FOUND")), result);
+    }
+
+    @Test
+    @DisplayName("Should delete users in batch and map every outcome")
+    void shouldDeleteUsersInBatchAndMapEveryOutcome() {
+        var deleted = UUID.randomUUID();
+        var request = new UserDeleteBatchRequest(List.of(deleted));
+
+        when(deleteUsersUseCase.execute(request.ids()))
+                .thenReturn(List.of(new UserBatchOutput(deleted, BatchOutcome.DELETED)));
+
+        var result = facade.deleteAll(request);
+
+        assertEquals(List.of(new UserBatchOutcomeResponse(deleted, "DELETED")), result);
+        verifyNoInteractions(deleteUserUseCase);
+    }
+
     @Test
     @DisplayName("Should find all users successfully")
     void shouldFindAllUsersSuccessfully() {
@@ -378,7 +474,8 @@ class UserOperationsFacadeTest {
         var result = facade.findAll(parameters);
 
         assertNotNull(result);
-        assertEquals(2, result.size());
+        assertEquals(2, result.getData().size());
+        assertEquals(2L, result.getDataAmount());
         verify(findUsersUseCase).execute(parameters);
     }
 
@@ -405,7 +502,26 @@ class UserOperationsFacadeTest {
         var result = facade.findAll(parameters);
 
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.getData().isEmpty());
+        verify(findUsersUseCase).execute(parameters);
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestError when find all fails with ValidationError")
+    void shouldThrowBadRequestErrorWhenFindAllFailsWithValidationError() {
+        var parameters = PageParameters.builder()
+                .page(0)
+                .size(10)
+                .orderBy("passwordHash")
+                .build();
+        var validationError = new ValidationError("Sorting by 'passwordHash' is not supported", "orderBy",
+                Map.of("field", "orderBy"));
+
+        when(findUsersUseCase.execute(parameters)).thenThrow(validationError);
+
+        var error = assertThrows(BadResquestError.class, () -> facade.findAll(parameters));
+
+        assertEquals("orderBy", error.getField());
         verify(findUsersUseCase).execute(parameters);
     }
 
@@ -520,11 +636,11 @@ class UserOperationsFacadeTest {
         var userId1 = UUID.randomUUID();
         var userId2 = UUID.randomUUID();
 
-        when(mapper.toUpdateUserInput(any(UUID.class), any(UpdateUserRequest.class))).thenReturn(updateUserInput);
+        when(mapper.toUpdateUserInput(any(UUID.class), any(UpdateUserRequest.class), any())).thenReturn(updateUserInput);
         when(updateUserUseCase.execute(updateUserInput)).thenReturn(userOutput);
 
-        facade.update(userId1, updateUserRequest);
-        facade.update(userId2, updateUserRequest);
+        facade.update(userId1, updateUserRequest, null);
+        facade.update(userId2, updateUserRequest, null);
 
         verify(updateUserUseCase, times(2)).execute(updateUserInput);
     }
@@ -534,17 +650,17 @@ class UserOperationsFacadeTest {
     void shouldHandleActivateDeactivateAndBlockOperationsForSameUser() {
         var userId = UUID.randomUUID();
 
-        when(activateUserUseCase.execute(userId)).thenReturn(userOutput);
-        when(deactivateUserUseCase.execute(userId)).thenReturn(userOutput);
-        when(blockUserUseCase.execute(userId)).thenReturn(userOutput);
+        when(activateUserUseCase.execute(userId, null)).thenReturn(userOutput);
+        when(deactivateUserUseCase.execute(userId, null)).thenReturn(userOutput);
+        when(blockUserUseCase.execute(userId, null)).thenReturn(userOutput);
 
-        facade.activate(userId);
-        facade.deactivate(userId);
-        facade.block(userId);
+        facade.activate(userId, null);
+        facade.deactivate(userId, null);
+        facade.block(userId, null);
 
-        verify(activateUserUseCase).execute(userId);
-        verify(deactivateUserUseCase).execute(userId);
-        verify(blockUserUseCase).execute(userId);
+        verify(activateUserUseCase).execute(userId, null);
+        verify(deactivateUserUseCase).execute(userId, null);
+        verify(blockUserUseCase).execute(userId, null);
     }
 
     @Test
@@ -579,8 +695,8 @@ class UserOperationsFacadeTest {
         var result1 = facade.findAll(params1);
         var result2 = facade.findAll(params2);
 
-        assertEquals(1, result1.size());
-        assertEquals(2, result2.size());
+        assertEquals(1, result1.getData().size());
+        assertEquals(2, result2.getData().size());
     }
 
     @Test
@@ -605,12 +721,12 @@ class UserOperationsFacadeTest {
         var userId1 = UUID.randomUUID();
         var userId2 = UUID.randomUUID();
 
-        when(mapper.toChangePasswordInput(any(UUID.class), any(ChangePasswordRequest.class)))
+        when(mapper.toChangePasswordInput(any(UUID.class), any(ChangePasswordRequest.class), any()))
                 .thenReturn(changePasswordInput);
         when(changePasswordUseCase.execute(changePasswordInput)).thenReturn(userOutput);
 
-        facade.changePassword(userId1, changePasswordRequest);
-        facade.changePassword(userId2, changePasswordRequest);
+        facade.changePassword(userId1, changePasswordRequest, null);
+        facade.changePassword(userId2, changePasswordRequest, null);
 
         verify(changePasswordUseCase, times(2)).execute(changePasswordInput);
     }
@@ -677,10 +793,10 @@ class UserOperationsFacadeTest {
         Map<String, Object> details = Map.of("id", userId.toString());
         var entityNotFoundError = new EntityNotFoundError("User", "ID", userId.toString(), details);
 
-        when(mapper.toUpdateUserInput(userId, updateUserRequest)).thenReturn(updateUserInput);
+        when(mapper.toUpdateUserInput(userId, updateUserRequest, null)).thenReturn(updateUserInput);
         when(updateUserUseCase.execute(updateUserInput)).thenThrow(entityNotFoundError);
 
-        var exception = assertThrows(BadResquestError.class, () -> facade.update(userId, updateUserRequest));
+        var exception = assertThrows(BadResquestError.class, () -> facade.update(userId, updateUserRequest, null));
         assertNotNull(exception);
     }
 
@@ -711,7 +827,7 @@ class UserOperationsFacadeTest {
 
         var result = facade.findAll(parameters);
 
-        assertEquals(10, result.size());
+        assertEquals(10, result.getData().size());
         verify(findUsersUseCase).execute(parameters);
     }
 
@@ -720,12 +836,12 @@ class UserOperationsFacadeTest {
     void shouldVerifyMapperIsCalledWithCorrectParameters() {
         var userId = UUID.randomUUID();
 
-        when(mapper.toUpdateUserInput(userId, updateUserRequest)).thenReturn(updateUserInput);
+        when(mapper.toUpdateUserInput(userId, updateUserRequest, null)).thenReturn(updateUserInput);
         when(updateUserUseCase.execute(updateUserInput)).thenReturn(userOutput);
 
-        facade.update(userId, updateUserRequest);
+        facade.update(userId, updateUserRequest, null);
 
-        verify(mapper).toUpdateUserInput(userId, updateUserRequest);
+        verify(mapper).toUpdateUserInput(userId, updateUserRequest, null);
     }
 
     @Test
@@ -733,14 +849,172 @@ class UserOperationsFacadeTest {
     void shouldVerifyAllUseCasesAreCalledOncePerOperation() {
         var userId = UUID.randomUUID();
 
-        when(activateUserUseCase.execute(userId)).thenReturn(userOutput);
+        when(activateUserUseCase.execute(userId, null)).thenReturn(userOutput);
         when(findUserByIdUseCase.execute(userId)).thenReturn(userOutput);
 
-        facade.activate(userId);
+        facade.activate(userId, null);
         facade.findById(userId);
 
-        verify(activateUserUseCase, times(1)).execute(userId);
+        verify(activateUserUseCase, times(1)).execute(userId, null);
         verify(findUserByIdUseCase, times(1)).execute(userId);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should find users by cursor keeping next cursor")
+    void shouldFindUsersByCursorKeepingNextCursor() {
+        var parameters = PageParameters.builder()
+                .size(2)
+                .cursor("")
+                .build();
+
+        var cursorPage = CursorPage.<UserOutput>builder()
+                .data(List.of(userOutput, userOutput))
+                .nextCursor("next")
+                .pageSize(2)
+                .lastPage(false)
+                .build();
+
+        when(findUsersByCursorUseCase.execute(parameters)).thenReturn(cursorPage);
+
+        var result = facade.findAllByCursor(parameters);
+
+        assertEquals(2, result.getData().size());
+        assertEquals("next", result.getNextCursor());
+        assertFalse(result.isLastPage());
+        verify(findUsersByCursorUseCase).execute(parameters);
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestError when cursor is invalid")
+    void shouldThrowBadRequestErrorWhenCursorIsInvalid() {
+        var parameters = PageParameters.builder()
+                .size(2)
+                .cursor("broken")
+                .build();
+
+        when(findUsersByCursorUseCase.execute(parameters))
+                .thenThrow(new ValidationError("Cursor is malformed or no longer supported", "cursor", Map.of()));
+
+        var error = assertThrows(BadResquestError.class, () -> facade.findAllByCursor(parameters));
+
+        assertEquals("cursor", error.getField());
+    }
+
+    @Test
+    @DisplayName("Should stream exported users to the output")
+    void shouldStreamExportedUsersToTheOutput() throws IOException {
+        stubExport(2);
+        var output = new ByteArrayOutputStream();
+
+        facade.export(ExportFormat.NDJSON, false, false, output);
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"status\":\"Active\""));
+    }
+
+    @Test
+    @DisplayName("Should gzip the export when requested")
+    void shouldGzipTheExportWhenRequested() throws IOException {
+        stubExport(3);
+        var output = new ByteArrayOutputStream();
+
+        facade.export(ExportFormat.CSV, false, true, output);
+
+        try (var input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            var csv = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+
+            assertEquals(4, csv.split("\n").length);
+            assertTrue(csv.startsWith("id,name,email"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should rethrow the write failure when the client goes away")
+    void shouldRethrowTheWriteFailureWhenTheClientGoesAway() {
+        stubExport(10_000);
+        var output = new OutputStream() {
+            @Override
+            public void write(int value) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        var exception = assertThrows(IOException.class, () -> facade.export(ExportFormat.CSV, false, false, output));
+
+        assertEquals("Broken pipe", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should forward the parallel export mode")
+    void shouldForwardTheParallelExportMode() throws IOException {
+        stubExport(1);
+
+        facade.export(ExportFormat.NDJSON, true, false, new ByteArrayOutputStream());
+
+        verify(exportUsersUseCase).execute(eq(true), any());
+    }
+
+    private void stubExport(int users) {
+        when(exportUsersUseCase.execute(anyBoolean(), any())).thenAnswer(invocation -> {
+            Consumer<UserOutput> sink = invocation.getArgument(1);
+            var now = OffsetDateTime.now();
+
+            for (int i = 0; i < users; i++) {
+                sink.accept(new UserOutput(UUID.randomUUID(), "User " + i, "user" + i + "@example.com",
+                        "(11) 98765-4321", UserStatus.ACTIVE, now, now, 0L));
+            }
+
+            return (long) users;
+        });
+    }
+
+
+    @Test
+    @DisplayName("Should pass the If-Match version to the update")
+    void shouldPassTheIfMatchVersionToTheUpdate() {
+        var userId = UUID.randomUUID();
+
+        when(mapper.toUpdateUserInput(userId, updateUserRequest, 4L)).thenReturn(updateUserInput);
+        when(updateUserUseCase.execute(updateUserInput)).thenReturn(userOutput);
+
+        assertNotNull(facade.update(userId, updateUserRequest, "\"4\""));
+        verify(mapper).toUpdateUserInput(userId, updateUserRequest, 4L);
+    }
+
+    @Test
+    @DisplayName("Should throw PreconditionFailedError when the update hits a VersionMismatchError")
+    void shouldThrowPreconditionFailedErrorWhenTheUpdateHitsAVersionMismatchError() {
+        var userId = UUID.randomUUID();
+        var mismatch = UseCaseExceptionFactory.versionMismatchError("User", userId.toString(), 4L, 5L, "update");
+
+        when(mapper.toUpdateUserInput(userId, updateUserRequest, 4L)).thenReturn(updateUserInput);
+        when(updateUserUseCase.execute(updateUserInput)).thenThrow(mismatch);
+
+        var error = assertThrows(PreconditionFailedError.class,
+                () -> facade.update(userId, updateUserRequest, "\"4\""));
+
+        assertEquals("update", error.getAction());
+    }
+
+    @Test
+    @DisplayName("Should throw PreconditionFailedError without touching the user when If-Match is not a version")
+    void shouldThrowPreconditionFailedErrorWhenIfMatchIsNotAVersion() {
+        var userId = UUID.randomUUID();
+
+        assertThrows(PreconditionFailedError.class, () -> facade.block(userId, "W/\"4\""));
+        verifyNoInteractions(blockUserUseCase);
+    }
+
+    @Test
+    @DisplayName("Should throw PreconditionFailedError when a status change hits a VersionMismatchError")
+    void shouldThrowPreconditionFailedErrorWhenAStatusChangeHitsAVersionMismatchError() {
+        var userId = UUID.randomUUID();
+        var mismatch = UseCaseExceptionFactory.versionMismatchError("User", userId.toString(), 1L, 2L, "deactivate");
+
+        when(deactivateUserUseCase.execute(userId, 1L)).thenThrow(mismatch);
+
+        assertThrows(PreconditionFailedError.class, () -> facade.deactivate(userId, "\"1\""));
+    }
+
+}
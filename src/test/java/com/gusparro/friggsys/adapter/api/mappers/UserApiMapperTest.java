@@ -83,7 +83,7 @@ class UserApiMapperTest {
                 "(11) 97777-7777"
         );
 
-        var input = mapper.toUpdateUserInput(userId, request);
+        var input = mapper.toUpdateUserInput(userId, request, null);
 
         assertNotNull(input);
         assertEquals(userId, input.id());
@@ -102,7 +102,7 @@ class UserApiMapperTest {
                 "(11) 98888-8888"
         );
 
-        var input = mapper.toUpdateUserInput(specificId, request);
+        var input = mapper.toUpdateUserInput(specificId, request, null);
 
         assertEquals(specificId, input.id());
         assertEquals("550e8400-e29b-41d4-a716-446655440000", input.id().toString());
@@ -118,7 +118,7 @@ class UserApiMapperTest {
                 "(11) 91111-1111"
         );
 
-        var input = mapper.toUpdateUserInput(userId, request);
+        var input = mapper.toUpdateUserInput(userId, request, null);
 
         assertNotNull(input.id());
         assertNotNull(input.name());
@@ -135,7 +135,7 @@ class UserApiMapperTest {
                 "NewPassword456"
         );
 
-        var input = mapper.toChangePasswordInput(userId, request);
+        var input = mapper.toChangePasswordInput(userId, request, null);
 
         assertNotNull(input);
         assertEquals(userId, input.id());
@@ -152,7 +152,7 @@ class UserApiMapperTest {
                 "N3w$ecur3P@ssw0rd!456"
         );
 
-        var input = mapper.toChangePasswordInput(userId, request);
+        var input = mapper.toChangePasswordInput(userId, request, null);
 
         assertEquals("Current@P@ssw0rd!123", input.currentPassword());
         assertEquals("N3w$ecur3P@ssw0rd!456", input.newPassword());
@@ -167,7 +167,7 @@ class UserApiMapperTest {
                 "newPass"
         );
 
-        var input = mapper.toChangePasswordInput(specificId, request);
+        var input = mapper.toChangePasswordInput(specificId, request, null);
 
         assertEquals(specificId, input.id());
         assertEquals("123e4567-e89b-12d3-a456-426614174000", input.id().toString());
@@ -196,8 +196,8 @@ class UserApiMapperTest {
         var request1 = new UpdateUserRequest("User1", "user1@test.com", "(11) 91111-1111");
         var request2 = new UpdateUserRequest("User2", "user2@test.com", "(11) 92222-2222");
 
-        var input1 = mapper.toUpdateUserInput(id1, request1);
-        var input2 = mapper.toUpdateUserInput(id2, request2);
+        var input1 = mapper.toUpdateUserInput(id1, request1, null);
+        var input2 = mapper.toUpdateUserInput(id2, request2, null);
 
         assertNotEquals(input1.id(), input2.id());
         assertNotEquals(input1.name(), input2.name());
@@ -212,8 +212,8 @@ class UserApiMapperTest {
         var request1 = new ChangePasswordRequest("current1", "new1");
         var request2 = new ChangePasswordRequest("current2", "new2");
 
-        var input1 = mapper.toChangePasswordInput(id1, request1);
-        var input2 = mapper.toChangePasswordInput(id2, request2);
+        var input1 = mapper.toChangePasswordInput(id1, request1, null);
+        var input2 = mapper.toChangePasswordInput(id2, request2, null);
 
         assertNotEquals(input1.id(), input2.id());
         assertNotEquals(input1.currentPassword(), input2.currentPassword());
@@ -239,7 +239,7 @@ class UserApiMapperTest {
         UUID userId = UUID.randomUUID();
         var request = new UpdateUserRequest("A", "a@b.c", "1");
 
-        var input = mapper.toUpdateUserInput(userId, request);
+        var input = mapper.toUpdateUserInput(userId, request, null);
 
         assertEquals(userId, input.id());
         assertEquals("A", input.name());
@@ -253,7 +253,7 @@ class UserApiMapperTest {
         UUID userId = UUID.randomUUID();
         var request = new ChangePasswordRequest("c", "n");
 
-        var input = mapper.toChangePasswordInput(userId, request);
+        var input = mapper.toChangePasswordInput(userId, request, null);
 
         assertEquals(userId, input.id());
         assertEquals("c", input.currentPassword());
@@ -299,9 +299,9 @@ class UserApiMapperTest {
         var request2 = new UpdateUserRequest("User2", "user2@test.com", "(11) 92222-2222");
         var request3 = new UpdateUserRequest("User3", "user3@test.com", "(11) 93333-3333");
 
-        var input1 = mapper.toUpdateUserInput(id1, request1);
-        var input2 = mapper.toUpdateUserInput(id2, request2);
-        var input3 = mapper.toUpdateUserInput(id3, request3);
+        var input1 = mapper.toUpdateUserInput(id1, request1, null);
+        var input2 = mapper.toUpdateUserInput(id2, request2, null);
+        var input3 = mapper.toUpdateUserInput(id3, request3, null);
 
         assertEquals(id1, input1.id());
         assertEquals(id2, input2.id());
@@ -347,4 +347,16 @@ class UserApiMapperTest {
         assertEquals(originalPassword, input.password());
     }
 
+
+    @Test
+    @DisplayName("Should carry the expected version into the inputs")
+    void shouldCarryTheExpectedVersionIntoTheInputs() {
+        var userId = UUID.randomUUID();
+        var updateRequest = new UpdateUserRequest("Jane Updated", "jane@example.com", "(11) 97777-7777");
+        var passwordRequest = new ChangePasswordRequest("OldP@ss123", "NewP@ss456");
+
+        assertEquals(9L, mapper.toUpdateUserInput(userId, updateRequest, 9L).expectedVersion());
+        assertEquals(9L, mapper.toChangePasswordInput(userId, passwordRequest, 9L).expectedVersion());
+    }
+
 }
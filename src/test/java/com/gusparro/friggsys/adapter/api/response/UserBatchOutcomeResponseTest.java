@@ -0,0 +1,26 @@
+package com.gusparro.friggsys.adapter.api.response;
+
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.UserBatchOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserBatchOutcomeResponse Tests")
+class UserBatchOutcomeResponseTest {
+
+    @Test
+    @DisplayName("Should create UserBatchOutcomeResponse from UserBatchOutput")
+    void shouldCreateUserBatchOutcomeResponseFromUserBatchOutput() {
+        var id = UUID.randomUUID();
+
+        var response = UserBatchOutcomeResponse.from(new UserBatchOutput(id, BatchOutcome.ALREADY_IN_STATE));
+
+        assertEquals(id, response.id());
+        assertEquals("ALREADY_IN_STATE", response.outcome());
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.gusparro.friggsys.adapter.api.response;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.UserCreationOutput;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserCreationOutcomeResponse Tests")
+class UserCreationOutcomeResponseTest {
+
+    @Test
+    @DisplayName("Should create response with the created user")
+    void shouldCreateResponseWithTheCreatedUser() {
+        var id = UUID.randomUUID();
+        var now = OffsetDateTime.now();
+        var user = new UserOutput(id, "John Doe", "john@example.com", "(63) 99999-9999", UserStatus.ACTIVE, now, now, 0L);
+
+        var response = UserCreationOutcomeResponse.from(new UserCreationOutput(3, BatchOutcome.CREATED, user, Map.of()));
+
+        assertEquals(3, response.index());
+        assertEquals("CREATED", response.outcome());
+        assertEquals(id, response.user().id());
+        assertTrue(response.fieldErrors().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should create response with field errors and no user")
+    void shouldCreateResponseWithFieldErrorsAndNoUser() {
+        var response = UserCreationOutcomeResponse.from(new UserCreationOutput(0, BatchOutcome.INVALID, null,
+                Map.of("email", "Invalid email format")));
+
+        assertEquals("INVALID", response.outcome());
+        assertNull(response.user());
+        assertEquals(Map.of("email", "Invalid email format"), response.fieldErrors());
+    }
+
+}
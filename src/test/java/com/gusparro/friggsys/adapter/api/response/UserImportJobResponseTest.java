@@ -0,0 +1,54 @@
+package com.gusparro.friggsys.adapter.api.response;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserImportJobResponse Tests")
+class UserImportJobResponseTest {
+
+    private static final OffsetDateTime STARTED_AT = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    @DisplayName("Should create UserImportJobResponse from ImportJobOutput")
+    void shouldCreateUserImportJobResponseFromImportJobOutput() {
+        var id = UUID.randomUUID();
+        var output = new ImportJobOutput(id, ImportFormat.NDJSON, ImportJobStatus.COMPLETED, 5000, 4990, 10, null,
+                STARTED_AT, STARTED_AT.plusSeconds(4));
+
+        var response = UserImportJobResponse.from(output);
+
+        assertEquals(id, response.id());
+        assertEquals("NDJSON", response.format());
+        assertEquals("COMPLETED", response.status());
+        assertEquals(4990, response.importedRows());
+        assertEquals(10, response.rejectedRows());
+        assertEquals(1250.0, response.rowsPerSecond());
+    }
+
+    @Test
+    @DisplayName("Should measure throughput of a running job until now")
+    void shouldMeasureThroughputOfARunningJobUntilNow() {
+        var output = new ImportJobOutput(UUID.randomUUID(), ImportFormat.CSV, ImportJobStatus.RUNNING, 3000, 3000, 0,
+                null, STARTED_AT, null);
+
+        assertEquals(300.0, UserImportJobResponse.rowsPerSecondOf(output, STARTED_AT.plusSeconds(10)));
+    }
+
+    @Test
+    @DisplayName("Should report no throughput before any time elapsed")
+    void shouldReportNoThroughputBeforeAnyTimeElapsed() {
+        var output = new ImportJobOutput(UUID.randomUUID(), ImportFormat.CSV, ImportJobStatus.RUNNING, 0, 0, 0,
+                null, STARTED_AT, null);
+
+        assertEquals(0.0, UserImportJobResponse.rowsPerSecondOf(output, STARTED_AT));
+    }
+
+}
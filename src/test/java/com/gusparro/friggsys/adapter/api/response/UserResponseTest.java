@@ -27,7 +27,8 @@ class UserResponseTest {
                 "(11) 98888-8888",
                 "active",
                 now,
-                now
+                now,
+                0L
         );
 
         assertEquals(id, response.id());
@@ -102,7 +103,8 @@ class UserResponseTest {
                 "123456",
                 "active",
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         assertEquals(specificId, response.id());
@@ -122,7 +124,8 @@ class UserResponseTest {
                 "123",
                 "active",
                 createdAt,
-                updatedAt
+                updatedAt,
+                0L
         );
 
         assertEquals(createdAt, response.createdAt());
@@ -135,17 +138,17 @@ class UserResponseTest {
     void shouldCreateResponseWithDifferentStatusValues() {
         var activeResponse = new UserResponse(
                 UUID.randomUUID(), "User1", "user1@test.com", "123", "active",
-                OffsetDateTime.now(), OffsetDateTime.now()
+                OffsetDateTime.now(), OffsetDateTime.now(), 0L
         );
 
         var inactiveResponse = new UserResponse(
                 UUID.randomUUID(), "User2", "user2@test.com", "456", "inactive",
-                OffsetDateTime.now(), OffsetDateTime.now()
+                OffsetDateTime.now(), OffsetDateTime.now(), 0L
         );
 
         var blockedResponse = new UserResponse(
                 UUID.randomUUID(), "User3", "user3@test.com", "789", "blocked",
-                OffsetDateTime.now(), OffsetDateTime.now()
+                OffsetDateTime.now(), OffsetDateTime.now(), 0L
         );
 
         assertEquals("active", activeResponse.status());
@@ -164,7 +167,7 @@ class UserResponseTest {
     void shouldHaveCorrectRecordComponents() {
         var components = UserResponse.class.getRecordComponents();
 
-        assertEquals(7, components.length);
+        assertEquals(8, components.length);
         assertEquals("id", components[0].getName());
         assertEquals("name", components[1].getName());
         assertEquals("email", components[2].getName());
@@ -172,6 +175,7 @@ class UserResponseTest {
         assertEquals("status", components[4].getName());
         assertEquals("createdAt", components[5].getName());
         assertEquals("updatedAt", components[6].getName());
+        assertEquals("version", components[7].getName());
     }
 
     @Test
@@ -181,11 +185,11 @@ class UserResponseTest {
         OffsetDateTime timestamp = OffsetDateTime.now();
 
         var response1 = new UserResponse(
-                id, "User", "user@test.com", "123", "active", timestamp, timestamp
+                id, "User", "user@test.com", "123", "active", timestamp, timestamp, 0L
         );
 
         var response2 = new UserResponse(
-                id, "User", "user@test.com", "123", "active", timestamp, timestamp
+                id, "User", "user@test.com", "123", "active", timestamp, timestamp, 0L
         );
 
         assertEquals(response1, response2);
@@ -198,11 +202,11 @@ class UserResponseTest {
         OffsetDateTime timestamp = OffsetDateTime.now();
 
         var response1 = new UserResponse(
-                UUID.randomUUID(), "User1", "user1@test.com", "123", "active", timestamp, timestamp
+                UUID.randomUUID(), "User1", "user1@test.com", "123", "active", timestamp, timestamp, 0L
         );
 
         var response2 = new UserResponse(
-                UUID.randomUUID(), "User2", "user2@test.com", "456", "active", timestamp, timestamp
+                UUID.randomUUID(), "User2", "user2@test.com", "456", "active", timestamp, timestamp, 0L
         );
 
         assertNotEquals(response1, response2);
@@ -215,7 +219,7 @@ class UserResponseTest {
         OffsetDateTime now = OffsetDateTime.now();
 
         var response = new UserResponse(
-                id, "Test User", "test@test.com", "123456", "active", now, now
+                id, "Test User", "test@test.com", "123456", "active", now, now, 0L
         );
 
         String toString = response.toString();
@@ -356,11 +360,11 @@ class UserResponseTest {
         OffsetDateTime brTime = OffsetDateTime.now(ZoneOffset.ofHours(-3));
 
         var response1 = new UserResponse(
-                UUID.randomUUID(), "User", "user@test.com", "123", "active", utcTime, utcTime
+                UUID.randomUUID(), "User", "user@test.com", "123", "active", utcTime, utcTime, 0L
         );
 
         var response2 = new UserResponse(
-                UUID.randomUUID(), "User", "user@test.com", "123", "active", brTime, brTime
+                UUID.randomUUID(), "User", "user@test.com", "123", "active", brTime, brTime, 0L
         );
 
         assertNotEquals(response1.createdAt().getOffset(), response2.createdAt().getOffset());
@@ -0,0 +1,138 @@
+package com.gusparro.friggsys.adapter.api.routing;
+
+import com.gusparro.friggsys.adapter.persistence.routing.DataSourceRoutingContext;
+import com.gusparro.friggsys.adapter.persistence.routing.ReadYourWritesTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadYourWritesFilter Tests")
+class ReadYourWritesFilterTest {
+
+    private ReadYourWritesTracker tracker;
+    private ReadYourWritesFilter filter;
+    private AtomicBoolean pinnedDuringChain;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(new SimpleMeterRegistry(), Duration.ofMinutes(1));
+        filter = new ReadYourWritesFilter(tracker);
+        pinnedDuringChain = new AtomicBoolean();
+        chain = (request, response) -> pinnedDuringChain.set(DataSourceRoutingContext.isPrimaryPinned());
+    }
+
+    @Test
+    @DisplayName("Should leave reads of clients without recent writes unpinned")
+    void shouldLeaveReadsOfClientsWithoutRecentWritesUnpinned() throws Exception {
+        filter.doFilter(request("GET", null), new MockHttpServletResponse(), chain);
+
+        assertFalse(pinnedDuringChain.get());
+    }
+
+    @Test
+    @DisplayName("Should pin reads to the primary after a write by the same client")
+    void shouldPinReadsToThePrimaryAfterAWriteByTheSameClient() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request("PATCH", null), response, chain);
+        assertTrue(pinnedDuringChain.get());
+
+        filter.doFilter(request("GET", response.getCookie(ReadYourWritesFilter.CLIENT_COOKIE).getValue()),
+                new MockHttpServletResponse(), chain);
+        assertTrue(pinnedDuringChain.get());
+        assertFalse(DataSourceRoutingContext.isPrimaryPinned());
+    }
+
+    @Test
+    @DisplayName("Should not pin reads of other clients behind the same address")
+    void shouldNotPinReadsOfOtherClientsBehindTheSameAddress() throws Exception {
+        filter.doFilter(request("POST", null), new MockHttpServletResponse(), chain);
+
+        filter.doFilter(request("GET", null), new MockHttpServletResponse(), chain);
+        assertFalse(pinnedDuringChain.get());
+
+        filter.doFilter(request("GET", UUID.randomUUID().toString()), new MockHttpServletResponse(), chain);
+        assertFalse(pinnedDuringChain.get());
+    }
+
+    @Test
+    @DisplayName("Should issue a distinct client token to each anonymous writer")
+    void shouldIssueADistinctClientTokenToEachAnonymousWriter() throws Exception {
+        var first = new MockHttpServletResponse();
+        var second = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", null), first, chain);
+        filter.doFilter(request("POST", null), second, chain);
+
+        var cookie = first.getCookie(ReadYourWritesFilter.CLIENT_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.isHttpOnly());
+        assertEquals("/friggsys-service", cookie.getPath());
+        assertNotEquals(cookie.getValue(), second.getCookie(ReadYourWritesFilter.CLIENT_COOKIE).getValue());
+    }
+
+    @Test
+    @DisplayName("Should keep the token of clients that already carry one")
+    void shouldKeepTheTokenOfClientsThatAlreadyCarryOne() throws Exception {
+        var token = UUID.randomUUID().toString();
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request("PUT", token), response, chain);
+
+        assertNull(response.getCookie(ReadYourWritesFilter.CLIENT_COOKIE));
+        assertTrue(tracker.wroteRecently("token:" + token));
+    }
+
+    @Test
+    @DisplayName("Should identify authenticated clients by principal before token")
+    void shouldIdentifyAuthenticatedClientsByPrincipalBeforeToken() {
+        var token = UUID.randomUUID().toString();
+        var request = request("GET", token);
+        request.setUserPrincipal(() -> "friggsys_user");
+
+        assertEquals(Optional.of("principal:friggsys_user"), ReadYourWritesFilter.clientOf(request));
+        assertEquals(Optional.of("token:" + token), ReadYourWritesFilter.clientOf(request("GET", token)));
+        assertEquals(Optional.empty(), ReadYourWritesFilter.clientOf(request("GET", null)));
+        assertEquals(Optional.empty(), ReadYourWritesFilter.clientOf(request("GET", "not-a-token")));
+    }
+
+    @Test
+    @DisplayName("Should record the write even when the request fails")
+    void shouldRecordTheWriteEvenWhenTheRequestFails() {
+        var token = UUID.randomUUID().toString();
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request("DELETE", token), new MockHttpServletResponse(), failing));
+        assertTrue(tracker.wroteRecently("token:" + token));
+        assertFalse(DataSourceRoutingContext.isPrimaryPinned());
+    }
+
+    private static MockHttpServletRequest request(String method, String token) {
+        var request = new MockHttpServletRequest(method, "/friggsys-service/api/v1/users");
+        request.setContextPath("/friggsys-service");
+        request.setRemoteAddr("10.0.0.1");
+
+        if (token != null) {
+            request.setCookies(new Cookie(ReadYourWritesFilter.CLIENT_COOKIE, token));
+        }
+
+        return request;
+    }
+
+}
@@ -1,13 +1,17 @@
 package com.gusparro.friggsys.adapter.exceptions;
 
+import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
 import com.gusparro.friggsys.domain.exceptions.InvalidStateError;
 import com.gusparro.friggsys.domain.exceptions.ValidationError;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.exceptions.UseCaseExceptionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -110,6 +114,24 @@ class AdapterExceptionFactoryTest {
         assertTrue(timestamp.isBefore(after.plusSeconds(1)));
     }
 
+    @Test
+    @DisplayName("Should create ServiceUnavailableError for exceeded capacity")
+    void shouldCreateServiceUnavailableErrorForExceededCapacity() {
+        var error = AdapterExceptionFactory.capacityExceeded("password_hashing", "queue_full", Duration.ofSeconds(2));
+
+        assertNotNull(error);
+        assertEquals("password_hashing", error.getResource());
+        assertEquals("queue_full", error.getReason());
+        assertEquals(Duration.ofSeconds(2), error.getRetryAfter());
+        assertEquals("The 'password_hashing' resource is temporarily unavailable due a 'queue_full' condition, retry later",
+                error.getMessage());
+
+        var details = error.getDetails();
+        assertEquals(4, details.size());
+        assertEquals(2L, details.get("retryAfterSeconds"));
+        assertInstanceOf(Instant.class, details.get("timestamp"));
+    }
+
     @Test
     @DisplayName("Should create BadRequestError with null details from InvalidStateError")
     void shouldCreateBadRequestErrorWithNullDetailsFromInvalidStateError() {
@@ -292,4 +314,52 @@ class AdapterExceptionFactoryTest {
         assertEquals("insufficient_funds", error.getDetails().get("conflictType"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should expose every violation as field error when ValidationError aggregates several fields")
+    void shouldExposeEveryViolationAsFieldErrorWhenValidationErrorAggregatesSeveralFields() {
+        var nameError = DomainExceptionFactory.emptyField("name");
+        var emailError = DomainExceptionFactory.invalidPattern("email", "pattern", "Invalid email format");
+        var validationError = DomainExceptionFactory.invalidFields(List.of(nameError, emailError));
+
+        var badRequestError = AdapterExceptionFactory.invalidField("User", "create", validationError);
+
+        assertEquals("name, email", badRequestError.getField());
+        assertEquals(List.of("name", "email"), List.copyOf(badRequestError.getFieldErrors().keySet()));
+        assertEquals(nameError.getMessage(), badRequestError.getFieldErrors().get("name"));
+        assertEquals(emailError.getMessage(), badRequestError.getFieldErrors().get("email"));
+    }
+
+    @Test
+    @DisplayName("Should not expose field errors when ValidationError has a single field")
+    void shouldNotExposeFieldErrorsWhenValidationErrorHasASingleField() {
+        var badRequestError = AdapterExceptionFactory.invalidField("User", "create",
+                DomainExceptionFactory.emptyField("name"));
+
+        assertTrue(badRequestError.getFieldErrors().isEmpty());
+    }
+
+
+    @Test
+    @DisplayName("Should create PreconditionFailedError from a VersionMismatchError")
+    void shouldCreatePreconditionFailedErrorFromAVersionMismatchError() {
+        var mismatch = UseCaseExceptionFactory.versionMismatchError("User", "123", 2L, 5L, "update");
+
+        var error = AdapterExceptionFactory.versionMismatch("update", mismatch);
+
+        assertEquals("User", error.getEntityName());
+        assertEquals("update", error.getAction());
+        assertEquals(5L, error.getDetails().get("currentVersion"));
+        assertTrue(error.getMessage().contains("'update'"));
+    }
+
+    @Test
+    @DisplayName("Should create PreconditionFailedError for an unsupported condition")
+    void shouldCreatePreconditionFailedErrorForAnUnsupportedCondition() {
+        var error = AdapterExceptionFactory.unsupportedPrecondition("User", "block", "W/\"3\"");
+
+        assertEquals("User", error.getEntityName());
+        assertEquals("block", error.getAction());
+        assertEquals("W/\"3\"", error.getDetails().get("condition"));
+    }
+
+}
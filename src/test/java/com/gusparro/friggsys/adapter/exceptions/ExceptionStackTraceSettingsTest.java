@@ -0,0 +1,72 @@
+package com.gusparro.friggsys.adapter.exceptions;
+
+import com.gusparro.friggsys.domain.exceptions.DomainException;
+import com.gusparro.friggsys.usecase.exceptions.UseCaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExceptionStackTraceSettings Tests")
+class ExceptionStackTraceSettingsTest {
+
+    @AfterEach
+    void tearDown() {
+        DomainException.setStackTraceEnabled(true);
+        UseCaseException.setStackTraceEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should disable stack traces of domain and use case exceptions")
+    void shouldDisableStackTracesOfDomainAndUseCaseExceptions() {
+        new ExceptionStackTraceSettings(false);
+
+        assertFalse(DomainException.isStackTraceEnabled());
+        assertFalse(UseCaseException.isStackTraceEnabled());
+    }
+
+    @Test
+    @DisplayName("Should enable stack traces of domain and use case exceptions")
+    void shouldEnableStackTracesOfDomainAndUseCaseExceptions() {
+        DomainException.setStackTraceEnabled(false);
+        UseCaseException.setStackTraceEnabled(false);
+
+        new ExceptionStackTraceSettings(true);
+
+        assertTrue(DomainException.isStackTraceEnabled());
+        assertTrue(UseCaseException.isStackTraceEnabled());
+    }
+
+    @Test
+    @DisplayName("Should restore the previous settings when the context closes")
+    void shouldRestoreThePreviousSettingsWhenTheContextCloses() {
+        var settings = new ExceptionStackTraceSettings(false);
+
+        settings.restore();
+
+        assertTrue(DomainException.isStackTraceEnabled());
+        assertTrue(UseCaseException.isStackTraceEnabled());
+    }
+
+    @Test
+    @DisplayName("Should not leak the setting into a later context")
+    void shouldNotLeakTheSettingIntoALaterContext() {
+        try (var context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(
+                    new MapPropertySource("test", Map.of("api.exceptions.stack-traces", "false")));
+            context.register(ExceptionStackTraceSettings.class);
+            context.refresh();
+
+            assertFalse(DomainException.isStackTraceEnabled());
+        }
+
+        assertTrue(DomainException.isStackTraceEnabled());
+        assertTrue(UseCaseException.isStackTraceEnabled());
+    }
+
+}
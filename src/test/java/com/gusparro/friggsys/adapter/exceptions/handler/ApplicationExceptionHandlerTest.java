@@ -3,6 +3,8 @@ package com.gusparro.friggsys.adapter.exceptions.handler;
 import com.gusparro.friggsys.adapter.exceptions.BadResquestError;
 import com.gusparro.friggsys.adapter.exceptions.ConflictError;
 import com.gusparro.friggsys.adapter.exceptions.NotFoundError;
+import com.gusparro.friggsys.adapter.exceptions.PreconditionFailedError;
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
 import com.gusparro.friggsys.usecase.exceptions.DuplicateEmailError;
 import com.gusparro.friggsys.usecase.exceptions.MatchingError;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,12 +17,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -573,4 +578,108 @@ class ApplicationExceptionHandlerTest {
         assertTrue(problemDetails.detail().contains("Entity@123"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should handle ServiceUnavailableError with Retry-After header")
+    void shouldHandleServiceUnavailableErrorWithRetryAfterHeader() {
+        when(httpServletRequest.getRequestURI()).thenReturn("/api/users");
+        var error = new ServiceUnavailableError("password_hashing", "queue_full", Duration.ofSeconds(3),
+                Map.of("reason", "queue_full"));
+
+        var response = handler.handleServiceUnavailableError(error, webRequest, httpServletRequest);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        var problemDetails = (ProblemDetails) response.getBody();
+        assertNotNull(problemDetails);
+        assertEquals(503, problemDetails.status());
+        assertEquals("/api/users", problemDetails.instance());
+        assertTrue(problemDetails.detail().contains("password_hashing"));
+    }
+
+    @Test
+    @DisplayName("Should round Retry-After header up to at least one second")
+    void shouldRoundRetryAfterHeaderUpToAtLeastOneSecond() {
+        when(httpServletRequest.getRequestURI()).thenReturn("/api/users");
+        var error = new ServiceUnavailableError("password_hashing", "wait_timeout", Duration.ofMillis(200), Map.of());
+
+        var response = handler.handleServiceUnavailableError(error, webRequest, httpServletRequest);
+
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should list field errors when BadRequestError carries several violations")
+    void shouldListFieldErrorsWhenBadRequestErrorCarriesSeveralViolations() {
+        when(httpServletRequest.getRequestURI()).thenReturn("/api/test");
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        fieldErrors.put("name", "name cannot be empty");
+        fieldErrors.put("email", "Invalid email format");
+        var error = new BadResquestError("Invalid request", "User", "create", "name, email", new HashMap<>(), fieldErrors);
+
+        var response = handler.handleBadRequestError(error, webRequest, httpServletRequest);
+
+        var problemDetails = (ProblemDetails) response.getBody();
+        assertNotNull(problemDetails);
+        assertEquals(2, problemDetails.fields().size());
+        assertEquals("name", problemDetails.fields().getFirst().name());
+        assertEquals("name cannot be empty", problemDetails.fields().getFirst().message());
+        assertEquals("email", problemDetails.fields().get(1).name());
+    }
+
+    @Test
+    @DisplayName("Should omit fields when BadRequestError has no field errors")
+    void shouldOmitFieldsWhenBadRequestErrorHasNoFieldErrors() {
+        when(httpServletRequest.getRequestURI()).thenReturn("/api/test");
+        var error = new BadResquestError("Invalid request", "User", "create", new HashMap<>());
+
+        var response = handler.handleBadRequestError(error, webRequest, httpServletRequest);
+
+        var problemDetails = (ProblemDetails) response.getBody();
+        assertNotNull(problemDetails);
+        assertNull(problemDetails.fields());
+    }
+
+
+    @Test
+    @DisplayName("Should handle PreconditionFailedError with PRECONDITION_FAILED status")
+    void shouldHandlePreconditionFailedErrorWithPreconditionFailedStatus() {
+        when(httpServletRequest.getRequestURI()).thenReturn("/api/users/1");
+        var error = new PreconditionFailedError("User", "update", new HashMap<>(Map.of("currentVersion", 4L)));
+
+        var response = handler.handlePreconditionFailedError(error, webRequest, httpServletRequest);
+
+        var problemDetails = (ProblemDetails) response.getBody();
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertNotNull(problemDetails);
+        assertEquals(412, problemDetails.status());
+        assertEquals(4L, problemDetails.additionalProperties().get("currentVersion"));
+    }
+
+    @Test
+    @DisplayName("Should answer PRECONDITION_FAILED to a concurrent write of a conditional request")
+    void shouldAnswerPreconditionFailedToAConcurrentWriteOfAConditionalRequest() {
+        when(httpServletRequest.getRequestURI()).thenReturn("/api/users/1");
+        when(httpServletRequest.getHeader(HttpHeaders.IF_MATCH)).thenReturn("\"3\"");
+
+        var response = handler.handleOptimisticLockingFailure(
+                new ObjectOptimisticLockingFailureException("UserEntity", "1"), webRequest, httpServletRequest);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should answer CONFLICT to a concurrent write of an unconditional request")
+    void shouldAnswerConflictToAConcurrentWriteOfAnUnconditionalRequest() {
+        when(httpServletRequest.getRequestURI()).thenReturn("/api/users/1");
+
+        var response = handler.handleOptimisticLockingFailure(
+                new ObjectOptimisticLockingFailureException("UserEntity", "1"), webRequest, httpServletRequest);
+
+        var problemDetails = (ProblemDetails) response.getBody();
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(problemDetails);
+        assertEquals(409, problemDetails.status());
+    }
+
+}
@@ -37,6 +37,15 @@ class ProblemTypeTest {
         assertEquals("Conflict", problemType.getTitle());
     }
 
+    @Test
+    @DisplayName("Should have correct status for PRECONDITION_FAILED")
+    void shouldHaveCorrectStatusForPreconditionFailed() {
+        var problemType = ProblemType.IS_PRECONDITION_FAILED_ERROR;
+
+        assertEquals(412, problemType.getStatus());
+        assertEquals("Precondition Failed", problemType.getTitle());
+    }
+
     @Test
     @DisplayName("Should have correct status for INTERNAL_SERVER_ERROR")
     void shouldHaveCorrectStatusForInternalServerError() {
@@ -166,13 +175,15 @@ class ProblemTypeTest {
     }
 
     @Test
-    @DisplayName("Should return INTERNAL_SERVER_ERROR for SERVICE_UNAVAILABLE status code")
-    void shouldReturnInternalServerErrorForServiceUnavailableStatusCode() {
+    @DisplayName("Should return IS_SERVICE_UNAVAILABLE_ERROR for SERVICE_UNAVAILABLE status code")
+    void shouldReturnServiceUnavailableErrorForServiceUnavailableStatusCode() {
         var statusCode = HttpStatus.SERVICE_UNAVAILABLE;
 
         var problemType = ProblemType.fromStatusCode(statusCode);
 
-        assertEquals(ProblemType.IS_INTERNAL_SERVER_ERROR, problemType);
+        assertEquals(ProblemType.IS_SERVICE_UNAVAILABLE_ERROR, problemType);
+        assertEquals(503, problemType.getStatus());
+        assertEquals("Service Unavailable", problemType.getTitle());
     }
 
     @Test
@@ -196,11 +207,11 @@ class ProblemTypeTest {
     }
 
     @Test
-    @DisplayName("Should have exactly 4 enum constants")
-    void shouldHaveExactly4EnumConstants() {
+    @DisplayName("Should have exactly 6 enum constants")
+    void shouldHaveExactly6EnumConstants() {
         var values = ProblemType.values();
 
-        assertEquals(4, values.length);
+        assertEquals(6, values.length);
     }
 
     @Test
@@ -382,8 +393,6 @@ class ProblemTypeTest {
                 ProblemType.fromStatusCode(HttpStatus.NOT_IMPLEMENTED));
         assertEquals(ProblemType.IS_INTERNAL_SERVER_ERROR,
                 ProblemType.fromStatusCode(HttpStatus.BAD_GATEWAY));
-        assertEquals(ProblemType.IS_INTERNAL_SERVER_ERROR,
-                ProblemType.fromStatusCode(HttpStatus.SERVICE_UNAVAILABLE));
     }
 
     @Test
@@ -0,0 +1,115 @@
+package com.gusparro.friggsys.adapter.imports;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvUserImportReader Tests")
+class CsvUserImportReaderTest {
+
+    @Test
+    @DisplayName("Should read rows in header order")
+    void shouldReadRowsInHeaderOrder() {
+        var rows = readAll("name,email,telephone,password\n"
+                + "John Doe,john@example.com,(11) 98765-4321,Valid#Pass123\n");
+
+        assertEquals(List.of(ImportRowInput.of(2, "John Doe", "john@example.com", "(11) 98765-4321",
+                "Valid#Pass123")), rows);
+    }
+
+    @Test
+    @DisplayName("Should map columns by header name")
+    void shouldMapColumnsByHeaderName() {
+        var rows = readAll("\uFEFFPassword, Email ,telephone,NAME\r\n"
+                + "Valid#Pass123,john@example.com,(11) 98765-4321,John Doe\r\n");
+
+        assertEquals(List.of(ImportRowInput.of(2, "John Doe", "john@example.com", "(11) 98765-4321",
+                "Valid#Pass123")), rows);
+    }
+
+    @Test
+    @DisplayName("Should read quoted fields with commas, quotes and line breaks")
+    void shouldReadQuotedFieldsWithCommasQuotesAndLineBreaks() {
+        var rows = readAll("name,email,telephone,password\n"
+                + "\"Doe, \"\"Johnny\"\"\nJr\",john@example.com,(11) 98765-4321,\"Valid#Pass,123\"\n"
+                + "Jane Doe,jane@example.com,(11) 98765-4322,Valid#Pass123");
+
+        assertEquals(2, rows.size());
+        assertEquals("Doe, \"Johnny\"\nJr", rows.get(0).name());
+        assertEquals("Valid#Pass,123", rows.get(0).password());
+        assertEquals(4, rows.get(1).lineNumber());
+        assertEquals("Jane Doe", rows.get(1).name());
+    }
+
+    @Test
+    @DisplayName("Should skip blank lines")
+    void shouldSkipBlankLines() {
+        var rows = readAll("name,email,telephone,password\n\n"
+                + "John Doe,john@example.com,(11) 98765-4321,Valid#Pass123\n\n");
+
+        assertEquals(1, rows.size());
+        assertEquals(3, rows.getFirst().lineNumber());
+    }
+
+    @Test
+    @DisplayName("Should report rows with a wrong number of columns")
+    void shouldReportRowsWithAWrongNumberOfColumns() {
+        var rows = readAll("name,email,telephone,password\nJohn Doe,john@example.com\n");
+
+        assertEquals(List.of(ImportRowInput.malformed(2, "Expected 4 columns but found 2")), rows);
+    }
+
+    @Test
+    @DisplayName("Should report an unterminated quoted field")
+    void shouldReportAnUnterminatedQuotedField() {
+        var rows = readAll("name,email,telephone,password\n\"John Doe,john@example.com\n");
+
+        assertEquals(List.of(ImportRowInput.malformed(2, "Unterminated quoted field")), rows);
+    }
+
+    @Test
+    @DisplayName("Should reject a header without a required column")
+    void shouldRejectAHeaderWithoutARequiredColumn() {
+        var reader = reader("name,email,password\n");
+
+        var exception = assertThrows(IllegalArgumentException.class, reader::hasNext);
+
+        assertTrue(exception.getMessage().contains("telephone"));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty file")
+    void shouldRejectAnEmptyFile() {
+        assertThrows(IllegalArgumentException.class, reader("")::hasNext);
+    }
+
+    @Test
+    @DisplayName("Should throw when reading past the last row")
+    void shouldThrowWhenReadingPastTheLastRow() {
+        var reader = reader("name,email,telephone,password\n");
+
+        assertFalse(reader.hasNext());
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    private static UserImportReader reader(String content) {
+        return UserImportReader.open(ImportFormat.CSV, new BufferedReader(new StringReader(content)));
+    }
+
+    private static List<ImportRowInput> readAll(String content) {
+        List<ImportRowInput> rows = new ArrayList<>();
+        reader(content).forEachRemaining(rows::add);
+
+        return rows;
+    }
+
+}
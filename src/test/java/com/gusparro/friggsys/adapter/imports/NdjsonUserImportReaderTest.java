@@ -0,0 +1,57 @@
+package com.gusparro.friggsys.adapter.imports;
+
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NdjsonUserImportReader Tests")
+class NdjsonUserImportReaderTest {
+
+    @Test
+    @DisplayName("Should read one user per line")
+    void shouldReadOneUserPerLine() {
+        var rows = readAll("{\"name\":\"John Doe\",\"email\":\"john@example.com\","
+                + "\"telephone\":\"(11) 98765-4321\",\"password\":\"Valid#Pass123\"}\n"
+                + "\n"
+                + "{\"email\":\"jane@example.com\",\"name\":null}\n");
+
+        assertEquals(List.of(
+                ImportRowInput.of(1, "John Doe", "john@example.com", "(11) 98765-4321", "Valid#Pass123"),
+                ImportRowInput.of(3, null, "jane@example.com", null, null)
+        ), rows);
+    }
+
+    @Test
+    @DisplayName("Should report malformed lines and keep reading")
+    void shouldReportMalformedLinesAndKeepReading() {
+        var rows = readAll("{\"name\":\n[1,2]\n{\"name\":\"John Doe\"}\n");
+
+        assertEquals(3, rows.size());
+        assertEquals(ImportRowInput.malformed(1, "Malformed JSON line"), rows.get(0));
+        assertEquals(ImportRowInput.malformed(2, "Expected a JSON object"), rows.get(1));
+        assertEquals("John Doe", rows.get(2).name());
+    }
+
+    @Test
+    @DisplayName("Should read nothing from an empty file")
+    void shouldReadNothingFromAnEmptyFile() {
+        assertTrue(readAll("").isEmpty());
+    }
+
+    private static List<ImportRowInput> readAll(String content) {
+        List<ImportRowInput> rows = new ArrayList<>();
+        UserImportReader.open(ImportFormat.NDJSON, new BufferedReader(new StringReader(content)))
+                .forEachRemaining(rows::add);
+
+        return rows;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.gusparro.friggsys.adapter.imports;
+
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
+import com.gusparro.friggsys.usecase.user.ImportUsersUseCase;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportRunner Tests")
+class UserImportRunnerTest {
+
+    private static final String CSV = "name,email,telephone,password\n"
+            + "John Doe,john@example.com,(11) 98765-4321,Valid#Pass123\n";
+
+    @Mock
+    private ImportUsersUseCase importUsersUseCase;
+
+    private UserImportRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should start the job and stream the spooled file to the import")
+    void shouldStartTheJobAndStreamTheSpooledFileToTheImport() {
+        runner = new UserImportRunner(importUsersUseCase, new SimpleMeterRegistry(), 1, 1);
+        var job = job();
+        List<ImportRowInput> rows = new ArrayList<>();
+        when(importUsersUseCase.start(ImportFormat.CSV)).thenReturn(job);
+        doAnswer(invocation -> {
+            invocation.<Iterator<ImportRowInput>>getArgument(1).forEachRemaining(rows::add);
+
+            return null;
+        }).when(importUsersUseCase).execute(eq(job.id()), any());
+
+        var result = runner.submit(ImportFormat.CSV, content(CSV));
+
+        assertEquals(job, result);
+        verify(importUsersUseCase, timeout(5000)).execute(eq(job.id()), any());
+        assertEquals(List.of(ImportRowInput.of(2, "John Doe", "john@example.com", "(11) 98765-4321",
+                "Valid#Pass123")), rows);
+        verify(importUsersUseCase, never()).fail(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should fail the job and reject the upload when the queue is full")
+    void shouldFailTheJobAndRejectTheUploadWhenTheQueueIsFull() throws InterruptedException {
+        runner = new UserImportRunner(importUsersUseCase, new SimpleMeterRegistry(), 1, 1);
+        var running = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var rejected = job();
+        when(importUsersUseCase.start(ImportFormat.NDJSON)).thenReturn(job(), job(), rejected);
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+
+            return null;
+        }).when(importUsersUseCase).execute(any(), any());
+
+        try {
+            runner.submit(ImportFormat.NDJSON, content(""));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            runner.submit(ImportFormat.NDJSON, content(""));
+
+            var error = assertThrows(ServiceUnavailableError.class,
+                    () -> runner.submit(ImportFormat.NDJSON, content("")));
+
+            assertEquals("user_import", error.getDetails().get("resource"));
+            verify(importUsersUseCase).fail(rejected.id(), "Import queue is full");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the job when the spooled file cannot be read")
+    void shouldFailTheJobWhenTheSpooledFileCannotBeRead() {
+        runner = new UserImportRunner(importUsersUseCase, new SimpleMeterRegistry(), 1, 1);
+        var jobId = UUID.randomUUID();
+
+        runner.run(jobId, ImportFormat.CSV, Path.of("does-not-exist-" + jobId));
+
+        verify(importUsersUseCase).fail(eq(jobId), anyString());
+        verify(importUsersUseCase, never()).execute(any(), any());
+    }
+
+    private static ImportJobOutput job() {
+        return new ImportJobOutput(UUID.randomUUID(), ImportFormat.CSV, ImportJobStatus.RUNNING, 0, 0, 0, null,
+                null, null);
+    }
+
+    private static ByteArrayInputStream content(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
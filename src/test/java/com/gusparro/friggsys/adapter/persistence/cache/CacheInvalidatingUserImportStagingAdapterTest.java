@@ -0,0 +1,108 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.repositories.UserImportStagingAdapter;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Name;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.domain.vos.Telephone;
+import com.gusparro.friggsys.usecase.user.dtos.StagedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidatingUserImportStagingAdapter Tests")
+class CacheInvalidatingUserImportStagingAdapterTest {
+
+    @Mock
+    private UserImportStagingAdapter delegate;
+
+    @Mock
+    private CanonicalEmailFilter emailFilter;
+
+    @Mock
+    private UserChangePublisher publisher;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private CacheInvalidatingUserImportStagingAdapter adapter;
+
+    private static final UUID JOB_ID = UUID.fromString("7f0e5d2c-1b1a-4c55-9d36-1d1f2c3b4a59");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+
+        adapter = new CacheInvalidatingUserImportStagingAdapter(delegate, emailFilter, publisher,
+                new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("Should record the imported e-mails and notify other instances inside the transaction")
+    void shouldRecordTheImportedEmailsAndNotifyOtherInstancesInsideTheTransaction() throws Exception {
+        var users = List.of(stagedUser(3, "john@example.com"), stagedUser(7, "JOHN@example.com"));
+        var activeDuringPublish = new boolean[1];
+
+        when(delegate.load(JOB_ID, users)).thenReturn(List.of(7L));
+        doAnswer(invocation -> {
+            activeDuringPublish[0] = TransactionSynchronizationManager.isActualTransactionActive();
+
+            return null;
+        }).when(publisher).publish(anyList(), anyList());
+
+        var rejected = adapter.load(JOB_ID, users);
+
+        assertEquals(List.of(7L), rejected);
+        assertTrue(activeDuringPublish[0]);
+        InOrder inOrder = inOrder(emailFilter, delegate, publisher, connection);
+        inOrder.verify(emailFilter).recordAll(List.of("john@example.com", "john@example.com"));
+        inOrder.verify(delegate).load(JOB_ID, users);
+        inOrder.verify(publisher).publish(List.of(), List.of("john@example.com", "john@example.com"));
+        inOrder.verify(connection).commit();
+    }
+
+    @Test
+    @DisplayName("Should roll the import back when the notification fails")
+    void shouldRollTheImportBackWhenTheNotificationFails() throws Exception {
+        var users = List.of(stagedUser(3, "john@example.com"));
+
+        doThrow(new IllegalStateException("notify failed")).when(publisher).publish(anyList(), anyList());
+
+        assertThrows(IllegalStateException.class, () -> adapter.load(JOB_ID, users));
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+    }
+
+    @Test
+    @DisplayName("Should not touch the caches for an empty chunk")
+    void shouldNotTouchTheCachesForAnEmptyChunk() {
+        assertEquals(List.of(), adapter.load(JOB_ID, List.of()));
+
+        verifyNoInteractions(delegate, emailFilter, publisher, dataSource);
+    }
+
+    private static StagedUser stagedUser(long lineNumber, String email) {
+        return new StagedUser(lineNumber, Name.ofTrusted("John Doe"), Email.of(email),
+                Telephone.ofTrusted("(11) 98765-4321"), Password.ofHash("$2a$10$hash"));
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.repositories.UserRepositoryAdapter;
+import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidatingUserRepositoryAdapter Tests")
+class CacheInvalidatingUserRepositoryAdapterTest {
+
+    @Mock
+    private UserRepositoryAdapter delegate;
+
+    @Mock
+    private UserLookupCache cache;
+
+    @Mock
+    private CanonicalEmailFilter emailFilter;
+
+    @Mock
+    private UserChangePublisher publisher;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private CacheInvalidatingUserRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+
+        adapter = new CacheInvalidatingUserRepositoryAdapter(delegate, cache, emailFilter, publisher,
+                new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("Should invalidate the user before saving it")
+    void shouldInvalidateTheUserBeforeSavingIt() {
+        var id = UUID.randomUUID();
+        var user = mock(User.class);
+
+        when(user.getId()).thenReturn(id);
+        when(user.getCanonicalEmail()).thenReturn("john@example.com");
+        when(delegate.save(user)).thenReturn(user);
+
+        assertSame(user, adapter.save(user));
+
+        InOrder order = inOrder(cache, emailFilter, delegate, publisher);
+        order.verify(cache).invalidate(id);
+        order.verify(emailFilter).record("john@example.com");
+        order.verify(delegate).save(user);
+        order.verify(publisher).publish(id, "john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should only publish the users a batch insert actually created")
+    void shouldOnlyPublishTheUsersABatchInsertActuallyCreated() {
+        var id = UUID.randomUUID();
+        var inserted = mock(User.class);
+        var raced = mock(User.class);
+
+        when(inserted.getId()).thenReturn(id);
+        when(inserted.getCanonicalEmail()).thenReturn("inserted@example.com");
+        when(raced.getCanonicalEmail()).thenReturn("raced@example.com");
+
+        when(delegate.insertAllIfAbsent(List.of(inserted, raced))).thenReturn(List.of(inserted));
+
+        var result = adapter.insertAllIfAbsent(List.of(inserted, raced));
+
+        assertEquals(List.of(inserted), result);
+        verify(emailFilter, times(1)).recordAll(List.of("inserted@example.com", "raced@example.com"));
+        verify(publisher).publish(List.of(id), List.of("inserted@example.com"));
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Should only record the e-mail for conflict-aware inserts")
+    void shouldOnlyRecordTheEmailForConflictAwareInserts() {
+        var user = mock(User.class);
+
+        var id = UUID.randomUUID();
+
+        when(user.getId()).thenReturn(id);
+        when(user.getCanonicalEmail()).thenReturn("john@example.com");
+        when(delegate.insertIfAbsent(user)).thenReturn(Optional.of(user));
+
+        assertTrue(adapter.insertIfAbsent(user).isPresent());
+        verify(emailFilter).record("john@example.com");
+        verify(publisher).publish(id, "john@example.com");
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the user on single-row mutations")
+    void shouldInvalidateTheUserOnSingleRowMutations() {
+        var id = UUID.randomUUID();
+        var password = mock(Password.class);
+
+        when(delegate.deleteIfExists(id)).thenReturn(true);
+        when(delegate.changeStatus(id, UserStatus.BLOCKED, 2L)).thenReturn(Optional.of(mock(User.class)));
+        when(delegate.replacePassword(id, password, password)).thenReturn(true);
+
+        adapter.delete(id);
+        assertTrue(adapter.deleteIfExists(id));
+        assertTrue(adapter.changeStatus(id, UserStatus.BLOCKED, 2L).isPresent());
+        assertTrue(adapter.replacePassword(id, password, password));
+
+        verify(cache, times(4)).invalidate(id);
+        verify(delegate).delete(id);
+        verify(publisher, times(4)).publish(id, null);
+    }
+
+    @Test
+    @DisplayName("Should invalidate every requested user on bulk mutations")
+    void shouldInvalidateEveryRequestedUserOnBulkMutations() {
+        var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        when(delegate.changeStatusOfAll(ids, UserStatus.INACTIVE)).thenReturn(Set.of(ids.get(0)));
+        when(delegate.deleteAll(ids)).thenReturn(Set.of(ids.get(1)));
+
+        adapter.changeStatusOfAll(ids, UserStatus.INACTIVE);
+        adapter.deleteAll(ids);
+
+        verify(cache, times(2)).invalidateAll(ids);
+        verify(publisher).publish(Set.of(ids.get(0)), List.of());
+        verify(publisher).publish(Set.of(ids.get(1)), List.of());
+    }
+
+    @Test
+    @DisplayName("Should read through the delegate without touching the cache")
+    void shouldReadThroughTheDelegateWithoutTouchingTheCache() {
+        var id = UUID.randomUUID();
+        var email = Email.of("john@example.com");
+
+        when(delegate.existsById(id)).thenReturn(true);
+        when(delegate.existsByEmail(email)).thenReturn(false);
+
+        assertTrue(adapter.existsById(id));
+        assertFalse(adapter.existsByEmail(email));
+        adapter.findById(id);
+        adapter.findByEmail(email);
+
+        verifyNoInteractions(cache, publisher);
+    }
+
+    @Test
+    @DisplayName("Should not publish mutations that changed nothing")
+    void shouldNotPublishMutationsThatChangedNothing() {
+        var id = UUID.randomUUID();
+        var password = mock(Password.class);
+
+        when(delegate.deleteIfExists(id)).thenReturn(false);
+        when(delegate.changeStatus(id, UserStatus.BLOCKED, 2L)).thenReturn(Optional.empty());
+        when(delegate.replacePassword(id, password, password)).thenReturn(false);
+
+        adapter.deleteIfExists(id);
+        adapter.changeStatus(id, UserStatus.BLOCKED, 2L);
+        adapter.replacePassword(id, password, password);
+
+        verify(cache, times(3)).invalidate(id);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Should evict a user loaded while a status change outside any transaction was in flight")
+    void shouldEvictAUserLoadedWhileAStatusChangeOutsideAnyTransactionWasInFlight() throws Exception {
+        var lookupCache = new UserLookupCache(new SimpleMeterRegistry(), 100, DataSize.ofMegabytes(1),
+                Duration.ofMinutes(1), System::nanoTime);
+        var id = UUID.randomUUID();
+        var now = OffsetDateTime.now();
+        var stale = new UserOutput(id, "John Doe", "john@example.com", "(11) 98765-4321", UserStatus.ACTIVE,
+                now, now, 1L);
+
+        adapter = new CacheInvalidatingUserRepositoryAdapter(delegate, lookupCache, emailFilter, publisher,
+                new DataSourceTransactionManager(dataSource));
+        when(delegate.changeStatus(id, UserStatus.BLOCKED, null)).thenAnswer(invocation -> {
+            lookupCache.put(stale, "john@example.com", lookupCache.generation());
+
+            return Optional.of(mock(User.class));
+        });
+
+        adapter.changeStatus(id, UserStatus.BLOCKED, null);
+
+        assertTrue(lookupCache.getById(id).isEmpty());
+        assertTrue(lookupCache.getByEmail("john@example.com").isEmpty());
+        verify(connection).commit();
+    }
+
+    @Test
+    @DisplayName("Should notify other instances inside the transaction of the change")
+    void shouldNotifyOtherInstancesInsideTheTransactionOfTheChange() throws Exception {
+        var id = UUID.randomUUID();
+        var ids = List.of(id);
+        var publishedInsideTransaction = new boolean[1];
+
+        when(delegate.deleteAll(ids)).thenReturn(Set.of(id));
+        doAnswer(invocation -> {
+            publishedInsideTransaction[0] = TransactionSynchronizationManager.isActualTransactionActive();
+
+            return null;
+        }).when(publisher).publish(Set.of(id), List.of());
+
+        adapter.deleteAll(ids);
+
+        assertTrue(publishedInsideTransaction[0]);
+        InOrder order = inOrder(delegate, publisher, connection);
+        order.verify(delegate).deleteAll(ids);
+        order.verify(publisher).publish(Set.of(id), List.of());
+        order.verify(connection).commit();
+    }
+
+    @Test
+    @DisplayName("Should roll the change back when the notification fails")
+    void shouldRollTheChangeBackWhenTheNotificationFails() throws Exception {
+        var id = UUID.randomUUID();
+
+        when(delegate.changeStatus(id, UserStatus.INACTIVE, null)).thenReturn(Optional.of(mock(User.class)));
+        doThrow(new IllegalStateException("pg_notify failed")).when(publisher).publish(id, null);
+
+        assertThrows(IllegalStateException.class, () -> adapter.changeStatus(id, UserStatus.INACTIVE, null));
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+    }
+
+}
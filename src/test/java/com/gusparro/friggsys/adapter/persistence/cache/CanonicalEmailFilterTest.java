@@ -0,0 +1,274 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.repositories.ApproximateUserCounter;
+import com.gusparro.friggsys.domain.vos.Email;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CanonicalEmailFilter Tests")
+class CanonicalEmailFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApproximateUserCounter approximateCounter;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CanonicalEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new CanonicalEmailFilter(jdbcTemplate, transactionManager, approximateCounter, meterRegistry,
+                1000, 0.01, Duration.ofMinutes(15), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat every e-mail as possibly present before the first build")
+    void shouldTreatEveryEmailAsPossiblyPresentBeforeTheFirstBuild() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightExist(Email.of("anyone@example.com")));
+        assertTrue(Double.isNaN(filter.falsePositiveRate()));
+        assertEquals(1.0, requests("maybe"));
+    }
+
+    @Test
+    @DisplayName("Should rule out e-mails missing from the scanned users")
+    void shouldRuleOutEmailsMissingFromTheScannedUsers() throws Exception {
+        scan("john@example.com", "jane@example.com");
+
+        filter.rebuild();
+
+        assertTrue(filter.isReady());
+        assertTrue(filter.mightExist(Email.of("John@Example.com")));
+        assertTrue(filter.mightExist(Email.of("jane@example.com")));
+        assertFalse(filter.mightExist(Email.of("nobody@example.com")));
+        assertEquals(1.0, requests("absent"));
+        assertTrue(filter.falsePositiveRate() > 0);
+    }
+
+    @Test
+    @DisplayName("Should keep e-mails recorded after the build")
+    void shouldKeepEmailsRecordedAfterTheBuild() throws Exception {
+        scan();
+        filter.rebuild();
+
+        filter.record("new@example.com");
+
+        assertTrue(filter.mightExist(Email.of("new@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should keep e-mails recorded while a rebuild is scanning")
+    void shouldKeepEmailsRecordedWhileARebuildIsScanning() throws Exception {
+        when(resultSet.getString(1)).thenReturn("john@example.com");
+        doAnswer(invocation -> {
+            filter.record("during@example.com");
+            invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter.rebuild();
+
+        assertTrue(filter.mightExist(Email.of("during@example.com")));
+        assertTrue(filter.mightExist(Email.of("john@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should record e-mails again once the surrounding transaction completes")
+    void shouldRecordEmailsAgainOnceTheSurroundingTransactionCompletes() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        filter.recordAll(List.of("late@example.com"));
+
+        scan();
+        filter.rebuild();
+
+        assertFalse(filter.mightExist(Email.of("late@example.com")));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertTrue(filter.mightExist(Email.of("late@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should shed e-mails of deleted users on rebuild")
+    void shouldShedEmailsOfDeletedUsersOnRebuild() throws Exception {
+        scan("gone@example.com");
+        filter.rebuild();
+        scan();
+        filter.rebuild();
+
+        assertFalse(filter.mightExist(Email.of("gone@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should keep the previous filter when a rebuild fails")
+    void shouldKeepThePreviousFilterWhenARebuildFails() throws Exception {
+        scan("john@example.com");
+        filter.rebuild();
+        doThrow(new IllegalStateException("connection refused"))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter.rebuild();
+
+        assertTrue(filter.mightExist(Email.of("john@example.com")));
+        assertFalse(filter.mightExist(Email.of("nobody@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should answer maybe while a rebuild is scanning")
+    void shouldAnswerMaybeWhileARebuildIsScanning() throws Exception {
+        scan("john@example.com");
+        filter.rebuild();
+        var duringScan = new boolean[1];
+
+        doAnswer(invocation -> {
+            duringScan[0] = filter.mightExist(Email.of("nobody@example.com"));
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter.rebuild();
+
+        assertTrue(duringScan[0]);
+        assertFalse(filter.mightExist(Email.of("nobody@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should answer maybe while change notifications are suspended")
+    void shouldAnswerMaybeWhileChangeNotificationsAreSuspended() throws Exception {
+        scan("john@example.com");
+        filter.rebuild();
+
+        filter.suspend();
+        filter.rebuild();
+
+        assertTrue(filter.isStale());
+        assertTrue(filter.mightExist(Email.of("nobody@example.com")));
+        assertEquals(1.0, meterRegistry.get("friggsys.user.email_filter.stale").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should trust the filter again after a rebuild that started once notifications resumed")
+    void shouldTrustTheFilterAgainAfterARebuildThatStartedOnceNotificationsResumed() throws Exception {
+        scan("john@example.com");
+        filter.suspend();
+        filter.resume();
+
+        filter.rebuild();
+
+        assertFalse(filter.isStale());
+        assertFalse(filter.mightExist(Email.of("nobody@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should stay stale when notifications are suspended again during the rebuild")
+    void shouldStayStaleWhenNotificationsAreSuspendedAgainDuringTheRebuild() throws Exception {
+        filter.suspend();
+        filter.resume();
+        doAnswer(invocation -> {
+            filter.suspend();
+            filter.resume();
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter.rebuild();
+
+        assertTrue(filter.isStale());
+        assertTrue(filter.mightExist(Email.of("nobody@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should stay stale when the rebuild after a resume fails")
+    void shouldStayStaleWhenTheRebuildAfterAResumeFails() {
+        filter.suspend();
+        filter.resume();
+        doThrow(new IllegalStateException("connection refused"))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter.rebuild();
+
+        assertTrue(filter.isStale());
+    }
+
+    @Test
+    @DisplayName("Should size the filter for the configured false positive probability")
+    void shouldSizeTheFilterForTheConfiguredFalsePositiveProbability() {
+        var bits = CanonicalEmailFilter.Bits.sizedFor(10_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(index -> bits.add("member" + index + "@example.com"));
+
+        var falsePositives = IntStream.range(0, 10_000)
+                .filter(index -> bits.mightContain("stranger" + index + "@example.com"))
+                .count();
+
+        assertEquals(7, bits.hashes());
+        assertTrue(IntStream.range(0, 10_000).allMatch(index -> bits.mightContain("member" + index + "@example.com")));
+        assertTrue(falsePositives < 200, "observed " + falsePositives + " false positives");
+        assertEquals(0.01, bits.falsePositiveRate(), 0.005);
+    }
+
+    private void scan(String... emails) throws Exception {
+        if (emails.length > 0) {
+            var stubbing = when(resultSet.getString(1)).thenReturn(emails[0]);
+
+            for (int i = 1; i < emails.length; i++) {
+                stubbing = stubbing.thenReturn(emails[i]);
+            }
+        }
+
+        doAnswer(invocation -> {
+            var handler = invocation.<RowCallbackHandler>getArgument(1);
+
+            for (var ignored : emails) {
+                handler.processRow(resultSet);
+            }
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("friggsys.user.email_filter.requests").tag("result", result).counter().count();
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UserChangeListener PostgreSQL Tests")
+class UserChangeListenerPostgresTest {
+
+    private static final String CHANNEL = "friggsys_user_changes";
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration BATCH_WINDOW = Duration.ofMillis(20);
+    private static final Duration RECONNECT_DELAY = Duration.ofMillis(200);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private Instance first;
+    private Instance second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        first = new Instance("instance-a");
+        second = new Instance("instance-b");
+
+        first.listener.start();
+        second.listener.start();
+
+        await(() -> first.flushes() == 1 && second.flushes() == 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.listener.shutdown();
+        second.listener.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should evict the other instance's entry only once the mutation commits")
+    void shouldEvictTheOtherInstancesEntryOnlyOnceTheMutationCommits() throws Exception {
+        var user = output();
+        second.cache.put(user, "john@example.com", second.cache.generation());
+
+        first.transactionTemplate.executeWithoutResult(status -> {
+            first.publisher.publish(user.id(), "john@example.com");
+
+            pause(BATCH_WINDOW.multipliedBy(10));
+            assertTrue(second.cache.getById(user.id()).isPresent());
+        });
+
+        await(() -> second.cache.getById(user.id()).isEmpty());
+        verify(second.emailFilter, timeout(TIMEOUT.toMillis())).recordAll(Set.of("john@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should not evict the other instance's entry when the mutation rolls back")
+    void shouldNotEvictTheOtherInstancesEntryWhenTheMutationRollsBack() throws Exception {
+        var rolledBack = output();
+        var committed = output();
+        second.cache.put(rolledBack, null, second.cache.generation());
+        second.cache.put(committed, null, second.cache.generation());
+
+        first.transactionTemplate.executeWithoutResult(status -> {
+            first.publisher.publish(rolledBack.id(), null);
+            status.setRollbackOnly();
+        });
+        first.transactionTemplate.executeWithoutResult(status -> first.publisher.publish(committed.id(), null));
+
+        await(() -> second.cache.getById(committed.id()).isEmpty());
+        assertTrue(second.cache.getById(rolledBack.id()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should ignore notifications published by the same instance")
+    void shouldIgnoreNotificationsPublishedByTheSameInstance() throws Exception {
+        var user = output();
+        first.cache.put(user, null, first.cache.generation());
+        second.cache.put(user, null, second.cache.generation());
+
+        first.transactionTemplate.executeWithoutResult(status -> first.publisher.publish(user.id(), null));
+
+        await(() -> second.cache.getById(user.id()).isEmpty());
+        pause(BATCH_WINDOW.multipliedBy(10));
+        assertTrue(first.cache.getById(user.id()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should deliver every id of a change that spans several notification payloads")
+    void shouldDeliverEveryIdOfAChangeThatSpansSeveralNotificationPayloads() throws Exception {
+        var users = Stream.generate(UserChangeListenerPostgresTest::output).limit(500).toList();
+        var ids = users.stream().map(UserOutput::id).toList();
+        users.forEach(user -> second.cache.put(user, null, second.cache.generation()));
+
+        var payloadLength = ids.size() * (UserChangePublisher.ID_PREFIX.length() + 37);
+
+        assertTrue(payloadLength > 2 * UserChangePublisher.MAX_PAYLOAD_LENGTH);
+
+        first.transactionTemplate.executeWithoutResult(status -> first.publisher.publish(ids, List.of()));
+
+        await(() -> second.cache.size() == 0);
+    }
+
+    @Test
+    @DisplayName("Should flush the local cache after the listener reconnects")
+    void shouldFlushTheLocalCacheAfterTheListenerReconnects() throws Exception {
+        var user = output();
+        second.cache.put(user, null, second.cache.generation());
+
+        new JdbcTemplate(first.dataSource).queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                second.listenerName);
+
+        await(() -> second.flushes() == 2);
+        assertTrue(second.listener.isConnected());
+        assertTrue(second.cache.getById(user.id()).isEmpty());
+
+        var later = output();
+        second.cache.put(later, null, second.cache.generation());
+        first.transactionTemplate.executeWithoutResult(status -> first.publisher.publish(later.id(), null));
+
+        await(() -> second.cache.getById(later.id()).isEmpty());
+    }
+
+    private static UserOutput output() {
+        return new UserOutput(UUID.randomUUID(), "John Doe", "john@example.com", "(11) 98765-4321",
+                UserStatus.ACTIVE, NOW, NOW, 0L);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within " + TIMEOUT);
+            }
+
+            Thread.sleep(20);
+        }
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Instance {
+
+        private final String listenerName;
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final DriverManagerDataSource dataSource;
+        private final TransactionTemplate transactionTemplate;
+        private final UserLookupCache cache;
+        private final CanonicalEmailFilter emailFilter;
+        private final UserChangePublisher publisher;
+        private final UserChangeListener listener;
+
+        private Instance(String origin) {
+            this.listenerName = "listener-" + origin;
+            this.dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                    POSTGRES.getPassword());
+            this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            this.cache = new UserLookupCache(new SimpleMeterRegistry(), 1000, DataSize.ofMegabytes(1),
+                    Duration.ofMinutes(5));
+            this.emailFilter = mock(CanonicalEmailFilter.class);
+            this.publisher = new UserChangePublisher(new JdbcTemplate(dataSource), CHANNEL, true, origin);
+            this.listener = new UserChangeListener(this::openListening, cache, emailFilter, publisher,
+                    meterRegistry, BATCH_WINDOW, RECONNECT_DELAY);
+        }
+
+        private double flushes() {
+            return meterRegistry.get("friggsys.user.cache.flushes").counter().count();
+        }
+
+        private Connection openListening() throws SQLException {
+            var properties = new Properties();
+            properties.setProperty("user", POSTGRES.getUsername());
+            properties.setProperty("password", POSTGRES.getPassword());
+            properties.setProperty("ApplicationName", listenerName);
+
+            return DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.core.Notification;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserChangeListener Tests")
+class UserChangeListenerTest {
+
+    private static final String CHANNEL = "friggsys_user_changes";
+    private static final String OWN_ORIGIN = "instance-a";
+    private static final String OTHER_ORIGIN = "instance-b";
+
+    @Mock
+    private UserLookupCache cache;
+
+    @Mock
+    private CanonicalEmailFilter emailFilter;
+
+    @Mock
+    private UserChangePublisher publisher;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new UserChangeListener(() -> connection, cache, emailFilter, publisher, meterRegistry,
+                Duration.ofMillis(50), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should deduplicate ids and e-mails across a burst of notifications")
+    void shouldDeduplicateIdsAndEmailsAcrossABurstOfNotifications() {
+        var id = UUID.randomUUID();
+
+        when(publisher.origin()).thenReturn(OWN_ORIGIN);
+
+        var batch = listener.batch(
+                notification(OTHER_ORIGIN + "\nid:" + id + "\nemail:john@example.com"),
+                notification(OTHER_ORIGIN + "\nid:" + id),
+                notification(OTHER_ORIGIN + "\nemail:john@example.com"));
+
+        assertEquals(Set.of(id), batch.ids());
+        assertEquals(Set.of("john@example.com"), batch.emails());
+        assertEquals(3.0, meterRegistry.get("friggsys.user.cache.notifications").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should ignore notifications published by this instance")
+    void shouldIgnoreNotificationsPublishedByThisInstance() {
+        when(publisher.origin()).thenReturn(OWN_ORIGIN);
+
+        var batch = listener.batch(notification(OWN_ORIGIN + "\nid:" + UUID.randomUUID()));
+
+        listener.apply(batch);
+
+        assertTrue(batch.ids().isEmpty());
+        verifyNoInteractions(cache, emailFilter);
+    }
+
+    @Test
+    @DisplayName("Should skip malformed ids and keep the rest of the payload")
+    void shouldSkipMalformedIdsAndKeepTheRestOfThePayload() {
+        var id = UUID.randomUUID();
+
+        when(publisher.origin()).thenReturn(OWN_ORIGIN);
+
+        var batch = listener.batch(notification(OTHER_ORIGIN + "\nid:not-a-uuid\nid:" + id));
+
+        assertEquals(Set.of(id), batch.ids());
+    }
+
+    @Test
+    @DisplayName("Should evict changed users and record their e-mails")
+    void shouldEvictChangedUsersAndRecordTheirEmails() {
+        var id = UUID.randomUUID();
+
+        when(publisher.origin()).thenReturn(OWN_ORIGIN);
+
+        listener.apply(listener.batch(notification(OTHER_ORIGIN + "\nid:" + id + "\nemail:john@example.com")));
+
+        verify(cache).invalidateAll(Set.of(id));
+        verify(emailFilter).recordAll(Set.of("john@example.com"));
+        assertEquals(1.0, meterRegistry.get("friggsys.user.cache.notification.batches").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should listen on the channel and flush the cache once connected")
+    void shouldListenOnTheChannelAndFlushTheCacheOnceConnected() throws Exception {
+        when(publisher.channel()).thenReturn(CHANNEL);
+        when(connection.createStatement()).thenReturn(statement);
+
+        listener.listen(connection, false);
+
+        verify(statement).execute("LISTEN \"" + CHANNEL + "\"");
+        verify(cache).flush();
+        verify(emailFilter).resume();
+        assertTrue(listener.isConnected());
+    }
+
+    @Test
+    @DisplayName("Should flush the cache and resume the e-mail filter after a reconnect")
+    void shouldFlushTheCacheAndResumeTheEmailFilterAfterAReconnect() throws Exception {
+        when(publisher.channel()).thenReturn(CHANNEL);
+        when(connection.createStatement()).thenReturn(statement);
+
+        listener.listen(connection, true);
+
+        verify(cache).flush();
+        verify(emailFilter).resume();
+        assertEquals(1.0, meterRegistry.get("friggsys.user.cache.flushes").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should mark the e-mail filter stale until the first LISTEN succeeds")
+    void shouldMarkTheEmailFilterStaleUntilTheFirstListenSucceeds() {
+        when(publisher.isEnabled()).thenReturn(true);
+
+        new UserChangeListener(() -> connection, cache, emailFilter, publisher, meterRegistry,
+                Duration.ofMillis(50), Duration.ofSeconds(5));
+
+        verify(emailFilter).suspend();
+        verify(emailFilter, never()).resume();
+    }
+
+    @Test
+    @DisplayName("Should not start when notifications are disabled")
+    void shouldNotStartWhenNotificationsAreDisabled() {
+        when(publisher.isEnabled()).thenReturn(false);
+
+        listener.start();
+
+        assertFalse(listener.isConnected());
+        verifyNoInteractions(cache, emailFilter);
+    }
+
+    private static Notification notification(String payload) {
+        return new Notification(CHANNEL, 4242, payload);
+    }
+
+}
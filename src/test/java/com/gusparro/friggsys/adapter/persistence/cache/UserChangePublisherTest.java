@@ -0,0 +1,88 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserChangePublisher Tests")
+class UserChangePublisherTest {
+
+    private static final String CHANNEL = "friggsys_user_changes";
+    private static final String ORIGIN = "instance-a";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private UserChangePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new UserChangePublisher(jdbcTemplate, CHANNEL, true, ORIGIN);
+    }
+
+    @Test
+    @DisplayName("Should notify the channel with the origin, ids and e-mails")
+    void shouldNotifyTheChannelWithTheOriginIdsAndEmails() {
+        var id = UUID.randomUUID();
+
+        publisher.publish(id, "john@example.com");
+
+        verify(jdbcTemplate).queryForList(UserChangePublisher.NOTIFY_SQL, CHANNEL,
+                ORIGIN + "\nid:" + id + "\nemail:john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should split large changes into payloads under the notification limit")
+    void shouldSplitLargeChangesIntoPayloadsUnderTheNotificationLimit() {
+        var ids = IntStream.range(0, 500).mapToObj(index -> UUID.randomUUID()).toList();
+        var payloads = ArgumentCaptor.forClass(String.class);
+
+        publisher.publish(ids, List.of());
+
+        verify(jdbcTemplate, atLeast(2)).queryForList(eq(UserChangePublisher.NOTIFY_SQL), eq(CHANNEL),
+                payloads.capture());
+
+        var published = payloads.getAllValues().stream()
+                .peek(payload -> assertTrue(payload.length() <= UserChangePublisher.MAX_PAYLOAD_LENGTH))
+                .peek(payload -> assertTrue(payload.startsWith(ORIGIN + "\n")))
+                .mapToLong(payload -> payload.lines().filter(line -> line.startsWith("id:")).count())
+                .sum();
+
+        assertEquals(500, published);
+    }
+
+    @Test
+    @DisplayName("Should not notify when nothing changed")
+    void shouldNotNotifyWhenNothingChanged() {
+        publisher.publish((UUID) null, null);
+        publisher.publish(List.of(), List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should not notify when notifications are disabled")
+    void shouldNotNotifyWhenNotificationsAreDisabled() {
+        publisher = new UserChangePublisher(jdbcTemplate, CHANNEL, false, ORIGIN);
+
+        publisher.publish(UUID.randomUUID(), "john@example.com");
+
+        assertFalse(publisher.isEnabled());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.adapter.persistence.routing.DataSourceRoutingContext;
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserLookupCacheAdapter Tests")
+class UserLookupCacheAdapterTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private UserLookupCache cache;
+
+    @Mock
+    private Supplier<Optional<UserOutput>> loader;
+
+    @InjectMocks
+    private UserLookupCacheAdapter adapter;
+
+    @Test
+    @DisplayName("Should answer lookups by id from the cache without loading")
+    void shouldAnswerLookupsByIdFromTheCacheWithoutLoading() {
+        var user = output();
+
+        when(cache.isEnabled()).thenReturn(true);
+        when(cache.getById(user.id())).thenReturn(Optional.of(user));
+
+        assertSame(user, adapter.findById(user.id(), loader).orElseThrow());
+        verifyNoInteractions(loader);
+        verify(cache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should answer lookups by canonical e-mail from the cache without loading")
+    void shouldAnswerLookupsByCanonicalEmailFromTheCacheWithoutLoading() {
+        var user = output();
+
+        when(cache.isEnabled()).thenReturn(true);
+        when(cache.getByEmail("john@example.com")).thenReturn(Optional.of(user));
+
+        assertSame(user, adapter.findByEmail(Email.of("John@Example.com"), loader).orElseThrow());
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    @DisplayName("Should load and cache users by id on a miss")
+    void shouldLoadAndCacheUsersByIdOnAMiss() {
+        var user = output();
+
+        when(cache.isEnabled()).thenReturn(true);
+        when(cache.getById(user.id())).thenReturn(Optional.empty());
+        when(cache.generation()).thenReturn(7L);
+        when(loader.get()).thenReturn(Optional.of(user));
+
+        assertSame(user, adapter.findById(user.id(), loader).orElseThrow());
+        verify(cache).put(user, null, 7L);
+    }
+
+    @Test
+    @DisplayName("Should not cache users that do not exist")
+    void shouldNotCacheUsersThatDoNotExist() {
+        var id = UUID.randomUUID();
+
+        when(cache.isEnabled()).thenReturn(true);
+        when(cache.getById(id)).thenReturn(Optional.empty());
+        when(loader.get()).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findById(id, loader).isEmpty());
+        verify(cache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should load and cache users by canonical e-mail on a miss")
+    void shouldLoadAndCacheUsersByCanonicalEmailOnAMiss() {
+        var user = output();
+        var email = Email.of("John@Example.com");
+
+        when(cache.isEnabled()).thenReturn(true);
+        when(cache.getByEmail("john@example.com")).thenReturn(Optional.empty());
+        when(cache.generation()).thenReturn(3L);
+        when(loader.get()).thenReturn(Optional.of(user));
+
+        assertSame(user, adapter.findByEmail(email, loader).orElseThrow());
+        verify(cache).put(user, "john@example.com", 3L);
+    }
+
+    @Test
+    @DisplayName("Should load cache misses from the primary instead of a replica")
+    void shouldLoadCacheMissesFromThePrimaryInsteadOfAReplica() {
+        var user = output();
+        var pinned = new boolean[2];
+
+        when(cache.isEnabled()).thenReturn(true);
+        when(cache.getById(user.id())).thenReturn(Optional.empty());
+        when(cache.getByEmail("john@example.com")).thenReturn(Optional.empty());
+
+        adapter.findById(user.id(), () -> {
+            pinned[0] = DataSourceRoutingContext.isPrimaryPinned();
+
+            return Optional.of(user);
+        });
+        adapter.findByEmail(Email.of("john@example.com"), () -> {
+            pinned[1] = DataSourceRoutingContext.isPrimaryPinned();
+
+            return Optional.of(user);
+        });
+
+        assertTrue(pinned[0]);
+        assertTrue(pinned[1]);
+        assertFalse(DataSourceRoutingContext.isPrimaryPinned());
+    }
+
+    @Test
+    @DisplayName("Should leave uncached reads free to use a replica when the cache is disabled")
+    void shouldLeaveUncachedReadsFreeToUseAReplicaWhenTheCacheIsDisabled() {
+        var pinned = new boolean[1];
+
+        when(cache.isEnabled()).thenReturn(false);
+
+        adapter.findById(UUID.randomUUID(), () -> {
+            pinned[0] = DataSourceRoutingContext.isPrimaryPinned();
+
+            return Optional.empty();
+        });
+
+        assertFalse(pinned[0]);
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache when it is disabled")
+    void shouldBypassTheCacheWhenItIsDisabled() {
+        var user = output();
+
+        when(cache.isEnabled()).thenReturn(false);
+        when(loader.get()).thenReturn(Optional.of(user));
+
+        assertSame(user, adapter.findById(user.id(), loader).orElseThrow());
+        verify(cache, never()).getById(any());
+        verify(cache, never()).put(any(), any(), anyLong());
+    }
+
+    private static UserOutput output() {
+        return new UserOutput(UUID.randomUUID(), "John Doe", "john@example.com", "(11) 98765-4321",
+                UserStatus.ACTIVE, NOW, NOW, 0L);
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.gusparro.friggsys.adapter.persistence.cache;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserLookupCache Tests")
+class UserLookupCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private UserLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        cache = new UserLookupCache(meterRegistry, 3, DataSize.ofMegabytes(1), TTL, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve cached users by id and by canonical e-mail")
+    void shouldServeCachedUsersByIdAndByCanonicalEmail() {
+        var user = output();
+
+        cache.put(user, "john@example.com", cache.generation());
+
+        assertSame(user, cache.getById(user.id()).orElseThrow());
+        assertSame(user, cache.getByEmail("john@example.com").orElseThrow());
+        assertTrue(cache.getByEmail("jane@example.com").isEmpty());
+        assertEquals(2.0, requests("hit"));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("Should keep the e-mail index when a user is refreshed by id")
+    void shouldKeepTheEmailIndexWhenAUserIsRefreshedById() {
+        var user = output();
+
+        cache.put(user, "john@example.com", cache.generation());
+        cache.put(user, null, cache.generation());
+
+        assertTrue(cache.getByEmail("john@example.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should expire entries once the ttl has passed")
+    void shouldExpireEntriesOnceTheTtlHasPassed() {
+        var user = output();
+
+        cache.put(user, "john@example.com", cache.generation());
+        clock.addAndGet(TTL.toNanos());
+
+        assertTrue(cache.getByEmail("john@example.com").isEmpty());
+        assertTrue(cache.getById(user.id()).isEmpty());
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.weightBytes());
+        assertEquals(1.0, evictions("expired"));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when the entry limit is reached")
+    void shouldEvictTheLeastRecentlyUsedEntryWhenTheEntryLimitIsReached() {
+        var first = output();
+        var second = output();
+        var third = output();
+        var fourth = output();
+
+        cache.put(first, null, cache.generation());
+        cache.put(second, null, cache.generation());
+        cache.put(third, null, cache.generation());
+        cache.getById(first.id());
+        cache.put(fourth, null, cache.generation());
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.getById(first.id()).isPresent());
+        assertTrue(cache.getById(second.id()).isEmpty());
+        assertEquals(1.0, evictions("size"));
+    }
+
+    @Test
+    @DisplayName("Should evict entries to stay under the memory ceiling")
+    void shouldEvictEntriesToStayUnderTheMemoryCeiling() {
+        var first = output();
+        var second = output();
+        var weight = UserLookupCache.weightOf(first, null);
+
+        cache = new UserLookupCache(meterRegistry, 100, DataSize.ofBytes(weight + weight / 2), TTL, clock::get);
+        cache.put(first, null, cache.generation());
+        cache.put(second, null, cache.generation());
+
+        assertEquals(1, cache.size());
+        assertEquals(weight, cache.weightBytes());
+        assertTrue(cache.getById(second.id()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should drop invalidated users from both indexes")
+    void shouldDropInvalidatedUsersFromBothIndexes() {
+        var user = output();
+
+        cache.put(user, "john@example.com", cache.generation());
+        cache.invalidate(user.id());
+
+        assertTrue(cache.getById(user.id()).isEmpty());
+        assertTrue(cache.getByEmail("john@example.com").isEmpty());
+        assertEquals(0L, cache.weightBytes());
+        assertEquals(1.0, evictions("invalidated"));
+    }
+
+    @Test
+    @DisplayName("Should reject loads that started before an invalidation")
+    void shouldRejectLoadsThatStartedBeforeAnInvalidation() {
+        var user = output();
+        var generation = cache.generation();
+
+        cache.invalidate(UUID.randomUUID());
+        cache.put(user, "john@example.com", generation);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should evict again after the surrounding transaction completes")
+    void shouldEvictAgainAfterTheSurroundingTransactionCompletes() {
+        var user = output();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAll(List.of(user.id()));
+        cache.put(user, null, cache.generation());
+
+        assertEquals(1, cache.size());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should drop every entry and reject pending loads on flush")
+    void shouldDropEveryEntryAndRejectPendingLoadsOnFlush() {
+        var first = output();
+        var second = output();
+        var generation = cache.generation();
+
+        cache.put(first, "first@example.com", generation);
+        cache.put(second, null, generation);
+        cache.flush();
+        cache.put(first, null, generation);
+
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.weightBytes());
+        assertTrue(cache.getByEmail("first@example.com").isEmpty());
+        assertEquals(2.0, evictions("invalidated"));
+    }
+
+    @Test
+    @DisplayName("Should be disabled when no entries are allowed")
+    void shouldBeDisabledWhenNoEntriesAreAllowed() {
+        cache = new UserLookupCache(meterRegistry, 0, DataSize.ofMegabytes(1), TTL, clock::get);
+
+        var user = output();
+        cache.put(user, null, cache.generation());
+
+        assertFalse(cache.isEnabled());
+        assertEquals(0, cache.size());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("friggsys.user.cache.requests").tag("result", result).counter().count();
+    }
+
+    private double evictions(String cause) {
+        return meterRegistry.get("friggsys.user.cache.evictions").tag("cause", cause).counter().count();
+    }
+
+    private static UserOutput output() {
+        return new UserOutput(UUID.randomUUID(), "John Doe", "john@example.com", "(11) 98765-4321",
+                UserStatus.ACTIVE, NOW, NOW, 0L);
+    }
+
+}
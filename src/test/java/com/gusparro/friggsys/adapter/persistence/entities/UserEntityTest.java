@@ -46,10 +46,12 @@ class UserEntityTest {
                 "John Doe",
                 "(11) 98888-8888",
                 "john@example.com",
+                "john@example.com",
                 "hashed_password",
                 UserStatus.ACTIVE,
                 now,
-                now
+                now,
+                0L
         );
 
         assertEquals(id, entity.getId());
@@ -340,7 +342,7 @@ class UserEntityTest {
     @DisplayName("Should allow null values for nullable fields in construction")
     void shouldAllowNullValuesForNullableFieldsInConstruction() {
         var entity = new UserEntity(
-                null, null, null, null, null, null, null, null
+                null, null, null, null, null, null, null, null, null, 0L
         );
 
         assertNull(entity.getId());
@@ -38,7 +38,7 @@ class UserPersistenceMapperTest {
         var createdAt = OffsetDateTime.now();
         var updatedAt = OffsetDateTime.now();
 
-        var user = User.reconstruct(id, name, email, telephone, password, status, createdAt, updatedAt);
+        var user = User.reconstruct(id, name, email, telephone, password, status, createdAt, updatedAt, 0L);
 
         var entity = mapper.toEntity(user);
 
@@ -65,7 +65,7 @@ class UserPersistenceMapperTest {
         var createdAt = OffsetDateTime.now();
         var updatedAt = OffsetDateTime.now();
 
-        var entity = new UserEntity(id, name, telephone, email, passwordHash, status, createdAt, updatedAt);
+        var entity = new UserEntity(id, name, telephone, email, email.toLowerCase(), passwordHash, status, createdAt, updatedAt, 0L);
 
         var user = mapper.toDomain(entity);
 
@@ -91,7 +91,8 @@ class UserPersistenceMapperTest {
                 Password.ofHash("hash123"),
                 UserStatus.INACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var entity = mapper.toEntity(user);
@@ -107,10 +108,12 @@ class UserPersistenceMapperTest {
                 "User Name",
                 "(11) 96666-6666",
                 "user@example.com",
+                "user@example.com",
                 "hashABC",
                 UserStatus.INACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var user = mapper.toDomain(entity);
@@ -130,7 +133,8 @@ class UserPersistenceMapperTest {
                 Password.ofHash("hash"),
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var entity = mapper.toEntity(user);
@@ -147,10 +151,12 @@ class UserPersistenceMapperTest {
                 "Mapped User",
                 "(11) 94444-4444",
                 "mapped@example.com",
+                "mapped@example.com",
                 "hashXYZ",
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var user = mapper.toDomain(entity);
@@ -172,7 +178,8 @@ class UserPersistenceMapperTest {
                 Password.ofHash("hash"),
                 UserStatus.ACTIVE,
                 createdAt,
-                updatedAt
+                updatedAt,
+                0L
         );
 
         var entity = mapper.toEntity(user);
@@ -192,10 +199,12 @@ class UserPersistenceMapperTest {
                 "Time User",
                 "(11) 92222-2222",
                 "time@example.com",
+                "time@example.com",
                 "hash",
                 UserStatus.ACTIVE,
                 createdAt,
-                updatedAt
+                updatedAt,
+                0L
         );
 
         var user = mapper.toDomain(entity);
@@ -216,7 +225,8 @@ class UserPersistenceMapperTest {
                 Password.ofHash("hash"),
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var entity = mapper.toEntity(user);
@@ -232,10 +242,12 @@ class UserPersistenceMapperTest {
                 "María de los Ángeles García",
                 "(11) 90000-0000",
                 "maria@example.com",
+                "maria@example.com",
                 "hash",
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var user = mapper.toDomain(entity);
@@ -251,11 +263,11 @@ class UserPersistenceMapperTest {
         var email3 = Email.of("user123@subdomain.example.com");
 
         var user1 = User.reconstruct(UUID.randomUUID(), Name.of("User1"), email1,
-                Telephone.of("(11) 99999-9991"), Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 99999-9991"), Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user2 = User.reconstruct(UUID.randomUUID(), Name.of("User2"), email2,
-                Telephone.of("(11) 99999-9992"), Password.ofHash("h2"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 99999-9992"), Password.ofHash("h2"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user3 = User.reconstruct(UUID.randomUUID(), Name.of("User3"), email3,
-                Telephone.of("(11) 99999-9993"), Password.ofHash("h3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 99999-9993"), Password.ofHash("h3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var entity1 = mapper.toEntity(user1);
         var entity2 = mapper.toEntity(user2);
@@ -270,9 +282,11 @@ class UserPersistenceMapperTest {
     @DisplayName("Should map different email formats correctly to domain")
     void shouldMapDifferentEmailFormatsCorrectlyToDomain() {
         var entity1 = new UserEntity(UUID.randomUUID(), "User1", "(11) 99999-9991",
-                "admin@example.com", "h1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "admin@example.com",
+                "admin@example.com", "h1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var entity2 = new UserEntity(UUID.randomUUID(), "User2", "(11) 99999-9992",
-                "contact.info@company.org", "h2", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "contact.info@company.org",
+                "contact.info@company.org", "h2", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var user1 = mapper.toDomain(entity1);
         var user2 = mapper.toDomain(entity2);
@@ -289,11 +303,11 @@ class UserPersistenceMapperTest {
         var tel3 = Telephone.of("(31) 97777-7777");
 
         var user1 = User.reconstruct(UUID.randomUUID(), Name.of("User1"), Email.of("u1@example.com"),
-                tel1, Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                tel1, Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user2 = User.reconstruct(UUID.randomUUID(), Name.of("User2"), Email.of("u2@example.com"),
-                tel2, Password.ofHash("h2"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                tel2, Password.ofHash("h2"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user3 = User.reconstruct(UUID.randomUUID(), Name.of("User3"), Email.of("u3@example.com"),
-                tel3, Password.ofHash("h3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                tel3, Password.ofHash("h3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var entity1 = mapper.toEntity(user1);
         var entity2 = mapper.toEntity(user2);
@@ -308,9 +322,11 @@ class UserPersistenceMapperTest {
     @DisplayName("Should map different telephone formats correctly to domain")
     void shouldMapDifferentTelephoneFormatsCorrectlyToDomain() {
         var entity1 = new UserEntity(UUID.randomUUID(), "User1", "(41) 96666-6666",
-                "u1@example.com", "h1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "u1@example.com",
+                "u1@example.com", "h1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var entity2 = new UserEntity(UUID.randomUUID(), "User2", "(51) 95555-5555",
-                "u2@example.com", "h2", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "u2@example.com",
+                "u2@example.com", "h2", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var user1 = mapper.toDomain(entity1);
         var user2 = mapper.toDomain(entity2);
@@ -333,7 +349,8 @@ class UserPersistenceMapperTest {
                 password,
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var entity = mapper.toEntity(user);
@@ -351,10 +368,12 @@ class UserPersistenceMapperTest {
                 "User Test",
                 "(11) 93333-3333",
                 "user@example.com",
+                "user@example.com",
                 passwordHash,
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var user = mapper.toDomain(entity);
@@ -373,7 +392,8 @@ class UserPersistenceMapperTest {
                 Password.ofHash("originalHash"),
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var entity = mapper.toEntity(originalUser);
@@ -393,11 +413,11 @@ class UserPersistenceMapperTest {
     @DisplayName("Should map multiple users to entities consistently")
     void shouldMapMultipleUsersToEntitiesConsistently() {
         var user1 = User.reconstruct(UUID.randomUUID(), Name.of("User One"), Email.of("one@example.com"),
-                Telephone.of("(11) 91111-1111"), Password.ofHash("hash1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 91111-1111"), Password.ofHash("hash1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user2 = User.reconstruct(UUID.randomUUID(), Name.of("User Two"), Email.of("two@example.com"),
-                Telephone.of("(11) 92222-2222"), Password.ofHash("hash2"), UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 92222-2222"), Password.ofHash("hash2"), UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user3 = User.reconstruct(UUID.randomUUID(), Name.of("User Three"), Email.of("three@example.com"),
-                Telephone.of("(11) 93333-3333"), Password.ofHash("hash3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 93333-3333"), Password.ofHash("hash3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var entity1 = mapper.toEntity(user1);
         var entity2 = mapper.toEntity(user2);
@@ -415,9 +435,11 @@ class UserPersistenceMapperTest {
     @DisplayName("Should map multiple entities to users consistently")
     void shouldMapMultipleEntitiesToUsersConsistently() {
         var entity1 = new UserEntity(UUID.randomUUID(), "Entity One", "(11) 94444-4444",
-                "entity1@example.com", "hash1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "entity1@example.com",
+                "entity1@example.com", "hash1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var entity2 = new UserEntity(UUID.randomUUID(), "Entity Two", "(11) 95555-5555",
-                "entity2@example.com", "hash2", UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "entity2@example.com",
+                "entity2@example.com", "hash2", UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var user1 = mapper.toDomain(entity1);
         var user2 = mapper.toDomain(entity2);
@@ -440,7 +462,8 @@ class UserPersistenceMapperTest {
                 Password.ofHash("recentHash"),
                 UserStatus.ACTIVE,
                 now,
-                now
+                now,
+                0L
         );
 
         var entity = mapper.toEntity(user);
@@ -460,10 +483,12 @@ class UserPersistenceMapperTest {
                 "Old User",
                 "(11) 97777-7777",
                 "old@example.com",
+                "old@example.com",
                 "oldHash",
                 UserStatus.ACTIVE,
                 oldDate,
-                oldDate
+                oldDate,
+                0L
         );
 
         var user = mapper.toDomain(entity);
@@ -476,9 +501,9 @@ class UserPersistenceMapperTest {
     @DisplayName("Should map all UserStatus values correctly to entity")
     void shouldMapAllUserStatusValuesCorrectlyToEntity() {
         var activeUser = User.reconstruct(UUID.randomUUID(), Name.of("Active"), Email.of("active@example.com"),
-                Telephone.of("(11) 98888-8881"), Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 98888-8881"), Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var inactiveUser = User.reconstruct(UUID.randomUUID(), Name.of("Inactive"), Email.of("inactive@example.com"),
-                Telephone.of("(11) 98888-8882"), Password.ofHash("h2"), UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 98888-8882"), Password.ofHash("h2"), UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var activeEntity = mapper.toEntity(activeUser);
         var inactiveEntity = mapper.toEntity(inactiveUser);
@@ -491,9 +516,11 @@ class UserPersistenceMapperTest {
     @DisplayName("Should map all UserStatus values correctly to domain")
     void shouldMapAllUserStatusValuesCorrectlyToDomain() {
         var activeEntity = new UserEntity(UUID.randomUUID(), "Active", "(11) 98888-8881",
-                "active@example.com", "h1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "active@example.com",
+                "active@example.com", "h1", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var inactiveEntity = new UserEntity(UUID.randomUUID(), "Inactive", "(11) 98888-8882",
-                "inactive@example.com", "h2", UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                "inactive@example.com",
+                "inactive@example.com", "h2", UserStatus.INACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var activeUser = mapper.toDomain(activeEntity);
         var inactiveUser = mapper.toDomain(inactiveEntity);
@@ -518,11 +545,11 @@ class UserPersistenceMapperTest {
         var id3 = UUID.randomUUID();
 
         var user1 = User.reconstruct(id1, Name.of("User1"), Email.of("u1@example.com"),
-                Telephone.of("(11) 99999-9991"), Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 99999-9991"), Password.ofHash("h1"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user2 = User.reconstruct(id2, Name.of("User2"), Email.of("u2@example.com"),
-                Telephone.of("(11) 99999-9992"), Password.ofHash("h2"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 99999-9992"), Password.ofHash("h2"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
         var user3 = User.reconstruct(id3, Name.of("User3"), Email.of("u3@example.com"),
-                Telephone.of("(11) 99999-9993"), Password.ofHash("h3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now());
+                Telephone.of("(11) 99999-9993"), Password.ofHash("h3"), UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
 
         var entity1 = mapper.toEntity(user1);
         var entity2 = mapper.toEntity(user2);
@@ -551,7 +578,8 @@ class UserPersistenceMapperTest {
                 password,
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var entity = mapper.toEntity(user);
@@ -570,10 +598,12 @@ class UserPersistenceMapperTest {
                 "Reconstruct User",
                 "(11) 91111-1111",
                 "reconstruct@example.com",
+                "reconstruct@example.com",
                 "reconstructHash456",
                 UserStatus.ACTIVE,
                 OffsetDateTime.now(),
-                OffsetDateTime.now()
+                OffsetDateTime.now(),
+                0L
         );
 
         var user = mapper.toDomain(entity);
@@ -587,5 +617,44 @@ class UserPersistenceMapperTest {
         assertEquals("(11) 91111-1111", user.getTelephone());
         assertEquals("reconstructHash456", user.getPassword());
     }
-    
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should map stored rows without re-validating value objects")
+    void shouldMapStoredRowsWithoutReValidatingValueObjects() {
+        var entity = new UserEntity(UUID.randomUUID(), "Ana", "11987654321", "legacy-address", "legacy-address", "hash",
+                UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 0L);
+
+        var user = mapper.toDomain(entity);
+
+        assertEquals("Ana", user.getName());
+        assertEquals("11987654321", user.getTelephone());
+        assertEquals("legacy-address", user.getEmail());
+    }
+
+    @Test
+    @DisplayName("Should write canonical email to UserEntity")
+    void shouldWriteCanonicalEmailToUserEntity() {
+        var user = User.reconstruct(UUID.randomUUID(), Name.of("John Doe"), Email.of("John.Doe@Example.COM"),
+                Telephone.of("(11) 99999-9999"), Password.ofHash("hashedPassword123"), UserStatus.ACTIVE,
+                OffsetDateTime.now(), OffsetDateTime.now(), 0L);
+
+        var entity = mapper.toEntity(user);
+
+        assertEquals("John.Doe@Example.COM", entity.getEmail());
+        assertEquals("john.doe@example.com", entity.getEmailCanonical());
+    }
+
+
+    @Test
+    @DisplayName("Should carry the version in both directions")
+    void shouldCarryTheVersionInBothDirections() {
+        var entity = new UserEntity(UUID.randomUUID(), "Versioned", "(11) 94444-4444", "v@example.com",
+                "v@example.com", "hash", UserStatus.ACTIVE, OffsetDateTime.now(), OffsetDateTime.now(), 6L);
+
+        var user = mapper.toDomain(entity);
+
+        assertEquals(6L, user.getVersion());
+        assertEquals(6L, mapper.toEntity(user).getVersion());
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApproximateUserCounter Tests")
+class ApproximateUserCounterTest {
+
+    @Mock
+    private UserJpaRepository repository;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private ApproximateUserCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new ApproximateUserCounter(repository, Duration.ofSeconds(30), now::get);
+    }
+
+    @Test
+    @DisplayName("Should return planner estimate")
+    void shouldReturnPlannerEstimate() {
+        when(repository.estimateCount()).thenReturn(5_000_000L);
+
+        assertEquals(5_000_000L, counter.count());
+        verify(repository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should reuse estimate within TTL")
+    void shouldReuseEstimateWithinTtl() {
+        when(repository.estimateCount()).thenReturn(100L, 200L);
+
+        counter.count();
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+
+        assertEquals(100L, counter.count());
+        verify(repository, times(1)).estimateCount();
+    }
+
+    @Test
+    @DisplayName("Should refresh estimate after TTL")
+    void shouldRefreshEstimateAfterTtl() {
+        when(repository.estimateCount()).thenReturn(100L, 200L);
+
+        counter.count();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertEquals(200L, counter.count());
+        verify(repository, times(2)).estimateCount();
+    }
+
+    @Test
+    @DisplayName("Should count exactly when table was never analyzed")
+    void shouldCountExactlyWhenTableWasNeverAnalyzed() {
+        when(repository.estimateCount()).thenReturn(-1L);
+        when(repository.count()).thenReturn(42L);
+
+        assertEquals(42L, counter.count());
+        assertEquals(42L, counter.count());
+        verify(repository, times(1)).count();
+    }
+
+}
@@ -0,0 +1,275 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExportAdapter Tests")
+class UserExportAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private DataSource dataSource;
+
+    private UserExportAdapter adapter;
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserExportAdapter(jdbcTemplate, dataSource, transactionManager, new SimpleMeterRegistry(), 500, 2);
+    }
+
+    @Test
+    @DisplayName("Should stream rows through a read-only transaction")
+    void shouldStreamRowsThroughAReadOnlyTransaction() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        stubRow();
+        doAnswer(invocation -> {
+            var handler = invocation.<RowCallbackHandler>getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        List<UserOutput> exported = new ArrayList<>();
+
+        var count = adapter.forEachUser(exported::add);
+
+        assertEquals(2, count);
+        assertEquals(2, exported.size());
+        var definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should open a forward-only cursor with the configured fetch size")
+    void shouldOpenAForwardOnlyCursorWithTheConfiguredFetchSize() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        var connection = mock(Connection.class);
+        var statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(UserExportAdapter.EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY)).thenReturn(statement);
+        doAnswer(invocation -> {
+            invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        adapter.forEachUser(user -> {});
+
+        verify(statement).setFetchSize(500);
+    }
+
+    @Test
+    @DisplayName("Should not select password hashes")
+    void shouldNotSelectPasswordHashes() {
+        assertFalse(UserExportAdapter.EXPORT_SQL.contains("password"));
+    }
+
+    @Test
+    @DisplayName("Should map a row to UserOutput")
+    void shouldMapARowToUserOutput() throws Exception {
+        stubRow();
+
+        var output = UserExportAdapter.toOutput(resultSet);
+
+        assertEquals(new UserOutput(USER_ID, "John Doe", "john@example.com", "(11) 98765-4321", UserStatus.BLOCKED,
+                NOW, NOW, 0L), output);
+    }
+
+    @Test
+    @DisplayName("Should split the heap into contiguous block ranges ending with an open range")
+    void shouldSplitTheHeapIntoContiguousBlockRangesEndingWithAnOpenRange() {
+        var ranges = UserExportAdapter.blockRanges(10, 3);
+
+        assertEquals(List.of(
+                new UserExportAdapter.BlockRange(0, 4L),
+                new UserExportAdapter.BlockRange(4, 8L),
+                new UserExportAdapter.BlockRange(8, null)
+        ), ranges);
+        assertEquals("(4,0)", ranges.get(1).startTid());
+        assertEquals("(8,0)", ranges.get(1).endTid());
+        assertEquals(UserExportAdapter.OPEN_BLOCK_RANGE_SQL, ranges.get(2).sql());
+    }
+
+    @Test
+    @DisplayName("Should not create more ranges than heap blocks")
+    void shouldNotCreateMoreRangesThanHeapBlocks() {
+        assertEquals(List.of(new UserExportAdapter.BlockRange(0, null)), UserExportAdapter.blockRanges(0, 8));
+        assertEquals(2, UserExportAdapter.blockRanges(2, 8).size());
+    }
+
+    @Test
+    @DisplayName("Should only accept exported snapshot identifiers")
+    void shouldOnlyAcceptExportedSnapshotIdentifiers() {
+        assertEquals("00000003-0000001B-1", UserExportAdapter.checkedSnapshotId("00000003-0000001B-1"));
+        assertThrows(IllegalStateException.class, () -> UserExportAdapter.checkedSnapshotId("x'; DROP TABLE users"));
+        assertThrows(IllegalStateException.class, () -> UserExportAdapter.checkedSnapshotId(null));
+    }
+
+    @Test
+    @DisplayName("Should reject a parallelism below one")
+    void shouldRejectAParallelismBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new UserExportAdapter(jdbcTemplate, dataSource,
+                transactionManager, new SimpleMeterRegistry(), 500, 0));
+    }
+
+    @Test
+    @DisplayName("Should merge every range read from the shared snapshot")
+    void shouldMergeEveryRangeReadFromTheSharedSnapshot() throws Exception {
+        var parallelAdapter = new UserExportAdapter(new JdbcTemplate(), dataSource, transactionManager,
+                new SimpleMeterRegistry(), 2, 2);
+        var coordinator = coordinator(10);
+        var firstRange = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        var secondRange = List.of(UUID.randomUUID(), UUID.randomUUID());
+        var firstWorker = worker(firstRange);
+        var secondWorker = worker(secondRange);
+        when(dataSource.getConnection()).thenReturn(coordinator, firstWorker, secondWorker);
+        Set<UUID> exported = Collections.synchronizedSet(new HashSet<>());
+
+        var count = parallelAdapter.forEachUserInParallel(user -> exported.add(user.id()));
+
+        assertEquals(5, count);
+        assertEquals(Set.of(firstRange.get(0), firstRange.get(1), firstRange.get(2), secondRange.get(0),
+                secondRange.get(1)), exported);
+        for (var worker : List.of(firstWorker, secondWorker)) {
+            verify(worker).setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            verify(worker.createStatement()).execute("SET TRANSACTION SNAPSHOT '00000003-0000001B-1'");
+            verify(worker).close();
+        }
+        verify(coordinator).setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        verify(coordinator).close();
+    }
+
+    @Test
+    @DisplayName("Should fail the export when a range fails")
+    void shouldFailTheExportWhenARangeFails() throws Exception {
+        var parallelAdapter = new UserExportAdapter(new JdbcTemplate(), dataSource, transactionManager,
+                new SimpleMeterRegistry(), 2, 2);
+        var coordinator = coordinator(10);
+        var healthyWorker = worker(List.of(UUID.randomUUID()));
+        var brokenWorker = mock(Connection.class);
+        when(brokenWorker.createStatement()).thenReturn(mock(Statement.class));
+        when(brokenWorker.prepareStatement(anyString(), anyInt(), anyInt()))
+                .thenThrow(new SQLException("canceling statement due to conflict with recovery", "40001"));
+        when(dataSource.getConnection()).thenReturn(coordinator, healthyWorker, brokenWorker);
+
+        assertThrows(DataAccessException.class, () -> parallelAdapter.forEachUserInParallel(user -> {}));
+        verify(brokenWorker).close();
+        verify(coordinator).close();
+    }
+
+    @Test
+    @DisplayName("Should stop the workers when the consumer fails")
+    void shouldStopTheWorkersWhenTheConsumerFails() throws Exception {
+        var parallelAdapter = new UserExportAdapter(new JdbcTemplate(), dataSource, transactionManager,
+                new SimpleMeterRegistry(), 1, 1);
+        var coordinator = coordinator(10);
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        var worker = worker(ids);
+        when(dataSource.getConnection()).thenReturn(coordinator, worker);
+        var consumed = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> parallelAdapter.forEachUserInParallel(user -> {
+            if (consumed.incrementAndGet() == 3) {
+                throw new IllegalStateException("client went away");
+            }
+        }));
+        verify(worker, timeout(5000)).close();
+        verify(coordinator).close();
+    }
+
+    private static Connection coordinator(long blocks) throws SQLException {
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var snapshot = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(UserExportAdapter.SNAPSHOT_SQL)).thenReturn(snapshot);
+        when(snapshot.next()).thenReturn(true);
+        when(snapshot.getString(1)).thenReturn("00000003-0000001B-1");
+        when(snapshot.getLong(2)).thenReturn(blocks);
+
+        return connection;
+    }
+
+    private static Connection worker(List<UUID> ids) throws SQLException {
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var prepared = mock(PreparedStatement.class);
+        var rows = mock(ResultSet.class);
+        var cursor = new AtomicInteger(-1);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(prepared);
+        when(prepared.executeQuery()).thenReturn(rows);
+        when(rows.next()).thenAnswer(invocation -> cursor.incrementAndGet() < ids.size());
+        when(rows.getObject("id", UUID.class)).thenAnswer(invocation -> ids.get(cursor.get()));
+        when(rows.getString("name")).thenReturn("John Doe");
+        when(rows.getString("email")).thenReturn("john@example.com");
+        when(rows.getString("telephone")).thenReturn("(11) 98765-4321");
+        when(rows.getString("status")).thenReturn("ACTIVE");
+
+        return connection;
+    }
+
+    private void stubRow() throws Exception {
+        when(resultSet.getObject("id", UUID.class)).thenReturn(USER_ID);
+        when(resultSet.getString("name")).thenReturn("John Doe");
+        when(resultSet.getString("email")).thenReturn("john@example.com");
+        when(resultSet.getString("telephone")).thenReturn("(11) 98765-4321");
+        when(resultSet.getString("status")).thenReturn("BLOCKED");
+        when(resultSet.getObject("created_at", OffsetDateTime.class)).thenReturn(NOW);
+        when(resultSet.getObject("updated_at", OffsetDateTime.class)).thenReturn(NOW);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.adapter.persistence.entities.UserImportErrorEntity;
+import com.gusparro.friggsys.adapter.persistence.entities.UserImportJobEntity;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportJobAdapter Tests")
+class UserImportJobAdapterTest {
+
+    @Mock
+    private UserImportJobJpaRepository jobRepository;
+
+    @Mock
+    private UserImportErrorJpaRepository errorRepository;
+
+    @InjectMocks
+    private UserImportJobAdapter adapter;
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should persist a running job")
+    void shouldPersistARunningJob() {
+        when(jobRepository.save(any())).thenAnswer(invocation -> {
+            var entity = invocation.<UserImportJobEntity>getArgument(0);
+            entity.setId(JOB_ID);
+
+            return entity;
+        });
+
+        var job = adapter.start(ImportFormat.NDJSON);
+
+        assertEquals(JOB_ID, job.id());
+        assertEquals(ImportFormat.NDJSON, job.format());
+        assertEquals(ImportJobStatus.RUNNING, job.status());
+        assertEquals(0, job.processedRows());
+    }
+
+    @Test
+    @DisplayName("Should increment counters and store the rejected rows")
+    @SuppressWarnings("unchecked")
+    void shouldIncrementCountersAndStoreTheRejectedRows() {
+        var errors = List.of(
+                new ImportRowError(4, BatchOutcome.INVALID, Map.of("email", "Invalid email format")),
+                new ImportRowError(9, BatchOutcome.DUPLICATE_EMAIL, Map.of("email", "Already exists"))
+        );
+
+        adapter.recordProgress(JOB_ID, 1000, 998, errors);
+
+        verify(jobRepository).incrementProgress(JOB_ID, 1000, 998, 2);
+        ArgumentCaptor<List<UserImportErrorEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(errorRepository).saveAll(captor.capture());
+        assertEquals(List.of(4L, 9L), captor.getValue().stream().map(UserImportErrorEntity::getLineNumber).toList());
+        assertTrue(captor.getValue().stream().allMatch(entity -> JOB_ID.equals(entity.getJobId())));
+        assertEquals(BatchOutcome.DUPLICATE_EMAIL, captor.getValue().get(1).getOutcome());
+    }
+
+    @Test
+    @DisplayName("Should not store rejected rows when the chunk had none")
+    void shouldNotStoreRejectedRowsWhenTheChunkHadNone() {
+        adapter.recordProgress(JOB_ID, 1000, 1000, List.of());
+
+        verify(jobRepository).incrementProgress(JOB_ID, 1000, 1000, 0);
+        verify(errorRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should finish the job with its final status")
+    void shouldFinishTheJobWithItsFinalStatus() {
+        adapter.finish(JOB_ID, ImportJobStatus.FAILED, "CSV file is empty");
+
+        verify(jobRepository).finish(eq(JOB_ID), eq(ImportJobStatus.FAILED), eq("CSV file is empty"),
+                any(OffsetDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should map the stored job")
+    void shouldMapTheStoredJob() {
+        var startedAt = OffsetDateTime.now().minusMinutes(1);
+        var entity = new UserImportJobEntity(JOB_ID, ImportFormat.CSV, ImportJobStatus.COMPLETED, 10, 7, 3, null,
+                startedAt, startedAt.plusSeconds(5));
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(entity));
+
+        var job = adapter.findById(JOB_ID).orElseThrow();
+
+        assertEquals(ImportJobStatus.COMPLETED, job.status());
+        assertEquals(7, job.importedRows());
+        assertEquals(3, job.rejectedRows());
+        assertEquals(startedAt, job.startedAt());
+    }
+
+    @Test
+    @DisplayName("Should list rejected rows ordered by line number")
+    void shouldListRejectedRowsOrderedByLineNumber() {
+        var entity = new UserImportErrorEntity(UUID.randomUUID(), JOB_ID, 4, BatchOutcome.INVALID,
+                Map.of("row", "Malformed JSON line"));
+        when(errorRepository.findByJobIdOrderByLineNumber(JOB_ID, PageRequest.of(2, 25))).thenReturn(List.of(entity));
+
+        var errors = adapter.findErrors(JOB_ID, 2, 25);
+
+        assertEquals(List.of(new ImportRowError(4, BatchOutcome.INVALID, Map.of("row", "Malformed JSON line"))),
+                errors);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Name;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.domain.vos.Telephone;
+import com.gusparro.friggsys.usecase.user.dtos.StagedUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportStagingAdapter Tests")
+class UserImportStagingAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private UserImportStagingAdapter adapter;
+
+    private static final UUID JOB_ID = UUID.fromString("7f0e5d2c-1b1a-4c55-9d36-1d1f2c3b4a59");
+
+    @Test
+    @DisplayName("Should copy the chunk, merge it and clear the staging rows")
+    @SuppressWarnings("unchecked")
+    void shouldCopyTheChunkMergeItAndClearTheStagingRows() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(2L);
+        when(jdbcTemplate.queryForList(UserImportStagingAdapter.MERGE_SQL, Long.class, JOB_ID, JOB_ID))
+                .thenReturn(List.of(7L));
+
+        var rejected = adapter.load(JOB_ID, List.of(stagedUser(3, "john@example.com"), stagedUser(7, "JOHN@example.com")));
+
+        assertEquals(List.of(7L), rejected);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute(any(ConnectionCallback.class));
+        inOrder.verify(jdbcTemplate).queryForList(UserImportStagingAdapter.MERGE_SQL, Long.class, JOB_ID, JOB_ID);
+        inOrder.verify(jdbcTemplate).update(UserImportStagingAdapter.CLEANUP_SQL, JOB_ID);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database for an empty chunk")
+    void shouldNotTouchTheDatabaseForAnEmptyChunk() {
+        assertEquals(List.of(), adapter.load(JOB_ID, List.of()));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should write quoted CSV rows with the canonical e-mail")
+    void shouldWriteQuotedCsvRowsWithTheCanonicalEmail() {
+        var user = new StagedUser(12, Name.ofTrusted("Doe, \"Johnny\""), Email.of("John@Example.com"),
+                Telephone.ofTrusted("(11) 98765-4321"), Password.ofHash("$2a$10$hash"));
+
+        var csv = UserImportStagingAdapter.toCsv(JOB_ID, List.of(user));
+
+        assertEquals(JOB_ID + ",12,\"Doe, \"\"Johnny\"\"\",\"(11) 98765-4321\",\"John@Example.com\","
+                + "\"john@example.com\",\"$2a$10$hash\"\n", csv);
+    }
+
+    @Test
+    @DisplayName("Should merge with a set-based insert that skips conflicts")
+    void shouldMergeWithASetBasedInsertThatSkipsConflicts() {
+        assertTrue(UserImportStagingAdapter.COPY_SQL.startsWith("COPY user_import_staging"));
+        assertTrue(UserImportStagingAdapter.MERGE_SQL.contains("DISTINCT ON (email_canonical)"));
+        assertTrue(UserImportStagingAdapter.MERGE_SQL.contains("ON CONFLICT DO NOTHING RETURNING email_canonical"));
+    }
+
+    private static StagedUser stagedUser(long lineNumber, String email) {
+        return new StagedUser(lineNumber, Name.ofTrusted("John Doe"), Email.of(email),
+                Telephone.ofTrusted("(11) 98765-4321"), Password.ofHash("$2a$10$hash"));
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.adapter.persistence.entities.UserEntity;
+import com.gusparro.friggsys.adapter.persistence.mappers.UserPersistenceMapper;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Name;
+import com.gusparro.friggsys.domain.vos.Telephone;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.flyway.locations=classpath:database/migrations")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UserJpaRepository PostgreSQL Tests")
+class UserJpaRepositoryPostgresTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$MATzYn25717MrQTCT2oR1uwIbGZoDwuXcfBykyzuVBjebYh0.sIOy";
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Autowired
+    private UserJpaRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should insert every row of the unnest batch and skip e-mails that already exist")
+    void shouldInsertEveryRowOfTheUnnestBatchAndSkipEmailsThatAlreadyExist() {
+        insert("Maria Santos", "maria@example.com", "ACTIVE");
+
+        var inserted = repository.insertAllIfAbsent(
+                new String[]{"John Doe", "Maria Twin"},
+                new String[]{"(63) 99999-9999", "(11) 98888-8888"},
+                new String[]{"John.Doe@Example.com", "MARIA@example.com"},
+                new String[]{"john.doe@example.com", "maria@example.com"},
+                new String[]{PASSWORD_HASH, PASSWORD_HASH},
+                new String[]{"ACTIVE", "INACTIVE"});
+
+        assertEquals(1, inserted.size());
+        assertEquals("john.doe@example.com", inserted.getFirst().getEmailCanonical());
+        assertEquals(0L, inserted.getFirst().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should return only the ids whose status the bulk update changed")
+    void shouldReturnOnlyTheIdsWhoseStatusTheBulkUpdateChanged() {
+        var active = insert("John Doe", "john@example.com", "ACTIVE");
+        var blocked = insert("Maria Santos", "maria@example.com", "BLOCKED");
+        var missing = UUID.randomUUID();
+
+        var changed = repository.updateStatusOfAllReturningId(List.of(active, blocked, missing), "BLOCKED");
+
+        assertEquals(List.of(active), changed);
+        assertEquals("BLOCKED", statusOf(active));
+        assertEquals(1L, versionOf(active));
+        assertEquals(0L, versionOf(blocked));
+    }
+
+    @Test
+    @DisplayName("Should report a row deleted before the bulk update as missing instead of changed")
+    void shouldReportARowDeletedBeforeTheBulkUpdateAsMissingInsteadOfChanged() {
+        var active = insert("John Doe", "john@example.com", "ACTIVE");
+        var deleted = insert("Maria Santos", "maria@example.com", "ACTIVE");
+
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", deleted);
+
+        var changed = repository.updateStatusOfAllReturningId(List.of(active, deleted), "INACTIVE");
+        var existing = repository.findExistingIds(List.of(deleted));
+
+        assertEquals(List.of(active), changed);
+        assertTrue(existing.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find the ids that exist among the requested ones")
+    void shouldFindTheIdsThatExistAmongTheRequestedOnes() {
+        var first = insert("John Doe", "john@example.com", "ACTIVE");
+        var second = insert("Maria Santos", "maria@example.com", "INACTIVE");
+
+        var existing = repository.findExistingIds(List.of(first, second, UUID.randomUUID()));
+
+        assertEquals(Set.of(first, second), Set.copyOf(existing));
+    }
+
+    @Test
+    @DisplayName("Should return the version the save wrote to the row")
+    void shouldReturnTheVersionTheSaveWroteToTheRow() {
+        var adapter = new UserRepositoryAdapter(repository, new UserPersistenceMapper());
+        var id = insert("John Doe", "john@example.com", "ACTIVE");
+        var user = adapter.findById(id).orElseThrow();
+
+        user.update(Name.of("John Updated"), Email.of("john.updated@example.com"), Telephone.of("(11) 98888-8888"));
+
+        var output = UserOutput.from(adapter.save(user));
+
+        assertEquals(1L, output.version());
+        assertEquals(versionOf(id), output.version());
+    }
+
+    private UUID insert(String name, String email, String status) {
+        return repository.insertIfAbsent(name, "(63) 99999-9999", email, email.toLowerCase(), PASSWORD_HASH, status)
+                .map(UserEntity::getId)
+                .orElseThrow();
+    }
+
+    private String statusOf(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM users WHERE id = ?", String.class, id);
+    }
+
+    private Long versionOf(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM users WHERE id = ?", Long.class, id);
+    }
+
+}
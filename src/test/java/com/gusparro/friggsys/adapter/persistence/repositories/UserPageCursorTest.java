@@ -0,0 +1,73 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserPageCursor Tests")
+class UserPageCursorTest {
+
+    @Test
+    @DisplayName("Should round trip a name cursor containing separators")
+    void shouldRoundTripANameCursorContainingSeparators() {
+        var id = UUID.randomUUID();
+        var cursor = new UserPageCursor(UserSortField.NAME, PageOrder.ASC, "Ana: Maria", id);
+
+        var decoded = UserPageCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should round trip a timestamp cursor keeping its precision")
+    void shouldRoundTripATimestampCursorKeepingItsPrecision() {
+        var createdAt = OffsetDateTime.parse("2025-03-01T10:15:30.123456Z");
+        var cursor = new UserPageCursor(UserSortField.CREATED_AT, PageOrder.DESC, createdAt, UUID.randomUUID());
+
+        var decoded = UserPageCursor.decode(cursor.encode());
+
+        assertEquals(UserSortField.CREATED_AT, decoded.sortField());
+        assertEquals(PageOrder.DESC, decoded.direction());
+        assertEquals(createdAt, decoded.value());
+        assertEquals(cursor.id(), decoded.id());
+    }
+
+    @Test
+    @DisplayName("Should encode cursor as URL safe text")
+    void shouldEncodeCursorAsUrlSafeText() {
+        var cursor = new UserPageCursor(UserSortField.NAME, PageOrder.ASC, "???>>>", UUID.randomUUID());
+
+        assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bmFtZQ", "dW5rbm93bjpBU0M6aWQ6dmFsdWU"})
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursors(String cursor) {
+        var error = assertThrows(ValidationError.class, () -> UserPageCursor.decode(cursor));
+
+        assertEquals("cursor", error.getField());
+    }
+
+    @Test
+    @DisplayName("Should reject cursor with unsupported sort field")
+    void shouldRejectCursorWithUnsupportedSortField() {
+        var raw = "password:ASC:" + UUID.randomUUID() + ":value";
+        var cursor = Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        var error = assertThrows(ValidationError.class, () -> UserPageCursor.decode(cursor));
+
+        assertEquals("cursor", error.getField());
+    }
+
+}
@@ -0,0 +1,348 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import com.gusparro.friggsys.domain.repositories.pagination.CountMode;
+import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
+import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserQueryAdapter Tests")
+class UserQueryAdapterTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApproximateUserCounter approximateCounter;
+
+    @Mock
+    private JdbcTemplate plainJdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private UserQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserQueryAdapter(jdbcTemplate, approximateCounter, MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should select only response columns without ordering when no sort is requested")
+    void shouldSelectOnlyResponseColumnsWithoutOrderingWhenNoSortIsRequested() {
+        var sql = UserQueryAdapter.buildPageSql(PageParameters.builder().page(0).size(10).build());
+
+        assertEquals("SELECT id, name, email, telephone, status, created_at, updated_at, version FROM users "
+                + "LIMIT :limit OFFSET :offset", sql);
+        assertFalse(sql.contains("password_hash"));
+    }
+
+    @Test
+    @DisplayName("Should order non-unique sort fields with the id tiebreaker")
+    void shouldOrderNonUniqueSortFieldsWithTheIdTiebreaker() {
+        var sql = UserQueryAdapter.buildPageSql(PageParameters.builder()
+                .orderBy("name")
+                .direction(PageOrder.DESC)
+                .build());
+
+        assertTrue(sql.endsWith("FROM users ORDER BY name DESC, id DESC LIMIT :limit OFFSET :offset"));
+    }
+
+    @Test
+    @DisplayName("Should order unique sort fields without a tiebreaker")
+    void shouldOrderUniqueSortFieldsWithoutATiebreaker() {
+        var sql = UserQueryAdapter.buildPageSql(PageParameters.builder().orderBy("email").build());
+
+        assertTrue(sql.endsWith("FROM users ORDER BY email_canonical ASC LIMIT :limit OFFSET :offset"));
+    }
+
+    @Test
+    @DisplayName("Should reject sort fields outside the whitelist before querying")
+    void shouldRejectSortFieldsOutsideTheWhitelistBeforeQuerying() {
+        var parameters = PageParameters.builder().page(0).size(10).orderBy("passwordHash").build();
+
+        var error = assertThrows(ValidationError.class, () -> adapter.findAll(parameters));
+
+        assertEquals("orderBy", error.getField());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should build the first cursor page query without a keyset predicate")
+    void shouldBuildTheFirstCursorPageQueryWithoutAKeysetPredicate() {
+        var sql = UserQueryAdapter.buildCursorSql(UserSortField.NAME, PageOrder.ASC, false);
+
+        assertEquals("SELECT " + UserQueryAdapter.COLUMNS + ", name AS sort_value FROM users "
+                + "ORDER BY name ASC, id ASC LIMIT :limit", sql);
+    }
+
+    @Test
+    @DisplayName("Should seek after the cursor with a row comparison in ascending order")
+    void shouldSeekAfterTheCursorWithARowComparisonInAscendingOrder() {
+        var sql = UserQueryAdapter.buildCursorSql(UserSortField.NAME, PageOrder.ASC, true);
+
+        assertTrue(sql.endsWith("FROM users WHERE (name, id) > (:value, :id) ORDER BY name ASC, id ASC LIMIT :limit"));
+    }
+
+    @Test
+    @DisplayName("Should seek on the unique column alone without the id tiebreaker")
+    void shouldSeekOnTheUniqueColumnAloneWithoutTheIdTiebreaker() {
+        var sql = UserQueryAdapter.buildCursorSql(UserSortField.EMAIL, PageOrder.ASC, true);
+
+        assertTrue(sql.endsWith("FROM users WHERE email_canonical > :value "
+                + "ORDER BY email_canonical ASC LIMIT :limit"));
+    }
+
+    @Test
+    @DisplayName("Should seek before the cursor with a row comparison in descending order")
+    void shouldSeekBeforeTheCursorWithARowComparisonInDescendingOrder() {
+        var sql = UserQueryAdapter.buildCursorSql(UserSortField.CREATED_AT, PageOrder.DESC, true);
+
+        assertTrue(sql.endsWith("FROM users WHERE (created_at, id) < (:value, :id) "
+                + "ORDER BY created_at DESC, id DESC LIMIT :limit"));
+    }
+
+    @Test
+    @DisplayName("Should skip the exact count when the first page is not full")
+    void shouldSkipTheExactCountWhenTheFirstPageIsNotFull() {
+        var output = output();
+
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(output, output));
+
+        var page = adapter.findAll(PageParameters.builder().page(0).size(10).build());
+
+        assertEquals(2, page.getData().size());
+        assertEquals(2L, page.getDataAmount());
+        assertEquals(1, page.getPagesAmount());
+        assertTrue(page.isFirstPage());
+        assertTrue(page.isLastPage());
+        assertEquals(CountMode.EXACT, page.getCountMode());
+        verify(jdbcTemplate, never()).getJdbcTemplate();
+    }
+
+    @Test
+    @DisplayName("Should count rows exactly when the page is full")
+    void shouldCountRowsExactlyWhenThePageIsFull() {
+        var output = output();
+
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(output, output));
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plainJdbcTemplate);
+        when(plainJdbcTemplate.queryForObject(UserQueryAdapter.COUNT_SQL, Long.class)).thenReturn(5L);
+
+        var page = adapter.findAll(PageParameters.builder().page(1).size(2).build());
+
+        assertEquals(5L, page.getDataAmount());
+        assertEquals(3, page.getPagesAmount());
+        assertEquals(1, page.getPageNumber());
+        assertFalse(page.isFirstPage());
+        assertFalse(page.isLastPage());
+        assertEquals(2L, parametersOfPageQuery().getValue("offset"));
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra row to detect the next page without counting")
+    void shouldFetchOneExtraRowToDetectTheNextPageWithoutCounting() {
+        var output = output();
+
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(output, output, output));
+
+        var page = adapter.findAll(PageParameters.builder().page(0).size(2).countMode(CountMode.NONE).build());
+
+        assertEquals(2, page.getData().size());
+        assertEquals(0L, page.getDataAmount());
+        assertFalse(page.isLastPage());
+        assertEquals(3, parametersOfPageQuery().getValue("limit"));
+        verifyNoInteractions(approximateCounter);
+    }
+
+    @Test
+    @DisplayName("Should use the approximate counter in approximate count mode")
+    void shouldUseTheApproximateCounterInApproximateCountMode() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(output()));
+        when(approximateCounter.count()).thenReturn(40L);
+
+        var page = adapter.findAll(PageParameters.builder().page(0).size(10).countMode(CountMode.APPROXIMATE).build());
+
+        assertEquals(40L, page.getDataAmount());
+        assertEquals(4, page.getPagesAmount());
+        assertTrue(page.isLastPage());
+    }
+
+    @Test
+    @DisplayName("Should emit a cursor from the boundary row when another row follows")
+    void shouldEmitACursorFromTheBoundaryRowWhenAnotherRowFollows() throws Exception {
+        var id = UUID.randomUUID();
+
+        stubRow(id);
+        when(resultSet.getObject("sort_value", String.class)).thenReturn("john doe");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        var page = adapter.findAllByCursor(PageParameters.builder().size(2).orderBy("name").build());
+
+        assertEquals(2, page.getData().size());
+        assertFalse(page.isLastPage());
+
+        var cursor = UserPageCursor.decode(page.getNextCursor());
+        assertEquals(UserSortField.NAME, cursor.sortField());
+        assertEquals("john doe", cursor.value());
+        assertEquals(id, cursor.id());
+        verify(resultSet, times(1)).getObject("sort_value", String.class);
+    }
+
+    @Test
+    @DisplayName("Should bind the cursor position and select the sort value")
+    void shouldBindTheCursorPositionAndSelectTheSortValue() {
+        var id = UUID.randomUUID();
+        var cursor = new UserPageCursor(UserSortField.CREATED_AT, PageOrder.DESC, NOW, id).encode();
+        var sql = ArgumentCaptor.forClass(String.class);
+        var parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+
+        var page = adapter.findAllByCursor(PageParameters.builder().size(5).cursor(cursor).build());
+
+        verify(jdbcTemplate).query(sql.capture(), parameters.capture(), any(RowCallbackHandler.class));
+        assertTrue(sql.getValue().startsWith("SELECT " + UserQueryAdapter.COLUMNS + ", created_at AS sort_value FROM users"));
+        assertTrue(sql.getValue().contains("(created_at, id) < (:value, :id)"));
+        assertEquals(NOW, parameters.getValue().getValue("value"));
+        assertEquals(id, parameters.getValue().getValue("id"));
+        assertEquals(6, parameters.getValue().getValue("limit"));
+        assertTrue(page.isLastPage());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should clamp offset page size to the configured maximum")
+    void shouldClampOffsetPageSizeToTheConfiguredMaximum() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        var page = adapter.findAll(PageParameters.builder()
+                .page(0)
+                .size(Integer.MAX_VALUE)
+                .countMode(CountMode.NONE)
+                .build());
+
+        assertEquals(MAX_PAGE_SIZE, page.getPageSize());
+        assertEquals(MAX_PAGE_SIZE + 1, parametersOfPageQuery().getValue("limit"));
+    }
+
+    @Test
+    @DisplayName("Should clamp cursor page size to the configured maximum")
+    void shouldClampCursorPageSizeToTheConfiguredMaximum() {
+        var parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+
+        var page = adapter.findAllByCursor(PageParameters.builder().size(Integer.MAX_VALUE).orderBy("name").build());
+
+        verify(jdbcTemplate).query(anyString(), parameters.capture(), any(RowCallbackHandler.class));
+        assertEquals(MAX_PAGE_SIZE, page.getPageSize());
+        assertEquals(MAX_PAGE_SIZE + 1, parameters.getValue().getValue("limit"));
+    }
+
+    @Test
+    @DisplayName("Should reject cursor pagination by a field outside the whitelist")
+    void shouldRejectCursorPaginationByAFieldOutsideTheWhitelist() {
+        var parameters = PageParameters.builder().size(5).orderBy("passwordHash").cursor("").build();
+
+        assertThrows(ValidationError.class, () -> adapter.findAllByCursor(parameters));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should find a user by id through the projection")
+    void shouldFindAUserByIdThroughTheProjection() {
+        var id = UUID.randomUUID();
+        var output = output();
+
+        when(jdbcTemplate.query(eq(UserQueryAdapter.FIND_BY_ID_SQL), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(output));
+
+        assertSame(output, adapter.findById(id).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should return empty when no user has the id")
+    void shouldReturnEmptyWhenNoUserHasTheId() {
+        when(jdbcTemplate.query(eq(UserQueryAdapter.FIND_BY_ID_SQL), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(Collections.emptyList());
+
+        assertTrue(adapter.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find a user by canonical e-mail through the projection")
+    void shouldFindAUserByCanonicalEmailThroughTheProjection() {
+        var parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+
+        when(jdbcTemplate.query(eq(UserQueryAdapter.FIND_BY_EMAIL_SQL), parameters.capture(), any(RowMapper.class)))
+                .thenReturn(List.of(output()));
+
+        assertTrue(adapter.findByEmail(Email.of("John.Doe@Example.com")).isPresent());
+        assertEquals("john.doe@example.com", parameters.getValue().getValue("emailCanonical"));
+    }
+
+    private SqlParameterSource parametersOfPageQuery() {
+        var parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+
+        verify(jdbcTemplate).query(anyString(), parameters.capture(), any(RowMapper.class));
+
+        return parameters.getValue();
+    }
+
+    private void stubRow(UUID id) throws Exception {
+        when(resultSet.getObject("id", UUID.class)).thenReturn(id);
+        when(resultSet.getString("name")).thenReturn("John Doe");
+        when(resultSet.getString("email")).thenReturn("john@example.com");
+        when(resultSet.getString("telephone")).thenReturn("(11) 98765-4321");
+        when(resultSet.getString("status")).thenReturn("ACTIVE");
+        when(resultSet.getObject("created_at", OffsetDateTime.class)).thenReturn(NOW);
+        when(resultSet.getObject("updated_at", OffsetDateTime.class)).thenReturn(NOW);
+        when(resultSet.getLong("version")).thenReturn(3L);
+    }
+
+    private static UserOutput output() {
+        return new UserOutput(UUID.randomUUID(), "John Doe", "john@example.com", "(11) 98765-4321",
+                UserStatus.ACTIVE, NOW, NOW, 0L);
+    }
+
+}
@@ -3,28 +3,26 @@ package com.gusparro.friggsys.adapter.persistence.repositories;
 import com.gusparro.friggsys.adapter.persistence.entities.UserEntity;
 import com.gusparro.friggsys.adapter.persistence.mappers.UserPersistenceMapper;
 import com.gusparro.friggsys.domain.entities.User;
-import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
-import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import com.gusparro.friggsys.domain.enums.UserStatus;
 import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Password;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,7 +48,7 @@ class UserRepositoryAdapterTest {
     @DisplayName("Should save user successfully")
     void shouldSaveUserSuccessfully() {
         when(mapper.toEntity(user)).thenReturn(userEntity);
-        when(repository.save(userEntity)).thenReturn(userEntity);
+        when(repository.saveAndFlush(userEntity)).thenReturn(userEntity);
         when(mapper.toDomain(userEntity)).thenReturn(user);
 
         var result = repositoryAdapter.save(user);
@@ -58,105 +56,38 @@ class UserRepositoryAdapterTest {
         assertNotNull(result);
         assertEquals(user, result);
         verify(mapper).toEntity(user);
-        verify(repository).save(userEntity);
+        verify(repository).saveAndFlush(userEntity);
         verify(mapper).toDomain(userEntity);
     }
 
     @Test
-    @DisplayName("Should find all users with pagination without sorting")
-    void shouldFindAllUsersWithPaginationWithoutSorting() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .build();
-
-        var entities = List.of(userEntity, userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 2);
-
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
+    @DisplayName("Should map the row returned by a conflict-aware insert")
+    void shouldMapTheRowReturnedByAConflictAwareInsert() {
+        when(user.getName()).thenReturn("John Doe");
+        when(user.getTelephone()).thenReturn("(63) 99999-9999");
+        when(user.getEmail()).thenReturn("John.Doe@Example.com");
+        when(user.getCanonicalEmail()).thenReturn("john.doe@example.com");
+        when(user.getPassword()).thenReturn("$2a$10$hash");
+        when(user.getStatus()).thenReturn(UserStatus.ACTIVE);
+        when(repository.insertIfAbsent("John Doe", "(63) 99999-9999", "John.Doe@Example.com",
+                "john.doe@example.com", "$2a$10$hash", "ACTIVE")).thenReturn(Optional.of(userEntity));
         when(mapper.toDomain(userEntity)).thenReturn(user);
 
-        var result = repositoryAdapter.findAll(parameters);
+        var result = repositoryAdapter.insertIfAbsent(user);
 
-        assertNotNull(result);
-        assertEquals(2, result.getData().size());
-        assertEquals(2L, result.getDataAmount());
-        assertEquals(1, result.getPagesAmount());
-        assertEquals(0, result.getPageNumber());
-        assertEquals(10, result.getPageSize());
-        assertTrue(result.isFirstPage());
-        assertTrue(result.isLastPage());
-        verify(repository).findAll(any(Pageable.class));
-    }
-
-    @Test
-    @DisplayName("Should find all users with pagination and sorting")
-    void shouldFindAllUsersWithPaginationAndSorting() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .orderBy("name")
-                .direction(PageOrder.ASC)
-                .build();
-
-        var entities = List.of(userEntity);
-        var pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name"));
-        Page<UserEntity> page = new PageImpl<>(entities, pageable, 1);
-
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
-
-        var result = repositoryAdapter.findAll(parameters);
-
-        assertNotNull(result);
-        assertEquals(1, result.getData().size());
-        assertEquals(1L, result.getDataAmount());
-        verify(repository).findAll(any(Pageable.class));
-    }
-
-    @Test
-    @DisplayName("Should find all users with DESC sorting")
-    void shouldFindAllUsersWithDescSorting() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .orderBy("createdAt")
-                .direction(PageOrder.DESC)
-                .build();
-
-        var entities = List.of(userEntity, userEntity, userEntity);
-        var pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<UserEntity> page = new PageImpl<>(entities, pageable, 3);
-
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
-
-        var result = repositoryAdapter.findAll(parameters);
-
-        assertNotNull(result);
-        assertEquals(3, result.getData().size());
-        verify(repository).findAll(any(Pageable.class));
+        assertTrue(result.isPresent());
+        assertEquals(user, result.get());
+        verify(repository, never()).save(any(UserEntity.class));
     }
 
     @Test
-    @DisplayName("Should find all users returning empty page")
-    void shouldFindAllUsersReturningEmptyPage() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .build();
-
-        Page<UserEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+    @DisplayName("Should return empty when the insert conflicts with an existing e-mail")
+    void shouldReturnEmptyWhenTheInsertConflictsWithAnExistingEmail() {
+        when(user.getStatus()).thenReturn(UserStatus.ACTIVE);
+        when(repository.insertIfAbsent(any(), any(), any(), any(), any(), eq("ACTIVE"))).thenReturn(Optional.empty());
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(emptyPage);
-
-        var result = repositoryAdapter.findAll(parameters);
-
-        assertNotNull(result);
-        assertTrue(result.getData().isEmpty());
-        assertEquals(0L, result.getDataAmount());
-        assertEquals(0, result.getPagesAmount());
-        verify(repository).findAll(any(Pageable.class));
+        assertTrue(repositoryAdapter.insertIfAbsent(user).isEmpty());
+        verifyNoInteractions(mapper);
     }
 
     @Test
@@ -194,14 +125,14 @@ class UserRepositoryAdapterTest {
     void shouldFindUserByEmailSuccessfully() {
         var email = Email.of("test@example.com");
 
-        when(repository.findByEmail(email.getValue())).thenReturn(Optional.of(userEntity));
+        when(repository.findByEmailCanonical(email.getCanonicalValue())).thenReturn(Optional.of(userEntity));
         when(mapper.toDomain(userEntity)).thenReturn(user);
 
         var result = repositoryAdapter.findByEmail(email);
 
         assertTrue(result.isPresent());
         assertEquals(user, result.get());
-        verify(repository).findByEmail(email.getValue());
+        verify(repository).findByEmailCanonical(email.getCanonicalValue());
         verify(mapper).toDomain(userEntity);
     }
 
@@ -210,12 +141,12 @@ class UserRepositoryAdapterTest {
     void shouldReturnEmptyWhenUserNotFoundByEmail() {
         var email = Email.of("notfound@example.com");
 
-        when(repository.findByEmail(email.getValue())).thenReturn(Optional.empty());
+        when(repository.findByEmailCanonical(email.getCanonicalValue())).thenReturn(Optional.empty());
 
         var result = repositoryAdapter.findByEmail(email);
 
         assertTrue(result.isEmpty());
-        verify(repository).findByEmail(email.getValue());
+        verify(repository).findByEmailCanonical(email.getCanonicalValue());
         verify(mapper, never()).toDomain(any());
     }
 
@@ -250,12 +181,12 @@ class UserRepositoryAdapterTest {
     void shouldReturnTrueWhenUserExistsByEmail() {
         var email = Email.of("existing@example.com");
 
-        when(repository.existsByEmail(email.getValue())).thenReturn(true);
+        when(repository.existsByEmailCanonical(email.getCanonicalValue())).thenReturn(true);
 
         var result = repositoryAdapter.existsByEmail(email);
 
         assertTrue(result);
-        verify(repository).existsByEmail(email.getValue());
+        verify(repository).existsByEmailCanonical(email.getCanonicalValue());
     }
 
     @Test
@@ -263,12 +194,12 @@ class UserRepositoryAdapterTest {
     void shouldReturnFalseWhenUserDoesNotExistByEmail() {
         var email = Email.of("nonexistent@example.com");
 
-        when(repository.existsByEmail(email.getValue())).thenReturn(false);
+        when(repository.existsByEmailCanonical(email.getCanonicalValue())).thenReturn(false);
 
         var result = repositoryAdapter.existsByEmail(email);
 
         assertFalse(result);
-        verify(repository).existsByEmail(email.getValue());
+        verify(repository).existsByEmailCanonical(email.getCanonicalValue());
     }
 
     @Test
@@ -282,228 +213,163 @@ class UserRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should create pageable without sort when orderBy is null")
-    void shouldCreatePageableWithoutSortWhenOrderByIsNull() {
-        var parameters = PageParameters.builder()
-                .page(1)
-                .size(20)
-                .orderBy(null)
-                .build();
+    @DisplayName("Should report deletion when the delete returns the id")
+    void shouldReportDeletionWhenTheDeleteReturnsTheId() {
+        var userId = UUID.randomUUID();
 
-        var entities = List.of(userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(1, 20), 1);
+        when(repository.deleteReturningId(userId)).thenReturn(Optional.of(userId));
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
+        assertTrue(repositoryAdapter.deleteIfExists(userId));
+        verify(repository, never()).existsById(any(UUID.class));
+    }
 
-        repositoryAdapter.findAll(parameters);
+    @Test
+    @DisplayName("Should report missing user when the delete returns no row")
+    void shouldReportMissingUserWhenTheDeleteReturnsNoRow() {
+        var userId = UUID.randomUUID();
 
-        var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(repository).findAll(pageableCaptor.capture());
+        when(repository.deleteReturningId(userId)).thenReturn(Optional.empty());
 
-        var capturedPageable = pageableCaptor.getValue();
-        assertEquals(1, capturedPageable.getPageNumber());
-        assertEquals(20, capturedPageable.getPageSize());
-        assertTrue(capturedPageable.getSort().isUnsorted());
+        assertFalse(repositoryAdapter.deleteIfExists(userId));
     }
 
     @Test
-    @DisplayName("Should create pageable without sort when orderBy is blank")
-    void shouldCreatePageableWithoutSortWhenOrderByIsBlank() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(15)
-                .orderBy("   ")
-                .build();
-
-        var entities = List.of(userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 15), 1);
-
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
+    @DisplayName("Should insert a batch of users with one conflict-aware array insert")
+    void shouldInsertABatchOfUsersWithOneConflictAwareArrayInsert() {
+        when(user.getName()).thenReturn("John Doe");
+        when(user.getTelephone()).thenReturn("(63) 99999-9999");
+        when(user.getEmail()).thenReturn("John.Doe@Example.com");
+        when(user.getCanonicalEmail()).thenReturn("john.doe@example.com");
+        when(user.getPassword()).thenReturn("$2a$10$hash");
+        when(user.getStatus()).thenReturn(UserStatus.ACTIVE);
+        when(repository.insertAllIfAbsent(
+                new String[]{"John Doe", "John Doe"},
+                new String[]{"(63) 99999-9999", "(63) 99999-9999"},
+                new String[]{"John.Doe@Example.com", "John.Doe@Example.com"},
+                new String[]{"john.doe@example.com", "john.doe@example.com"},
+                new String[]{"$2a$10$hash", "$2a$10$hash"},
+                new String[]{"ACTIVE", "ACTIVE"})).thenReturn(List.of(userEntity));
         when(mapper.toDomain(userEntity)).thenReturn(user);
 
-        repositoryAdapter.findAll(parameters);
-
-        var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(repository).findAll(pageableCaptor.capture());
+        var result = repositoryAdapter.insertAllIfAbsent(List.of(user, user));
 
-        var capturedPageable = pageableCaptor.getValue();
-        assertTrue(capturedPageable.getSort().isUnsorted());
+        assertEquals(List.of(user), result);
+        verify(repository, never()).save(any(UserEntity.class));
     }
 
     @Test
-    @DisplayName("Should create pageable with sort when orderBy is provided")
-    void shouldCreatePageableWithSortWhenOrderByIsProvided() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .orderBy("email")
-                .direction(PageOrder.ASC)
-                .build();
+    @DisplayName("Should split large batch inserts into bounded chunks")
+    void shouldSplitLargeBatchInsertsIntoBoundedChunks() {
+        when(user.getStatus()).thenReturn(UserStatus.ACTIVE);
+        when(repository.insertAllIfAbsent(any(), any(), any(), any(), any(), any())).thenReturn(List.of());
 
-        var entities = List.of(userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 1);
+        var result = repositoryAdapter.insertAllIfAbsent(Collections.nCopies(UserRepositoryAdapter.BATCH_CHUNK_SIZE * 2 + 1, user));
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
+        assertTrue(result.isEmpty());
+        verify(repository, times(3)).insertAllIfAbsent(any(), any(), any(), any(), any(), any());
+    }
 
-        repositoryAdapter.findAll(parameters);
+    @Test
+    @DisplayName("Should look up existing e-mails with one canonical array query")
+    void shouldLookUpExistingEmailsWithOneCanonicalArrayQuery() {
+        when(repository.findExistingEmailCanonicals(new String[]{"taken@example.com", "free@example.com"}))
+                .thenReturn(List.of("taken@example.com"));
 
-        var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(repository).findAll(pageableCaptor.capture());
+        var result = repositoryAdapter.findExistingCanonicalEmails(List.of(
+                Email.of("Taken@Example.com"), Email.of("taken@example.com"), Email.of("free@example.com")));
 
-        var capturedPageable = pageableCaptor.getValue();
-        assertTrue(capturedPageable.getSort().isSorted());
-        assertEquals(Sort.Direction.ASC, capturedPageable.getSort().getOrderFor("email").getDirection());
+        assertEquals(Set.of("taken@example.com"), result);
+        verify(repository, times(1)).findExistingEmailCanonicals(any(String[].class));
     }
 
     @Test
-    @DisplayName("Should handle pagination with first page correctly")
-    void shouldHandlePaginationWithFirstPageCorrectly() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(5)
-                .build();
+    @DisplayName("Should not query existing e-mails for an empty batch")
+    void shouldNotQueryExistingEmailsForAnEmptyBatch() {
+        assertTrue(repositoryAdapter.findExistingCanonicalEmails(List.of()).isEmpty());
+        verifyNoInteractions(repository);
+    }
 
-        var entities = List.of(userEntity, userEntity, userEntity, userEntity, userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 5), 15);
+    @Test
+    @DisplayName("Should return the previous status of every existing user in a batch")
+    void shouldReturnThePreviousStatusOfEveryExistingUserInABatch() {
+        var active = UUID.randomUUID();
+        var missing = UUID.randomUUID();
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
+        when(repository.updateStatusOfAllReturningId(List.of(active, missing), "BLOCKED"))
+                .thenReturn(List.of(active));
 
-        var result = repositoryAdapter.findAll(parameters);
+        var result = repositoryAdapter.changeStatusOfAll(List.of(active, missing), UserStatus.BLOCKED);
 
-        assertTrue(result.isFirstPage());
-        assertFalse(result.isLastPage());
-        assertEquals(3, result.getPagesAmount());
+        assertEquals(Set.of(active), result);
     }
 
     @Test
-    @DisplayName("Should handle pagination with last page correctly")
-    void shouldHandlePaginationWithLastPageCorrectly() {
-        var parameters = PageParameters.builder()
-                .page(2)
-                .size(5)
-                .build();
+    @DisplayName("Should collect the existing ids of every chunk")
+    void shouldCollectTheExistingIdsOfEveryChunk() {
+        var ids = Stream.generate(UUID::randomUUID).limit(UserRepositoryAdapter.BATCH_CHUNK_SIZE + 1L).toList();
 
-        var entities = List.of(userEntity, userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(2, 5), 12);
+        when(repository.findExistingIds(ids.subList(0, UserRepositoryAdapter.BATCH_CHUNK_SIZE)))
+                .thenReturn(List.of(ids.get(0)));
+        when(repository.findExistingIds(ids.subList(UserRepositoryAdapter.BATCH_CHUNK_SIZE, ids.size())))
+                .thenReturn(List.of());
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
-
-        var result = repositoryAdapter.findAll(parameters);
-
-        assertFalse(result.isFirstPage());
-        assertTrue(result.isLastPage());
-        assertEquals(2, result.getPageNumber());
+        assertEquals(Set.of(ids.get(0)), repositoryAdapter.findExistingIds(ids));
     }
 
     @Test
-    @DisplayName("Should handle pagination with middle page correctly")
-    void shouldHandlePaginationWithMiddlePageCorrectly() {
-        var parameters = PageParameters.builder()
-                .page(1)
-                .size(10)
-                .build();
+    @DisplayName("Should split batch status changes into chunks")
+    void shouldSplitBatchStatusChangesIntoChunks() {
+        var ids = Stream.generate(UUID::randomUUID).limit(UserRepositoryAdapter.BATCH_CHUNK_SIZE * 2L + 1).toList();
 
-        var entities = List.of(userEntity, userEntity, userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(1, 10), 25);
+        when(repository.updateStatusOfAllReturningId(anyCollection(), eq("INACTIVE"))).thenReturn(List.of());
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
-
-        var result = repositoryAdapter.findAll(parameters);
+        repositoryAdapter.changeStatusOfAll(ids, UserStatus.INACTIVE);
 
-        assertFalse(result.isFirstPage());
-        assertFalse(result.isLastPage());
-        assertEquals(1, result.getPageNumber());
+        verify(repository).updateStatusOfAllReturningId(ids.subList(0, UserRepositoryAdapter.BATCH_CHUNK_SIZE), "INACTIVE");
+        verify(repository).updateStatusOfAllReturningId(
+                ids.subList(UserRepositoryAdapter.BATCH_CHUNK_SIZE, UserRepositoryAdapter.BATCH_CHUNK_SIZE * 2), "INACTIVE");
+        verify(repository).updateStatusOfAllReturningId(ids.subList(ids.size() - 1, ids.size()), "INACTIVE");
+        verify(repository, times(3)).updateStatusOfAllReturningId(anyCollection(), eq("INACTIVE"));
     }
 
     @Test
-    @DisplayName("Should map all entities to domain correctly")
-    void shouldMapAllEntitiesToDomainCorrectly() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(3)
-                .build();
-
-        var entity1 = mock(UserEntity.class);
-        var entity2 = mock(UserEntity.class);
-        var entity3 = mock(UserEntity.class);
-        var user1 = mock(User.class);
-        var user2 = mock(User.class);
-        var user3 = mock(User.class);
-
-        var entities = List.of(entity1, entity2, entity3);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 3), 3);
+    @DisplayName("Should collect the ids deleted by every chunk")
+    void shouldCollectTheIdsDeletedByEveryChunk() {
+        var ids = Stream.generate(UUID::randomUUID).limit(UserRepositoryAdapter.BATCH_CHUNK_SIZE + 1L).toList();
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(entity1)).thenReturn(user1);
-        when(mapper.toDomain(entity2)).thenReturn(user2);
-        when(mapper.toDomain(entity3)).thenReturn(user3);
+        when(repository.deleteAllReturningId(ids.subList(0, UserRepositoryAdapter.BATCH_CHUNK_SIZE)))
+                .thenReturn(List.of(ids.get(0)));
+        when(repository.deleteAllReturningId(ids.subList(UserRepositoryAdapter.BATCH_CHUNK_SIZE, ids.size())))
+                .thenReturn(List.of(ids.get(ids.size() - 1)));
 
-        var result = repositoryAdapter.findAll(parameters);
+        var result = repositoryAdapter.deleteAll(ids);
 
-        assertEquals(3, result.getData().size());
-        verify(mapper).toDomain(entity1);
-        verify(mapper).toDomain(entity2);
-        verify(mapper).toDomain(entity3);
+        assertEquals(Set.of(ids.get(0), ids.get(ids.size() - 1)), result);
     }
 
     @Test
-    @DisplayName("Should handle different page sizes correctly")
-    void shouldHandleDifferentPageSizesCorrectly() {
-        var parameters5 = PageParameters.builder().page(0).size(5).build();
-        var parameters10 = PageParameters.builder().page(0).size(10).build();
-        var parameters20 = PageParameters.builder().page(0).size(20).build();
-
-        var entities5 = List.of(userEntity, userEntity, userEntity, userEntity, userEntity);
-        var entities10 = List.of(userEntity, userEntity, userEntity);
-        var entities20 = List.of(userEntity);
-
-        Page<UserEntity> page5 = new PageImpl<>(entities5, PageRequest.of(0, 5), 5);
-        Page<UserEntity> page10 = new PageImpl<>(entities10, PageRequest.of(0, 10), 3);
-        Page<UserEntity> page20 = new PageImpl<>(entities20, PageRequest.of(0, 20), 1);
+    @DisplayName("Should map the row returned by a status change")
+    void shouldMapTheRowReturnedByAStatusChange() {
+        var userId = UUID.randomUUID();
 
-        when(repository.findAll(any(Pageable.class)))
-                .thenReturn(page5)
-                .thenReturn(page10)
-                .thenReturn(page20);
+        when(repository.updateStatusIfChanged(userId, "BLOCKED")).thenReturn(Optional.of(userEntity));
         when(mapper.toDomain(userEntity)).thenReturn(user);
 
-        var result5 = repositoryAdapter.findAll(parameters5);
-        var result10 = repositoryAdapter.findAll(parameters10);
-        var result20 = repositoryAdapter.findAll(parameters20);
+        var result = repositoryAdapter.changeStatus(userId, UserStatus.BLOCKED, null);
 
-        assertEquals(5, result5.getPageSize());
-        assertEquals(10, result10.getPageSize());
-        assertEquals(20, result20.getPageSize());
+        assertTrue(result.isPresent());
+        assertEquals(user, result.get());
     }
 
     @Test
-    @DisplayName("Should handle multiple sort fields")
-    void shouldHandleMultipleSortFields() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .orderBy("name")
-                .direction(PageOrder.ASC)
-                .build();
-
-        var entities = List.of(userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 1);
-
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
-
-        repositoryAdapter.findAll(parameters);
+    @DisplayName("Should return empty when the status change matches no row")
+    void shouldReturnEmptyWhenTheStatusChangeMatchesNoRow() {
+        var userId = UUID.randomUUID();
 
-        var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(repository).findAll(pageableCaptor.capture());
+        when(repository.updateStatusIfChanged(userId, "ACTIVE")).thenReturn(Optional.empty());
 
-        var capturedPageable = pageableCaptor.getValue();
-        assertNotNull(capturedPageable.getSort().getOrderFor("name"));
+        assertTrue(repositoryAdapter.changeStatus(userId, UserStatus.ACTIVE, null).isEmpty());
+        verifyNoInteractions(mapper);
     }
 
     @Test
@@ -513,14 +379,15 @@ class UserRepositoryAdapterTest {
         var savedUser = mock(User.class);
 
         when(mapper.toEntity(user)).thenReturn(userEntity);
-        when(repository.save(userEntity)).thenReturn(savedEntity);
+        when(repository.saveAndFlush(userEntity)).thenReturn(savedEntity);
         when(mapper.toDomain(savedEntity)).thenReturn(savedUser);
 
         var result = repositoryAdapter.save(user);
 
         assertEquals(savedUser, result);
         verify(mapper).toEntity(user);
-        verify(repository).save(userEntity);
+        verify(repository).saveAndFlush(userEntity);
+        verify(repository, never()).save(any(UserEntity.class));
         verify(mapper).toDomain(savedEntity);
     }
 
@@ -543,8 +410,8 @@ class UserRepositoryAdapterTest {
         var email1 = Email.of("user1@example.com");
         var email2 = Email.of("user2@example.com");
 
-        when(repository.findByEmail(email1.getValue())).thenReturn(Optional.of(userEntity));
-        when(repository.findByEmail(email2.getValue())).thenReturn(Optional.empty());
+        when(repository.findByEmailCanonical(email1.getCanonicalValue())).thenReturn(Optional.of(userEntity));
+        when(repository.findByEmailCanonical(email2.getCanonicalValue())).thenReturn(Optional.empty());
         when(mapper.toDomain(userEntity)).thenReturn(user);
 
         var result1 = repositoryAdapter.findByEmail(email1);
@@ -552,8 +419,8 @@ class UserRepositoryAdapterTest {
 
         assertTrue(result1.isPresent());
         assertTrue(result2.isEmpty());
-        verify(repository).findByEmail(email1.getValue());
-        verify(repository).findByEmail(email2.getValue());
+        verify(repository).findByEmailCanonical(email1.getCanonicalValue());
+        verify(repository).findByEmailCanonical(email2.getCanonicalValue());
     }
 
     @Test
@@ -562,8 +429,8 @@ class UserRepositoryAdapterTest {
         var existingEmail = Email.of("exists@example.com");
         var nonExistingEmail = Email.of("notexists@example.com");
 
-        when(repository.existsByEmail(existingEmail.getValue())).thenReturn(true);
-        when(repository.existsByEmail(nonExistingEmail.getValue())).thenReturn(false);
+        when(repository.existsByEmailCanonical(existingEmail.getCanonicalValue())).thenReturn(true);
+        when(repository.existsByEmailCanonical(nonExistingEmail.getCanonicalValue())).thenReturn(false);
 
         var exists = repositoryAdapter.existsByEmail(existingEmail);
         var notExists = repositoryAdapter.existsByEmail(nonExistingEmail);
@@ -573,95 +440,61 @@ class UserRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should handle pagination with single item")
-    void shouldHandlePaginationWithSingleItem() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .build();
-
-        var entities = List.of(userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 1);
+    @DisplayName("Should find by id with different UUIDs")
+    void shouldFindByIdWithDifferentUUIDs() {
+        var id1 = UUID.randomUUID();
+        var id2 = UUID.randomUUID();
+        var entity1 = mock(UserEntity.class);
+        var user1 = mock(User.class);
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
+        when(repository.findById(id1)).thenReturn(Optional.of(entity1));
+        when(repository.findById(id2)).thenReturn(Optional.empty());
+        when(mapper.toDomain(entity1)).thenReturn(user1);
 
-        var result = repositoryAdapter.findAll(parameters);
+        var result1 = repositoryAdapter.findById(id1);
+        var result2 = repositoryAdapter.findById(id2);
 
-        assertEquals(1, result.getData().size());
-        assertEquals(1L, result.getDataAmount());
-        assertEquals(1, result.getPagesAmount());
-        assertTrue(result.isFirstPage());
-        assertTrue(result.isLastPage());
+        assertTrue(result1.isPresent());
+        assertEquals(user1, result1.get());
+        assertTrue(result2.isEmpty());
     }
 
     @Test
-    @DisplayName("Should handle different ordering directions")
-    void shouldHandleDifferentOrderingDirections() {
-        var ascParameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .orderBy("name")
-                .direction(PageOrder.ASC)
-                .build();
-
-        var descParameters = PageParameters.builder()
-                .page(0)
-                .size(10)
-                .orderBy("name")
-                .direction(PageOrder.DESC)
-                .build();
+    @DisplayName("Should replace password when the stored hash is unchanged")
+    void shouldReplacePasswordWhenTheStoredHashIsUnchanged() {
+        var id = UUID.randomUUID();
+        var expected = Password.ofHash("$2a$10$expected");
+        var replacement = Password.ofHash("$2a$12$replacement");
 
-        var entities = List.of(userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 1);
+        when(repository.updatePasswordHashIfUnchanged(id, expected.getValue(), replacement.getValue())).thenReturn(1);
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
-
-        repositoryAdapter.findAll(ascParameters);
-        repositoryAdapter.findAll(descParameters);
-
-        verify(repository, times(2)).findAll(any(Pageable.class));
+        assertTrue(repositoryAdapter.replacePassword(id, expected, replacement));
+        verify(repository).updatePasswordHashIfUnchanged(id, expected.getValue(), replacement.getValue());
     }
 
     @Test
-    @DisplayName("Should return correct total elements count")
-    void shouldReturnCorrectTotalElementsCount() {
-        var parameters = PageParameters.builder()
-                .page(0)
-                .size(5)
-                .build();
-
-        var entities = List.of(userEntity, userEntity, userEntity);
-        Page<UserEntity> page = new PageImpl<>(entities, PageRequest.of(0, 5), 23);
-
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toDomain(userEntity)).thenReturn(user);
+    @DisplayName("Should not replace password when the stored hash has changed")
+    void shouldNotReplacePasswordWhenTheStoredHashHasChanged() {
+        var id = UUID.randomUUID();
+        var expected = Password.ofHash("$2a$10$expected");
+        var replacement = Password.ofHash("$2a$12$replacement");
 
-        var result = repositoryAdapter.findAll(parameters);
+        when(repository.updatePasswordHashIfUnchanged(id, expected.getValue(), replacement.getValue())).thenReturn(0);
 
-        assertEquals(23L, result.getDataAmount());
-        assertEquals(3, result.getData().size());
+        assertFalse(repositoryAdapter.replacePassword(id, expected, replacement));
     }
 
-    @Test
-    @DisplayName("Should find by id with different UUIDs")
-    void shouldFindByIdWithDifferentUUIDs() {
-        var id1 = UUID.randomUUID();
-        var id2 = UUID.randomUUID();
-        var entity1 = mock(UserEntity.class);
-        var user1 = mock(User.class);
 
-        when(repository.findById(id1)).thenReturn(Optional.of(entity1));
-        when(repository.findById(id2)).thenReturn(Optional.empty());
-        when(mapper.toDomain(entity1)).thenReturn(user1);
+    @Test
+    @DisplayName("Should guard the status change with the expected version")
+    void shouldGuardTheStatusChangeWithTheExpectedVersion() {
+        var userId = UUID.randomUUID();
 
-        var result1 = repositoryAdapter.findById(id1);
-        var result2 = repositoryAdapter.findById(id2);
+        when(repository.updateStatusIfChangedAtVersion(userId, "INACTIVE", 2L)).thenReturn(Optional.of(userEntity));
+        when(mapper.toDomain(userEntity)).thenReturn(user);
 
-        assertTrue(result1.isPresent());
-        assertEquals(user1, result1.get());
-        assertTrue(result2.isEmpty());
+        assertEquals(Optional.of(user), repositoryAdapter.changeStatus(userId, UserStatus.INACTIVE, 2L));
+        verify(repository, never()).updateStatusIfChanged(any(), any());
     }
 
-}
\ No newline at end of file
+}
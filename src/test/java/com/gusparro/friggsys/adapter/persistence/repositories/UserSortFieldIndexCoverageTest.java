@@ -0,0 +1,121 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.repositories.pagination.PageOrder;
+import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.flyway.locations=classpath:database/migrations")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UserSortField Index Coverage Tests")
+class UserSortFieldIndexCoverageTest {
+
+    private static final int SEEDED_USERS = 2000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeEach
+    void seedUsers() {
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        jdbcTemplate.update("INSERT INTO users (name, telephone, email, email_canonical, password_hash, status, "
+                + "created_at, updated_at) "
+                + "SELECT 'User ' || n, '(11) 99999-9999', 'User' || n || '@example.com', 'user' || n || '@example.com', "
+                + "'$2a$10$hash', 'ACTIVE', CURRENT_TIMESTAMP - n * INTERVAL '1 minute', "
+                + "CURRENT_TIMESTAMP - (n % 97) * INTERVAL '1 hour' "
+                + "FROM generate_series(1, ?) AS n", SEEDED_USERS);
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    static Stream<Arguments> sortsAndDirections() {
+        return Arrays.stream(UserSortField.values())
+                .flatMap(sortField -> Stream.of(PageOrder.ASC, PageOrder.DESC)
+                        .map(direction -> Arguments.of(sortField, direction)));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("sortsAndDirections")
+    @DisplayName("Should read offset pages in index order without sorting")
+    void shouldReadOffsetPagesInIndexOrderWithoutSorting(UserSortField sortField, PageOrder direction) {
+        var sql = UserQueryAdapter.buildPageSql(PageParameters.builder()
+                .orderBy(sortField.getField())
+                .direction(direction)
+                .build());
+
+        assertIndexOrdered(sql, new MapSqlParameterSource()
+                .addValue("limit", 20)
+                .addValue("offset", 40));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("sortsAndDirections")
+    @DisplayName("Should read the first keyset page in index order without sorting")
+    void shouldReadTheFirstKeysetPageInIndexOrderWithoutSorting(UserSortField sortField, PageOrder direction) {
+        var sql = UserQueryAdapter.buildCursorSql(sortField, direction, false);
+
+        assertIndexOrdered(sql, new MapSqlParameterSource("limit", 21));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("sortsAndDirections")
+    @DisplayName("Should seek keyset pages after a cursor in index order without sorting")
+    void shouldSeekKeysetPagesAfterACursorInIndexOrderWithoutSorting(UserSortField sortField, PageOrder direction) {
+        var sql = UserQueryAdapter.buildCursorSql(sortField, direction, true);
+        var parameters = new MapSqlParameterSource()
+                .addValue("limit", 21)
+                .addValue("value", cursorValueOf(sortField));
+
+        if (!sortField.isUnique()) {
+            parameters.addValue("id", UUID.randomUUID());
+        }
+
+        assertIndexOrdered(sql, parameters);
+    }
+
+    private void assertIndexOrdered(String sql, MapSqlParameterSource parameters) {
+        var plan = String.join("\n", namedJdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + sql, parameters,
+                String.class));
+
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"),
+                String.format("Expected an index scan for %s but got%n%s", sql, plan));
+        assertFalse(plan.contains("Sort"), String.format("Expected no sort for %s but got%n%s", sql, plan));
+    }
+
+    private static Object cursorValueOf(UserSortField sortField) {
+        return switch (sortField) {
+            case NAME -> "User 1000";
+            case EMAIL -> "user1000@example.com";
+            case CREATED_AT, UPDATED_AT -> OffsetDateTime.now().minusHours(12);
+        };
+    }
+
+}
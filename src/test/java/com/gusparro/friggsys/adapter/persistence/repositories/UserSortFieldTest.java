@@ -0,0 +1,56 @@
+package com.gusparro.friggsys.adapter.persistence.repositories;
+
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserSortField Tests")
+class UserSortFieldTest {
+
+    @Test
+    @DisplayName("Should resolve sort field by its API name")
+    void shouldResolveSortFieldByItsApiName() {
+        assertEquals(UserSortField.NAME, UserSortField.of("name"));
+        assertEquals(UserSortField.EMAIL, UserSortField.of("email"));
+        assertEquals(UserSortField.CREATED_AT, UserSortField.of("createdAt"));
+        assertEquals(UserSortField.UPDATED_AT, UserSortField.of("updatedAt"));
+    }
+
+    @Test
+    @DisplayName("Should reject sort field outside the whitelist")
+    void shouldRejectSortFieldOutsideTheWhitelist() {
+        var error = assertThrows(ValidationError.class, () -> UserSortField.of("passwordHash"));
+
+        assertEquals("orderBy", error.getField());
+        assertTrue(error.getMessage().contains("passwordHash"));
+    }
+
+    @Test
+    @DisplayName("Should flag only the e-mail as unique")
+    void shouldFlagOnlyTheEmailAsUnique() {
+        assertTrue(UserSortField.EMAIL.isUnique());
+        assertFalse(UserSortField.NAME.isUnique());
+        assertFalse(UserSortField.CREATED_AT.isUnique());
+        assertFalse(UserSortField.UPDATED_AT.isUnique());
+    }
+
+    @Test
+    @DisplayName("Should sort emails by their canonical column")
+    void shouldSortEmailsByTheirCanonicalColumn() {
+        assertEquals("email_canonical", UserSortField.EMAIL.getColumn());
+        assertEquals(String.class, UserSortField.EMAIL.getValueType());
+    }
+
+    @Test
+    @DisplayName("Should parse timestamp cursor values")
+    void shouldParseTimestampCursorValues() {
+        var value = UserSortField.UPDATED_AT.getParser().apply("2025-03-01T10:15:30Z");
+
+        assertEquals(OffsetDateTime.parse("2025-03-01T10:15:30Z"), value);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DataSourceRoutingContext Tests")
+class DataSourceRoutingContextTest {
+
+    @Test
+    @DisplayName("Should prefer a replica only inside the scope")
+    void shouldPreferAReplicaOnlyInsideTheScope() {
+        assertFalse(DataSourceRoutingContext.isReplicaPreferred());
+
+        try (var ignored = DataSourceRoutingContext.preferReplica()) {
+            assertTrue(DataSourceRoutingContext.isReplicaPreferred());
+            assertFalse(DataSourceRoutingContext.isPrimaryPinned());
+        }
+
+        assertFalse(DataSourceRoutingContext.isReplicaPreferred());
+    }
+
+    @Test
+    @DisplayName("Should keep an outer scope active when a nested scope closes")
+    void shouldKeepAnOuterScopeActiveWhenANestedScopeCloses() {
+        try (var outer = DataSourceRoutingContext.pinToPrimary()) {
+            try (var inner = DataSourceRoutingContext.pinToPrimary()) {
+                assertTrue(DataSourceRoutingContext.isPrimaryPinned());
+            }
+
+            assertTrue(DataSourceRoutingContext.isPrimaryPinned());
+        }
+
+        assertFalse(DataSourceRoutingContext.isPrimaryPinned());
+    }
+
+    @Test
+    @DisplayName("Should not leak scopes to other threads")
+    void shouldNotLeakScopesToOtherThreads() {
+        try (var ignored = DataSourceRoutingContext.preferReplica()) {
+            assertFalse(CompletableFuture.supplyAsync(DataSourceRoutingContext::isReplicaPreferred).join());
+        }
+    }
+
+}
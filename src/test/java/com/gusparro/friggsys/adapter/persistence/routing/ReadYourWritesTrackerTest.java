@@ -0,0 +1,85 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadYourWritesTracker Tests")
+class ReadYourWritesTrackerTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        tracker = new ReadYourWritesTracker(meterRegistry, WINDOW, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should pin clients that wrote inside the window")
+    void shouldPinClientsThatWroteInsideTheWindow() {
+        tracker.recordWrite("principal:alice");
+        clock.addAndGet(WINDOW.toNanos() - 1);
+
+        assertTrue(tracker.wroteRecently("principal:alice"));
+        assertFalse(tracker.wroteRecently("principal:bob"));
+    }
+
+    @Test
+    @DisplayName("Should release clients once the window has passed")
+    void shouldReleaseClientsOnceTheWindowHasPassed() {
+        tracker.recordWrite("principal:alice");
+        clock.addAndGet(WINDOW.toNanos());
+
+        assertFalse(tracker.wroteRecently("principal:alice"));
+        assertEquals(0, tracker.trackedClients());
+    }
+
+    @Test
+    @DisplayName("Should restart the window on every write")
+    void shouldRestartTheWindowOnEveryWrite() {
+        tracker.recordWrite("principal:alice");
+        clock.addAndGet(WINDOW.toNanos() - 1);
+        tracker.recordWrite("principal:alice");
+        clock.addAndGet(WINDOW.toNanos() - 1);
+
+        assertTrue(tracker.wroteRecently("principal:alice"));
+    }
+
+    @Test
+    @DisplayName("Should prune expired clients while recording writes")
+    void shouldPruneExpiredClientsWhileRecordingWrites() {
+        for (int i = 0; i < 1023; i++) {
+            tracker.recordWrite("address:" + i);
+        }
+
+        clock.addAndGet(WINDOW.toNanos());
+        tracker.recordWrite("address:fresh");
+
+        assertEquals(1, tracker.trackedClients());
+        assertEquals(1.0, meterRegistry.get("friggsys.db.routing.read_your_writes.clients").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should not track clients when the window is disabled")
+    void shouldNotTrackClientsWhenTheWindowIsDisabled() {
+        var disabled = new ReadYourWritesTracker(new SimpleMeterRegistry(), Duration.ZERO, clock::get);
+
+        disabled.recordWrite("principal:alice");
+
+        assertFalse(disabled.wroteRecently("principal:alice"));
+        assertEquals(0, disabled.trackedClients());
+    }
+
+}
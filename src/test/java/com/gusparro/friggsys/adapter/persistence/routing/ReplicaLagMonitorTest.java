@@ -0,0 +1,132 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaLagMonitor Tests")
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ReplicaLagMonitor(Map.of("replica-1", replica), meterRegistry, Duration.ofSeconds(5),
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should treat replicas as lagging until their lag is measured")
+    void shouldTreatReplicasAsLaggingUntilTheirLagIsMeasured() {
+        assertFalse(monitor.isWithinLag("replica-1"));
+        assertTrue(Double.isNaN(monitor.lagSeconds("replica-1")));
+    }
+
+    @Test
+    @DisplayName("Should accept replicas whose lag is within the threshold")
+    void shouldAcceptReplicasWhoseLagIsWithinTheThreshold() throws Exception {
+        stubLag(1.5);
+
+        monitor.refresh();
+
+        assertTrue(monitor.isWithinLag("replica-1"));
+        assertEquals(1.5, monitor.lagSeconds("replica-1"));
+        verify(statement, times(1)).executeQuery(ReplicaLagMonitor.LAG_SQL);
+    }
+
+    @Test
+    @DisplayName("Should reject replicas whose lag exceeds the threshold")
+    void shouldRejectReplicasWhoseLagExceedsTheThreshold() throws Exception {
+        stubLag(12.0);
+
+        monitor.refresh();
+
+        assertFalse(monitor.isWithinLag("replica-1"));
+    }
+
+    @Test
+    @DisplayName("Should reject replicas whose lag cannot be measured")
+    void shouldRejectReplicasWhoseLagCannotBeMeasured() throws Exception {
+        stubLag(0.0);
+        monitor.refresh();
+
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        monitor.refresh();
+
+        assertFalse(monitor.isWithinLag("replica-1"));
+        assertTrue(Double.isNaN(monitor.lagSeconds("replica-1")));
+    }
+
+    @Test
+    @DisplayName("Should reject replicas that have lost their upstream even though they report no lag")
+    void shouldRejectReplicasThatHaveLostTheirUpstream() throws Exception {
+        stubLag(0.0);
+        when(resultSet.wasNull()).thenReturn(true);
+
+        monitor.refresh();
+
+        assertFalse(monitor.isWithinLag("replica-1"));
+        assertTrue(Double.isNaN(monitor.lagSeconds("replica-1")));
+    }
+
+    @Test
+    @DisplayName("Should require a streaming WAL receiver to measure the lag")
+    void shouldRequireAStreamingWalReceiverToMeasureTheLag() {
+        assertTrue(ReplicaLagMonitor.LAG_SQL.contains("pg_stat_wal_receiver WHERE status = 'streaming'"));
+    }
+
+    @Test
+    @DisplayName("Should publish replica lag as a gauge")
+    void shouldPublishReplicaLagAsAGauge() throws Exception {
+        stubLag(0.25);
+
+        monitor.refresh();
+
+        assertEquals(0.25, meterRegistry.get("friggsys.db.replica.lag").tag("replica", "replica-1").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should treat unknown replicas as lagging")
+    void shouldTreatUnknownReplicasAsLagging() {
+        assertFalse(monitor.isWithinLag("replica-9"));
+    }
+
+    private void stubLag(double seconds) throws SQLException {
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaLagMonitor.LAG_SQL)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(seconds);
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.gusparro.friggsys.adapter.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", firstReplica);
+        replicas.put("replica-2", secondReplica);
+
+        routing = new ReplicaRoutingDataSource(primary, replicas, lagMonitor, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should keep connections outside read-only use cases on the primary")
+    void shouldKeepConnectionsOutsideReadOnlyUseCasesOnThePrimary() {
+        assertEquals("primary", routing.determineCurrentLookupKey());
+        assertEquals(1.0, decisions("primary", "read_write"));
+        verifyNoInteractions(lagMonitor);
+    }
+
+    @Test
+    @DisplayName("Should spread read-only use cases across healthy replicas")
+    void shouldSpreadReadOnlyUseCasesAcrossHealthyReplicas() {
+        when(lagMonitor.isWithinLag(anyString())).thenReturn(true);
+
+        try (var ignored = DataSourceRoutingContext.preferReplica()) {
+            assertEquals("replica-1", routing.determineCurrentLookupKey());
+            assertEquals("replica-2", routing.determineCurrentLookupKey());
+            assertEquals("replica-1", routing.determineCurrentLookupKey());
+        }
+
+        assertEquals(2.0, decisions("replica-1", "replica"));
+        assertEquals(1.0, decisions("replica-2", "replica"));
+    }
+
+    @Test
+    @DisplayName("Should skip replicas that lag behind the threshold")
+    void shouldSkipReplicasThatLagBehindTheThreshold() {
+        when(lagMonitor.isWithinLag("replica-1")).thenReturn(false);
+        when(lagMonitor.isWithinLag("replica-2")).thenReturn(true);
+
+        try (var ignored = DataSourceRoutingContext.preferReplica()) {
+            assertEquals("replica-2", routing.determineCurrentLookupKey());
+            assertEquals("replica-2", routing.determineCurrentLookupKey());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when every replica lags")
+    void shouldFallBackToThePrimaryWhenEveryReplicaLags() {
+        when(lagMonitor.isWithinLag(anyString())).thenReturn(false);
+
+        try (var ignored = DataSourceRoutingContext.preferReplica()) {
+            assertEquals("primary", routing.determineCurrentLookupKey());
+        }
+
+        assertEquals(1.0, decisions("primary", "replica_lag"));
+    }
+
+    @Test
+    @DisplayName("Should route reads to the primary inside a read-your-writes window")
+    void shouldRouteReadsToThePrimaryInsideAReadYourWritesWindow() {
+        try (var pinned = DataSourceRoutingContext.pinToPrimary();
+             var preferred = DataSourceRoutingContext.preferReplica()) {
+            assertEquals("primary", routing.determineCurrentLookupKey());
+        }
+
+        assertEquals(1.0, decisions("primary", "read_your_writes"));
+        verifyNoInteractions(lagMonitor);
+    }
+
+    @Test
+    @DisplayName("Should hand out connections from the selected replica")
+    void shouldHandOutConnectionsFromTheSelectedReplica() throws Exception {
+        var connection = mock(Connection.class);
+
+        when(lagMonitor.isWithinLag("replica-1")).thenReturn(true);
+        when(firstReplica.getConnection()).thenReturn(connection);
+
+        try (var ignored = DataSourceRoutingContext.preferReplica()) {
+            assertSame(connection, routing.getConnection());
+        }
+
+        verifyNoInteractions(primary, secondReplica);
+    }
+
+    @Test
+    @DisplayName("Should close replica pools and stop the lag monitor")
+    void shouldCloseReplicaPoolsAndStopTheLagMonitor() throws Exception {
+        var pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        var closing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", pool), lagMonitor, meterRegistry);
+
+        closing.close();
+
+        verify((AutoCloseable) pool, times(1)).close();
+        verify(lagMonitor, times(1)).shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject routing without replicas")
+    void shouldRejectRoutingWithoutReplicas() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReplicaRoutingDataSource(primary, Map.of(), lagMonitor, meterRegistry));
+    }
+
+    private double decisions(String target, String reason) {
+        return meterRegistry.get("friggsys.db.routing.decisions")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+}
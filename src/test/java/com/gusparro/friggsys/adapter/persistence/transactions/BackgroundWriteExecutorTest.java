@@ -0,0 +1,68 @@
+package com.gusparro.friggsys.adapter.persistence.transactions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BackgroundWriteExecutor Tests")
+class BackgroundWriteExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BackgroundWriteExecutor writeExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (writeExecutor != null) {
+            writeExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run writes on a dedicated write thread")
+    void shouldRunWritesOnADedicatedWriteThread() throws Exception {
+        writeExecutor = new BackgroundWriteExecutor(meterRegistry, 1, 1);
+
+        var threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), writeExecutor::execute)
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(threadName.startsWith("background-write-"));
+    }
+
+    @Test
+    @DisplayName("Should reject writes once the bounded queue is full")
+    void shouldRejectWritesOnceTheBoundedQueueIsFull() throws Exception {
+        writeExecutor = new BackgroundWriteExecutor(meterRegistry, 1, 1);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        writeExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        writeExecutor.execute(() -> {});
+
+        assertThrows(RejectedExecutionException.class, () -> writeExecutor.execute(() -> {}));
+        assertEquals(1.0, meterRegistry.get("friggsys.background_writes.rejections").counter().count());
+
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.gusparro.friggsys.adapter.persistence.transactions;
+
+import com.gusparro.friggsys.adapter.persistence.routing.DataSourceRoutingContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnitOfWorkAdapter Tests")
+class UnitOfWorkAdapterTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UnitOfWorkAdapter unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        unitOfWork = new UnitOfWorkAdapter(transactionManager, meterRegistry);
+
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should run work inside a transaction and commit it")
+    void shouldRunWorkInsideATransactionAndCommitIt() {
+        var result = unitOfWork.execute("create_user", () -> "saved");
+
+        assertEquals("saved", result);
+        verify(transactionManager, times(1)).getTransaction(any(TransactionDefinition.class));
+        verify(transactionManager, times(1)).commit(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should roll back and propagate when work fails")
+    void shouldRollBackAndPropagateWhenWorkFails() {
+        assertThrows(IllegalStateException.class, () -> unitOfWork.execute("create_user", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        verify(transactionManager, times(1)).rollback(transactionStatus);
+        verify(transactionManager, never()).commit(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should record connection hold time tagged by operation")
+    void shouldRecordConnectionHoldTimeTaggedByOperation() {
+        unitOfWork.execute("change_password", () -> "saved");
+        unitOfWork.execute("change_password", () -> "saved");
+
+        var timer = meterRegistry.get("friggsys.db.connection.hold").tag("operation", "change_password").timer();
+
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should record connection hold time even when work fails")
+    void shouldRecordConnectionHoldTimeEvenWhenWorkFails() {
+        assertThrows(IllegalStateException.class, () -> unitOfWork.execute("create_user", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        var timer = meterRegistry.get("friggsys.db.connection.hold").tag("operation", "create_user").timer();
+
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should run reads in a read-only transaction that prefers a replica")
+    void shouldRunReadsInAReadOnlyTransactionThatPrefersAReplica() {
+        var replicaPreferred = unitOfWork.read("find_by_id", DataSourceRoutingContext::isReplicaPreferred);
+
+        assertTrue(replicaPreferred);
+        assertFalse(DataSourceRoutingContext.isReplicaPreferred());
+        verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager, times(1)).commit(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should keep reads that join an open transaction on its connection")
+    void shouldKeepReadsThatJoinAnOpenTransactionOnItsConnection() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        try {
+            assertFalse(unitOfWork.read("find_by_id", DataSourceRoutingContext::isReplicaPreferred));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("Should record connection hold time for reads")
+    void shouldRecordConnectionHoldTimeForReads() {
+        unitOfWork.read("find_users", () -> "page");
+
+        var timer = meterRegistry.get("friggsys.db.connection.hold").tag("operation", "find_users").timer();
+
+        assertEquals(1, timer.count());
+    }
+
+}
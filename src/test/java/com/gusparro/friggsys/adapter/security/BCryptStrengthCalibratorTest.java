@@ -0,0 +1,78 @@
+package com.gusparro.friggsys.adapter.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BCryptStrengthCalibrator Tests")
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("Should return the minimum strength without measuring when the range is fixed")
+    void shouldReturnTheMinimumStrengthWithoutMeasuringWhenTheRangeIsFixed() {
+        var samples = new AtomicInteger();
+        var calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(250), 12, 12, strength -> {
+            samples.incrementAndGet();
+            return 0L;
+        });
+
+        assertEquals(12, calibrator.calibrate());
+        assertEquals(0, samples.get());
+    }
+
+    @Test
+    @DisplayName("Should raise the strength while the doubled cost fits the latency budget")
+    void shouldRaiseTheStrengthWhileTheDoubledCostFitsTheLatencyBudget() {
+        var calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(250), 10, 14,
+                strength -> Duration.ofMillis(60).toNanos());
+
+        assertEquals(12, calibrator.calibrate());
+    }
+
+    @Test
+    @DisplayName("Should keep the minimum strength when it already exceeds the latency budget")
+    void shouldKeepTheMinimumStrengthWhenItAlreadyExceedsTheLatencyBudget() {
+        var calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(250), 10, 14,
+                strength -> Duration.ofMillis(400).toNanos());
+
+        assertEquals(10, calibrator.calibrate());
+    }
+
+    @Test
+    @DisplayName("Should cap the strength at the configured maximum")
+    void shouldCapTheStrengthAtTheConfiguredMaximum() {
+        var calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(250), 10, 14,
+                strength -> Duration.ofMillis(1).toNanos());
+
+        assertEquals(14, calibrator.calibrate());
+    }
+
+    @Test
+    @DisplayName("Should measure only the minimum strength")
+    void shouldMeasureOnlyTheMinimumStrength() {
+        var measured = new AtomicInteger();
+        var calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(250), 11, 14, strength -> {
+            measured.set(strength);
+            return Duration.ofMillis(100).toNanos();
+        });
+
+        assertEquals(12, calibrator.calibrate());
+        assertEquals(11, measured.get());
+    }
+
+    @Test
+    @DisplayName("Should reject strength ranges outside BCrypt limits")
+    void shouldRejectStrengthRangesOutsideBCryptLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BCryptStrengthCalibrator(Duration.ofMillis(250), 3, 10, strength -> 0L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BCryptStrengthCalibrator(Duration.ofMillis(250), 10, 32, strength -> 0L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BCryptStrengthCalibrator(Duration.ofMillis(250), 12, 10, strength -> 0L));
+    }
+
+}
@@ -1,20 +1,47 @@
 package com.gusparro.friggsys.adapter.security;
 
+import com.gusparro.friggsys.adapter.exceptions.AdapterExceptionFactory;
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
 import com.gusparro.friggsys.domain.vos.Password;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @DisplayName("PasswordEncoderAdapter Tests")
 class PasswordEncoderAdapterTest {
 
+    private static final Duration BACKOFF_LIMIT = Duration.ofSeconds(30);
+
+    private PasswordHashingExecutor hashingExecutor;
     private PasswordEncoderAdapter passwordEncoder;
 
     @BeforeEach
     void setUp() {
-        passwordEncoder = new PasswordEncoderAdapter();
+        hashingExecutor = new PasswordHashingExecutor(new SimpleMeterRegistry(), 2, 16, Duration.ofSeconds(30));
+        passwordEncoder = new PasswordEncoderAdapter(hashingExecutor, bcryptEngine(), BACKOFF_LIMIT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    private static PasswordHashingEngine bcryptEngine() {
+        return new PasswordHashingEngine(new SimpleMeterRegistry(),
+                new BCryptStrengthCalibrator(Duration.ofMillis(250), 10, 10),
+                PasswordHashingEngine.BCRYPT, 1024, 1, 1, 0.25, 1000, 256L * 1024 * 1024);
     }
 
     @Test
@@ -28,6 +55,21 @@ class PasswordEncoderAdapterTest {
         assertNotNull(encryptedPassword.getValue());
     }
 
+    @Test
+    @DisplayName("Should encrypt every password of a batch in order")
+    void shouldEncryptEveryPasswordOfABatchInOrder() {
+        var rawPasswords = List.of(Password.ofRaw("FirstPass123!"), Password.ofRaw("SecondPass123!"),
+                Password.ofRaw("ThirdPass123!"));
+
+        var encryptedPasswords = passwordEncoder.encryptAll(rawPasswords);
+
+        assertEquals(3, encryptedPasswords.size());
+        for (int index = 0; index < rawPasswords.size(); index++) {
+            assertTrue(passwordEncoder.matches(rawPasswords.get(index).getValue(),
+                    encryptedPasswords.get(index).getValue()));
+        }
+    }
+
     @Test
     @DisplayName("Should encrypt password and return different value from raw password")
     void shouldEncryptPasswordAndReturnDifferentValueFromRawPassword() {
@@ -45,9 +87,9 @@ class PasswordEncoderAdapterTest {
 
         var encryptedPassword = passwordEncoder.encrypt(rawPassword);
 
-        assertTrue(encryptedPassword.getValue().startsWith("$2a$") ||
-                encryptedPassword.getValue().startsWith("$2b$") ||
-                encryptedPassword.getValue().startsWith("$2y$"));
+        assertTrue(encryptedPassword.getValue().startsWith("{bcrypt}$2a$") ||
+                encryptedPassword.getValue().startsWith("{bcrypt}$2b$") ||
+                encryptedPassword.getValue().startsWith("{bcrypt}$2y$"));
     }
 
     @Test
@@ -251,8 +293,8 @@ class PasswordEncoderAdapterTest {
         var encrypted1 = passwordEncoder.encrypt(password1);
         var encrypted2 = passwordEncoder.encrypt(password2);
 
-        assertEquals(60, encrypted1.getValue().length());
-        assertEquals(60, encrypted2.getValue().length());
+        assertEquals(68, encrypted1.getValue().length());
+        assertEquals(68, encrypted2.getValue().length());
     }
 
     @Test
@@ -260,8 +302,8 @@ class PasswordEncoderAdapterTest {
     void shouldEncryptPasswordConsistentlyAcrossMultipleInstances() {
         var rawPassword = Password.ofRaw("TestPass123!");
 
-        var encoder1 = new PasswordEncoderAdapter();
-        var encoder2 = new PasswordEncoderAdapter();
+        var encoder1 = new PasswordEncoderAdapter(hashingExecutor, bcryptEngine(), BACKOFF_LIMIT);
+        var encoder2 = new PasswordEncoderAdapter(hashingExecutor, bcryptEngine(), BACKOFF_LIMIT);
 
         var encrypted = encoder1.encrypt(rawPassword);
 
@@ -384,4 +426,99 @@ class PasswordEncoderAdapterTest {
         assertEquals(encryptedPassword.getValue(), hashPassword.getValue());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should prefix new hashes with the calibrated BCrypt strength")
+    void shouldPrefixNewHashesWithTheCalibratedBCryptStrength() {
+        var encryptedPassword = passwordEncoder.encrypt(Password.ofRaw("TestPass123!"));
+
+        assertTrue(encryptedPassword.getValue().startsWith("{bcrypt}$2a$10$"));
+    }
+
+    @Test
+    @DisplayName("Should match legacy hashes stored without algorithm prefix")
+    void shouldMatchLegacyHashesStoredWithoutAlgorithmPrefix() {
+        var legacyHash = new BCryptPasswordEncoder(4).encode("TestPass123!");
+
+        assertTrue(passwordEncoder.matches("TestPass123!", legacyHash));
+        assertFalse(passwordEncoder.matches("WrongPass123!", legacyHash));
+    }
+
+    @Test
+    @DisplayName("Should not need rehash when hash uses the preferred algorithm and strength")
+    void shouldNotNeedRehashWhenHashUsesThePreferredAlgorithmAndStrength() {
+        var encryptedPassword = passwordEncoder.encrypt(Password.ofRaw("TestPass123!"));
+
+        assertFalse(passwordEncoder.needsRehash(encryptedPassword.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should need rehash for legacy hashes and different BCrypt strengths")
+    void shouldNeedRehashForLegacyHashesAndDifferentBCryptStrengths() {
+        assertTrue(passwordEncoder.needsRehash("$2a$10$MATzYn25717MrQTCT2oR1uwIbGZoDwuXcfBykyzuVBjebYh0.sIOy"));
+        assertTrue(passwordEncoder.needsRehash("{bcrypt}$2a$08$MATzYn25717MrQTCT2oR1uwIbGZoDwuXcfBykyzuVBjebYh0.sIOy"));
+        assertTrue(passwordEncoder.needsRehash("{bcrypt}$2a$12$MATzYn25717MrQTCT2oR1uwIbGZoDwuXcfBykyzuVBjebYh0.sIOy"));
+    }
+
+    @Test
+    @DisplayName("Should not need rehash for values that are not known hashes")
+    void shouldNotNeedRehashForValuesThatAreNotKnownHashes() {
+        assertFalse(passwordEncoder.needsRehash(null));
+        assertFalse(passwordEncoder.needsRehash("plain"));
+        assertFalse(passwordEncoder.needsRehash("$2a$xx$abcdef"));
+        assertFalse(passwordEncoder.needsRehash("{md5}abcdef"));
+    }
+
+    @Test
+    @DisplayName("Should encrypt in background with the preferred algorithm")
+    void shouldEncryptInBackgroundWithThePreferredAlgorithm() throws Exception {
+        var encryptedPassword = passwordEncoder.encryptInBackground("TestPass123!").get(30, TimeUnit.SECONDS);
+
+        assertTrue(encryptedPassword.getValue().startsWith("{bcrypt}$2a$10$"));
+        assertTrue(passwordEncoder.matches("TestPass123!", encryptedPassword.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should retry a saturated batch until the hashing executor has room again")
+    void shouldRetryASaturatedBatchUntilTheHashingExecutorHasRoomAgain() {
+        var saturatedExecutor = mock(PasswordHashingExecutor.class);
+        var encoder = new PasswordEncoderAdapter(saturatedExecutor, bcryptEngine(), BACKOFF_LIMIT);
+
+        when(saturatedExecutor.executeAll(eq("encrypt_batch"), anyList()))
+                .thenThrow(AdapterExceptionFactory.capacityExceeded("password_hashing", "wait_timeout", Duration.ofSeconds(2)))
+                .thenReturn(List.of("{bcrypt}hash"));
+
+        var encryptedPasswords = encoder.encryptAllWithBackoff(List.of(Password.ofRaw("FirstPass123!")));
+
+        assertEquals(List.of("{bcrypt}hash"), encryptedPasswords.stream().map(Password::getValue).toList());
+        verify(saturatedExecutor, times(2)).executeAll(eq("encrypt_batch"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should give up on a saturated batch once the back-off limit is spent")
+    void shouldGiveUpOnASaturatedBatchOnceTheBackOffLimitIsSpent() {
+        var saturatedExecutor = mock(PasswordHashingExecutor.class);
+        var encoder = new PasswordEncoderAdapter(saturatedExecutor, bcryptEngine(), Duration.ZERO);
+        var rawPasswords = List.of(Password.ofRaw("FirstPass123!"));
+
+        when(saturatedExecutor.executeAll(eq("encrypt_batch"), anyList()))
+                .thenThrow(AdapterExceptionFactory.capacityExceeded("password_hashing", "queue_full", Duration.ofSeconds(2)));
+
+        assertThrows(ServiceUnavailableError.class, () -> encoder.encryptAllWithBackoff(rawPasswords));
+        verify(saturatedExecutor, times(1)).executeAll(eq("encrypt_batch"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should not retry a batch that failed for a reason other than saturation")
+    void shouldNotRetryABatchThatFailedForAReasonOtherThanSaturation() {
+        var failingExecutor = mock(PasswordHashingExecutor.class);
+        var encoder = new PasswordEncoderAdapter(failingExecutor, bcryptEngine(), BACKOFF_LIMIT);
+        var rawPasswords = List.of(Password.ofRaw("FirstPass123!"));
+
+        when(failingExecutor.executeAll(eq("encrypt_batch"), anyList()))
+                .thenThrow(new IllegalStateException("Password hashing failed"));
+
+        assertThrows(IllegalStateException.class, () -> encoder.encryptAllWithBackoff(rawPasswords));
+        verify(failingExecutor, times(1)).executeAll(eq("encrypt_batch"), anyList());
+    }
+
+}
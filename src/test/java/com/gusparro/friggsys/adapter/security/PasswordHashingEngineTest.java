@@ -0,0 +1,163 @@
+package com.gusparro.friggsys.adapter.security;
+
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordHashingEngine Tests")
+class PasswordHashingEngineTest {
+
+    private static final String RAW_PASSWORD = "TestPass123!";
+    private static final long HEAP_BYTES = 64L * 1024 * 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHashingEngine engine(String algorithm) {
+        return engine(algorithm, 1024, HEAP_BYTES);
+    }
+
+    private PasswordHashingEngine engine(String algorithm, int argon2MemoryKib, long heapBytes) {
+        return new PasswordHashingEngine(meterRegistry, new BCryptStrengthCalibrator(Duration.ofMillis(250), 4, 4),
+                algorithm, argon2MemoryKib, 1, 1, 0.25, 1000, heapBytes);
+    }
+
+    @Test
+    @DisplayName("Should encode with Argon2id when it is the preferred algorithm")
+    void shouldEncodeWithArgon2idWhenItIsThePreferredAlgorithm() {
+        var engine = engine(PasswordHashingEngine.ARGON2);
+
+        var hash = engine.encode(RAW_PASSWORD);
+
+        assertTrue(hash.startsWith("{argon2}$argon2id$"));
+        assertTrue(engine.matches(RAW_PASSWORD, hash));
+        assertFalse(engine.matches("WrongPass123!", hash));
+    }
+
+    @Test
+    @DisplayName("Should encode with PBKDF2 when it is the preferred algorithm")
+    void shouldEncodeWithPbkdf2WhenItIsThePreferredAlgorithm() {
+        var engine = engine(PasswordHashingEngine.PBKDF2);
+
+        var hash = engine.encode(RAW_PASSWORD);
+
+        assertTrue(hash.startsWith("{pbkdf2}"));
+        assertTrue(engine.matches(RAW_PASSWORD, hash));
+    }
+
+    @Test
+    @DisplayName("Should verify hashes of every supported algorithm regardless of preference")
+    void shouldVerifyHashesOfEverySupportedAlgorithmRegardlessOfPreference() {
+        var bcryptHash = engine(PasswordHashingEngine.BCRYPT).encode(RAW_PASSWORD);
+        var argon2Hash = engine(PasswordHashingEngine.ARGON2).encode(RAW_PASSWORD);
+        var pbkdf2Hash = engine(PasswordHashingEngine.PBKDF2).encode(RAW_PASSWORD);
+
+        var engine = engine(PasswordHashingEngine.ARGON2);
+
+        assertTrue(engine.matches(RAW_PASSWORD, bcryptHash));
+        assertTrue(engine.matches(RAW_PASSWORD, argon2Hash));
+        assertTrue(engine.matches(RAW_PASSWORD, pbkdf2Hash));
+    }
+
+    @Test
+    @DisplayName("Should need rehash when hash was produced by another algorithm")
+    void shouldNeedRehashWhenHashWasProducedByAnotherAlgorithm() {
+        var bcryptHash = engine(PasswordHashingEngine.BCRYPT).encode(RAW_PASSWORD);
+        var pbkdf2Hash = engine(PasswordHashingEngine.PBKDF2).encode(RAW_PASSWORD);
+
+        var engine = engine(PasswordHashingEngine.ARGON2);
+
+        assertTrue(engine.needsRehash(bcryptHash));
+        assertTrue(engine.needsRehash(pbkdf2Hash));
+        assertFalse(engine.needsRehash(engine.encode(RAW_PASSWORD)));
+    }
+
+    @Test
+    @DisplayName("Should need rehash when Argon2 parameters were raised")
+    void shouldNeedRehashWhenArgon2ParametersWereRaised() {
+        var weakHash = engine(PasswordHashingEngine.ARGON2, 1024, HEAP_BYTES).encode(RAW_PASSWORD);
+
+        var engine = engine(PasswordHashingEngine.ARGON2, 2048, HEAP_BYTES);
+
+        assertTrue(engine.needsRehash(weakHash));
+        assertTrue(engine.matches(RAW_PASSWORD, weakHash));
+    }
+
+    @Test
+    @DisplayName("Should size Argon2 concurrency from the heap budget")
+    void shouldSizeArgon2ConcurrencyFromTheHeapBudget() {
+        assertEquals(16, engine(PasswordHashingEngine.ARGON2, 1024, HEAP_BYTES).availableArgon2Permits());
+        assertEquals(1, engine(PasswordHashingEngine.ARGON2, 1024, 1024L * 1024).availableArgon2Permits());
+    }
+
+    @Test
+    @DisplayName("Should release Argon2 permits after concurrent hashes")
+    void shouldReleaseArgon2PermitsAfterConcurrentHashes() throws InterruptedException {
+        var engine = engine(PasswordHashingEngine.ARGON2, 1024, 8L * 1024 * 1024);
+        var pool = Executors.newFixedThreadPool(4);
+
+        try {
+            var futures = IntStream.range(0, 8)
+                    .mapToObj(index -> pool.submit(() -> engine.encode(RAW_PASSWORD)))
+                    .toList();
+
+            futures.forEach(future -> assertDoesNotThrow(() -> future.get(30, TimeUnit.SECONDS)));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(2, engine.availableArgon2Permits());
+    }
+
+    @Test
+    @DisplayName("Should reject Argon2 hashing when interrupted while waiting for memory")
+    void shouldRejectArgon2HashingWhenInterruptedWhileWaitingForMemory() {
+        var engine = engine(PasswordHashingEngine.ARGON2);
+
+        Thread.currentThread().interrupt();
+
+        try {
+            assertThrows(ServiceUnavailableError.class, () -> engine.encode(RAW_PASSWORD));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    @DisplayName("Should record hashing latency per algorithm and operation")
+    void shouldRecordHashingLatencyPerAlgorithmAndOperation() {
+        var engine = engine(PasswordHashingEngine.PBKDF2);
+
+        var hash = engine.encode(RAW_PASSWORD);
+        engine.matches(RAW_PASSWORD, hash);
+        engine.matches(RAW_PASSWORD, hash);
+
+        assertEquals(1, meterRegistry.get("friggsys.password.hashing.duration")
+                .tags("algorithm", "pbkdf2", "operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("friggsys.password.hashing.duration")
+                .tags("algorithm", "pbkdf2", "operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should resolve algorithm from the hash prefix")
+    void shouldResolveAlgorithmFromTheHashPrefix() {
+        assertEquals("argon2", PasswordHashingEngine.algorithmOf("{argon2}$argon2id$v=19$m=1024"));
+        assertEquals("pbkdf2", PasswordHashingEngine.algorithmOf("{pbkdf2}abcdef"));
+        assertEquals("bcrypt", PasswordHashingEngine.algorithmOf("$2a$10$abcdef"));
+        assertEquals("", PasswordHashingEngine.algorithmOf("{broken"));
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported preferred algorithms")
+    void shouldRejectUnsupportedPreferredAlgorithms() {
+        assertThrows(IllegalArgumentException.class, () -> engine("md5"));
+    }
+
+}
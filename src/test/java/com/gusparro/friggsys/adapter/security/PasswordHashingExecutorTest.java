@@ -0,0 +1,234 @@
+package com.gusparro.friggsys.adapter.security;
+
+import com.gusparro.friggsys.adapter.exceptions.ServiceUnavailableError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordHashingExecutor Tests")
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHashingExecutor hashingExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (hashingExecutor != null) {
+            hashingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the task result when capacity is available")
+    void shouldReturnTheTaskResultWhenCapacityIsAvailable() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        var result = hashingExecutor.execute("encrypt", () -> "hash");
+
+        assertEquals("hash", result);
+    }
+
+    @Test
+    @DisplayName("Should run the task on a dedicated hashing thread")
+    void shouldRunTheTaskOnADedicatedHashingThread() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        var threadName = hashingExecutor.execute("encrypt", () -> Thread.currentThread().getName());
+
+        assertTrue(threadName.startsWith("password-hashing-"));
+    }
+
+    @Test
+    @DisplayName("Should propagate runtime exceptions thrown by the task")
+    void shouldPropagateRuntimeExceptionsThrownByTheTask() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> hashingExecutor.execute("encrypt", () -> {
+                    throw new IllegalArgumentException("boom");
+                }));
+
+        assertEquals("boom", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return batch results in task order")
+    void shouldReturnBatchResultsInTaskOrder() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 2, 1, Duration.ofSeconds(5));
+
+        List<Supplier<Integer>> tasks = IntStream.range(0, 20)
+                .mapToObj(index -> (Supplier<Integer>) () -> index)
+                .toList();
+
+        var results = hashingExecutor.executeAll("encrypt_batch", tasks);
+
+        assertEquals(IntStream.range(0, 20).boxed().toList(), results);
+    }
+
+    @Test
+    @DisplayName("Should not overflow the queue when the batch is larger than it")
+    void shouldNotOverflowTheQueueWhenTheBatchIsLargerThanIt() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 2, 1, Duration.ofSeconds(5));
+
+        List<Supplier<String>> tasks = IntStream.range(0, 50)
+                .mapToObj(index -> (Supplier<String>) () -> {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    return "hash";
+                })
+                .toList();
+
+        var results = hashingExecutor.executeAll("encrypt_batch", tasks);
+
+        assertEquals(50, results.size());
+        assertEquals(0.0, rejections("queue_full"));
+    }
+
+    @Test
+    @DisplayName("Should propagate the first failure of a batch")
+    void shouldPropagateTheFirstFailureOfABatch() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 2, 4, Duration.ofSeconds(5));
+
+        List<Supplier<String>> tasks = List.of(() -> "hash", () -> {
+            throw new IllegalArgumentException("boom");
+        });
+
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> hashingExecutor.executeAll("encrypt_batch", tasks));
+
+        assertEquals("boom", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject with queue_full when the queue is saturated")
+    void shouldRejectWithQueueFullWhenTheQueueIsSaturated() throws InterruptedException {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var callers = Executors.newFixedThreadPool(2);
+
+        try {
+            callers.submit(() -> hashingExecutor.execute("encrypt", () -> {
+                started.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> hashingExecutor.execute("encrypt", () -> "queued"));
+            waitForQueueDepth(1);
+
+            var exception = assertThrows(ServiceUnavailableError.class,
+                    () -> hashingExecutor.execute("encrypt", () -> "rejected"));
+
+            assertEquals("queue_full", exception.getReason());
+            assertEquals("password_hashing", exception.getResource());
+            assertEquals(1.0, rejections("queue_full"));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject with wait_timeout when the task exceeds the wait budget")
+    void shouldRejectWithWaitTimeoutWhenTheTaskExceedsTheWaitBudget() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofMillis(50));
+        var release = new CountDownLatch(1);
+
+        try {
+            var exception = assertThrows(ServiceUnavailableError.class,
+                    () -> hashingExecutor.execute("matches", () -> await(release)));
+
+            assertEquals("wait_timeout", exception.getReason());
+            assertEquals(Duration.ofMillis(50), exception.getRetryAfter());
+            assertEquals(1.0, rejections("wait_timeout"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should complete background tasks on the hashing pool")
+    void shouldCompleteBackgroundTasksOnTheHashingPool() throws Exception {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        var threadName = hashingExecutor.submit("rehash", () -> Thread.currentThread().getName())
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(threadName.startsWith("password-hashing-"));
+    }
+
+    @Test
+    @DisplayName("Should fail background tasks instead of throwing when the queue is saturated")
+    void shouldFailBackgroundTasksInsteadOfThrowingWhenTheQueueIsSaturated() throws InterruptedException {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+        var release = new CountDownLatch(1);
+
+        try {
+            hashingExecutor.submit("rehash", () -> await(release));
+            hashingExecutor.submit("rehash", () -> await(release));
+
+            var rejected = hashingExecutor.submit("rehash", () -> true);
+
+            var exception = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ServiceUnavailableError.class, exception.getCause());
+            assertEquals(1.0, rejections("queue_full"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should register queue depth and active hashes gauges")
+    void shouldRegisterQueueDepthAndActiveHashesGauges() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        assertNotNull(meterRegistry.find("friggsys.password.hashing.queue.depth").gauge());
+        assertNotNull(meterRegistry.find("friggsys.password.hashing.active").gauge());
+        assertEquals(0.0, meterRegistry.get("friggsys.password.hashing.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should use available processors when threads is not positive")
+    void shouldUseAvailableProcessorsWhenThreadsIsNotPositive() {
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 0, 1, Duration.ofSeconds(5));
+
+        assertEquals("ok", hashingExecutor.execute("encrypt", () -> "ok"));
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("friggsys.password.hashing.rejections").tag("reason", reason).counter().count();
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        var gauge = meterRegistry.get("friggsys.password.hashing.queue.depth").gauge();
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (gauge.value() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static Boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
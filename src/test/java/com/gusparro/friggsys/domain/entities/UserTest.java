@@ -51,12 +51,13 @@ class UserTest {
         assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
         assertThat(user.getCreatedAt()).isNotNull();
         assertThat(user.getUpdatedAt()).isNotNull();
+        assertThat(user.getVersion()).isNull();
     }
 
     @Test
     @DisplayName("Should create user with reconstruct method")
     void shouldCreateUserWithReconstructMethod() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 3L);
 
         assertThat(user).isNotNull();
         assertThat(user.getId()).isEqualTo(userId);
@@ -67,6 +68,7 @@ class UserTest {
         assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
         assertThat(user.getCreatedAt()).isEqualTo(createdAt);
         assertThat(user.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(user.getVersion()).isEqualTo(3L);
     }
 
     @Test
@@ -110,7 +112,7 @@ class UserTest {
     @Test
     @DisplayName("Should activate user when inactive")
     void shouldActivateUserWhenInactive() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.INACTIVE, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.INACTIVE, createdAt, updatedAt, 0L);
 
         user.activate();
 
@@ -148,7 +150,7 @@ class UserTest {
     @Test
     @DisplayName("Should throw exception when trying to deactivate already inactive user")
     void shouldThrowExceptionWhenTryingToDeactivateAlreadyInactiveUser() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.INACTIVE, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.INACTIVE, createdAt, updatedAt, 0L);
 
         try (MockedStatic<DomainExceptionFactory> mockedFactory = mockStatic(DomainExceptionFactory.class)) {
             mockedFactory.when(() -> DomainExceptionFactory.invalidState("User", UserStatus.INACTIVE.getDescription(), "deactivate"))
@@ -174,7 +176,7 @@ class UserTest {
     @Test
     @DisplayName("Should throw exception when trying to block already blocked user")
     void shouldThrowExceptionWhenTryingToBlockAlreadyBlockedUser() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.BLOCKED, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.BLOCKED, createdAt, updatedAt, 0L);
 
         try (MockedStatic<DomainExceptionFactory> mockedFactory = mockStatic(DomainExceptionFactory.class)) {
             mockedFactory.when(() -> DomainExceptionFactory.invalidState("User", UserStatus.BLOCKED.getDescription(), "block"))
@@ -229,7 +231,7 @@ class UserTest {
     @DisplayName("Should return user ID")
     void shouldReturnUserId() {
         UUID id = UUID.randomUUID();
-        User user = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
+        User user = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
 
         assertThat(user.getId()).isEqualTo(id);
     }
@@ -237,7 +239,7 @@ class UserTest {
     @Test
     @DisplayName("Should return user created at")
     void shouldReturnUserCreatedAt() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
 
         assertThat(user.getCreatedAt()).isEqualTo(createdAt);
     }
@@ -245,7 +247,7 @@ class UserTest {
     @Test
     @DisplayName("Should return user updated at")
     void shouldReturnUserUpdatedAt() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
 
         assertThat(user.getUpdatedAt()).isEqualTo(updatedAt);
     }
@@ -261,7 +263,7 @@ class UserTest {
     @Test
     @DisplayName("Should check if user is inactive")
     void shouldCheckIfUserIsInactive() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.INACTIVE, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.INACTIVE, createdAt, updatedAt, 0L);
 
         assertThat(user.isInactive()).isTrue();
     }
@@ -269,7 +271,7 @@ class UserTest {
     @Test
     @DisplayName("Should check if user is blocked")
     void shouldCheckIfUserIsBlocked() {
-        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.BLOCKED, createdAt, updatedAt);
+        User user = User.reconstruct(userId, name, email, telephone, password, UserStatus.BLOCKED, createdAt, updatedAt, 0L);
 
         assertThat(user.isBlocked()).isTrue();
     }
@@ -278,8 +280,8 @@ class UserTest {
     @DisplayName("Should be equal to another user with same id")
     void shouldBeEqualToAnotherUserWithSameId() {
         UUID id = UUID.randomUUID();
-        User user1 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
-        User user2 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
+        User user1 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
+        User user2 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
 
         assertThat(user1).isEqualTo(user2);
     }
@@ -288,8 +290,8 @@ class UserTest {
     @DisplayName("Should have same hashcode for equal users")
     void shouldHaveSameHashCodeForEqualUsers() {
         UUID id = UUID.randomUUID();
-        User user1 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
-        User user2 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
+        User user1 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
+        User user2 = User.reconstruct(id, name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
 
         assertThat(user1).hasSameHashCodeAs(user2);
     }
@@ -297,8 +299,8 @@ class UserTest {
     @Test
     @DisplayName("Should not be equal to another user with different id")
     void shouldNotBeEqualToAnotherUserWithDifferentId() {
-        User user1 = User.reconstruct(UUID.randomUUID(), name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
-        User user2 = User.reconstruct(UUID.randomUUID(), name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt);
+        User user1 = User.reconstruct(UUID.randomUUID(), name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
+        User user2 = User.reconstruct(UUID.randomUUID(), name, email, telephone, password, UserStatus.ACTIVE, createdAt, updatedAt, 0L);
 
         assertThat(user1).isNotEqualTo(user2);
     }
@@ -320,6 +322,32 @@ class UserTest {
         assertThat(user.isBlocked()).isTrue();
     }
 
+    @Test
+    @DisplayName("Should allow exactly the status transitions accepted by the user methods")
+    void shouldAllowExactlyTheStatusTransitionsAcceptedByTheUserMethods() {
+        for (var current : UserStatus.values()) {
+            for (var target : UserStatus.values()) {
+                User user = User.reconstruct(userId, name, email, telephone, password, current, createdAt, updatedAt, 0L);
+
+                boolean accepted;
+                try {
+                    switch (target) {
+                        case ACTIVE -> user.activate();
+                        case INACTIVE -> user.deactivate();
+                        case BLOCKED -> user.block();
+                    }
+                    accepted = true;
+                } catch (RuntimeException exception) {
+                    accepted = false;
+                }
+
+                assertThat(current.canTransitionTo(target))
+                        .as("%s -> %s", current, target)
+                        .isEqualTo(accepted);
+            }
+        }
+    }
+
     @Test
     @DisplayName("Should update timestamp when user data changes")
     void shouldUpdateTimestampWhenUserDataChanges() {
@@ -3,6 +3,7 @@ package com.gusparro.friggsys.domain.exceptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -130,4 +131,20 @@ class DomainExceptionFactoryTest {
         assertEquals(50, error.getDetails().get("excessCharacters"));
     }
 
+    @Test
+    @DisplayName("Should aggregate violations into multiple fields validation error")
+    void shouldAggregateViolationsIntoMultipleFieldsValidationError() {
+        var nameError = DomainExceptionFactory.emptyField("name");
+        var emailError = DomainExceptionFactory.invalidPattern("email", "pattern", "Invalid email format");
+
+        var error = DomainExceptionFactory.invalidFields(List.of(nameError, emailError));
+
+        assertEquals("2 fields failed validation", error.getMessage());
+        assertEquals("name, email", error.getField());
+        assertEquals("multiple_fields", error.getDetails().get("validationType"));
+        assertEquals(List.of("name", "email"), error.getDetails().get("fields"));
+        assertEquals(List.of(nameError, emailError), error.getViolations());
+        assertNotNull(error.getDetails().get("timestamp"));
+    }
+
 }
@@ -106,6 +106,31 @@ public class DomainExceptionTest {
         assertEquals(true, exception.getDetails().get("key3"));
     }
 
+    @Test
+    @DisplayName("Should capture stack trace by default")
+    void shouldCaptureStackTraceByDefault() {
+        var exception = new TestDomainException("Test message");
+
+        assertTrue(DomainException.isStackTraceEnabled());
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    @DisplayName("Should skip stack trace when disabled")
+    void shouldSkipStackTraceWhenDisabled() {
+        try {
+            DomainException.setStackTraceEnabled(false);
+
+            var exception = new TestDomainException("Test message", new RuntimeException("Cause"));
+
+            assertEquals(0, exception.getStackTrace().length);
+            assertEquals("Test message", exception.getMessage());
+            assertNotNull(exception.getCause());
+        } finally {
+            DomainException.setStackTraceEnabled(true);
+        }
+    }
+
     private static class TestDomainException extends DomainException {
         public TestDomainException(String message) {
             super(message);
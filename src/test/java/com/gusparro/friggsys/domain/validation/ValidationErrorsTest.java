@@ -0,0 +1,70 @@
+package com.gusparro.friggsys.domain.validation;
+
+import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ValidationErrors Tests")
+class ValidationErrorsTest {
+
+    @Test
+    @DisplayName("Should return value of valid result without collecting errors")
+    void shouldReturnValueOfValidResultWithoutCollectingErrors() {
+        var errors = new ValidationErrors();
+
+        var value = errors.collect(ValidationResult.valid("value"));
+
+        assertEquals("value", value);
+        assertTrue(errors.isEmpty());
+        assertDoesNotThrow(errors::throwIfAny);
+    }
+
+    @Test
+    @DisplayName("Should collect error of invalid result and return null")
+    void shouldCollectErrorOfInvalidResultAndReturnNull() {
+        var errors = new ValidationErrors();
+        var error = DomainExceptionFactory.emptyField("name");
+
+        var value = errors.collect(ValidationResult.invalid(error));
+
+        assertNull(value);
+        assertFalse(errors.isEmpty());
+        assertEquals(List.of(error), errors.getErrors());
+    }
+
+    @Test
+    @DisplayName("Should throw single collected error as is")
+    void shouldThrowSingleCollectedErrorAsIs() {
+        var errors = new ValidationErrors();
+        var error = DomainExceptionFactory.emptyField("name");
+
+        errors.collect(ValidationResult.invalid(error));
+
+        var thrown = assertThrows(ValidationError.class, errors::throwIfAny);
+
+        assertSame(error, thrown);
+    }
+
+    @Test
+    @DisplayName("Should throw aggregated error when several errors were collected")
+    void shouldThrowAggregatedErrorWhenSeveralErrorsWereCollected() {
+        var errors = new ValidationErrors();
+        var nameError = DomainExceptionFactory.emptyField("name");
+        var emailError = DomainExceptionFactory.emptyField("email");
+
+        errors.collect(ValidationResult.invalid(nameError));
+        errors.collect(ValidationResult.valid("(11) 98765-4321"));
+        errors.collect(ValidationResult.invalid(emailError));
+
+        var thrown = assertThrows(ValidationError.class, errors::throwIfAny);
+
+        assertEquals("name, email", thrown.getField());
+        assertEquals(List.of(nameError, emailError), thrown.getViolations());
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.gusparro.friggsys.domain.validation;
+
+import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ValidationResult Tests")
+class ValidationResultTest {
+
+    @Test
+    @DisplayName("Should create valid result with value")
+    void shouldCreateValidResultWithValue() {
+        var result = ValidationResult.valid("value");
+
+        assertTrue(result.isValid());
+        assertEquals("value", result.value());
+        assertNull(result.error());
+        assertEquals("value", result.getOrThrow());
+    }
+
+    @Test
+    @DisplayName("Should create invalid result with error")
+    void shouldCreateInvalidResultWithError() {
+        var error = DomainExceptionFactory.emptyField("name");
+
+        var result = ValidationResult.<String>invalid(error);
+
+        assertFalse(result.isValid());
+        assertNull(result.value());
+        assertSame(error, result.error());
+    }
+
+    @Test
+    @DisplayName("Should throw the stored error when getting value of invalid result")
+    void shouldThrowTheStoredErrorWhenGettingValueOfInvalidResult() {
+        var error = DomainExceptionFactory.emptyField("name");
+
+        var result = ValidationResult.invalid(error);
+
+        var thrown = assertThrows(RuntimeException.class, result::getOrThrow);
+
+        assertSame(error, thrown);
+    }
+
+}
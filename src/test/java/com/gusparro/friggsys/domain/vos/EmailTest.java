@@ -8,6 +8,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.MockedStatic;
 
+import java.util.Locale;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mockStatic;
@@ -165,4 +167,92 @@ class EmailTest {
         assertThat(email.getValue()).isEqualTo(expectedEmail);
     }
 
+    @Test
+    @DisplayName("Should create trusted email without validation")
+    void shouldCreateTrustedEmailWithoutValidation() {
+        Email email = Email.ofTrusted("not-an-email");
+
+        assertThat(email.getValue()).isEqualTo("not-an-email");
+    }
+
+    @Test
+    @DisplayName("Should be equal to validated email with same value")
+    void shouldBeEqualToValidatedEmailWithSameValue() {
+        assertThat(Email.ofTrusted("user@example.com")).isEqualTo(Email.of("user@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should not call exception factory when creating trusted email")
+    void shouldNotCallExceptionFactoryWhenCreatingTrustedEmail() {
+        try (MockedStatic<DomainExceptionFactory> mockedFactory = mockStatic(DomainExceptionFactory.class)) {
+            Email.ofTrusted("not-an-email");
+
+            mockedFactory.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return valid result for valid email")
+    void shouldReturnValidResultForValidEmail() {
+        var result = Email.validate("user@example.com");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.error()).isNull();
+        assertThat(result.getOrThrow().getValue()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return invalid result without throwing for invalid email")
+    void shouldReturnInvalidResultWithoutThrowingForInvalidEmail() {
+        var result = Email.validate("invalid-email");
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.value()).isNull();
+        assertThat(result.error().getField()).isEqualTo("email");
+        assertThatThrownBy(result::getOrThrow).isSameAs(result.error());
+    }
+
+    @Test
+    @DisplayName("Should return invalid result for null email")
+    void shouldReturnInvalidResultForNullEmail() {
+        var result = Email.validate(null);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.error().getDetails()).containsEntry("validationType", "empty_check");
+    }
+
+    @Test
+    @DisplayName("Should expose trimmed lowercase canonical value")
+    void shouldExposeTrimmedLowercaseCanonicalValue() {
+        Email email = Email.of("  John.Doe@Example.COM ");
+
+        assertThat(email.getValue()).isEqualTo("  John.Doe@Example.COM ");
+        assertThat(email.getCanonicalValue()).isEqualTo("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Should keep canonical value independent of default locale")
+    void shouldKeepCanonicalValueIndependentOfDefaultLocale() {
+        var defaultLocale = Locale.getDefault();
+
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+
+            assertThat(Email.ofTrusted("ADMIN@EXAMPLE.COM").getCanonicalValue()).isEqualTo("admin@example.com");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat addresses differing only by case as the same address")
+    void shouldTreatAddressesDifferingOnlyByCaseAsTheSameAddress() {
+        Email email = Email.of("Foo@Example.com");
+
+        assertThat(email.isSameAddressAs("foo@example.com")).isTrue();
+        assertThat(email.isSameAddressAs(" FOO@EXAMPLE.COM")).isTrue();
+        assertThat(email.isSameAddressAs("bar@example.com")).isFalse();
+        assertThat(email.isSameAddressAs(null)).isFalse();
+    }
+
 }
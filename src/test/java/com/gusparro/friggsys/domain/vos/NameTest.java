@@ -176,4 +176,58 @@ class NameTest {
         assertThat(name.getValue()).isEqualTo(expectedName);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should create trusted name without validation")
+    void shouldCreateTrustedNameWithoutValidation() {
+        Name name = Name.ofTrusted("Ana");
+
+        assertThat(name.getValue()).isEqualTo("Ana");
+    }
+
+    @Test
+    @DisplayName("Should be equal to validated name with same value")
+    void shouldBeEqualToValidatedNameWithSameValue() {
+        assertThat(Name.ofTrusted("Maria Silva")).isEqualTo(Name.of("Maria Silva"));
+    }
+
+    @Test
+    @DisplayName("Should not call exception factory when creating trusted name")
+    void shouldNotCallExceptionFactoryWhenCreatingTrustedName() {
+        try (MockedStatic<DomainExceptionFactory> mockedFactory = mockStatic(DomainExceptionFactory.class)) {
+            Name.ofTrusted("Ana");
+
+            mockedFactory.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return valid result for valid name")
+    void shouldReturnValidResultForValidName() {
+        var result = Name.validate("Maria Silva");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.error()).isNull();
+        assertThat(result.getOrThrow().getValue()).isEqualTo("Maria Silva");
+    }
+
+    @Test
+    @DisplayName("Should return invalid result without throwing for invalid name")
+    void shouldReturnInvalidResultWithoutThrowingForInvalidName() {
+        var result = Name.validate("Ana");
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.value()).isNull();
+        assertThat(result.error().getField()).isEqualTo("name");
+        assertThatThrownBy(result::getOrThrow).isSameAs(result.error());
+    }
+
+    @Test
+    @DisplayName("Should return invalid result for null name")
+    void shouldReturnInvalidResultForNullName() {
+        var result = Name.validate(null);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.error().getDetails()).containsEntry("validationType", "empty_check");
+    }
+
+}
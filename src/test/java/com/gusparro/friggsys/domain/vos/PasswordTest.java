@@ -300,4 +300,34 @@ class PasswordTest {
         assertThat(password.getValue()).isEqualTo(expectedPassword);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should return valid result for valid password")
+    void shouldReturnValidResultForValidPassword() {
+        var result = Password.validateRaw("Valid#Pass123");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.error()).isNull();
+        assertThat(result.getOrThrow().getValue()).isEqualTo("Valid#Pass123");
+    }
+
+    @Test
+    @DisplayName("Should return invalid result without throwing for invalid password")
+    void shouldReturnInvalidResultWithoutThrowingForInvalidPassword() {
+        var result = Password.validateRaw("short");
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.value()).isNull();
+        assertThat(result.error().getField()).isEqualTo("password");
+        assertThatThrownBy(result::getOrThrow).isSameAs(result.error());
+    }
+
+    @Test
+    @DisplayName("Should return invalid result for null password")
+    void shouldReturnInvalidResultForNullPassword() {
+        var result = Password.validateRaw(null);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.error().getDetails()).containsEntry("validationType", "empty_check");
+    }
+
+}
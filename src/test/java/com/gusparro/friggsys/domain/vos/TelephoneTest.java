@@ -143,4 +143,58 @@ class TelephoneTest {
         assertThat(telephone.getValue()).isEqualTo(expectedTelephone);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should create trusted telephone without validation")
+    void shouldCreateTrustedTelephoneWithoutValidation() {
+        Telephone telephone = Telephone.ofTrusted("11987654321");
+
+        assertThat(telephone.getValue()).isEqualTo("11987654321");
+    }
+
+    @Test
+    @DisplayName("Should be equal to validated telephone with same value")
+    void shouldBeEqualToValidatedTelephoneWithSameValue() {
+        assertThat(Telephone.ofTrusted("(11) 98765-4321")).isEqualTo(Telephone.of("(11) 98765-4321"));
+    }
+
+    @Test
+    @DisplayName("Should not call exception factory when creating trusted telephone")
+    void shouldNotCallExceptionFactoryWhenCreatingTrustedTelephone() {
+        try (MockedStatic<DomainExceptionFactory> mockedFactory = mockStatic(DomainExceptionFactory.class)) {
+            Telephone.ofTrusted("11987654321");
+
+            mockedFactory.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return valid result for valid telephone")
+    void shouldReturnValidResultForValidTelephone() {
+        var result = Telephone.validate("(11) 98765-4321");
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.error()).isNull();
+        assertThat(result.getOrThrow().getValue()).isEqualTo("(11) 98765-4321");
+    }
+
+    @Test
+    @DisplayName("Should return invalid result without throwing for invalid telephone")
+    void shouldReturnInvalidResultWithoutThrowingForInvalidTelephone() {
+        var result = Telephone.validate("11987654321");
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.value()).isNull();
+        assertThat(result.error().getField()).isEqualTo("telephone");
+        assertThatThrownBy(result::getOrThrow).isSameAs(result.error());
+    }
+
+    @Test
+    @DisplayName("Should return invalid result for null telephone")
+    void shouldReturnInvalidResultForNullTelephone() {
+        var result = Telephone.validate(null);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.error().getDetails()).containsEntry("validationType", "empty_check");
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.gusparro.friggsys.domain.vos;
+
+import com.gusparro.friggsys.domain.exceptions.DomainExceptionFactory;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Value Object Scanner And Regex Equivalence Tests")
+class ValueObjectRegexEquivalenceTest {
+
+    private static final int SAMPLES = 20_000;
+
+    private static final Pattern DIGIT_PATTERN = Pattern.compile(".*\\d.*");
+    private static final Pattern UPPERCASE_PATTERN = Pattern.compile(".*[A-Z].*");
+    private static final Pattern LOWERCASE_PATTERN = Pattern.compile(".*[a-z].*");
+    private static final Pattern SPECIAL_CHARACTER_PATTERN = Pattern.compile(".*[!@#$%^&*(),.?\":{}|<>].*");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern TELEPHONE_PATTERN = Pattern.compile("^\\(\\d{2}\\) \\d{4,5}-\\d{4}$");
+
+    private static final String ALPHABET = "aZm09+_.-@ ()!#$%^&*,?\":{}|<>\n\r\t\u0085\u2028\u2029"
+            + "\u00e9\u00df\u0130\u0131\u212a\u4e2d\ud83d\ude00";
+
+    @Test
+    @DisplayName("Should match regex decisions for random passwords")
+    void shouldMatchRegexDecisionsForRandomPasswords() {
+        var random = new Random(6L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            var candidate = mutate(random, random.nextBoolean() ? "Valid#Pass123" : "", random.nextInt(12));
+
+            assertEquivalent(candidate, value -> Password.ofRaw(value), ValueObjectRegexEquivalenceTest::referencePassword);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match regex decisions for random e-mails")
+    void shouldMatchRegexDecisionsForRandomEmails() {
+        var random = new Random(7L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            var candidate = mutate(random, random.nextBoolean() ? "User.Name+tag@Mail.Example.COM" : "a@b.co",
+                    random.nextInt(4));
+
+            assertEquivalent(candidate, value -> Email.of(value), ValueObjectRegexEquivalenceTest::referenceEmail);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match regex decisions for random telephones")
+    void shouldMatchRegexDecisionsForRandomTelephones() {
+        var random = new Random(8L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            var candidate = mutate(random, random.nextBoolean() ? "(11) 98765-4321" : "(11) 8765-4321",
+                    random.nextInt(3));
+
+            assertEquivalent(candidate, value -> Telephone.of(value), ValueObjectRegexEquivalenceTest::referenceTelephone);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Valid#Pass123\n", "\nValid#Pass123", "Valid#\u2028Pass123", "Valid#Pass\u0085123",
+            "Valid Pass123", "Valid#Pass\ud83d\ude00123", "VALID#PASS123", "valid#pass123", "Valid#Pass"
+    })
+    @DisplayName("Should match regex decisions for password edge cases")
+    void shouldMatchRegexDecisionsForPasswordEdgeCases(String candidate) {
+        assertEquivalent(candidate, value -> Password.ofRaw(value), ValueObjectRegexEquivalenceTest::referencePassword);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "user@example.c", "user@.com", "@example.com", "user@example.com\n", "\tuser@example.com ",
+            "user@exa\u212aple.com", "user@\u0130stanbul.com", "user@example..com", "user@example.com.",
+            "user@@example.com", "us er@example.com", "user@-example.com", "user@example.c0m"
+    })
+    @DisplayName("Should match regex decisions for e-mail edge cases")
+    void shouldMatchRegexDecisionsForEmailEdgeCases(String candidate) {
+        assertEquivalent(candidate, value -> Email.of(value), ValueObjectRegexEquivalenceTest::referenceEmail);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ADMIN@EXAMPLE.COM", "admin@example.com", "\u0130LKER@EXAMPLE.COM", "USER@MAIL.IO"})
+    @DisplayName("Should match regex decisions for e-mails under a dotless-i default locale")
+    void shouldMatchRegexDecisionsForEmailsUnderADotlessIDefaultLocale(String candidate) {
+        var defaultLocale = Locale.getDefault();
+
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+
+            assertEquivalent(candidate, value -> Email.of(value), ValueObjectRegexEquivalenceTest::referenceEmail);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(11) 98765-4321\n", " (11) 98765-4321", "(11) 987654-4321", "(1) 98765-4321", "(11)98765-4321",
+            "(11) 9876-54321", "(11) 98765_4321", "(\u0661\u0661) 98765-4321"
+    })
+    @DisplayName("Should match regex decisions for telephone edge cases")
+    void shouldMatchRegexDecisionsForTelephoneEdgeCases(String candidate) {
+        assertEquivalent(candidate, value -> Telephone.of(value), ValueObjectRegexEquivalenceTest::referenceTelephone);
+    }
+
+    private static void assertEquivalent(String candidate, Consumer<String> scanner, Consumer<String> reference) {
+        assertThat(outcomeOf(candidate, scanner))
+                .as("outcome for %s", candidate == null ? null : candidate.codePoints().boxed().toList())
+                .isEqualTo(outcomeOf(candidate, reference));
+    }
+
+    private static String outcomeOf(String candidate, Consumer<String> validation) {
+        try {
+            validation.accept(candidate);
+
+            return "valid";
+        } catch (ValidationError error) {
+            var details = error.getDetails();
+
+            return String.join("|", error.getMessage(), error.getField(),
+                    String.valueOf(details.get("validationType")), String.valueOf(details.get("pattern")),
+                    String.valueOf(details.get("requirement")), String.valueOf(details.get("actualLength")));
+        }
+    }
+
+    private static String mutate(Random random, String seed, int mutations) {
+        var builder = new StringBuilder(seed);
+
+        for (int i = 0; i < mutations; i++) {
+            var position = builder.isEmpty() ? 0 : random.nextInt(builder.length() + 1);
+            var character = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+
+            switch (random.nextInt(3)) {
+                case 0 -> builder.insert(position, character);
+                case 1 -> {
+                    if (position < builder.length()) {
+                        builder.setCharAt(position, character);
+                    }
+                }
+                default -> {
+                    if (position < builder.length()) {
+                        builder.deleteCharAt(position);
+                    }
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static void referencePassword(String password) {
+        if (password == null || password.trim().isEmpty()) {
+            throw DomainExceptionFactory.emptyField("password");
+        }
+
+        if (password.length() < 8) {
+            throw DomainExceptionFactory.minLength("password", 8, password.length());
+        }
+
+        if (password.length() > 50) {
+            throw DomainExceptionFactory.maxLength("password", 50, password.length());
+        }
+
+        if (!DIGIT_PATTERN.matcher(password).matches()) {
+            throw DomainExceptionFactory.invalidPattern("password", DIGIT_PATTERN.pattern(),
+                    "At least one digit (0-9)");
+        }
+
+        if (!UPPERCASE_PATTERN.matcher(password).matches()) {
+            throw DomainExceptionFactory.invalidPattern("password", UPPERCASE_PATTERN.pattern(),
+                    "At least one uppercase letter (A-Z)");
+        }
+
+        if (!LOWERCASE_PATTERN.matcher(password).matches()) {
+            throw DomainExceptionFactory.invalidPattern("password", LOWERCASE_PATTERN.pattern(),
+                    "At least one lowercase letter (a-z)");
+        }
+
+        if (!SPECIAL_CHARACTER_PATTERN.matcher(password).matches()) {
+            throw DomainExceptionFactory.invalidPattern("password", SPECIAL_CHARACTER_PATTERN.pattern(),
+                    "At least one special character (!@#$%^&*(),.?\":{}|<>)");
+        }
+    }
+
+    private static void referenceEmail(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            throw DomainExceptionFactory.emptyField("email");
+        }
+
+        if (!EMAIL_PATTERN.matcher(email.trim().toLowerCase()).matches()) {
+            throw DomainExceptionFactory.invalidPattern("email", EMAIL_PATTERN.pattern(), "Invalid email format");
+        }
+    }
+
+    private static void referenceTelephone(String telephone) {
+        if (telephone == null || telephone.trim().isEmpty()) {
+            throw DomainExceptionFactory.emptyField("telephone");
+        }
+
+        if (!TELEPHONE_PATTERN.matcher(telephone).matches()) {
+            throw DomainExceptionFactory.invalidPattern("telephone", TELEPHONE_PATTERN.pattern(),
+                    "Invalid telephone format");
+        }
+    }
+
+}
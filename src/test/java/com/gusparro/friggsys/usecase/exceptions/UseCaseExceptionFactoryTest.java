@@ -294,4 +294,18 @@ class UseCaseExceptionFactoryTest {
         assertEquals("User", error.getDetails().get("resourceType"));
     }
 
+
+    @Test
+    @DisplayName("Should create VersionMismatchError with both versions")
+    void shouldCreateVersionMismatchErrorWithBothVersions() {
+        var error = UseCaseExceptionFactory.versionMismatchError("User", "123", 2L, 5L, "update");
+
+        assertEquals("User is at version '5', not at the expected version '2'", error.getMessage());
+        assertEquals("User", error.getEntityName());
+        assertEquals(2L, error.getExpectedVersion());
+        assertEquals(5L, error.getCurrentVersion());
+        assertEquals("update", error.getDetails().get("operation"));
+        assertInstanceOf(Instant.class, error.getDetails().get("checkedAt"));
+    }
+
 }
\ No newline at end of file
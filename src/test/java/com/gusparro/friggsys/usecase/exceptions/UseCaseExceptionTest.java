@@ -205,6 +205,31 @@ class UseCaseExceptionTest {
         assertEquals("directValue", exception.getDetails().get("directKey"));
     }
 
+    @Test
+    @DisplayName("Should capture stack trace by default")
+    void shouldCaptureStackTraceByDefault() {
+        var exception = new TestUseCaseException("Test message");
+
+        assertTrue(UseCaseException.isStackTraceEnabled());
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    @DisplayName("Should skip stack trace when disabled")
+    void shouldSkipStackTraceWhenDisabled() {
+        try {
+            UseCaseException.setStackTraceEnabled(false);
+
+            var exception = new TestUseCaseException("Test message", new RuntimeException("Cause"));
+
+            assertEquals(0, exception.getStackTrace().length);
+            assertEquals("Test message", exception.getMessage());
+            assertNotNull(exception.getCause());
+        } finally {
+            UseCaseException.setStackTraceEnabled(true);
+        }
+    }
+
     private static class TestUseCaseException extends UseCaseException {
         public TestUseCaseException(String message) {
             super(message);
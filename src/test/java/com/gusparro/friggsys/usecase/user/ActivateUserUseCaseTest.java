@@ -1,10 +1,11 @@
 package com.gusparro.friggsys.usecase.user;
 
 import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.enums.UserStatus;
 import com.gusparro.friggsys.domain.exceptions.InvalidStateError;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
-import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.exceptions.VersionMismatchError;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,23 +45,35 @@ class ActivateUserUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should activate user successfully when user exists")
-    void shouldActivateUserSuccessfullyWhenUserExists() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).activate();
-        when(repository.save(user)).thenReturn(activatedUser);
+    @DisplayName("Should activate user with a single conditional update")
+    void shouldActivateUserWithASingleConditionalUpdate() {
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, null)).thenReturn(Optional.of(activatedUser));
 
         var result = useCase.execute(userId);
 
         assertNotNull(result);
-        verify(repository, times(1)).findById(userId);
-        verify(user, times(1)).activate();
-        verify(repository, times(1)).save(user);
+        verify(repository, times(1)).changeStatus(userId, UserStatus.ACTIVE, null);
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should return UserOutput built from the updated row")
+    void shouldReturnUserOutputBuiltFromTheUpdatedRow() {
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, null)).thenReturn(Optional.of(activatedUser));
+        when(activatedUser.getId()).thenReturn(userId);
+        when(activatedUser.getStatus()).thenReturn(UserStatus.ACTIVE);
+
+        var result = useCase.execute(userId);
+
+        assertEquals(userId, result.id());
+        assertEquals(UserStatus.ACTIVE, result.status());
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError when user does not exist")
     void shouldThrowEntityNotFoundErrorWhenUserDoesNotExist() {
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, null)).thenReturn(Optional.empty());
         when(repository.findById(userId)).thenReturn(Optional.empty());
 
         var exception = assertThrows(
@@ -75,78 +88,97 @@ class ActivateUserUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should call repository methods in correct order")
-    void shouldCallRepositoryMethodsInCorrectOrder() {
+    @DisplayName("Should throw InvalidStateError when trying to activate already active user")
+    void shouldThrowInvalidStateErrorWhenActivatingAlreadyActiveUser() {
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, null)).thenReturn(Optional.empty());
         when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).activate();
-        when(repository.save(user)).thenReturn(activatedUser);
+        doThrow(new InvalidStateError("User", "active", "activate")).when(user).activate();
 
-        useCase.execute(userId);
+        var exception = assertThrows(
+                InvalidStateError.class,
+                () -> useCase.execute(userId)
+        );
 
-        var inOrder = inOrder(repository, user);
-        inOrder.verify(repository).findById(userId);
-        inOrder.verify(user).activate();
-        inOrder.verify(repository).save(user);
+        assertNotNull(exception);
+        assertEquals("It is not possible to execute 'activate' on User in the 'active' state", exception.getMessage());
+        verify(repository, times(1)).findById(userId);
+        verify(user, times(1)).activate();
+        verify(repository, never()).save(any(User.class));
     }
 
     @Test
-    @DisplayName("Should return UserOutput after saving activated user")
-    void shouldReturnUserOutputAfterSavingActivatedUser() {
+    @DisplayName("Should retry the conditional update when the status changed between statements")
+    void shouldRetryTheConditionalUpdateWhenTheStatusChangedBetweenStatements() {
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, null))
+                .thenReturn(Optional.empty(), Optional.of(activatedUser));
         when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).activate();
-        when(repository.save(user)).thenReturn(activatedUser);
 
         var result = useCase.execute(userId);
 
         assertNotNull(result);
-        verify(repository, times(1)).findById(userId);
-        verify(user, times(1)).activate();
-        verify(repository, times(1)).save(user);
+        var inOrder = inOrder(repository, user);
+        inOrder.verify(repository).changeStatus(userId, UserStatus.ACTIVE, null);
+        inOrder.verify(repository).findById(userId);
+        inOrder.verify(user).activate();
+        inOrder.verify(repository).changeStatus(userId, UserStatus.ACTIVE, null);
+        verify(repository, never()).save(any(User.class));
     }
 
     @Test
-    @DisplayName("Should throw InvalidStateError when trying to activate already active user")
-    void shouldThrowInvalidStateErrorWhenActivatingAlreadyActiveUser() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doThrow(new InvalidStateError("User", "active", "activate")).when(user).activate();
+    @DisplayName("Should throw InvalidStateError when the retry loses to a concurrent activate")
+    void shouldThrowInvalidStateErrorWhenTheRetryLosesToAConcurrentActivate() {
+        var activatedConcurrently = mock(User.class);
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, null)).thenReturn(Optional.empty());
+        when(repository.findById(userId)).thenReturn(Optional.of(user), Optional.of(activatedConcurrently));
+        doThrow(new InvalidStateError("User", "active", "activate")).when(activatedConcurrently).activate();
 
-        var exception = assertThrows(
-                InvalidStateError.class,
-                () -> useCase.execute(userId)
-        );
+        assertThrows(InvalidStateError.class, () -> useCase.execute(userId));
 
-        assertNotNull(exception);
-        assertEquals("It is not possible to execute 'activate' on User in the 'active' state", exception.getMessage());
-        verify(repository, times(1)).findById(userId);
-        verify(user, times(1)).activate();
+        verify(repository, times(2)).changeStatus(userId, UserStatus.ACTIVE, null);
         verify(repository, never()).save(any(User.class));
     }
 
     @Test
-    @DisplayName("Should save user exactly once per execution")
-    void shouldSaveUserExactlyOncePerExecution() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).activate();
-        when(repository.save(user)).thenReturn(activatedUser);
+    @DisplayName("Should throw VersionMismatchError when the row keeps changing during the retry")
+    void shouldThrowVersionMismatchErrorWhenTheRowKeepsChangingDuringTheRetry() {
+        var changedAgain = mock(User.class);
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, null)).thenReturn(Optional.empty());
+        when(repository.findById(userId)).thenReturn(Optional.of(user), Optional.of(changedAgain));
+        when(user.getVersion()).thenReturn(4L);
+        when(changedAgain.getVersion()).thenReturn(5L);
+
+        var exception = assertThrows(VersionMismatchError.class, () -> useCase.execute(userId));
+
+        assertEquals(4L, exception.getExpectedVersion());
+        assertEquals(5L, exception.getCurrentVersion());
+        verify(repository, times(2)).changeStatus(userId, UserStatus.ACTIVE, null);
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should pass the expected version to the conditional update")
+    void shouldPassTheExpectedVersionToTheConditionalUpdate() {
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, 3L)).thenReturn(Optional.of(activatedUser));
 
-        useCase.execute(userId);
+        var result = useCase.execute(userId, 3L);
 
-        verify(repository, times(1)).save(user);
-        verify(repository, times(1)).save(any(User.class));
+        assertNotNull(result);
+        verify(repository, never()).findById(any(UUID.class));
     }
 
     @Test
-    @DisplayName("Should verify user is retrieved before activation attempt")
-    void shouldVerifyUserIsRetrievedBeforeActivationAttempt() {
+    @DisplayName("Should throw VersionMismatchError when the user moved past the expected version")
+    void shouldThrowVersionMismatchErrorWhenTheUserMovedPastTheExpectedVersion() {
+        when(repository.changeStatus(userId, UserStatus.ACTIVE, 3L)).thenReturn(Optional.empty());
         when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).activate();
-        when(repository.save(user)).thenReturn(activatedUser);
+        when(user.getVersion()).thenReturn(4L);
 
-        useCase.execute(userId);
+        var exception = assertThrows(VersionMismatchError.class, () -> useCase.execute(userId, 3L));
 
-        var inOrder = inOrder(repository, user);
-        inOrder.verify(repository).findById(userId);
-        inOrder.verify(user).activate();
+        assertEquals(3L, exception.getExpectedVersion());
+        assertEquals(4L, exception.getCurrentVersion());
+        verify(user, never()).activate();
+        verify(repository, never()).save(any(User.class));
     }
 
-}
\ No newline at end of file
+}
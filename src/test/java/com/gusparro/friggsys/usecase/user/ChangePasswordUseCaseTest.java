@@ -1,13 +1,16 @@
 package com.gusparro.friggsys.usecase.user;
 
 import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.exceptions.ValidationError;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.domain.vos.Password;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
 import com.gusparro.friggsys.usecase.exceptions.MatchingError;
+import com.gusparro.friggsys.usecase.exceptions.VersionMismatchError;
 import com.gusparro.friggsys.usecase.user.dtos.ChangePasswordInput;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
 import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,11 +21,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +40,12 @@ class ChangePasswordUseCaseTest {
     @Mock
     private PasswordEncoderService encoder;
 
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
+    @Mock
+    private RehashPasswordUseCase rehashPasswordUseCase;
+
     @InjectMocks
     private ChangePasswordUseCase useCase;
 
@@ -54,7 +65,10 @@ class ChangePasswordUseCaseTest {
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
-        input = new ChangePasswordInput(userId, CURRENT_PASSWORD, NEW_PASSWORD);
+        input = new ChangePasswordInput(userId, CURRENT_PASSWORD, NEW_PASSWORD, null);
+
+        lenient().when(unitOfWork.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Test
@@ -197,4 +211,69 @@ class ChangePasswordUseCaseTest {
         verify(repository, times(1)).save(any(User.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should verify and hash outside the unit of work and only save inside it")
+    void shouldVerifyAndHashOutsideTheUnitOfWorkAndOnlySaveInsideIt() {
+        var newEncryptedPassword = Password.ofHash(ENCRYPTED_NEW_PASSWORD);
+
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getPassword()).thenReturn(ENCRYPTED_CURRENT_PASSWORD);
+        when(encoder.matches(CURRENT_PASSWORD, ENCRYPTED_CURRENT_PASSWORD)).thenReturn(true);
+        when(encoder.encrypt(any(Password.class))).thenReturn(newEncryptedPassword);
+        when(repository.save(user)).thenReturn(updatedUser);
+
+        useCase.execute(input);
+
+        var inOrder = inOrder(encoder, unitOfWork, repository);
+        inOrder.verify(encoder).matches(CURRENT_PASSWORD, ENCRYPTED_CURRENT_PASSWORD);
+        inOrder.verify(encoder).encrypt(any(Password.class));
+        inOrder.verify(unitOfWork).execute(eq("change_password"), any());
+        inOrder.verify(repository).save(user);
+    }
+
+    @Test
+    @DisplayName("Should upgrade the current hash when the new password is rejected")
+    void shouldUpgradeTheCurrentHashWhenTheNewPasswordIsRejected() {
+        var invalidInput = new ChangePasswordInput(userId, CURRENT_PASSWORD, "weak", null);
+
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getId()).thenReturn(userId);
+        when(user.getPassword()).thenReturn(ENCRYPTED_CURRENT_PASSWORD);
+        when(encoder.matches(CURRENT_PASSWORD, ENCRYPTED_CURRENT_PASSWORD)).thenReturn(true);
+
+        assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
+
+        verify(rehashPasswordUseCase, times(1)).execute(userId, CURRENT_PASSWORD, ENCRYPTED_CURRENT_PASSWORD);
+        verify(encoder, never()).encrypt(any(Password.class));
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should not upgrade the current hash when the password is changed")
+    void shouldNotUpgradeTheCurrentHashWhenThePasswordIsChanged() {
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getPassword()).thenReturn(ENCRYPTED_CURRENT_PASSWORD);
+        when(encoder.matches(CURRENT_PASSWORD, ENCRYPTED_CURRENT_PASSWORD)).thenReturn(true);
+        when(encoder.encrypt(any(Password.class))).thenReturn(Password.ofHash(ENCRYPTED_NEW_PASSWORD));
+        when(repository.save(user)).thenReturn(updatedUser);
+
+        useCase.execute(input);
+
+        verifyNoInteractions(rehashPasswordUseCase);
+    }
+
+
+    @Test
+    @DisplayName("Should throw VersionMismatchError before checking the password when the user moved past the expected version")
+    void shouldThrowVersionMismatchErrorWhenTheUserMovedPastTheExpectedVersion() {
+        var conditionalInput = new ChangePasswordInput(userId, CURRENT_PASSWORD, NEW_PASSWORD, 1L);
+
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getVersion()).thenReturn(2L);
+
+        assertThrows(VersionMismatchError.class, () -> useCase.execute(conditionalInput));
+        verify(encoder, never()).matches(anyString(), anyString());
+        verify(repository, never()).save(any(User.class));
+    }
+
+}
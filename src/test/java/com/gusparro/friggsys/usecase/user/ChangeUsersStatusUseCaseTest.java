@@ -0,0 +1,101 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.enums.UserStatus;
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.UserBatchOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeUsersStatusUseCase Tests")
+class ChangeUsersStatusUseCaseTest {
+
+    @Mock
+    private UserRepositoryInterface repository;
+
+    @InjectMocks
+    private ChangeUsersStatusUseCase useCase;
+
+    @Test
+    @DisplayName("Should report changed, already in state and not found outcomes per id")
+    void shouldReportChangedAlreadyInStateAndNotFoundOutcomesPerId() {
+        var active = UUID.randomUUID();
+        var blocked = UUID.randomUUID();
+        var missing = UUID.randomUUID();
+
+        when(repository.changeStatusOfAll(any(), eq(UserStatus.BLOCKED))).thenReturn(Set.of(active));
+        when(repository.findExistingIds(List.of(blocked, missing))).thenReturn(Set.of(blocked));
+
+        var result = useCase.execute(List.of(active, blocked, missing), UserStatus.BLOCKED);
+
+        assertEquals(List.of(
+                new UserBatchOutput(active, BatchOutcome.CHANGED),
+                new UserBatchOutput(blocked, BatchOutcome.ALREADY_IN_STATE),
+                new UserBatchOutput(missing, BatchOutcome.NOT_FOUND)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("Should apply the status to all ids in a single repository call")
+    @SuppressWarnings("unchecked")
+    void shouldApplyTheStatusToAllIdsInASingleRepositoryCall() {
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+
+        when(repository.changeStatusOfAll(any(), eq(UserStatus.INACTIVE))).thenReturn(Set.of(first, second));
+
+        useCase.execute(List.of(first, second), UserStatus.INACTIVE);
+
+        ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(1)).changeStatusOfAll(captor.capture(), eq(UserStatus.INACTIVE));
+        assertEquals(List.of(first, second), List.copyOf(captor.getValue()));
+        verify(repository, never()).findById(any(UUID.class));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should look up only the ids the update did not change")
+    void shouldLookUpOnlyTheIdsTheUpdateDidNotChange() {
+        var changed = UUID.randomUUID();
+        var deletedConcurrently = UUID.randomUUID();
+
+        when(repository.changeStatusOfAll(any(), eq(UserStatus.ACTIVE))).thenReturn(Set.of(changed));
+        when(repository.findExistingIds(List.of(deletedConcurrently))).thenReturn(Set.of());
+
+        var result = useCase.execute(List.of(changed, deletedConcurrently), UserStatus.ACTIVE);
+
+        assertEquals(List.of(
+                new UserBatchOutput(changed, BatchOutcome.CHANGED),
+                new UserBatchOutput(deletedConcurrently, BatchOutcome.NOT_FOUND)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("Should report duplicated ids only once")
+    void shouldReportDuplicatedIdsOnlyOnce() {
+        var id = UUID.randomUUID();
+
+        when(repository.changeStatusOfAll(any(), eq(UserStatus.ACTIVE))).thenReturn(Set.of(id));
+
+        var result = useCase.execute(List.of(id, id, id), UserStatus.ACTIVE);
+
+        assertEquals(List.of(new UserBatchOutput(id, BatchOutcome.CHANGED)), result);
+    }
+
+}
@@ -3,11 +3,11 @@ package com.gusparro.friggsys.usecase.user;
 import com.gusparro.friggsys.domain.entities.User;
 import com.gusparro.friggsys.domain.exceptions.ValidationError;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
-import com.gusparro.friggsys.domain.vos.Email;
 import com.gusparro.friggsys.domain.vos.Password;
 import com.gusparro.friggsys.usecase.exceptions.DuplicateEmailError;
 import com.gusparro.friggsys.usecase.user.dtos.CreateUserInput;
 import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,9 +16,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +37,9 @@ class CreateUserUseCaseTest {
     @Mock
     private PasswordEncoderService encoder;
 
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
     @InjectMocks
     private CreateUserUseCase useCase;
 
@@ -47,6 +56,9 @@ class CreateUserUseCaseTest {
     @BeforeEach
     void setUp() {
         input = new CreateUserInput(USER_NAME, USER_EMAIL, USER_TELEPHONE, RAW_PASSWORD);
+
+        lenient().when(unitOfWork.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Test
@@ -54,22 +66,23 @@ class CreateUserUseCaseTest {
     void shouldCreateUserSuccessfullyWhenEmailDoesNotExist() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         var result = useCase.execute(input);
 
         assertNotNull(result);
-        verify(repository, times(1)).existsByEmail(any(Email.class));
-        verify(encoder, times(1)).encrypt(any(Password.class));
-        verify(repository, times(1)).save(any(User.class));
+                verify(encoder, times(1)).encrypt(any(Password.class));
+        verify(repository, times(1)).insertIfAbsent(any(User.class));
     }
 
     @Test
-    @DisplayName("Should throw DuplicateEmailError when email already exists")
+    @DisplayName("Should throw DuplicateEmailError when the insert hits the unique constraint")
     void shouldThrowDuplicateEmailExceptionWhenEmailAlreadyExists() {
-        when(repository.existsByEmail(any(Email.class))).thenReturn(true);
+        var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
+
+        when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.empty());
 
         var exception = assertThrows(
                 DuplicateEmailError.class,
@@ -77,9 +90,7 @@ class CreateUserUseCaseTest {
         );
 
         assertNotNull(exception);
-        verify(repository, times(1)).existsByEmail(any(Email.class));
-        verify(encoder, never()).encrypt(any(Password.class));
-        verify(repository, never()).save(any(User.class));
+        verify(repository, times(1)).insertIfAbsent(any(User.class));
     }
 
     @Test
@@ -87,16 +98,14 @@ class CreateUserUseCaseTest {
     void shouldCallMethodsInCorrectOrder() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         useCase.execute(input);
 
-        var inOrder = inOrder(repository, encoder);
-        inOrder.verify(repository).existsByEmail(any(Email.class));
+        var inOrder = inOrder(encoder, repository);
         inOrder.verify(encoder).encrypt(any(Password.class));
-        inOrder.verify(repository).save(any(User.class));
+        inOrder.verify(repository).insertIfAbsent(any(User.class));
     }
 
     @Test
@@ -104,16 +113,15 @@ class CreateUserUseCaseTest {
     void shouldEncryptPasswordBeforeCreatingUser() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         useCase.execute(input);
 
         verify(encoder, times(1)).encrypt(argThat(password ->
                 password != null && password.getValue().equals(RAW_PASSWORD)
         ));
-        verify(repository, times(1)).save(any(User.class));
+        verify(repository, times(1)).insertIfAbsent(any(User.class));
     }
 
     @Test
@@ -121,28 +129,24 @@ class CreateUserUseCaseTest {
     void shouldCreateUserWithCorrectValueObjects() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         useCase.execute(input);
 
-        verify(repository).existsByEmail(argThat(email ->
-                email != null && email.getValue().equals(USER_EMAIL)
+        verify(repository).insertIfAbsent(argThat(user ->
+                user != null && user.getEmail().equals(USER_EMAIL)
         ));
-        verify(repository).save(any(User.class));
     }
 
     @Test
     @DisplayName("Should propagate exception when password encryption fails")
     void shouldPropagateExceptionWhenPasswordEncryptionFails() {
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenThrow(new ValidationError("Encryption failed"));
 
         assertThrows(ValidationError.class, () -> useCase.execute(input));
-        verify(repository, times(1)).existsByEmail(any(Email.class));
-        verify(encoder, times(1)).encrypt(any(Password.class));
-        verify(repository, never()).save(any(User.class));
+                verify(encoder, times(1)).encrypt(any(Password.class));
+        verify(repository, never()).insertIfAbsent(any(User.class));
     }
 
     @Test
@@ -151,9 +155,9 @@ class CreateUserUseCaseTest {
         var invalidInput = new CreateUserInput(USER_NAME, "invalid-email", USER_TELEPHONE, RAW_PASSWORD);
 
         assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
-        verify(repository, never()).existsByEmail(any(Email.class));
+        verify(repository, never()).insertIfAbsent(any(User.class));
         verify(encoder, never()).encrypt(any(Password.class));
-        verify(repository, never()).save(any(User.class));
+        verify(repository, never()).insertIfAbsent(any(User.class));
     }
 
     @Test
@@ -162,9 +166,9 @@ class CreateUserUseCaseTest {
         var invalidInput = new CreateUserInput(USER_NAME, USER_EMAIL, "invalid", RAW_PASSWORD);
 
         assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
-        verify(repository, never()).existsByEmail(any(Email.class));
+        verify(repository, never()).insertIfAbsent(any(User.class));
         verify(encoder, never()).encrypt(any(Password.class));
-        verify(repository, never()).save(any(User.class));
+        verify(repository, never()).insertIfAbsent(any(User.class));
     }
 
     @Test
@@ -172,39 +176,27 @@ class CreateUserUseCaseTest {
     void shouldReturnUserOutputAfterSavingUser() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         var result = useCase.execute(input);
 
         assertNotNull(result);
-        verify(repository, times(1)).save(any(User.class));
-    }
-
-    @Test
-    @DisplayName("Should not save user when email already exists")
-    void shouldNotSaveUserWhenEmailAlreadyExists() {
-        when(repository.existsByEmail(any(Email.class))).thenReturn(true);
-
-        assertThrows(DuplicateEmailError.class, () -> useCase.execute(input));
-        verify(repository, never()).save(any(User.class));
+        verify(repository, times(1)).insertIfAbsent(any(User.class));
     }
 
     @Test
-    @DisplayName("Should check email existence before encrypting password")
-    void shouldCheckEmailExistenceBeforeEncryptingPassword() {
+    @DisplayName("Should not consult the repository before inserting")
+    void shouldNotConsultTheRepositoryBeforeInserting() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         useCase.execute(input);
 
-        var inOrder = inOrder(repository, encoder);
-        inOrder.verify(repository).existsByEmail(any(Email.class));
-        inOrder.verify(encoder).encrypt(any(Password.class));
+        verify(repository, times(1)).insertIfAbsent(any(User.class));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
@@ -212,13 +204,12 @@ class CreateUserUseCaseTest {
     void shouldSaveUserExactlyOncePerExecution() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         useCase.execute(input);
 
-        verify(repository, times(1)).save(any(User.class));
+        verify(repository, times(1)).insertIfAbsent(any(User.class));
     }
 
     @Test
@@ -226,12 +217,50 @@ class CreateUserUseCaseTest {
     void shouldEncryptPasswordExactlyOncePerExecution() {
         var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
 
-        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
         when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
 
         useCase.execute(input);
 
         verify(encoder, times(1)).encrypt(any(Password.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should hash password outside the unit of work and only save inside it")
+    void shouldHashPasswordOutsideTheUnitOfWorkAndOnlySaveInsideIt() {
+        var encryptedPassword = Password.ofHash(ENCRYPTED_PASSWORD);
+
+        when(encoder.encrypt(any(Password.class))).thenReturn(encryptedPassword);
+        when(repository.insertIfAbsent(any(User.class))).thenReturn(Optional.of(savedUser));
+
+        useCase.execute(input);
+
+        var inOrder = inOrder(encoder, unitOfWork, repository);
+        inOrder.verify(encoder).encrypt(any(Password.class));
+        inOrder.verify(unitOfWork).execute(eq("create_user"), any());
+        inOrder.verify(repository).insertIfAbsent(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should validate password before touching the repository")
+    void shouldValidatePasswordBeforeTouchingTheRepository() {
+        var invalidInput = new CreateUserInput(USER_NAME, USER_EMAIL, USER_TELEPHONE, "weak");
+
+        assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
+        verify(repository, never()).insertIfAbsent(any(User.class));
+        verify(unitOfWork, never()).execute(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should report every invalid field in a single ValidationError")
+    void shouldReportEveryInvalidFieldInASingleValidationError() {
+        var invalidInput = new CreateUserInput("Ana", "invalid-email", "invalid", "weak");
+
+        var error = assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
+
+        assertEquals("name, email, telephone, password", error.getField());
+        assertEquals(4, error.getViolations().size());
+        verify(repository, never()).insertIfAbsent(any(User.class));
+        verify(encoder, never()).encrypt(any(Password.class));
+    }
+}
@@ -0,0 +1,178 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.vos.Email;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.CreateUserInput;
+import com.gusparro.friggsys.usecase.user.services.EmailPresenceService;
+import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateUsersUseCase Tests")
+class CreateUsersUseCaseTest {
+
+    @Mock
+    private UserRepositoryInterface repository;
+
+    @Mock
+    private PasswordEncoderService encoder;
+
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
+    @Mock
+    private EmailPresenceService emailPresence;
+
+    @InjectMocks
+    private CreateUsersUseCase useCase;
+
+    private static final String RAW_PASSWORD = "SecureP@ss123";
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(emailPresence.mightExist(any(Email.class))).thenReturn(true);
+        lenient().when(unitOfWork.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(encoder.encryptAll(anyList())).thenAnswer(invocation -> invocation.<List<Password>>getArgument(0)
+                .stream()
+                .map(raw -> Password.ofHash("$2a$10$" + raw.getValue()))
+                .toList());
+        lenient().when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should create every valid user with a single save")
+    void shouldCreateEveryValidUserWithASingleSave() {
+        when(repository.findExistingCanonicalEmails(anyList())).thenReturn(Set.of());
+
+        var result = useCase.execute(List.of(input("first@example.com"), input("second@example.com")));
+
+        assertEquals(2, result.size());
+        assertEquals(BatchOutcome.CREATED, result.get(0).outcome());
+        assertEquals("first@example.com", result.get(0).user().email());
+        assertEquals(BatchOutcome.CREATED, result.get(1).outcome());
+        verify(repository, times(1)).findExistingCanonicalEmails(anyList());
+        verify(encoder, times(1)).encryptAll(anyList());
+        verify(repository, times(1)).insertAllIfAbsent(anyList());
+        verify(repository, never()).existsByEmail(any());
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should report field errors of invalid items without rejecting the batch")
+    void shouldReportFieldErrorsOfInvalidItemsWithoutRejectingTheBatch() {
+        when(repository.findExistingCanonicalEmails(anyList())).thenReturn(Set.of());
+
+        var result = useCase.execute(List.of(
+                new CreateUserInput("", "not-an-email", "(63) 99999-9999", RAW_PASSWORD),
+                input("valid@example.com")));
+
+        assertEquals(BatchOutcome.INVALID, result.get(0).outcome());
+        assertNull(result.get(0).user());
+        assertEquals(Set.of("name", "email"), result.get(0).fieldErrors().keySet());
+        assertEquals(BatchOutcome.CREATED, result.get(1).outcome());
+    }
+
+    @Test
+    @DisplayName("Should reject e-mails that already exist ignoring case")
+    void shouldRejectEmailsThatAlreadyExistIgnoringCase() {
+        when(repository.findExistingCanonicalEmails(anyList())).thenReturn(Set.of("taken@example.com"));
+
+        var result = useCase.execute(List.of(input("Taken@Example.com"), input("free@example.com")));
+
+        assertEquals(BatchOutcome.DUPLICATE_EMAIL, result.get(0).outcome());
+        assertTrue(result.get(0).fieldErrors().containsKey("email"));
+        assertEquals(BatchOutcome.CREATED, result.get(1).outcome());
+    }
+
+    @Test
+    @DisplayName("Should keep only the first item of e-mails repeated inside the batch")
+    void shouldKeepOnlyTheFirstItemOfEmailsRepeatedInsideTheBatch() {
+        when(repository.findExistingCanonicalEmails(anyList())).thenReturn(Set.of());
+
+        var result = useCase.execute(List.of(input("same@example.com"), input("SAME@example.com")));
+
+        assertEquals(BatchOutcome.CREATED, result.get(0).outcome());
+        assertEquals(BatchOutcome.DUPLICATE_EMAIL, result.get(1).outcome());
+        assertEquals(1, result.get(1).index());
+    }
+
+    @Test
+    @DisplayName("Should skip hashing and saving when no item is accepted")
+    void shouldSkipHashingAndSavingWhenNoItemIsAccepted() {
+        when(repository.findExistingCanonicalEmails(anyList())).thenReturn(Set.of("taken@example.com"));
+
+        var result = useCase.execute(List.of(input("taken@example.com")));
+
+        assertEquals(BatchOutcome.DUPLICATE_EMAIL, result.get(0).outcome());
+        verify(encoder, never()).encryptAll(anyList());
+        verify(unitOfWork, never()).execute(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should report items that lose the insert conflict as duplicates")
+    void shouldReportItemsThatLoseTheInsertConflictAsDuplicates() {
+        when(repository.findExistingCanonicalEmails(anyList())).thenReturn(Set.of());
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> invocation.<List<User>>getArgument(0)
+                .stream()
+                .filter(user -> !user.getCanonicalEmail().equals("raced@example.com"))
+                .toList());
+
+        var result = useCase.execute(List.of(input("Raced@Example.com"), input("free@example.com")));
+
+        assertEquals(BatchOutcome.DUPLICATE_EMAIL, result.get(0).outcome());
+        assertNull(result.get(0).user());
+        assertTrue(result.get(0).fieldErrors().containsKey("email"));
+        assertEquals(BatchOutcome.CREATED, result.get(1).outcome());
+        assertEquals("free@example.com", result.get(1).user().email());
+    }
+
+    @Test
+    @DisplayName("Should only check e-mails the presence filter cannot rule out")
+    void shouldOnlyCheckEmailsThePresenceFilterCannotRuleOut() {
+        when(emailPresence.mightExist(Email.of("fresh@example.com"))).thenReturn(false);
+        when(repository.findExistingCanonicalEmails(List.of(Email.of("known@example.com")))).thenReturn(Set.of());
+
+        var result = useCase.execute(List.of(input("fresh@example.com"), input("known@example.com")));
+
+        assertEquals(BatchOutcome.CREATED, result.get(0).outcome());
+        assertEquals(BatchOutcome.CREATED, result.get(1).outcome());
+    }
+
+    @Test
+    @DisplayName("Should skip the duplicate query when every e-mail is definitely absent")
+    void shouldSkipTheDuplicateQueryWhenEveryEmailIsDefinitelyAbsent() {
+        when(emailPresence.mightExist(any(Email.class))).thenReturn(false);
+
+        var result = useCase.execute(List.of(input("first@example.com"), input("second@example.com")));
+
+        assertEquals(BatchOutcome.CREATED, result.get(0).outcome());
+        assertEquals(BatchOutcome.CREATED, result.get(1).outcome());
+        verify(repository, never()).findExistingCanonicalEmails(anyList());
+    }
+
+    private static CreateUserInput input(String email) {
+        return new CreateUserInput("John Doe", email, "(63) 99999-9999", RAW_PASSWORD);
+    }
+
+}
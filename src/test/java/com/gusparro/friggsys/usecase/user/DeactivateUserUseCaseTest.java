@@ -1,9 +1,11 @@
 package com.gusparro.friggsys.usecase.user;
 
 import com.gusparro.friggsys.domain.entities.User;
+import com.gusparro.friggsys.domain.enums.UserStatus;
 import com.gusparro.friggsys.domain.exceptions.InvalidStateError;
 import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.exceptions.VersionMismatchError;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,23 +45,35 @@ class DeactivateUserUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should deactivate user successfully when user exists")
-    void shouldDeactivateUserSuccessfullyWhenUserExists() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).deactivate();
-        when(repository.save(user)).thenReturn(deactivatedUser);
+    @DisplayName("Should deactivate user with a single conditional update")
+    void shouldDeactivateUserWithASingleConditionalUpdate() {
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, null)).thenReturn(Optional.of(deactivatedUser));
 
         var result = useCase.execute(userId);
 
         assertNotNull(result);
-        verify(repository, times(1)).findById(userId);
-        verify(user, times(1)).deactivate();
-        verify(repository, times(1)).save(user);
+        verify(repository, times(1)).changeStatus(userId, UserStatus.INACTIVE, null);
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should return UserOutput built from the updated row")
+    void shouldReturnUserOutputBuiltFromTheUpdatedRow() {
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, null)).thenReturn(Optional.of(deactivatedUser));
+        when(deactivatedUser.getId()).thenReturn(userId);
+        when(deactivatedUser.getStatus()).thenReturn(UserStatus.INACTIVE);
+
+        var result = useCase.execute(userId);
+
+        assertEquals(userId, result.id());
+        assertEquals(UserStatus.INACTIVE, result.status());
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError when user does not exist")
     void shouldThrowEntityNotFoundErrorWhenUserDoesNotExist() {
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, null)).thenReturn(Optional.empty());
         when(repository.findById(userId)).thenReturn(Optional.empty());
 
         var exception = assertThrows(
@@ -73,39 +87,10 @@ class DeactivateUserUseCaseTest {
         verify(repository, never()).save(any(User.class));
     }
 
-    @Test
-    @DisplayName("Should call repository methods in correct order")
-    void shouldCallRepositoryMethodsInCorrectOrder() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).deactivate();
-        when(repository.save(user)).thenReturn(deactivatedUser);
-
-        useCase.execute(userId);
-
-        var inOrder = inOrder(repository, user);
-        inOrder.verify(repository).findById(userId);
-        inOrder.verify(user).deactivate();
-        inOrder.verify(repository).save(user);
-    }
-
-    @Test
-    @DisplayName("Should return UserOutput after saving deactivated user")
-    void shouldReturnUserOutputAfterSavingDeactivatedUser() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).deactivate();
-        when(repository.save(user)).thenReturn(deactivatedUser);
-
-        var result = useCase.execute(userId);
-
-        assertNotNull(result);
-        verify(repository, times(1)).findById(userId);
-        verify(user, times(1)).deactivate();
-        verify(repository, times(1)).save(user);
-    }
-
     @Test
     @DisplayName("Should throw InvalidStateError when trying to deactivate already inactive user")
     void shouldThrowInvalidStateErrorWhenDeactivatingAlreadyInactiveUser() {
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, null)).thenReturn(Optional.empty());
         when(repository.findById(userId)).thenReturn(Optional.of(user));
         doThrow(new InvalidStateError("User", "inactive", "deactivate")).when(user).deactivate();
 
@@ -122,39 +107,78 @@ class DeactivateUserUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should save user exactly once per execution")
-    void shouldSaveUserExactlyOncePerExecution() {
+    @DisplayName("Should retry the conditional update when the status changed between statements")
+    void shouldRetryTheConditionalUpdateWhenTheStatusChangedBetweenStatements() {
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, null))
+                .thenReturn(Optional.empty(), Optional.of(deactivatedUser));
         when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).deactivate();
-        when(repository.save(user)).thenReturn(deactivatedUser);
 
-        useCase.execute(userId);
+        var result = useCase.execute(userId);
 
-        verify(repository, times(1)).save(user);
-        verify(repository, times(1)).save(any(User.class));
+        assertNotNull(result);
+        var inOrder = inOrder(repository, user);
+        inOrder.verify(repository).changeStatus(userId, UserStatus.INACTIVE, null);
+        inOrder.verify(repository).findById(userId);
+        inOrder.verify(user).deactivate();
+        inOrder.verify(repository).changeStatus(userId, UserStatus.INACTIVE, null);
+        verify(repository, never()).save(any(User.class));
     }
 
     @Test
-    @DisplayName("Should verify user is retrieved before deactivation attempt")
-    void shouldVerifyUserIsRetrievedBeforeDeactivationAttempt() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
-        doNothing().when(user).deactivate();
-        when(repository.save(user)).thenReturn(deactivatedUser);
+    @DisplayName("Should throw InvalidStateError when the retry loses to a concurrent deactivate")
+    void shouldThrowInvalidStateErrorWhenTheRetryLosesToAConcurrentDeactivate() {
+        var deactivatedConcurrently = mock(User.class);
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, null)).thenReturn(Optional.empty());
+        when(repository.findById(userId)).thenReturn(Optional.of(user), Optional.of(deactivatedConcurrently));
+        doThrow(new InvalidStateError("User", "inactive", "deactivate")).when(deactivatedConcurrently).deactivate();
 
-        useCase.execute(userId);
+        assertThrows(InvalidStateError.class, () -> useCase.execute(userId));
 
-        var inOrder = inOrder(repository, user);
-        inOrder.verify(repository).findById(userId);
-        inOrder.verify(user).deactivate();
+        verify(repository, times(2)).changeStatus(userId, UserStatus.INACTIVE, null);
+        verify(repository, never()).save(any(User.class));
     }
 
     @Test
-    @DisplayName("Should not save user when EntityNotFoundError is thrown")
-    void shouldNotSaveUserWhenEntityNotFoundErrorIsThrown() {
-        when(repository.findById(userId)).thenReturn(Optional.empty());
+    @DisplayName("Should throw VersionMismatchError when the row keeps changing during the retry")
+    void shouldThrowVersionMismatchErrorWhenTheRowKeepsChangingDuringTheRetry() {
+        var changedAgain = mock(User.class);
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, null)).thenReturn(Optional.empty());
+        when(repository.findById(userId)).thenReturn(Optional.of(user), Optional.of(changedAgain));
+        when(user.getVersion()).thenReturn(4L);
+        when(changedAgain.getVersion()).thenReturn(5L);
+
+        var exception = assertThrows(VersionMismatchError.class, () -> useCase.execute(userId));
+
+        assertEquals(4L, exception.getExpectedVersion());
+        assertEquals(5L, exception.getCurrentVersion());
+        verify(repository, times(2)).changeStatus(userId, UserStatus.INACTIVE, null);
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should pass the expected version to the conditional update")
+    void shouldPassTheExpectedVersionToTheConditionalUpdate() {
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, 3L)).thenReturn(Optional.of(deactivatedUser));
 
-        assertThrows(EntityNotFoundError.class, () -> useCase.execute(userId));
+        var result = useCase.execute(userId, 3L);
+
+        assertNotNull(result);
+        verify(repository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should throw VersionMismatchError when the user moved past the expected version")
+    void shouldThrowVersionMismatchErrorWhenTheUserMovedPastTheExpectedVersion() {
+        when(repository.changeStatus(userId, UserStatus.INACTIVE, 3L)).thenReturn(Optional.empty());
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getVersion()).thenReturn(4L);
+
+        var exception = assertThrows(VersionMismatchError.class, () -> useCase.execute(userId, 3L));
+
+        assertEquals(3L, exception.getExpectedVersion());
+        assertEquals(4L, exception.getCurrentVersion());
+        verify(user, never()).deactivate();
         verify(repository, never()).save(any(User.class));
     }
 
-}
\ No newline at end of file
+}
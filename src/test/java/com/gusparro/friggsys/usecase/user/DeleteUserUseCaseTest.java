@@ -35,19 +35,17 @@ class DeleteUserUseCaseTest {
     @Test
     @DisplayName("Should delete user successfully when user exists")
     void shouldDeleteUserSuccessfullyWhenUserExists() {
-        when(repository.existsById(userId)).thenReturn(true);
-        doNothing().when(repository).delete(userId);
+        when(repository.deleteIfExists(userId)).thenReturn(true);
 
         assertDoesNotThrow(() -> useCase.execute(userId));
 
-        verify(repository, times(1)).existsById(userId);
-        verify(repository, times(1)).delete(userId);
+        verify(repository, times(1)).deleteIfExists(userId);
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError when user does not exist")
     void shouldThrowEntityNotFoundErrorWhenUserDoesNotExist() {
-        when(repository.existsById(userId)).thenReturn(false);
+        when(repository.deleteIfExists(userId)).thenReturn(false);
 
         var exception = assertThrows(
                 EntityNotFoundError.class,
@@ -55,67 +53,30 @@ class DeleteUserUseCaseTest {
         );
 
         assertNotNull(exception);
-        verify(repository, times(1)).existsById(userId);
-        verify(repository, never()).delete(any(UUID.class));
+        verify(repository, times(1)).deleteIfExists(userId);
     }
 
     @Test
-    @DisplayName("Should call repository methods in correct order")
-    void shouldCallRepositoryMethodsInCorrectOrder() {
-        when(repository.existsById(userId)).thenReturn(true);
-        doNothing().when(repository).delete(userId);
+    @DisplayName("Should delete with a single statement without checking existence first")
+    void shouldDeleteWithASingleStatementWithoutCheckingExistenceFirst() {
+        when(repository.deleteIfExists(userId)).thenReturn(true);
 
         useCase.execute(userId);
 
-        var inOrder = inOrder(repository);
-        inOrder.verify(repository).existsById(userId);
-        inOrder.verify(repository).delete(userId);
-    }
-
-    @Test
-    @DisplayName("Should not delete user when user does not exist")
-    void shouldNotDeleteUserWhenUserDoesNotExist() {
-        when(repository.existsById(userId)).thenReturn(false);
-
-        assertThrows(EntityNotFoundError.class, () -> useCase.execute(userId));
+        verify(repository, never()).existsById(any(UUID.class));
         verify(repository, never()).delete(any(UUID.class));
+        verifyNoMoreInteractions(repository);
     }
 
     @Test
     @DisplayName("Should delete user exactly once per execution")
     void shouldDeleteUserExactlyOncePerExecution() {
-        when(repository.existsById(userId)).thenReturn(true);
-        doNothing().when(repository).delete(userId);
-
-        useCase.execute(userId);
-
-        verify(repository, times(1)).delete(userId);
-        verify(repository, times(1)).delete(any(UUID.class));
-    }
-
-    @Test
-    @DisplayName("Should check existence exactly once per execution")
-    void shouldCheckExistenceExactlyOncePerExecution() {
-        when(repository.existsById(userId)).thenReturn(true);
-        doNothing().when(repository).delete(userId);
-
-        useCase.execute(userId);
-
-        verify(repository, times(1)).existsById(userId);
-        verify(repository, times(1)).existsById(any(UUID.class));
-    }
-
-    @Test
-    @DisplayName("Should verify user existence before deletion attempt")
-    void shouldVerifyUserExistenceBeforeDeletionAttempt() {
-        when(repository.existsById(userId)).thenReturn(true);
-        doNothing().when(repository).delete(userId);
+        when(repository.deleteIfExists(userId)).thenReturn(true);
 
         useCase.execute(userId);
 
-        var inOrder = inOrder(repository);
-        inOrder.verify(repository).existsById(userId);
-        inOrder.verify(repository).delete(userId);
+        verify(repository, times(1)).deleteIfExists(userId);
+        verify(repository, times(1)).deleteIfExists(any(UUID.class));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.UserBatchOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteUsersUseCase Tests")
+class DeleteUsersUseCaseTest {
+
+    @Mock
+    private UserRepositoryInterface repository;
+
+    @InjectMocks
+    private DeleteUsersUseCase useCase;
+
+    @Test
+    @DisplayName("Should report deleted and not found outcomes per id")
+    void shouldReportDeletedAndNotFoundOutcomesPerId() {
+        var existing = UUID.randomUUID();
+        var missing = UUID.randomUUID();
+
+        when(repository.deleteAll(any())).thenReturn(Set.of(existing));
+
+        var result = useCase.execute(List.of(existing, missing));
+
+        assertEquals(List.of(
+                new UserBatchOutput(existing, BatchOutcome.DELETED),
+                new UserBatchOutput(missing, BatchOutcome.NOT_FOUND)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("Should delete without checking existence first")
+    void shouldDeleteWithoutCheckingExistenceFirst() {
+        when(repository.deleteAll(any())).thenReturn(Set.of());
+
+        useCase.execute(List.of(UUID.randomUUID()));
+
+        verify(repository, times(1)).deleteAll(any());
+        verifyNoMoreInteractions(repository);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UserExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportUsersUseCase Tests")
+class ExportUsersUseCaseTest {
+
+    @Mock
+    private UserExportService exportService;
+
+    @InjectMocks
+    private ExportUsersUseCase useCase;
+
+    @Test
+    @DisplayName("Should stream every user to the sink and return the count")
+    void shouldStreamEveryUserToTheSinkAndReturnTheCount() {
+        Consumer<UserOutput> sink = user -> {};
+        when(exportService.forEachUser(sink)).thenReturn(42L);
+
+        assertEquals(42L, useCase.execute(false, sink));
+        verify(exportService).forEachUser(sink);
+        verify(exportService, never()).forEachUserInParallel(any());
+    }
+
+    @Test
+    @DisplayName("Should stream from the shared snapshot when parallel export is requested")
+    void shouldStreamFromTheSharedSnapshotWhenParallelExportIsRequested() {
+        Consumer<UserOutput> sink = user -> {};
+        when(exportService.forEachUserInParallel(sink)).thenReturn(7L);
+
+        assertEquals(7L, useCase.execute(true, sink));
+        verify(exportService, never()).forEachUser(any());
+    }
+
+}
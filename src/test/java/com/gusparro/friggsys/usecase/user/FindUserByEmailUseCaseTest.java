@@ -1,10 +1,13 @@
 package com.gusparro.friggsys.usecase.user;
 
-import com.gusparro.friggsys.domain.entities.User;
 import com.gusparro.friggsys.domain.exceptions.ValidationError;
-import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.domain.vos.Email;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.EmailPresenceService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserLookupCacheService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +17,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,13 +31,22 @@ import static org.mockito.Mockito.*;
 class FindUserByEmailUseCaseTest {
 
     @Mock
-    private UserRepositoryInterface repository;
+    private UserQueryService queries;
+
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
+    @Mock
+    private UserLookupCacheService lookupCache;
+
+    @Mock
+    private EmailPresenceService emailPresence;
 
     @InjectMocks
     private FindUserByEmailUseCase useCase;
 
     @Mock
-    private User user;
+    private UserOutput user;
 
     private static final String VALID_EMAIL = "john.doe@example.com";
     private static final String INVALID_EMAIL = "invalid-email";
@@ -39,23 +54,28 @@ class FindUserByEmailUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(emailPresence.mightExist(any(Email.class))).thenReturn(true);
+        lenient().when(unitOfWork.read(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(lookupCache.findByEmail(any(Email.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Test
     @DisplayName("Should find user successfully when email exists")
     void shouldFindUserSuccessfullyWhenEmailExists() {
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
 
         var result = useCase.execute(VALID_EMAIL);
 
         assertNotNull(result);
-        verify(repository, times(1)).findByEmail(any(Email.class));
+        verify(queries, times(1)).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError when user does not exist")
     void shouldThrowEntityNotFoundErrorWhenUserDoesNotExist() {
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.empty());
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.empty());
 
         var exception = assertThrows(
                 EntityNotFoundError.class,
@@ -63,17 +83,17 @@ class FindUserByEmailUseCaseTest {
         );
 
         assertNotNull(exception);
-        verify(repository, times(1)).findByEmail(any(Email.class));
+        verify(queries, times(1)).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should convert email string to Email value object")
     void shouldConvertEmailStringToEmailValueObject() {
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
 
         useCase.execute(VALID_EMAIL);
 
-        verify(repository).findByEmail(argThat(email ->
+        verify(queries).findByEmail(argThat(email ->
                 email != null && email.getValue().equals(VALID_EMAIL)
         ));
     }
@@ -82,86 +102,86 @@ class FindUserByEmailUseCaseTest {
     @DisplayName("Should propagate exception when Email creation fails")
     void shouldPropagateExceptionWhenEmailCreationFails() {
         assertThrows(ValidationError.class, () -> useCase.execute(INVALID_EMAIL));
-        verify(repository, never()).findByEmail(any(Email.class));
+        verify(queries, never()).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should return UserOutput when user is found")
     void shouldReturnUserOutputWhenUserIsFound() {
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
 
         var result = useCase.execute(VALID_EMAIL);
 
         assertNotNull(result);
-        verify(repository, times(1)).findByEmail(any(Email.class));
+        verify(queries, times(1)).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should handle null email gracefully")
     void shouldHandleNullEmailGracefully() {
         assertThrows(ValidationError.class, () -> useCase.execute(null));
-        verify(repository, never()).findByEmail(any(Email.class));
+        verify(queries, never()).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should handle empty email string gracefully")
     void shouldHandleEmptyEmailStringGracefully() {
         assertThrows(ValidationError.class, () -> useCase.execute(""));
-        verify(repository, never()).findByEmail(any(Email.class));
+        verify(queries, never()).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should handle whitespace email string gracefully")
     void shouldHandleWhitespaceEmailStringGracefully() {
         assertThrows(ValidationError.class, () -> useCase.execute("   "));
-        verify(repository, never()).findByEmail(any(Email.class));
+        verify(queries, never()).findByEmail(any(Email.class));
     }
 
     @Test
-    @DisplayName("Should call repository findByEmail exactly once per execution")
-    void shouldCallRepositoryFindByEmailExactlyOncePerExecution() {
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+    @DisplayName("Should call queries findByEmail exactly once per execution")
+    void shouldCallQueryServiceFindByEmailExactlyOncePerExecution() {
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
 
         useCase.execute(VALID_EMAIL);
 
-        verify(repository, times(1)).findByEmail(any(Email.class));
+        verify(queries, times(1)).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should handle emails with different cases")
     void shouldHandleEmailsWithDifferentCases() {
         var upperCaseEmail = "JOHN.DOE@EXAMPLE.COM";
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
 
         var result = useCase.execute(upperCaseEmail);
 
         assertNotNull(result);
-        verify(repository, times(1)).findByEmail(any(Email.class));
+        verify(queries, times(1)).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should handle emails with special characters")
     void shouldHandleEmailsWithSpecialCharacters() {
         var specialEmail = "john.doe+test@example.com";
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
 
         var result = useCase.execute(specialEmail);
 
         assertNotNull(result);
-        verify(repository, times(1)).findByEmail(any(Email.class));
+        verify(queries, times(1)).findByEmail(any(Email.class));
     }
 
     @Test
-    @DisplayName("Should not call repository when email validation fails")
-    void shouldNotCallRepositoryWhenEmailValidationFails() {
+    @DisplayName("Should not call queries when email validation fails")
+    void shouldNotCallQueryServiceWhenEmailValidationFails() {
         assertThrows(Exception.class, () -> useCase.execute(INVALID_EMAIL));
-        verify(repository, never()).findByEmail(any(Email.class));
+        verify(queries, never()).findByEmail(any(Email.class));
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError with correct email in message")
     void shouldThrowEntityNotFoundErrorWithCorrectEmailInMessage() {
-        when(repository.findByEmail(any(Email.class))).thenReturn(Optional.empty());
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.empty());
 
         var exception = assertThrows(
                 EntityNotFoundError.class,
@@ -169,6 +189,38 @@ class FindUserByEmailUseCaseTest {
         );
 
         assertNotNull(exception);
-        verify(repository, times(1)).findByEmail(any(Email.class));
+        verify(queries, times(1)).findByEmail(any(Email.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should look the user up inside a read-only unit of work")
+    void shouldLookTheUserUpInsideAReadOnlyUnitOfWork() {
+        when(queries.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+
+        useCase.execute(VALID_EMAIL);
+
+        verify(unitOfWork, times(1)).read(eq("find_by_email"), any());
+        verify(unitOfWork, never()).execute(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer not found without a unit of work when the e-mail is definitely absent")
+    void shouldAnswerNotFoundWithoutAUnitOfWorkWhenTheEmailIsDefinitelyAbsent() {
+        when(emailPresence.mightExist(any(Email.class))).thenReturn(false);
+
+        assertThrows(EntityNotFoundError.class, () -> useCase.execute(NON_EXISTENT_EMAIL));
+        verifyNoInteractions(unitOfWork);
+        verify(queries, never()).findByEmail(any(Email.class));
+    }
+
+    @Test
+    @DisplayName("Should answer cache hits without opening a unit of work")
+    void shouldAnswerCacheHitsWithoutOpeningAUnitOfWork() {
+        when(lookupCache.findByEmail(any(Email.class), any())).thenReturn(Optional.of(user));
+
+        assertSame(user, useCase.execute(VALID_EMAIL));
+        verifyNoInteractions(unitOfWork, emailPresence);
+        verify(queries, never()).findByEmail(any(Email.class));
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.gusparro.friggsys.usecase.user;
 
-import com.gusparro.friggsys.domain.entities.User;
-import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserLookupCacheService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,9 +15,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,36 +29,47 @@ import static org.mockito.Mockito.*;
 class FindUserByIdUseCaseTest {
 
     @Mock
-    private UserRepositoryInterface repository;
+    private UserQueryService queries;
+
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
+    @Mock
+    private UserLookupCacheService lookupCache;
 
     @InjectMocks
     private FindUserByIdUseCase useCase;
 
     @Mock
-    private User user;
+    private UserOutput user;
 
     private UUID userId;
 
     @BeforeEach
     void setUp() {
+        lenient().when(unitOfWork.read(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(lookupCache.findById(any(UUID.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         userId = UUID.randomUUID();
     }
 
     @Test
     @DisplayName("Should find user successfully when user exists")
     void shouldFindUserSuccessfullyWhenUserExists() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(queries.findById(userId)).thenReturn(Optional.of(user));
 
         var result = useCase.execute(userId);
 
         assertNotNull(result);
-        verify(repository, times(1)).findById(userId);
+        verify(queries, times(1)).findById(userId);
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError when user does not exist")
     void shouldThrowEntityNotFoundErrorWhenUserDoesNotExist() {
-        when(repository.findById(userId)).thenReturn(Optional.empty());
+        when(queries.findById(userId)).thenReturn(Optional.empty());
 
         var exception = assertThrows(
                 EntityNotFoundError.class,
@@ -60,48 +77,48 @@ class FindUserByIdUseCaseTest {
         );
 
         assertNotNull(exception);
-        verify(repository, times(1)).findById(userId);
+        verify(queries, times(1)).findById(userId);
     }
 
     @Test
     @DisplayName("Should return UserOutput when user is found")
     void shouldReturnUserOutputWhenUserIsFound() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(queries.findById(userId)).thenReturn(Optional.of(user));
 
         var result = useCase.execute(userId);
 
         assertNotNull(result);
-        verify(repository, times(1)).findById(userId);
+        verify(queries, times(1)).findById(userId);
     }
 
     @Test
-    @DisplayName("Should call repository findById exactly once per execution")
-    void shouldCallRepositoryFindByIdExactlyOncePerExecution() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
+    @DisplayName("Should call queries findById exactly once per execution")
+    void shouldCallQueryServiceFindByIdExactlyOncePerExecution() {
+        when(queries.findById(userId)).thenReturn(Optional.of(user));
 
         useCase.execute(userId);
 
-        verify(repository, times(1)).findById(userId);
-        verify(repository, times(1)).findById(any(UUID.class));
+        verify(queries, times(1)).findById(userId);
+        verify(queries, times(1)).findById(any(UUID.class));
     }
 
     @Test
     @DisplayName("Should find user with any valid UUID")
     void shouldFindUserWithAnyValidUuid() {
         var randomUuid = UUID.randomUUID();
-        when(repository.findById(randomUuid)).thenReturn(Optional.of(user));
+        when(queries.findById(randomUuid)).thenReturn(Optional.of(user));
 
         var result = useCase.execute(randomUuid);
 
         assertNotNull(result);
-        verify(repository, times(1)).findById(randomUuid);
+        verify(queries, times(1)).findById(randomUuid);
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError for non-existent UUID")
     void shouldThrowEntityNotFoundErrorForNonExistentUuid() {
         var nonExistentId = UUID.randomUUID();
-        when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(queries.findById(nonExistentId)).thenReturn(Optional.empty());
 
         var exception = assertThrows(
                 EntityNotFoundError.class,
@@ -109,26 +126,26 @@ class FindUserByIdUseCaseTest {
         );
 
         assertNotNull(exception);
-        verify(repository, times(1)).findById(nonExistentId);
+        verify(queries, times(1)).findById(nonExistentId);
     }
 
     @Test
-    @DisplayName("Should handle repository returning null gracefully")
-    void shouldHandleRepositoryReturningNullGracefully() {
-        when(repository.findById(userId)).thenReturn(null);
+    @DisplayName("Should handle queries returning null gracefully")
+    void shouldHandleQueryServiceReturningNullGracefully() {
+        when(queries.findById(userId)).thenReturn(null);
 
         assertThrows(NullPointerException.class, () -> useCase.execute(userId));
-        verify(repository, times(1)).findById(userId);
+        verify(queries, times(1)).findById(userId);
     }
 
     @Test
     @DisplayName("Should use the same UUID passed as parameter")
     void shouldUseTheSameUuidPassedAsParameter() {
-        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(queries.findById(userId)).thenReturn(Optional.of(user));
 
         useCase.execute(userId);
 
-        verify(repository).findById(eq(userId));
+        verify(queries).findById(eq(userId));
     }
 
     @Test
@@ -137,22 +154,22 @@ class FindUserByIdUseCaseTest {
         var firstId = UUID.randomUUID();
         var secondId = UUID.randomUUID();
 
-        when(repository.findById(firstId)).thenReturn(Optional.of(user));
-        when(repository.findById(secondId)).thenReturn(Optional.of(user));
+        when(queries.findById(firstId)).thenReturn(Optional.of(user));
+        when(queries.findById(secondId)).thenReturn(Optional.of(user));
 
         var result1 = useCase.execute(firstId);
         var result2 = useCase.execute(secondId);
 
         assertNotNull(result1);
         assertNotNull(result2);
-        verify(repository, times(1)).findById(firstId);
-        verify(repository, times(1)).findById(secondId);
+        verify(queries, times(1)).findById(firstId);
+        verify(queries, times(1)).findById(secondId);
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundError with correct UUID in message")
     void shouldThrowEntityNotFoundErrorWithCorrectUuidInMessage() {
-        when(repository.findById(userId)).thenReturn(Optional.empty());
+        when(queries.findById(userId)).thenReturn(Optional.empty());
 
         var exception = assertThrows(
                 EntityNotFoundError.class,
@@ -160,17 +177,41 @@ class FindUserByIdUseCaseTest {
         );
 
         assertNotNull(exception);
-        verify(repository, times(1)).findById(userId);
+        verify(queries, times(1)).findById(userId);
     }
 
     @Test
     @DisplayName("Should not modify UUID before searching")
     void shouldNotModifyUuidBeforeSearching() {
         UUID originalId = UUID.randomUUID();
-        when(repository.findById(originalId)).thenReturn(Optional.of(user));
+        when(queries.findById(originalId)).thenReturn(Optional.of(user));
 
         useCase.execute(originalId);
 
-        verify(repository).findById(argThat(id -> id.equals(originalId)));
+        verify(queries).findById(argThat(id -> id.equals(originalId)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should look the user up inside a read-only unit of work")
+    void shouldLookTheUserUpInsideAReadOnlyUnitOfWork() {
+        when(queries.findById(userId)).thenReturn(Optional.of(user));
+
+        useCase.execute(userId);
+
+        verify(unitOfWork, times(1)).read(eq("find_by_id"), any());
+        verify(unitOfWork, never()).execute(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer cache hits without opening a unit of work")
+    void shouldAnswerCacheHitsWithoutOpeningAUnitOfWork() {
+        var id = UUID.randomUUID();
+
+        when(lookupCache.findById(eq(id), any())).thenReturn(Optional.of(user));
+
+        assertSame(user, useCase.execute(id));
+        verifyNoInteractions(unitOfWork);
+        verify(queries, never()).findById(any());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+import com.gusparro.friggsys.usecase.user.services.UserImportJobService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindUserImportUseCase Tests")
+class FindUserImportUseCaseTest {
+
+    @Mock
+    private UserImportJobService jobs;
+
+    @InjectMocks
+    private FindUserImportUseCase useCase;
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final ImportJobOutput JOB = new ImportJobOutput(JOB_ID, ImportFormat.CSV, ImportJobStatus.RUNNING,
+            10, 8, 2, null, null, null);
+
+    @Test
+    @DisplayName("Should return the job")
+    void shouldReturnTheJob() {
+        when(jobs.findById(JOB_ID)).thenReturn(Optional.of(JOB));
+
+        assertEquals(JOB, useCase.execute(JOB_ID));
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundError when the job does not exist")
+    void shouldThrowEntityNotFoundErrorWhenTheJobDoesNotExist() {
+        when(jobs.findById(JOB_ID)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundError.class, () -> useCase.execute(JOB_ID));
+    }
+
+    @Test
+    @DisplayName("Should return the rejected rows of an existing job")
+    void shouldReturnTheRejectedRowsOfAnExistingJob() {
+        var errors = List.of(new ImportRowError(3, BatchOutcome.INVALID, Map.of("email", "Invalid email format")));
+        when(jobs.findById(JOB_ID)).thenReturn(Optional.of(JOB));
+        when(jobs.findErrors(JOB_ID, 1, 50)).thenReturn(errors);
+
+        assertEquals(errors, useCase.findErrors(JOB_ID, 1, 50));
+    }
+
+    @Test
+    @DisplayName("Should clamp the rejected rows page")
+    void shouldClampTheRejectedRowsPage() {
+        when(jobs.findById(JOB_ID)).thenReturn(Optional.of(JOB));
+
+        useCase.findErrors(JOB_ID, -1, 100_000);
+        useCase.findErrors(JOB_ID, 0, 0);
+
+        verify(jobs).findErrors(JOB_ID, 0, FindUserImportUseCase.MAX_ERROR_PAGE_SIZE);
+        verify(jobs).findErrors(JOB_ID, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Should not list rejected rows of a missing job")
+    void shouldNotListRejectedRowsOfAMissingJob() {
+        when(jobs.findById(JOB_ID)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundError.class, () -> useCase.findErrors(JOB_ID, 0, 10));
+        verify(jobs, never()).findErrors(any(), anyInt(), anyInt());
+    }
+
+}
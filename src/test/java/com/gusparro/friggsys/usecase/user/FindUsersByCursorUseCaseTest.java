@@ -0,0 +1,108 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.repositories.pagination.CursorPage;
+import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
+import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindUsersByCursorUseCase Tests")
+class FindUsersByCursorUseCaseTest {
+
+    @Mock
+    private UserQueryService queries;
+
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
+    @InjectMocks
+    private FindUsersByCursorUseCase useCase;
+
+    @Mock
+    private UserOutput user1;
+
+    @Mock
+    private UserOutput user2;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(unitOfWork.read(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("Should map users and keep next cursor")
+    void shouldMapUsersAndKeepNextCursor() {
+        var parameters = PageParameters.builder().size(2).cursor("").build();
+        var page = CursorPage.<UserOutput>builder()
+                .data(List.of(user1, user2))
+                .nextCursor("next")
+                .pageSize(2)
+                .lastPage(false)
+                .build();
+
+        when(queries.findAllByCursor(parameters)).thenReturn(page);
+
+        var result = useCase.execute(parameters);
+
+        assertEquals(2, result.getData().size());
+        assertEquals("next", result.getNextCursor());
+        assertEquals(2, result.getPageSize());
+        assertFalse(result.isLastPage());
+        verify(queries, times(1)).findAllByCursor(parameters);
+    }
+
+    @Test
+    @DisplayName("Should return last page without cursor")
+    void shouldReturnLastPageWithoutCursor() {
+        var parameters = PageParameters.builder().size(10).cursor("abc").build();
+        var page = CursorPage.<UserOutput>builder()
+                .data(List.of())
+                .pageSize(10)
+                .lastPage(true)
+                .build();
+
+        when(queries.findAllByCursor(parameters)).thenReturn(page);
+
+        var result = useCase.execute(parameters);
+
+        assertTrue(result.getData().isEmpty());
+        assertNull(result.getNextCursor());
+        assertTrue(result.isLastPage());
+    }
+
+    @Test
+    @DisplayName("Should load the page inside a read-only unit of work")
+    void shouldLoadThePageInsideAReadOnlyUnitOfWork() {
+        var parameters = PageParameters.builder().size(10).cursor("abc").build();
+        var page = CursorPage.<UserOutput>builder()
+                .data(List.of())
+                .pageSize(10)
+                .lastPage(true)
+                .build();
+
+        when(queries.findAllByCursor(parameters)).thenReturn(page);
+
+        useCase.execute(parameters);
+
+        verify(unitOfWork, times(1)).read(eq("find_users_by_cursor"), any());
+        verify(unitOfWork, never()).execute(anyString(), any());
+    }
+
+}
@@ -1,10 +1,11 @@
 package com.gusparro.friggsys.usecase.user;
 
-import com.gusparro.friggsys.domain.entities.User;
-import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.repositories.pagination.CountMode;
 import com.gusparro.friggsys.domain.repositories.pagination.DomainPage;
 import com.gusparro.friggsys.domain.repositories.pagination.PageParameters;
 import com.gusparro.friggsys.usecase.user.dtos.UserOutput;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserQueryService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +18,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,24 +30,30 @@ import static org.mockito.Mockito.*;
 class FindUsersUseCaseTest {
 
     @Mock
-    private UserRepositoryInterface repository;
+    private UserQueryService queries;
+
+    @Mock
+    private UnitOfWorkService unitOfWork;
 
     @InjectMocks
     private FindUsersUseCase useCase;
 
     @Mock
-    private User user1;
+    private UserOutput user1;
 
     @Mock
-    private User user2;
+    private UserOutput user2;
 
     @Mock
-    private User user3;
+    private UserOutput user3;
 
     private PageParameters pageParameters;
 
     @BeforeEach
     void setUp() {
+        lenient().when(unitOfWork.read(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         pageParameters = PageParameters.builder()
                 .page(0)
                 .size(10)
@@ -54,7 +64,7 @@ class FindUsersUseCaseTest {
     @DisplayName("Should find users successfully with pagination")
     void shouldFindUsersSuccessfullyWithPagination() {
         var users = Arrays.asList(user1, user2, user3);
-        var userPage = DomainPage.<User>builder()
+        var userPage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(3L)
                 .pagesAmount(1)
@@ -64,7 +74,7 @@ class FindUsersUseCaseTest {
                 .lastPage(true)
                 .build();
 
-        when(repository.findAll(pageParameters)).thenReturn(userPage);
+        when(queries.findAll(pageParameters)).thenReturn(userPage);
 
         var result = useCase.execute(pageParameters);
 
@@ -76,13 +86,13 @@ class FindUsersUseCaseTest {
         assertEquals(10, result.getPageSize());
         assertTrue(result.isFirstPage());
         assertTrue(result.isLastPage());
-        verify(repository, times(1)).findAll(pageParameters);
+        verify(queries, times(1)).findAll(pageParameters);
     }
 
     @Test
     @DisplayName("Should return empty page when no users exist")
     void shouldReturnEmptyPageWhenNoUsersExist() {
-        var emptyPage = DomainPage.<User>builder()
+        var emptyPage = DomainPage.<UserOutput>builder()
                 .data(Collections.emptyList())
                 .dataAmount(0L)
                 .pagesAmount(0)
@@ -92,7 +102,7 @@ class FindUsersUseCaseTest {
                 .lastPage(true)
                 .build();
 
-        when(repository.findAll(pageParameters)).thenReturn(emptyPage);
+        when(queries.findAll(pageParameters)).thenReturn(emptyPage);
 
         var result = useCase.execute(pageParameters);
 
@@ -100,14 +110,14 @@ class FindUsersUseCaseTest {
         assertTrue(result.getData().isEmpty());
         assertEquals(0L, result.getDataAmount());
         assertEquals(0L, result.getPagesAmount());
-        verify(repository, times(1)).findAll(pageParameters);
+        verify(queries, times(1)).findAll(pageParameters);
     }
 
     @Test
     @DisplayName("Should handle first page correctly")
     void shouldHandleFirstPageCorrectly() {
         var users = Arrays.asList(user1, user2);
-        var firstPage = DomainPage.<User>builder()
+        var firstPage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(20L)
                 .pagesAmount(2)
@@ -117,7 +127,7 @@ class FindUsersUseCaseTest {
                 .lastPage(false)
                 .build();
 
-        when(repository.findAll(pageParameters)).thenReturn(firstPage);
+        when(queries.findAll(pageParameters)).thenReturn(firstPage);
 
         var result = useCase.execute(pageParameters);
 
@@ -125,7 +135,7 @@ class FindUsersUseCaseTest {
         assertTrue(result.isFirstPage());
         assertFalse(result.isLastPage());
         assertEquals(0, result.getPageNumber());
-        verify(repository, times(1)).findAll(pageParameters);
+        verify(queries, times(1)).findAll(pageParameters);
     }
 
     @Test
@@ -137,7 +147,7 @@ class FindUsersUseCaseTest {
                 .build();
 
         var users = Arrays.asList(user1, user2);
-        var lastPage = DomainPage.<User>builder()
+        var lastPage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(20L)
                 .pagesAmount(2)
@@ -147,7 +157,7 @@ class FindUsersUseCaseTest {
                 .lastPage(true)
                 .build();
 
-        when(repository.findAll(lastPageParams)).thenReturn(lastPage);
+        when(queries.findAll(lastPageParams)).thenReturn(lastPage);
 
         var result = useCase.execute(lastPageParams);
 
@@ -155,7 +165,7 @@ class FindUsersUseCaseTest {
         assertFalse(result.isFirstPage());
         assertTrue(result.isLastPage());
         assertEquals(1, result.getPageNumber());
-        verify(repository, times(1)).findAll(lastPageParams);
+        verify(queries, times(1)).findAll(lastPageParams);
     }
 
     @Test
@@ -167,7 +177,7 @@ class FindUsersUseCaseTest {
                 .build();
 
         var users = Arrays.asList(user1, user2);
-        var middlePage = DomainPage.<User>builder()
+        var middlePage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(30L)
                 .pagesAmount(3)
@@ -177,7 +187,7 @@ class FindUsersUseCaseTest {
                 .lastPage(false)
                 .build();
 
-        when(repository.findAll(middlePageParams)).thenReturn(middlePage);
+        when(queries.findAll(middlePageParams)).thenReturn(middlePage);
 
         var result = useCase.execute(middlePageParams);
 
@@ -185,14 +195,14 @@ class FindUsersUseCaseTest {
         assertFalse(result.isFirstPage());
         assertFalse(result.isLastPage());
         assertEquals(1, result.getPageNumber());
-        verify(repository, times(1)).findAll(middlePageParams);
+        verify(queries, times(1)).findAll(middlePageParams);
     }
 
     @Test
     @DisplayName("Should convert all users to UserOutput")
     void shouldConvertAllUsersToUserOutput() {
         var users = Arrays.asList(user1, user2, user3);
-        var userPage = DomainPage.<User>builder()
+        var userPage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(3L)
                 .pagesAmount(1)
@@ -202,7 +212,7 @@ class FindUsersUseCaseTest {
                 .lastPage(true)
                 .build();
 
-        when(repository.findAll(pageParameters)).thenReturn(userPage);
+        when(queries.findAll(pageParameters)).thenReturn(userPage);
 
         var result = useCase.execute(pageParameters);
 
@@ -219,7 +229,7 @@ class FindUsersUseCaseTest {
                 .build();
 
         var users = Arrays.asList(user1, user2);
-        var customPage = DomainPage.<User>builder()
+        var customPage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(10L)
                 .pagesAmount(2)
@@ -229,21 +239,21 @@ class FindUsersUseCaseTest {
                 .lastPage(false)
                 .build();
 
-        when(repository.findAll(customPageParams)).thenReturn(customPage);
+        when(queries.findAll(customPageParams)).thenReturn(customPage);
 
         var result = useCase.execute(customPageParams);
 
         assertNotNull(result);
         assertEquals(5, result.getPageSize());
         assertEquals(2L, result.getPagesAmount());
-        verify(repository, times(1)).findAll(customPageParams);
+        verify(queries, times(1)).findAll(customPageParams);
     }
 
     @Test
-    @DisplayName("Should preserve page metadata from repository")
-    void shouldPreservePageMetadataFromRepository() {
+    @DisplayName("Should preserve page metadata from queries")
+    void shouldPreservePageMetadataFromQueryService() {
         var users = List.of(user1);
-        var userPage = DomainPage.<User>builder()
+        var userPage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(100L)
                 .pagesAmount(10)
@@ -258,7 +268,7 @@ class FindUsersUseCaseTest {
                 .size(10)
                 .build();
 
-        when(repository.findAll(params)).thenReturn(userPage);
+        when(queries.findAll(params)).thenReturn(userPage);
 
         var result = useCase.execute(params);
 
@@ -271,9 +281,9 @@ class FindUsersUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should call repository findAll exactly once per execution")
-    void shouldCallRepositoryFindAllExactlyOncePerExecution() {
-       var userPage = DomainPage.<User>builder()
+    @DisplayName("Should call queries findAll exactly once per execution")
+    void shouldCallQueryServiceFindAllExactlyOncePerExecution() {
+       var userPage = DomainPage.<UserOutput>builder()
                 .data(Collections.emptyList())
                 .dataAmount(0L)
                 .pagesAmount(0)
@@ -283,28 +293,28 @@ class FindUsersUseCaseTest {
                 .lastPage(true)
                 .build();
 
-        when(repository.findAll(pageParameters)).thenReturn(userPage);
+        when(queries.findAll(pageParameters)).thenReturn(userPage);
 
         useCase.execute(pageParameters);
 
-        verify(repository, times(1)).findAll(pageParameters);
-        verify(repository, times(1)).findAll(any(PageParameters.class));
+        verify(queries, times(1)).findAll(pageParameters);
+        verify(queries, times(1)).findAll(any(PageParameters.class));
     }
 
     @Test
     @DisplayName("Should handle null PageParameters gracefully")
     void shouldHandleNullPageParametersGracefully() {
-        when(repository.findAll(null)).thenThrow(new IllegalArgumentException("PageParameters cannot be null"));
+        when(queries.findAll(null)).thenThrow(new IllegalArgumentException("PageParameters cannot be null"));
 
         assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
-        verify(repository, times(1)).findAll(null);
+        verify(queries, times(1)).findAll(null);
     }
 
     @Test
     @DisplayName("Should maintain data count consistency")
     void shouldMaintainDataCountConsistency() {
         var users = Arrays.asList(user1, user2, user3);
-        var userPage = DomainPage.<User>builder()
+        var userPage = DomainPage.<UserOutput>builder()
                 .data(users)
                 .dataAmount(3L)
                 .pagesAmount(1)
@@ -314,7 +324,7 @@ class FindUsersUseCaseTest {
                 .lastPage(true)
                 .build();
 
-        when(repository.findAll(pageParameters)).thenReturn(userPage);
+        when(queries.findAll(pageParameters)).thenReturn(userPage);
 
         var result = useCase.execute(pageParameters);
 
@@ -325,7 +335,42 @@ class FindUsersUseCaseTest {
     @Test
     @DisplayName("Should use provided PageParameters without modification")
     void shouldUseProvidedPageParametersWithoutModification() {
-        var userPage = DomainPage.<User>builder()
+        var userPage = DomainPage.<UserOutput>builder()
+                .data(Collections.emptyList())
+                .dataAmount(0L)
+                .pagesAmount(0)
+                .pageNumber(0)
+                .pageSize(10)
+                .firstPage(true)
+                .lastPage(true)
+                .build();
+
+        when(queries.findAll(pageParameters)).thenReturn(userPage);
+
+        useCase.execute(pageParameters);
+
+        verify(queries).findAll(eq(pageParameters));
+    }
+
+    @Test
+    @DisplayName("Should keep count mode of queries page")
+    void shouldKeepCountModeOfQueryServicePage() {
+        var userPage = DomainPage.<UserOutput>builder()
+                .data(List.of(user1))
+                .countMode(CountMode.APPROXIMATE)
+                .build();
+
+        when(queries.findAll(pageParameters)).thenReturn(userPage);
+
+        var result = useCase.execute(pageParameters);
+
+        assertEquals(CountMode.APPROXIMATE, result.getCountMode());
+    }
+
+    @Test
+    @DisplayName("Should load the page inside a read-only unit of work")
+    void shouldLoadThePageInsideAReadOnlyUnitOfWork() {
+        var emptyPage = DomainPage.<UserOutput>builder()
                 .data(Collections.emptyList())
                 .dataAmount(0L)
                 .pagesAmount(0)
@@ -335,11 +380,12 @@ class FindUsersUseCaseTest {
                 .lastPage(true)
                 .build();
 
-        when(repository.findAll(pageParameters)).thenReturn(userPage);
+        when(queries.findAll(pageParameters)).thenReturn(emptyPage);
 
         useCase.execute(pageParameters);
 
-        verify(repository).findAll(eq(pageParameters));
+        verify(unitOfWork, times(1)).read(eq("find_users"), any());
+        verify(unitOfWork, never()).execute(anyString(), any());
     }
 
-}
\ No newline at end of file
+}
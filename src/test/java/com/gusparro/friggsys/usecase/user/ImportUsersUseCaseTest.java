@@ -0,0 +1,219 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.usecase.user.dtos.BatchOutcome;
+import com.gusparro.friggsys.usecase.user.dtos.ImportFormat;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobOutput;
+import com.gusparro.friggsys.usecase.user.dtos.ImportJobStatus;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowError;
+import com.gusparro.friggsys.usecase.user.dtos.ImportRowInput;
+import com.gusparro.friggsys.usecase.user.dtos.StagedUser;
+import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import com.gusparro.friggsys.usecase.user.services.UserImportJobService;
+import com.gusparro.friggsys.usecase.user.services.UserImportStagingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportUsersUseCase Tests")
+class ImportUsersUseCaseTest {
+
+    @Mock
+    private UserImportJobService jobs;
+
+    @Mock
+    private UserImportStagingService staging;
+
+    @Mock
+    private PasswordEncoderService encoder;
+
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
+    @InjectMocks
+    private ImportUsersUseCase useCase;
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final String RAW_PASSWORD = "SecureP@ss123";
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(unitOfWork.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(encoder.encryptAllWithBackoff(anyList())).thenAnswer(invocation -> invocation.<List<Password>>getArgument(0)
+                .stream()
+                .map(raw -> Password.ofHash("$2a$10$" + raw.getValue()))
+                .toList());
+        lenient().when(staging.load(any(), anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should start a running job for the format")
+    void shouldStartARunningJobForTheFormat() {
+        var job = new ImportJobOutput(JOB_ID, ImportFormat.NDJSON, ImportJobStatus.RUNNING, 0, 0, 0, null, null, null);
+        when(jobs.start(ImportFormat.NDJSON)).thenReturn(job);
+
+        assertEquals(job, useCase.start(ImportFormat.NDJSON));
+    }
+
+    @Test
+    @DisplayName("Should stage valid rows with hashed passwords and complete the job")
+    void shouldStageValidRowsWithHashedPasswordsAndCompleteTheJob() {
+        useCase.execute(JOB_ID, List.of(validRow(1, "john@example.com"), validRow(2, "jane@example.com")).iterator());
+
+        var staged = capturedStagedUsers();
+        assertEquals(2, staged.size());
+        assertEquals(List.of(1L, 2L), staged.stream().map(StagedUser::lineNumber).toList());
+        assertEquals("$2a$10$" + RAW_PASSWORD, staged.getFirst().password().getValue());
+        verify(jobs).recordProgress(JOB_ID, 2, 2, List.of());
+        verify(jobs).finish(JOB_ID, ImportJobStatus.COMPLETED, null);
+    }
+
+    @Test
+    @DisplayName("Should record invalid and malformed rows without staging them")
+    void shouldRecordInvalidAndMalformedRowsWithoutStagingThem() {
+        var rows = List.of(
+                validRow(1, "john@example.com"),
+                ImportRowInput.of(2, "", "not-an-email", "(11) 98765-4321", RAW_PASSWORD),
+                ImportRowInput.malformed(3, "Malformed JSON line")
+        );
+
+        useCase.execute(JOB_ID, rows.iterator());
+
+        assertEquals(1, capturedStagedUsers().size());
+        var errors = capturedErrors(3, 1);
+        assertEquals(2, errors.size());
+        assertEquals(2, errors.get(0).lineNumber());
+        assertEquals(BatchOutcome.INVALID, errors.get(0).outcome());
+        assertEquals(List.of("name", "email"), List.copyOf(errors.get(0).fieldErrors().keySet()));
+        assertEquals(new ImportRowError(3, BatchOutcome.INVALID, Map.of("row", "Malformed JSON line")), errors.get(1));
+    }
+
+    @Test
+    @DisplayName("Should record duplicate rows rejected by the merge in line order")
+    void shouldRecordDuplicateRowsRejectedByTheMergeInLineOrder() {
+        when(staging.load(eq(JOB_ID), anyList())).thenReturn(List.of(3L));
+        var rows = List.of(
+                validRow(1, "john@example.com"),
+                ImportRowInput.of(2, "Jane", "bad", "(11) 98765-4321", RAW_PASSWORD),
+                validRow(3, "JOHN@example.com")
+        );
+
+        useCase.execute(JOB_ID, rows.iterator());
+
+        var errors = capturedErrors(3, 1);
+        assertEquals(List.of(2L, 3L), errors.stream().map(ImportRowError::lineNumber).toList());
+        assertEquals(BatchOutcome.DUPLICATE_EMAIL, errors.get(1).outcome());
+        assertTrue(errors.get(1).fieldErrors().containsKey("email"));
+    }
+
+    @Test
+    @DisplayName("Should process the file in chunks of bounded size")
+    void shouldProcessTheFileInChunksOfBoundedSize() {
+        var rowCount = ImportUsersUseCase.CHUNK_SIZE * 2 + 5;
+        Iterator<ImportRowInput> rows = LongStream.rangeClosed(1, rowCount)
+                .mapToObj(line -> ImportRowInput.malformed(line, "Malformed JSON line"))
+                .iterator();
+
+        useCase.execute(JOB_ID, rows);
+
+        verify(jobs, times(2)).recordProgress(eq(JOB_ID), eq((long) ImportUsersUseCase.CHUNK_SIZE), eq(0L), anyList());
+        verify(jobs).recordProgress(eq(JOB_ID), eq(5L), eq(0L), anyList());
+        verify(encoder, never()).encryptAll(anyList());
+        verify(jobs).finish(JOB_ID, ImportJobStatus.COMPLETED, null);
+    }
+
+    @Test
+    @DisplayName("Should complete an empty import without touching the staging table")
+    void shouldCompleteAnEmptyImportWithoutTouchingTheStagingTable() {
+        useCase.execute(JOB_ID, List.<ImportRowInput>of().iterator());
+
+        verifyNoInteractions(staging, encoder);
+        verify(jobs).finish(JOB_ID, ImportJobStatus.COMPLETED, null);
+    }
+
+    @Test
+    @DisplayName("Should fail the job when reading the file fails")
+    void shouldFailTheJobWhenReadingTheFileFails() {
+        Iterator<ImportRowInput> rows = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                throw new IllegalArgumentException("CSV header is missing the 'email' column");
+            }
+
+            @Override
+            public ImportRowInput next() {
+                return null;
+            }
+        };
+
+        useCase.execute(JOB_ID, rows);
+
+        verify(jobs).finish(JOB_ID, ImportJobStatus.FAILED, "CSV header is missing the 'email' column");
+        verify(jobs, never()).finish(JOB_ID, ImportJobStatus.COMPLETED, null);
+    }
+
+    @Test
+    @DisplayName("Should stage and record progress in the same unit of work")
+    void shouldStageAndRecordProgressInTheSameUnitOfWork() {
+        List<String> calls = new ArrayList<>();
+        reset(unitOfWork);
+        when(unitOfWork.execute(eq("import_users"), any())).thenAnswer(invocation -> {
+            calls.add("begin");
+            var result = invocation.<Supplier<?>>getArgument(1).get();
+            calls.add("commit");
+
+            return result;
+        });
+        when(staging.load(any(), anyList())).thenAnswer(invocation -> {
+            calls.add("load");
+
+            return List.of();
+        });
+        doAnswer(invocation -> calls.add("progress")).when(jobs).recordProgress(any(), anyLong(), anyLong(), anyList());
+
+        useCase.execute(JOB_ID, List.of(validRow(1, "john@example.com")).iterator());
+
+        assertEquals(List.of("begin", "load", "progress", "commit"), calls);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StagedUser> capturedStagedUsers() {
+        ArgumentCaptor<List<StagedUser>> captor = ArgumentCaptor.forClass(List.class);
+        verify(staging).load(eq(JOB_ID), captor.capture());
+
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ImportRowError> capturedErrors(long processedRows, long importedRows) {
+        ArgumentCaptor<List<ImportRowError>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobs).recordProgress(eq(JOB_ID), eq(processedRows), eq(importedRows), captor.capture());
+
+        return captor.getValue();
+    }
+
+    private static ImportRowInput validRow(long lineNumber, String email) {
+        return ImportRowInput.of(lineNumber, "John Doe", email, "(11) 98765-4321", RAW_PASSWORD);
+    }
+
+}
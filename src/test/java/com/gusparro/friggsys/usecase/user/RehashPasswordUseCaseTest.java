@@ -0,0 +1,133 @@
+package com.gusparro.friggsys.usecase.user;
+
+import com.gusparro.friggsys.domain.repositories.UserRepositoryInterface;
+import com.gusparro.friggsys.domain.vos.Password;
+import com.gusparro.friggsys.usecase.user.services.BackgroundWriteService;
+import com.gusparro.friggsys.usecase.user.services.PasswordEncoderService;
+import com.gusparro.friggsys.usecase.user.services.UnitOfWorkService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RehashPasswordUseCase Tests")
+class RehashPasswordUseCaseTest {
+
+    @Mock
+    private UserRepositoryInterface repository;
+
+    @Mock
+    private PasswordEncoderService encoder;
+
+    @Mock
+    private UnitOfWorkService unitOfWork;
+
+    @Mock
+    private BackgroundWriteService backgroundWrites;
+
+    @InjectMocks
+    private RehashPasswordUseCase useCase;
+
+    private UUID userId;
+    private static final String RAW_PASSWORD = "CurrentP@ss123";
+    private static final String OUTDATED_HASH = "$2a$10$outdated";
+    private static final String UPGRADED_HASH = "$2a$12$upgraded";
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+
+        lenient().when(unitOfWork.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+
+            return null;
+        }).when(backgroundWrites).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the upgrade when the hash is up to date")
+    void shouldSkipTheUpgradeWhenTheHashIsUpToDate() throws Exception {
+        when(encoder.needsRehash(OUTDATED_HASH)).thenReturn(false);
+
+        var result = useCase.execute(userId, RAW_PASSWORD, OUTDATED_HASH);
+
+        assertFalse(result.get());
+        verify(encoder, never()).encryptInBackground(anyString());
+        verifyNoInteractions(repository, unitOfWork);
+    }
+
+    @Test
+    @DisplayName("Should replace the outdated hash inside a unit of work")
+    void shouldReplaceTheOutdatedHashInsideAUnitOfWork() throws Exception {
+        var upgraded = Password.ofHash(UPGRADED_HASH);
+
+        when(encoder.needsRehash(OUTDATED_HASH)).thenReturn(true);
+        when(encoder.encryptInBackground(RAW_PASSWORD)).thenReturn(CompletableFuture.completedFuture(upgraded));
+        when(repository.replacePassword(userId, Password.ofHash(OUTDATED_HASH), upgraded)).thenReturn(true);
+
+        var result = useCase.execute(userId, RAW_PASSWORD, OUTDATED_HASH);
+
+        assertTrue(result.get());
+        verify(backgroundWrites).execute(any(Runnable.class));
+        verify(unitOfWork).execute(eq("rehash_password"), any());
+        verify(repository).replacePassword(userId, Password.ofHash(OUTDATED_HASH), upgraded);
+    }
+
+    @Test
+    @DisplayName("Should report no upgrade when the hash changed concurrently")
+    void shouldReportNoUpgradeWhenTheHashChangedConcurrently() throws Exception {
+        var upgraded = Password.ofHash(UPGRADED_HASH);
+
+        when(encoder.needsRehash(OUTDATED_HASH)).thenReturn(true);
+        when(encoder.encryptInBackground(RAW_PASSWORD)).thenReturn(CompletableFuture.completedFuture(upgraded));
+        when(repository.replacePassword(userId, Password.ofHash(OUTDATED_HASH), upgraded)).thenReturn(false);
+
+        assertFalse(useCase.execute(userId, RAW_PASSWORD, OUTDATED_HASH).get());
+    }
+
+    @Test
+    @DisplayName("Should skip the upgrade when the background write queue is full")
+    void shouldSkipTheUpgradeWhenTheBackgroundWriteQueueIsFull() {
+        when(encoder.needsRehash(OUTDATED_HASH)).thenReturn(true);
+        when(encoder.encryptInBackground(RAW_PASSWORD))
+                .thenReturn(CompletableFuture.completedFuture(Password.ofHash(UPGRADED_HASH)));
+        doThrow(new RejectedExecutionException("queue full")).when(backgroundWrites).execute(any(Runnable.class));
+
+        var result = useCase.execute(userId, RAW_PASSWORD, OUTDATED_HASH);
+
+        assertThrows(ExecutionException.class, result::get);
+        verifyNoInteractions(repository, unitOfWork);
+    }
+
+    @Test
+    @DisplayName("Should not touch the repository when background hashing fails")
+    void shouldNotTouchTheRepositoryWhenBackgroundHashingFails() {
+        when(encoder.needsRehash(OUTDATED_HASH)).thenReturn(true);
+        when(encoder.encryptInBackground(RAW_PASSWORD))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("saturated")));
+
+        var result = useCase.execute(userId, RAW_PASSWORD, OUTDATED_HASH);
+
+        assertThrows(ExecutionException.class, result::get);
+        verifyNoInteractions(repository, unitOfWork);
+    }
+
+}
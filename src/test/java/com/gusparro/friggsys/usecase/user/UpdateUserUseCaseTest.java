@@ -8,6 +8,7 @@ import com.gusparro.friggsys.domain.vos.Name;
 import com.gusparro.friggsys.domain.vos.Telephone;
 import com.gusparro.friggsys.usecase.exceptions.DuplicateEmailError;
 import com.gusparro.friggsys.usecase.exceptions.EntityNotFoundError;
+import com.gusparro.friggsys.usecase.exceptions.VersionMismatchError;
 import com.gusparro.friggsys.usecase.user.dtos.UpdateUserInput;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -51,7 +53,7 @@ class UpdateUserUseCaseTest {
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
-        input = new UpdateUserInput(userId, USER_NAME, USER_EMAIL, USER_TELEPHONE);
+        input = new UpdateUserInput(userId, USER_NAME, USER_EMAIL, USER_TELEPHONE, null);
     }
 
     @Test
@@ -184,7 +186,7 @@ class UpdateUserUseCaseTest {
     @Test
     @DisplayName("Should propagate ValidationError when Name creation fails")
     void shouldPropagateValidationErrorWhenNameCreationFails() {
-        var invalidInput = new UpdateUserInput(userId, "", USER_EMAIL, USER_TELEPHONE);
+        var invalidInput = new UpdateUserInput(userId, "", USER_EMAIL, USER_TELEPHONE, null);
         when(repository.findById(userId)).thenReturn(Optional.of(user));
 
         assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
@@ -198,7 +200,7 @@ class UpdateUserUseCaseTest {
     @Test
     @DisplayName("Should propagate ValidationError when Email creation fails")
     void shouldPropagateValidationErrorWhenEmailCreationFails() {
-        var invalidInput = new UpdateUserInput(userId, USER_NAME, "invalid-email", USER_TELEPHONE);
+        var invalidInput = new UpdateUserInput(userId, USER_NAME, "invalid-email", USER_TELEPHONE, null);
         when(repository.findById(userId)).thenReturn(Optional.of(user));
 
         assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
@@ -212,7 +214,7 @@ class UpdateUserUseCaseTest {
     @Test
     @DisplayName("Should propagate ValidationError when Telephone creation fails")
     void shouldPropagateValidationErrorWhenTelephoneCreationFails() {
-        var invalidInput = new UpdateUserInput(userId, USER_NAME, USER_EMAIL, "invalid");
+        var invalidInput = new UpdateUserInput(userId, USER_NAME, USER_EMAIL, "invalid", null);
         when(repository.findById(userId)).thenReturn(Optional.of(user));
 
         assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
@@ -341,4 +343,77 @@ class UpdateUserUseCaseTest {
         verify(repository, times(1)).save(user);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should report every invalid field in a single ValidationError")
+    void shouldReportEveryInvalidFieldInASingleValidationError() {
+        var invalidInput = new UpdateUserInput(userId, "", "invalid-email", "invalid", null);
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+
+        var error = assertThrows(ValidationError.class, () -> useCase.execute(invalidInput));
+
+        assertEquals("name, email, telephone", error.getField());
+        assertEquals(3, error.getViolations().size());
+        verify(repository, never()).existsByEmail(any(Email.class));
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should allow changing only the case of the user's own email")
+    void shouldAllowChangingOnlyTheCaseOfTheUsersOwnEmail() {
+        var caseOnlyInput = new UpdateUserInput(userId, USER_NAME, USER_EMAIL.toUpperCase(), USER_TELEPHONE, null);
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(repository.existsByEmail(any(Email.class))).thenReturn(true);
+        when(user.getEmail()).thenReturn(USER_EMAIL);
+        when(repository.save(user)).thenReturn(updatedUser);
+
+        var result = useCase.execute(caseOnlyInput);
+
+        assertNotNull(result);
+        verify(user, times(1)).update(any(Name.class), any(Email.class), any(Telephone.class));
+        verify(repository, times(1)).save(user);
+    }
+
+
+    @Test
+    @DisplayName("Should throw VersionMismatchError before validating when the user moved past the expected version")
+    void shouldThrowVersionMismatchErrorWhenTheUserMovedPastTheExpectedVersion() {
+        var conditionalInput = new UpdateUserInput(userId, USER_NAME, USER_EMAIL, USER_TELEPHONE, 2L);
+
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getVersion()).thenReturn(3L);
+
+        var exception = assertThrows(VersionMismatchError.class, () -> useCase.execute(conditionalInput));
+
+        assertEquals(3L, exception.getCurrentVersion());
+        verify(repository, never()).existsByEmail(any(Email.class));
+        verify(repository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should update user when it is still at the expected version")
+    void shouldUpdateUserWhenItIsStillAtTheExpectedVersion() {
+        var conditionalInput = new UpdateUserInput(userId, USER_NAME, USER_EMAIL, USER_TELEPHONE, 3L);
+
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getVersion()).thenReturn(3L);
+        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
+        when(repository.save(user)).thenReturn(updatedUser);
+
+        assertNotNull(useCase.execute(conditionalInput));
+        verify(repository, times(1)).save(user);
+    }
+
+    @Test
+    @DisplayName("Should return the version written by the save")
+    void shouldReturnTheVersionWrittenByTheSave() {
+        when(repository.findById(userId)).thenReturn(Optional.of(user));
+        when(repository.existsByEmail(any(Email.class))).thenReturn(false);
+        when(repository.save(user)).thenReturn(updatedUser);
+        when(updatedUser.getVersion()).thenReturn(4L);
+
+        var result = useCase.execute(input);
+
+        assertEquals(4L, result.version());
+    }
+
+}